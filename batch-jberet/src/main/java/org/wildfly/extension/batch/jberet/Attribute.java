@@ -15,13 +15,17 @@ public enum Attribute {
     DATA_SOURCE("data-source"),
     NAME("name"),
     VALUE("value"),
-    EXECUTION_RECORDS_LIMIT("execution-records-limit");
+    EXECUTION_RECORDS_LIMIT("execution-records-limit"),
+    MAX_AGE("max-age"),
+    MAX_EXECUTIONS("max-executions");
 
     private static final Map<String, Attribute> MAP = Map.of(
             DATA_SOURCE.name, DATA_SOURCE,
             NAME.name, NAME,
             VALUE.name, VALUE,
-            EXECUTION_RECORDS_LIMIT.name, EXECUTION_RECORDS_LIMIT);
+            EXECUTION_RECORDS_LIMIT.name, EXECUTION_RECORDS_LIMIT,
+            MAX_AGE.name, MAX_AGE,
+            MAX_EXECUTIONS.name, MAX_EXECUTIONS);
 
     private final String name;
 
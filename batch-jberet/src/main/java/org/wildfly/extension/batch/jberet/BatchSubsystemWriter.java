@@ -43,6 +43,8 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
                 writeNameAttribute(writer, property.getName());
                 CommonAttributes.EXECUTION_RECORDS_LIMIT.marshallAsAttribute(property.getValue(), writer);
                 writer.writeEmptyElement(Element.IN_MEMORY.getLocalName());
+                InMemoryJobRepositoryDefinition.MAX_AGE.marshallAsAttribute(property.getValue(), writer);
+                InMemoryJobRepositoryDefinition.MAX_EXECUTIONS.marshallAsAttribute(property.getValue(), writer);
                 writer.writeEndElement(); // end job-repository
             }
         }
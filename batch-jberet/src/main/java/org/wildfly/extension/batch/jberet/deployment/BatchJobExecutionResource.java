@@ -5,11 +5,16 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import jakarta.batch.operations.NoSuchJobExecutionException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -29,30 +34,36 @@ public class BatchJobExecutionResource implements Resource {
     private final Resource delegate;
     private final WildFlyJobOperator jobOperator;
     private final String jobName;
-    // Should be guarded by it's instance
-    private final Set<String> children = new LinkedHashSet<>();
+    // Shared with the clones of this resource
+    private final ExecutionIds executionIds;
 
     /**
-     * Last time when job names were refreshed
-     */
-    private volatile long lastRefreshedTime;
-
-    /**
-     * The minimum interval in milliseconds in which the job names are to be refreshed.
+     * The minimum interval in milliseconds in which the job execution ids are to be refreshed.
      * If the interval period has elapsed from the last refresh time,
      * any incoming refresh request will be performed; otherwise, it is ignored
      * and the current result is returned.
      */
     private static final int refreshMinInterval = 3000;
 
+    /**
+     * The interval in milliseconds in which all the job execution ids are reloaded from the job repository, which drops
+     * the ids of the executions removed from the job repository. In between, only the ids of the new executions are fetched.
+     */
+    private static final int fullRefreshInterval = 300000;
+
     BatchJobExecutionResource(final WildFlyJobOperator jobOperator, final String jobName) {
-        this(Factory.create(true), jobOperator, jobName);
+        this(jobOperator, jobName, refreshMinInterval, fullRefreshInterval);
     }
 
-    private BatchJobExecutionResource(final Resource delegate, final WildFlyJobOperator jobOperator, final String jobName) {
+    BatchJobExecutionResource(final WildFlyJobOperator jobOperator, final String jobName, final long refreshMinInterval, final long fullRefreshInterval) {
+        this(Factory.create(true), jobOperator, jobName, new ExecutionIds(jobOperator, jobName, refreshMinInterval, fullRefreshInterval));
+    }
+
+    private BatchJobExecutionResource(final Resource delegate, final WildFlyJobOperator jobOperator, final String jobName, final ExecutionIds executionIds) {
         this.delegate = delegate;
         this.jobOperator = jobOperator;
         this.jobName = jobName;
+        this.executionIds = executionIds;
     }
 
     @Override
@@ -103,7 +114,7 @@ public class BatchJobExecutionResource implements Resource {
     @Override
     public boolean hasChildren(final String childType) {
         if (BatchJobExecutionResourceDefinition.EXECUTION.equals(childType)) {
-            return !getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION).isEmpty();
+            return executionIds.size() > 0;
         }
         return delegate.hasChildren(childType);
     }
@@ -129,10 +140,7 @@ public class BatchJobExecutionResource implements Resource {
     @Override
     public Set<String> getChildrenNames(final String childType) {
         if (BatchJobExecutionResourceDefinition.EXECUTION.equals(childType)) {
-            synchronized (children) {
-                refreshChildren();
-                return new LinkedHashSet<>(children);
-            }
+            return executionIds.getNames();
         }
         return delegate.getChildrenNames(childType);
     }
@@ -190,33 +198,195 @@ public class BatchJobExecutionResource implements Resource {
 
     @Override
     public Resource clone() {
-        return new BatchJobExecutionResource(delegate.clone(), jobOperator, jobName);
+        return new BatchJobExecutionResource(delegate.clone(), jobOperator, jobName, executionIds);
     }
 
-    private boolean hasJobExecution(final String executionName) {
-        synchronized (children) {
-            if (children.contains(executionName)) {
-                return true;
+    /**
+     * Returns a page of the job executions, from the most recent to the oldest, which match the specified filters.
+     * Only the job executions up to the requested page are retrieved from the job repository.
+     *
+     * @param offset        the number of matching job executions to skip
+     * @param count         the maximum number of job executions to return
+     * @param batchStatus   the batch status of the job executions to return, or {@code null} for any status
+     * @param createdAfter  the time after which the job executions to return were created, or {@code null} for no lower bound
+     * @param createdBefore the time before which the job executions to return were created, or {@code null} for no upper bound
+     *
+     * @return the matching job executions
+     */
+    List<JobExecution> getJobExecutions(final int offset, final int count, final BatchStatus batchStatus, final Date createdAfter, final Date createdBefore) {
+        final long[] ids;
+        final int size;
+        synchronized (executionIds) {
+            executionIds.refresh();
+            // Ids are only appended beyond the size, or replaced by a new array, so the snapshot can be read without the lock
+            ids = executionIds.ids;
+            size = executionIds.size;
+        }
+        final boolean filtered = batchStatus != null || createdAfter != null || createdBefore != null;
+        final List<JobExecution> result = new ArrayList<>(Math.min(count, size));
+        // Without filters there is no need to retrieve the skipped executions
+        int skip = filtered ? offset : 0;
+        for (int i = filtered ? size - 1 : size - 1 - offset; i >= 0 && result.size() < count; i--) {
+            final JobExecution jobExecution;
+            try {
+                jobExecution = jobOperator.getJobExecution(ids[i]);
+            } catch (NoSuchJobExecutionException ignore) {
+                // The execution was removed since the last full refresh
+                continue;
+            }
+            final Date createTime = jobExecution.getCreateTime();
+            if (createdAfter != null && createTime != null && !createTime.after(createdAfter)) {
+                // Execution ids are assigned in creation order, so no older execution can match
+                break;
             }
-            // Load a cache of the names
-            refreshChildren();
-            return children.contains(executionName);
+            if ((createdBefore != null && (createTime == null || !createTime.before(createdBefore))) || (batchStatus != null && batchStatus != jobExecution.getBatchStatus())) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            result.add(jobExecution);
         }
+        return result;
+    }
+
+    private boolean hasJobExecution(final String executionName) {
+        final long executionId;
+        try {
+            executionId = Long.parseLong(executionName);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return executionIds.contains(executionId);
     }
 
     /**
-     * Note the access to the {@link #children} is <strong>not</strong> guarded here and needs to be externally
-     * guarded.
+     * The ids of the executions of a job, sorted in ascending order. Once loaded, only the ids greater than the
+     * highest known id are fetched from the job repository on refresh, and the full set of ids is only reloaded
+     * periodically.
      */
-    private void refreshChildren() {
-        if (System.currentTimeMillis() - lastRefreshedTime < refreshMinInterval) {
-            return;
+    private static final class ExecutionIds {
+        private static final long[] EMPTY = new long[0];
+        // The number of most recent execution ids initially fetched by an incremental refresh
+        private static final int INCREMENTAL_FETCH_SIZE = 64;
+        // Beyond this number of new executions, a full reload is cheaper than an incremental refresh
+        private static final int MAX_INCREMENTAL_FETCH_SIZE = 8192;
+
+        private final WildFlyJobOperator jobOperator;
+        private final String jobName;
+        private final long refreshMinInterval;
+        private final long fullRefreshInterval;
+        // The fields below are guarded by this instance
+        private long[] ids = EMPTY;
+        private int size;
+        /**
+         * Last time when job execution ids were refreshed
+         */
+        private long lastRefreshedTime;
+        /**
+         * Last time when all job execution ids were reloaded, or 0 if they were never loaded
+         */
+        private long lastFullRefreshedTime;
+
+        ExecutionIds(final WildFlyJobOperator jobOperator, final String jobName, final long refreshMinInterval, final long fullRefreshInterval) {
+            this.jobOperator = jobOperator;
+            this.jobName = jobName;
+            this.refreshMinInterval = refreshMinInterval;
+            this.fullRefreshInterval = fullRefreshInterval;
+        }
+
+        synchronized int size() {
+            refresh();
+            return size;
+        }
+
+        synchronized boolean contains(final long executionId) {
+            if (lastFullRefreshedTime != 0 && Arrays.binarySearch(ids, 0, size, executionId) >= 0) {
+                return true;
+            }
+            refresh();
+            return Arrays.binarySearch(ids, 0, size, executionId) >= 0;
+        }
+
+        synchronized Set<String> getNames() {
+            refresh();
+            final Set<String> names = new LinkedHashSet<>(size * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                names.add(Long.toString(ids[i]));
+            }
+            return names;
+        }
+
+        /**
+         * Note this must be externally guarded by this instance.
+         */
+        void refresh() {
+            final long now = System.currentTimeMillis();
+            if (now - lastRefreshedTime < refreshMinInterval) {
+                return;
+            }
+            final List<Long> newExecutionIds = (lastFullRefreshedTime == 0 || now - lastFullRefreshedTime >= fullRefreshInterval) ? null : fetchNewExecutionIds();
+            if (newExecutionIds == null) {
+                ids = toSortedArray(jobOperator.getJobExecutionsByJob(jobName));
+                size = ids.length;
+                lastFullRefreshedTime = now;
+            } else if (!newExecutionIds.isEmpty()) {
+                final long[] newIds = toSortedArray(newExecutionIds);
+                if (size + newIds.length > ids.length) {
+                    // Replace rather than grow the array in place, as it may be read without the lock
+                    ids = Arrays.copyOf(ids, Math.max(size + newIds.length, size + (size >> 1)));
+                }
+                System.arraycopy(newIds, 0, ids, size, newIds.length);
+                size += newIds.length;
+                // The incremental fetches bypass the execution-records-limit of the job repository, which a full reload applies
+                final Integer limit = jobOperator.getExecutionRecordsLimit();
+                if (limit != null && limit > 0 && size > limit) {
+                    // Keep the newest ids, again replacing rather than shifting the array in place
+                    ids = Arrays.copyOfRange(ids, size - limit, size);
+                    size = limit;
+                }
+            }
+            lastRefreshedTime = System.currentTimeMillis();
         }
 
-        final List<Long> executionIds = jobOperator.getJobExecutionsByJob(jobName);
-        final Set<String> asNames = executionIds.stream().map(Object::toString).collect(Collectors.toSet());
-        children.clear();
-        children.addAll(asNames);
-        lastRefreshedTime = System.currentTimeMillis();
+        /**
+         * Fetches the ids of the executions newer than the highest known id, doubling the number of most recent ids
+         * fetched until it reaches a known id.
+         *
+         * @return the new execution ids, or {@code null} if there are too many of them and all the ids should be reloaded
+         */
+        private List<Long> fetchNewExecutionIds() {
+            final long highWaterMark = size == 0 ? Long.MIN_VALUE : ids[size - 1];
+            for (int limit = INCREMENTAL_FETCH_SIZE; limit <= MAX_INCREMENTAL_FETCH_SIZE; limit <<= 1) {
+                final List<Long> executionIds = jobOperator.getJobExecutionsByJob(jobName, limit);
+                final List<Long> result = new ArrayList<>();
+                boolean complete = executionIds.size() < limit;
+                for (Long executionId : executionIds) {
+                    if (executionId > highWaterMark) {
+                        result.add(executionId);
+                    } else {
+                        complete = true;
+                    }
+                }
+                if (complete) {
+                    return result;
+                }
+            }
+            return null;
+        }
+
+        private static long[] toSortedArray(final List<Long> executionIds) {
+            if (executionIds.isEmpty()) {
+                return EMPTY;
+            }
+            final long[] result = new long[executionIds.size()];
+            int i = 0;
+            for (Long executionId : executionIds) {
+                result[i++] = executionId;
+            }
+            Arrays.sort(result);
+            return result;
+        }
     }
 }
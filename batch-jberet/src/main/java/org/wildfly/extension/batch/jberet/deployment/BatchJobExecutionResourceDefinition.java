@@ -9,6 +9,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.Properties;
 import java.util.function.Function;
@@ -182,10 +183,17 @@ public class BatchJobExecutionResourceDefinition extends SimpleResourceDefinitio
         protected void updateModel(final ModelNode model, final JobExecution jobExecution) throws OperationFailedException {
             final Date date = dateGetter.apply(jobExecution);
             if (date != null) {
-                // use OffsetDateTime and ISO_OFFSET_DATE_TIME if we want to include offset in the formatting output
-                model.set(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
-                        LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), DEFAULT_ZONE_ID)));
+                model.set(formatDateTime(date));
             }
         }
     }
+
+    static String formatDateTime(final Date date) {
+        // use OffsetDateTime and ISO_OFFSET_DATE_TIME if we want to include offset in the formatting output
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), DEFAULT_ZONE_ID));
+    }
+
+    static Date parseDateTime(final String value) throws DateTimeParseException {
+        return Date.from(LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(DEFAULT_ZONE_ID).toInstant());
+    }
 }
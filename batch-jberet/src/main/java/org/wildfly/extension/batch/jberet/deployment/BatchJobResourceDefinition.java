@@ -5,14 +5,27 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Date;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleListAttributeDefinition;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.extension.batch.jberet.BatchResourceDescriptionResolver;
@@ -41,8 +54,38 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
             .setStorageRuntime()
             .build();
 
+    private static final ResourceDescriptionResolver DEFAULT_RESOLVER = BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job");
+
+    private static final SimpleAttributeDefinition OFFSET = SimpleAttributeDefinitionBuilder.create("offset", ModelType.INT, true)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true, true))
+            .build();
+
+    private static final SimpleAttributeDefinition COUNT = SimpleAttributeDefinitionBuilder.create("count", ModelType.INT, true)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, true, true))
+            .build();
+
+    private static final SimpleAttributeDefinition BATCH_STATUS = SimpleAttributeDefinitionBuilder.create(BatchJobExecutionResourceDefinition.BATCH_STATUS.getName(), ModelType.STRING, true)
+            .setValidator(EnumValidator.create(BatchStatus.class))
+            .build();
+
+    private static final SimpleAttributeDefinition CREATED_AFTER = SimpleAttributeDefinitionBuilder.create("created-after", ModelType.STRING, true)
+            .build();
+
+    private static final SimpleAttributeDefinition CREATED_BEFORE = SimpleAttributeDefinitionBuilder.create("created-before", ModelType.STRING, true)
+            .build();
+
+    private static final SimpleOperationDefinition READ_EXECUTIONS = new SimpleOperationDefinitionBuilder("read-executions", DEFAULT_RESOLVER)
+            .setParameters(OFFSET, COUNT, BATCH_STATUS, CREATED_AFTER, CREATED_BEFORE)
+            .setReplyType(ModelType.LIST)
+            .setReplyValueType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
     public BatchJobResourceDefinition() {
-        super(new Parameters(PathElement.pathElement(JOB), BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job")).setRuntime());
+        super(new Parameters(PathElement.pathElement(JOB), DEFAULT_RESOLVER).setRuntime());
     }
 
     @Override
@@ -70,4 +113,52 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
         });
     }
 
+    @Override
+    public void registerOperations(final ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+
+        resourceRegistration.registerOperationHandler(READ_EXECUTIONS, new JobOperationStepHandler(false) {
+            @Override
+            protected void execute(final OperationContext context, final ModelNode operation, final WildFlyJobOperator jobOperator) throws OperationFailedException {
+                final String jobName = context.getCurrentAddressValue();
+                final int offset = resolveValue(context, operation, OFFSET).asInt();
+                final int count = resolveValue(context, operation, COUNT).asInt();
+                final ModelNode batchStatus = resolveValue(context, operation, BATCH_STATUS);
+                final Date createdAfter;
+                final Date createdBefore;
+                try {
+                    createdAfter = resolveDateTime(context, operation, CREATED_AFTER);
+                    createdBefore = resolveDateTime(context, operation, CREATED_BEFORE);
+                } catch (DateTimeParseException e) {
+                    throw createOperationFailure(e);
+                }
+                // A recursive read returns a clone of the resource, which shares its cache of execution ids
+                final Resource resource = context.readResource(PathAddress.EMPTY_ADDRESS, true);
+                final BatchJobExecutionResource executions = (resource instanceof BatchJobExecutionResource) ? (BatchJobExecutionResource) resource : new BatchJobExecutionResource(jobOperator, jobName);
+                final ModelNode result = context.getResult().setEmptyList();
+                for (JobExecution jobExecution : jobOperator.allowMissingJob(() -> executions.getJobExecutions(offset, count,
+                        batchStatus.isDefined() ? BatchStatus.valueOf(batchStatus.asString()) : null, createdAfter, createdBefore), Collections.<JobExecution>emptyList())) {
+                    final ModelNode execution = result.add();
+                    execution.get("execution-id").set(jobExecution.getExecutionId());
+                    if (jobExecution.getBatchStatus() != null) {
+                        execution.get(BatchJobExecutionResourceDefinition.BATCH_STATUS.getName()).set(jobExecution.getBatchStatus().toString());
+                    }
+                    setDateTime(execution, BatchJobExecutionResourceDefinition.CREATE_TIME, jobExecution.getCreateTime());
+                    setDateTime(execution, BatchJobExecutionResourceDefinition.START_TIME, jobExecution.getStartTime());
+                    setDateTime(execution, BatchJobExecutionResourceDefinition.END_TIME, jobExecution.getEndTime());
+                }
+            }
+        });
+    }
+
+    private static Date resolveDateTime(final OperationContext context, final ModelNode operation, final SimpleAttributeDefinition attribute) throws OperationFailedException {
+        final ModelNode value = JobOperationStepHandler.resolveValue(context, operation, attribute);
+        return value.isDefined() ? BatchJobExecutionResourceDefinition.parseDateTime(value.asString()) : null;
+    }
+
+    private static void setDateTime(final ModelNode model, final SimpleAttributeDefinition attribute, final Date date) {
+        if (date != null) {
+            model.get(attribute.getName()).set(BatchJobExecutionResourceDefinition.formatDateTime(date));
+        }
+    }
 }
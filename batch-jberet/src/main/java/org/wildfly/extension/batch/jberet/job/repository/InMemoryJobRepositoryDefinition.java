@@ -7,20 +7,30 @@ package org.wildfly.extension.batch.jberet.job.repository;
 
 import org.jberet.repository.JobRepository;
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.wildfly.extension.batch.jberet.BatchResourceDescriptionResolver;
 import org.wildfly.extension.batch.jberet._private.Capabilities;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
 /**
  * Represents an in-memory job repository.
@@ -33,6 +43,32 @@ public class InMemoryJobRepositoryDefinition extends SimpleResourceDefinition {
     public static final String NAME = "in-memory-job-repository";
     public static final PathElement PATH = PathElement.pathElement(NAME);
 
+    /**
+     * The time after which the records of a finished job execution are evicted from the job repository.
+     */
+    public static final SimpleAttributeDefinition MAX_AGE = SimpleAttributeDefinitionBuilder.create("max-age", ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .setValidator(new LongRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * The maximum number of job executions retained by the job repository, beyond which the records of the oldest
+     * finished job executions are evicted.
+     */
+    public static final SimpleAttributeDefinition MAX_EXECUTIONS = SimpleAttributeDefinitionBuilder.create("max-executions", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    static final SimpleAttributeDefinition JOB_INSTANCE_COUNT = createMetric("job-instance-count");
+    static final SimpleAttributeDefinition JOB_EXECUTION_COUNT = createMetric("job-execution-count");
+    static final SimpleAttributeDefinition STEP_EXECUTION_COUNT = createMetric("step-execution-count");
+    static final SimpleAttributeDefinition EVICTED_JOB_INSTANCE_COUNT = createMetric("evicted-job-instance-count");
+    static final SimpleAttributeDefinition EVICTED_JOB_EXECUTION_COUNT = createMetric("evicted-job-execution-count");
+
     public InMemoryJobRepositoryDefinition() {
         super(
                 new Parameters(PATH, BatchResourceDescriptionResolver.getResourceDescriptionResolver(NAME))
@@ -47,11 +83,26 @@ public class InMemoryJobRepositoryDefinition extends SimpleResourceDefinition {
         super.registerAttributes(resourceRegistration);
         resourceRegistration.registerReadWriteAttribute(CommonAttributes.EXECUTION_RECORDS_LIMIT, null,
                 new ReloadRequiredWriteAttributeHandler(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+        resourceRegistration.registerReadWriteAttribute(MAX_AGE, null, new ReloadRequiredWriteAttributeHandler(MAX_AGE));
+        resourceRegistration.registerReadWriteAttribute(MAX_EXECUTIONS, null, new ReloadRequiredWriteAttributeHandler(MAX_EXECUTIONS));
+
+        resourceRegistration.registerMetric(JOB_INSTANCE_COUNT, new MetricHandler(InMemoryJobRepositoryService::getJobInstanceCount));
+        resourceRegistration.registerMetric(JOB_EXECUTION_COUNT, new MetricHandler(InMemoryJobRepositoryService::getJobExecutionCount));
+        resourceRegistration.registerMetric(STEP_EXECUTION_COUNT, new MetricHandler(InMemoryJobRepositoryService::getStepExecutionCount));
+        resourceRegistration.registerMetric(EVICTED_JOB_INSTANCE_COUNT, new MetricHandler(InMemoryJobRepositoryService::getEvictedJobInstanceCount));
+        resourceRegistration.registerMetric(EVICTED_JOB_EXECUTION_COUNT, new MetricHandler(InMemoryJobRepositoryService::getEvictedJobExecutionCount));
+    }
+
+    private static SimpleAttributeDefinition createMetric(final String name) {
+        return SimpleAttributeDefinitionBuilder.create(name, ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setStorageRuntime()
+                .build();
     }
 
     private static class InMemoryAddHandler extends AbstractAddStepHandler {
         InMemoryAddHandler() {
-            super(CommonAttributes.EXECUTION_RECORDS_LIMIT);
+            super(CommonAttributes.EXECUTION_RECORDS_LIMIT, MAX_AGE, MAX_EXECUTIONS);
         }
 
         @Override
@@ -59,11 +110,31 @@ public class InMemoryJobRepositoryDefinition extends SimpleResourceDefinition {
             super.performRuntime(context, operation, model);
             final String name = context.getCurrentAddressValue();
             final Integer executionRecordsLimit = CommonAttributes.EXECUTION_RECORDS_LIMIT.resolveModelAttribute(context, model).asIntOrNull();
+            final ModelNode maxAge = MAX_AGE.resolveModelAttribute(context, model);
+            final Integer maxExecutions = MAX_EXECUTIONS.resolveModelAttribute(context, model).asIntOrNull();
             final ServiceName inMemorySN = context.getCapabilityServiceName(Capabilities.JOB_REPOSITORY_CAPABILITY.getName(), name, JobRepository.class);
             final ServiceBuilder<?> sb = context.getServiceTarget().addService(inMemorySN);
             final Consumer<JobRepository> jobRepositoryConsumer = sb.provides(inMemorySN);
-            sb.setInstance(new InMemoryJobRepositoryService(jobRepositoryConsumer, executionRecordsLimit));
+            sb.setInstance(new InMemoryJobRepositoryService(jobRepositoryConsumer, executionRecordsLimit, name,
+                    maxAge.isDefined() ? TimeUnit.SECONDS.toMillis(maxAge.asLong()) : null, maxExecutions));
             sb.install();
         }
     }
+
+    private static class MetricHandler extends AbstractRuntimeOnlyHandler {
+        private final ToLongFunction<InMemoryJobRepositoryService> metric;
+
+        MetricHandler(final ToLongFunction<InMemoryJobRepositoryService> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final ServiceName serviceName = context.getCapabilityServiceName(Capabilities.JOB_REPOSITORY_CAPABILITY.getName(), context.getCurrentAddressValue(), JobRepository.class);
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+            if (controller != null && controller.getState() == ServiceController.State.UP && controller.getService() instanceof InMemoryJobRepositoryService) {
+                context.getResult().set(metric.applyAsLong((InMemoryJobRepositoryService) controller.getService()));
+            }
+        }
+    }
 }
@@ -5,41 +5,446 @@
 
 package org.wildfly.extension.batch.jberet.job.repository;
 
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.batch.runtime.context.StepContext;
+import org.jberet.job.model.Job;
 import org.jberet.repository.InMemoryRepository;
+import org.jberet.repository.JobExecutionSelector;
 import org.jberet.repository.JobRepository;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.runtime.StepExecutionImpl;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
  * A service which provides an in-memory job repository.
+ * <p>
+ * The job instances and executions are indexed by job name, so that the lookups by job name do not scan all the
+ * records of the repository. If a maximum age or a maximum number of job executions is configured, the records of the
+ * finished job executions are evicted by a background sweeper, along with the records of the job instances which no
+ * longer have any execution.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
 public class InMemoryJobRepositoryService extends JobRepositoryService implements Service<JobRepository> {
 
+    private static final long SWEEP_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+
+    private final String name;
+    private final Long maxAge;
+    private final Integer maxExecutions;
     private volatile InMemoryRepository repository;
+    private volatile ScheduledExecutorService sweeper;
+
+    // Secondary indexes of the records of the repository
+    private final ConcurrentMap<String, JobIndex> jobs = new ConcurrentHashMap<>();
+    // Sorted by execution id, i.e. from the oldest to the most recent execution
+    private final ConcurrentNavigableMap<Long, ExecutionEntry> executions = new ConcurrentSkipListMap<>();
+    private final AtomicLong evictedJobInstances = new AtomicLong();
+    private final AtomicLong evictedJobExecutions = new AtomicLong();
 
     public InMemoryJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer, final Integer executionRecordsLimit) {
+        this(jobRepositoryConsumer, executionRecordsLimit, null, null, null);
+    }
+
+    /**
+     * Creates an in-memory job repository service.
+     *
+     * @param jobRepositoryConsumer the consumer of the job repository
+     * @param executionRecordsLimit the maximum number of job execution records returned by the job repository, or {@code null} for no limit
+     * @param name                  the name of the job repository
+     * @param maxAge                the time in milliseconds after which a finished job execution is evicted, or {@code null} for no limit
+     * @param maxExecutions         the maximum number of job executions retained, beyond which the oldest finished job executions are evicted, or {@code null} for no limit
+     */
+    public InMemoryJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer, final Integer executionRecordsLimit, final String name, final Long maxAge, final Integer maxExecutions) {
         super(jobRepositoryConsumer, executionRecordsLimit);
+        this.name = name;
+        this.maxAge = maxAge;
+        this.maxExecutions = maxExecutions;
     }
 
     @Override
     public void startJobRepository(final StartContext context) throws StartException {
         repository = new InMemoryRepository();
+        if (maxAge != null || maxExecutions != null) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(new ThreadFactory(name));
+            sweeper.scheduleWithFixedDelay(this::evict, SWEEP_INTERVAL, SWEEP_INTERVAL, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     public void stopJobRepository(final StopContext context) {
+        final ScheduledExecutorService sweeper = this.sweeper;
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            this.sweeper = null;
+        }
         repository = null;
+        jobs.clear();
+        executions.clear();
     }
 
     @Override
     protected JobRepository getDelegate() {
         return repository;
     }
+
+    @Override
+    public JobInstanceImpl createJobInstance(final Job job, final String applicationName, final ClassLoader classLoader) {
+        final JobInstanceImpl jobInstance = super.createJobInstance(job, applicationName, classLoader);
+        getJobIndex(jobInstance.getJobName()).instanceIds.add(jobInstance.getInstanceId());
+        return jobInstance;
+    }
+
+    @Override
+    public void removeJobInstance(final long jobInstanceId) {
+        final JobInstance jobInstance = super.getJobInstance(jobInstanceId);
+        super.removeJobInstance(jobInstanceId);
+        final JobIndex index = (jobInstance == null) ? null : jobs.get(jobInstance.getJobName());
+        if (index != null) {
+            index.instanceIds.remove(jobInstanceId);
+        }
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName) {
+        final JobIndex index = (jobName == null) ? null : jobs.get(jobName);
+        if (index == null) {
+            return super.getJobInstances(jobName);
+        }
+        // From the most recent to the oldest job instance
+        final List<JobInstance> result = new ArrayList<>();
+        for (Long jobInstanceId : index.instanceIds.descendingSet()) {
+            final JobInstance jobInstance = super.getJobInstance(jobInstanceId);
+            if (jobInstance != null) {
+                result.add(jobInstance);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int getJobInstanceCount(final String jobName) {
+        final JobIndex index = (jobName == null) ? null : jobs.get(jobName);
+        return (index == null) ? super.getJobInstanceCount(jobName) : index.instanceIds.size();
+    }
+
+    @Override
+    public JobExecutionImpl createJobExecution(final JobInstanceImpl jobInstance, final Properties jobParameters) {
+        final JobExecutionImpl jobExecution = super.createJobExecution(jobInstance, jobParameters);
+        final JobIndex index = getJobIndex(jobInstance.getJobName());
+        executions.put(jobExecution.getExecutionId(), new ExecutionEntry(jobExecution, index, jobInstance.getInstanceId()));
+        index.executionIds.add(jobExecution.getExecutionId());
+        index.activeExecutionIds.add(jobExecution.getExecutionId());
+        return jobExecution;
+    }
+
+    @Override
+    public void updateJobExecution(final JobExecutionImpl jobExecution, final boolean fullUpdate, final boolean saveJobParameters) {
+        super.updateJobExecution(jobExecution, fullUpdate, saveJobParameters);
+        if (isFinished(jobExecution.getBatchStatus())) {
+            final ExecutionEntry entry = executions.get(jobExecution.getExecutionId());
+            if (entry != null) {
+                entry.index.activeExecutionIds.remove(jobExecution.getExecutionId());
+            }
+        }
+    }
+
+    @Override
+    public List<Long> getRunningExecutions(final String jobName) {
+        final JobIndex index = (jobName == null) ? null : jobs.get(jobName);
+        if (index == null) {
+            return super.getRunningExecutions(jobName);
+        }
+        final List<Long> result = new ArrayList<>();
+        for (Long executionId : index.activeExecutionIds) {
+            final ExecutionEntry entry = executions.get(executionId);
+            if (entry != null) {
+                final BatchStatus status = entry.execution.getBatchStatus();
+                if (status == BatchStatus.STARTING || status == BatchStatus.STARTED) {
+                    result.add(executionId);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeJobExecutions(final JobExecutionSelector jobExecutionSelector) {
+        super.removeJobExecutions(jobExecutionSelector);
+        // Drop the removed job executions from the indexes
+        final InMemoryRepository repository = this.repository;
+        for (Iterator<ExecutionEntry> entries = executions.values().iterator(); entries.hasNext(); ) {
+            final ExecutionEntry entry = entries.next();
+            if (repository == null || repository.getJobExecution(entry.execution.getExecutionId()) == null) {
+                entries.remove();
+                entry.index.remove(entry.execution.getExecutionId());
+            }
+        }
+    }
+
+    @Override
+    public void addStepExecution(final JobExecutionImpl jobExecution, final StepExecutionImpl stepExecution) {
+        super.addStepExecution(jobExecution, stepExecution);
+        final ExecutionEntry entry = executions.get(jobExecution.getExecutionId());
+        if (entry != null) {
+            entry.stepExecutions.incrementAndGet();
+        }
+    }
+
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName) {
+        return getJobExecutionsByJob(jobName, getExecutionRecordsLimit());
+    }
+
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName, final Integer executionRecordsLimit) {
+        final JobIndex index = (jobName == null) ? null : jobs.get(jobName);
+        if (index == null) {
+            return super.getJobExecutionsByJob(jobName, executionRecordsLimit);
+        }
+        // From the most recent to the oldest job execution
+        final List<Long> result = new ArrayList<>();
+        for (Long executionId : index.executionIds.descendingSet()) {
+            if (executionRecordsLimit != null && result.size() >= executionRecordsLimit) {
+                break;
+            }
+            result.add(executionId);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of job instances retained by this job repository.
+     *
+     * @return the number of job instances
+     */
+    public int getJobInstanceCount() {
+        int count = 0;
+        for (JobIndex index : jobs.values()) {
+            count += index.instanceIds.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of job executions retained by this job repository.
+     *
+     * @return the number of job executions
+     */
+    public int getJobExecutionCount() {
+        return executions.size();
+    }
+
+    /**
+     * Returns the number of step executions retained by this job repository.
+     *
+     * @return the number of step executions
+     */
+    public long getStepExecutionCount() {
+        long count = 0;
+        for (ExecutionEntry entry : executions.values()) {
+            count += entry.stepExecutions.get();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of job instances evicted from this job repository.
+     *
+     * @return the number of evicted job instances
+     */
+    public long getEvictedJobInstanceCount() {
+        return evictedJobInstances.get();
+    }
+
+    /**
+     * Returns the number of job executions evicted from this job repository.
+     *
+     * @return the number of evicted job executions
+     */
+    public long getEvictedJobExecutionCount() {
+        return evictedJobExecutions.get();
+    }
+
+    /**
+     * Evicts the finished job executions older than the maximum age, as well as the oldest finished job executions
+     * beyond the maximum number of job executions. The job instances of which all job executions are evicted, are
+     * evicted as well.
+     */
+    void evict() {
+        final InMemoryRepository repository = this.repository;
+        if (repository == null) {
+            return;
+        }
+        try {
+            final long now = System.currentTimeMillis();
+            int excess = (maxExecutions == null) ? 0 : executions.size() - maxExecutions;
+            final Map<Long, ExecutionEntry> evictedExecutions = new HashMap<>();
+            final Set<Long> candidateInstanceIds = new HashSet<>();
+            final Set<Long> retainedInstanceIds = new HashSet<>();
+            for (ExecutionEntry entry : executions.values()) {
+                final Date endTime = entry.execution.getEndTime();
+                // Only finished job executions are evicted
+                if (endTime != null && isFinished(entry.execution.getBatchStatus())
+                        && (excess > 0 || (maxAge != null && now - endTime.getTime() > maxAge))) {
+                    evictedExecutions.put(entry.execution.getExecutionId(), entry);
+                    candidateInstanceIds.add(entry.instanceId);
+                    excess--;
+                } else {
+                    retainedInstanceIds.add(entry.instanceId);
+                }
+            }
+            if (evictedExecutions.isEmpty()) {
+                return;
+            }
+            repository.removeJobExecutions(new ExecutionIdSelector(evictedExecutions.keySet()));
+            for (Map.Entry<Long, ExecutionEntry> evicted : evictedExecutions.entrySet()) {
+                final Long executionId = evicted.getKey();
+                final ExecutionEntry entry = evicted.getValue();
+                if (repository.getJobExecution(executionId) != null) {
+                    // Not removed by the repository, thus its job instance is retained too
+                    retainedInstanceIds.add(entry.instanceId);
+                    continue;
+                }
+                // The entry may have been dropped concurrently, e.g. by removeJobExecutions()
+                if (executions.remove(executionId, entry)) {
+                    entry.index.remove(executionId);
+                    evictedJobExecutions.incrementAndGet();
+                }
+            }
+            candidateInstanceIds.removeAll(retainedInstanceIds);
+            for (Long jobInstanceId : candidateInstanceIds) {
+                removeJobInstance(jobInstanceId);
+                evictedJobInstances.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            BatchLogger.LOGGER.debugf(e, "Failed to evict job executions from job repository %s", name);
+        }
+    }
+
+    private JobIndex getJobIndex(final String jobName) {
+        return jobs.computeIfAbsent(jobName, key -> new JobIndex());
+    }
+
+    private static boolean isFinished(final BatchStatus status) {
+        return status == BatchStatus.COMPLETED || status == BatchStatus.FAILED || status == BatchStatus.STOPPED || status == BatchStatus.ABANDONED;
+    }
+
+    /**
+     * The ids of the records of a job.
+     */
+    private static class JobIndex {
+        final Set<Long> activeExecutionIds = ConcurrentHashMap.newKeySet();
+        final ConcurrentSkipListSet<Long> instanceIds = new ConcurrentSkipListSet<>();
+        final ConcurrentSkipListSet<Long> executionIds = new ConcurrentSkipListSet<>();
+
+        void remove(final Long executionId) {
+            executionIds.remove(executionId);
+            activeExecutionIds.remove(executionId);
+        }
+    }
+
+    private static class ExecutionEntry {
+        final JobExecutionImpl execution;
+        final JobIndex index;
+        final long instanceId;
+        final AtomicInteger stepExecutions = new AtomicInteger();
+
+        ExecutionEntry(final JobExecutionImpl execution, final JobIndex index, final long instanceId) {
+            this.execution = execution;
+            this.index = index;
+            this.instanceId = instanceId;
+        }
+    }
+
+    /**
+     * Selects the job executions to evict.
+     */
+    private static class ExecutionIdSelector implements JobExecutionSelector {
+        private final Set<Long> executionIds;
+        private JobContext jobContext;
+        private StepContext stepContext;
+
+        ExecutionIdSelector(final Set<Long> executionIds) {
+            this.executionIds = Collections.unmodifiableSet(executionIds);
+        }
+
+        @Override
+        public boolean select(final JobExecution jobExecution, final Collection<Long> allJobExecutionIds) {
+            return executionIds.contains(jobExecution.getExecutionId());
+        }
+
+        @Override
+        public JobContext getJobContext() {
+            return jobContext;
+        }
+
+        @Override
+        public void setJobContext(final JobContext jobContext) {
+            this.jobContext = jobContext;
+        }
+
+        @Override
+        public StepContext getStepContext() {
+            return stepContext;
+        }
+
+        @Override
+        public void setStepContext(final StepContext stepContext) {
+            this.stepContext = stepContext;
+        }
+    }
+
+    /**
+     * Wrapper of default threadfactory, just to override thread names.
+     */
+    private static class ThreadFactory implements java.util.concurrent.ThreadFactory {
+        private final java.util.concurrent.ThreadFactory threadFactory = Executors.defaultThreadFactory();
+        private final String name;
+
+        ThreadFactory(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread t = threadFactory.newThread(r);
+            t.setName("batch-in-memory-job-repository-" + name + "-sweeper");
+            t.setDaemon(true);
+            return t;
+        }
+    }
 }
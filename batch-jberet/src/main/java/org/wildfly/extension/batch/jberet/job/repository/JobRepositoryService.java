@@ -35,7 +35,7 @@ import org.wildfly.extension.batch.jberet._private.BatchLogger;
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
-abstract class JobRepositoryService implements JobRepository, Service<JobRepository> {
+abstract class JobRepositoryService implements LimitedJobRepository, Service<JobRepository> {
     private volatile boolean started;
     private final Integer executionRecordsLimit;
     private final Consumer<JobRepository> jobRepositoryConsumer;
@@ -216,6 +216,11 @@ abstract class JobRepositoryService implements JobRepository, Service<JobReposit
         return getAndCheckDelegate().getJobExecutionsByJob(jobName, executionRecordsLimit);
     }
 
+    @Override
+    public Integer getExecutionRecordsLimit() {
+        return executionRecordsLimit;
+    }
+
     protected abstract void startJobRepository(StartContext context) throws StartException;
 
     protected abstract void stopJobRepository(StopContext context);
@@ -0,0 +1,22 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import org.jberet.repository.JobRepository;
+
+/**
+ * A {@link JobRepository} which may limit the number of job execution records returned by
+ * {@link #getJobExecutionsByJob(String)}.
+ */
+public interface LimitedJobRepository extends JobRepository {
+
+    /**
+     * Returns the maximum number of job execution records returned by {@link #getJobExecutionsByJob(String)}.
+     *
+     * @return the maximum number of job execution records, or {@code null} for no limit
+     */
+    Integer getExecutionRecordsLimit();
+}
@@ -54,7 +54,7 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
 
     @Override
     protected String getSubsystemXsdPath() {
-        return "schema/wildfly-batch-jberet_3_0.xsd";
+        return "schema/wildfly-batch-jberet_4_0.xsd";
     }
 
     @Test
@@ -157,7 +157,8 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
 
         PathAddress repositoryAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, InMemoryJobRepositoryDefinition.PATH);
         transformationConfig.addFailedAttribute(repositoryAddress,
-                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT,
+                        InMemoryJobRepositoryDefinition.MAX_AGE, InMemoryJobRepositoryDefinition.MAX_EXECUTIONS));
 
         PathAddress jdbcRepositoryAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, JdbcJobRepositoryDefinition.PATH);
         transformationConfig.addFailedAttribute(jdbcRepositoryAddress,
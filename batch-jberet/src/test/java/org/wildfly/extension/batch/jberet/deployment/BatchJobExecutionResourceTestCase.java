@@ -0,0 +1,199 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jberet.repository.JdbcRepository;
+import org.jberet.repository.JobRepository;
+import org.jboss.as.controller.PathElement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Scale test of the incremental refresh and the paged reads of the job executions of {@link BatchJobExecutionResource},
+ * against an H2 backed job repository.
+ */
+public class BatchJobExecutionResourceTestCase {
+
+    private static final String JOB_NAME = "test-job";
+    private static final int EXECUTIONS = 500000;
+    private static final Timestamp FIRST_CREATE_TIME = Timestamp.valueOf("2024-01-01 00:00:00");
+
+    private final AtomicInteger fullLoads = new AtomicInteger();
+    private final List<Integer> incrementalFetches = new ArrayList<>();
+    private final AtomicInteger executionReads = new AtomicInteger();
+    private Integer executionRecordsLimit;
+    private JdbcDataSource dataSource;
+    private WildFlyJobOperator jobOperator;
+
+    @Before
+    public void setup() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:batch-job-executions;DB_CLOSE_DELAY=-1");
+        // Creates the tables
+        final JobRepository repository = new JdbcRepository(dataSource);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO JOB_INSTANCE (JOBINSTANCEID, JOBNAME, APPLICATIONNAME) VALUES (1, '" + JOB_NAME + "', 'test')");
+        }
+        // Execution ids match the creation order, starting at 1
+        insertExecutions(1, EXECUTIONS);
+        jobOperator = createJobOperator(repository);
+    }
+
+    @After
+    public void cleanup() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @Test
+    public void testIncrementalRefresh() throws SQLException {
+        final BatchJobExecutionResource resource = new BatchJobExecutionResource(jobOperator, JOB_NAME, 0, Long.MAX_VALUE);
+
+        assertEquals(EXECUTIONS, resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION).size());
+        assertEquals(1, fullLoads.get());
+
+        insertExecutions(EXECUTIONS + 1, 10);
+        assertTrue(resource.hasChild(execution(EXECUTIONS + 10)));
+        insertExecutions(EXECUTIONS + 11, 1000);
+        assertTrue(resource.hasChild(execution(EXECUTIONS + 1010)));
+        assertFalse(resource.hasChild(execution(EXECUTIONS + 1011)));
+        assertFalse(resource.hasChild(PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, "invalid")));
+        assertEquals(EXECUTIONS + 1010, resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION).size());
+
+        // The clones share the execution ids
+        assertEquals(EXECUTIONS + 1010, resource.clone().getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION).size());
+
+        // Only new execution ids are fetched after the initial load
+        assertEquals(1, fullLoads.get());
+        int fetched = 0;
+        for (int fetch : incrementalFetches) {
+            fetched += fetch;
+        }
+        assertTrue(fetched + " execution ids fetched by " + incrementalFetches.size() + " incremental refreshes", fetched < 10 * 1010);
+    }
+
+    @Test
+    public void testIncrementalRefreshExecutionRecordsLimit() throws SQLException {
+        executionRecordsLimit = 1000;
+        final BatchJobExecutionResource resource = new BatchJobExecutionResource(jobOperator, JOB_NAME, 0, Long.MAX_VALUE);
+
+        assertEquals(1000, resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION).size());
+        assertEquals(1, fullLoads.get());
+
+        // The child count stays capped across incremental refreshes, which keep the newest executions
+        for (int i = 0; i < 5; i++) {
+            final int first = EXECUTIONS + 1 + i * 300;
+            insertExecutions(first, 300);
+            assertEquals(1000, resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION).size());
+            assertTrue(resource.hasChild(execution(first + 299)));
+        }
+        final int newest = EXECUTIONS + 1500;
+        assertTrue(resource.hasChild(execution(newest - 999)));
+        assertFalse(resource.hasChild(execution(newest - 1000)));
+        assertEquals(1, fullLoads.get());
+    }
+
+    @Test
+    public void testReadExecutions() {
+        final BatchJobExecutionResource resource = new BatchJobExecutionResource(jobOperator, JOB_NAME);
+
+        List<JobExecution> executions = resource.getJobExecutions(0, 10, null, null, null);
+        assertExecutionIds(executions, EXECUTIONS, 1, 10);
+        executions = resource.getJobExecutions(10, 10, null, null, null);
+        assertExecutionIds(executions, EXECUTIONS - 10, 1, 10);
+        assertEquals(20, executionReads.get());
+        assertTrue(resource.getJobExecutions(EXECUTIONS, 10, null, null, null).isEmpty());
+
+        // Every tenth execution failed
+        executionReads.set(0);
+        executions = resource.getJobExecutions(5, 20, BatchStatus.FAILED, null, null);
+        assertExecutionIds(executions, EXECUTIONS - 50, 10, 20);
+        for (JobExecution execution : executions) {
+            assertEquals(BatchStatus.FAILED, execution.getBatchStatus());
+        }
+        assertTrue(executionReads.get() + " executions read", executionReads.get() <= 250);
+
+        // Executions are created every second
+        executionReads.set(0);
+        executions = resource.getJobExecutions(0, 100, null, createTime(EXECUTIONS - 10), createTime(EXECUTIONS - 5));
+        assertExecutionIds(executions, EXECUTIONS - 6, 1, 4);
+        assertTrue(executionReads.get() + " executions read", executionReads.get() <= 12);
+        executions = resource.getJobExecutions(0, 10, BatchStatus.COMPLETED, createTime(EXECUTIONS - 20), null);
+        assertEquals(10, executions.size());
+        assertEquals(EXECUTIONS - 1, executions.get(0).getExecutionId());
+        assertEquals(EXECUTIONS - 11, executions.get(9).getExecutionId());
+    }
+
+    private void insertExecutions(final int first, final int count) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO JOB_EXECUTION (JOBINSTANCEID, CREATETIME, BATCHSTATUS, EXITSTATUS) " +
+                     "SELECT 1, DATEADD(SECOND, X - 1, CAST(? AS TIMESTAMP)), CASEWHEN(MOD(X, 10) = 0, 'FAILED', 'COMPLETED'), 'done' FROM SYSTEM_RANGE(?, ?) ORDER BY X")) {
+            statement.setTimestamp(1, FIRST_CREATE_TIME);
+            statement.setInt(2, first);
+            statement.setInt(3, first + count - 1);
+            statement.executeUpdate();
+        }
+    }
+
+    private WildFlyJobOperator createJobOperator(final JobRepository repository) {
+        return (WildFlyJobOperator) Proxy.newProxyInstance(WildFlyJobOperator.class.getClassLoader(), new Class<?>[] {WildFlyJobOperator.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getJobExecutionsByJob":
+                    if (args.length == 1) {
+                        fullLoads.incrementAndGet();
+                        // As applied by the job repository service
+                        return repository.getJobExecutionsByJob((String) args[0], executionRecordsLimit);
+                    }
+                    final List<Long> executionIds = repository.getJobExecutionsByJob((String) args[0], (Integer) args[1]);
+                    incrementalFetches.add(executionIds.size());
+                    return executionIds;
+                case "getExecutionRecordsLimit":
+                    return executionRecordsLimit;
+                case "getJobExecution":
+                    executionReads.incrementAndGet();
+                    return repository.getJobExecution((Long) args[0]);
+                default:
+                    throw new UnsupportedOperationException(method.toString());
+            }
+        });
+    }
+
+    private static PathElement execution(final long executionId) {
+        return PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, Long.toString(executionId));
+    }
+
+    private static Date createTime(final long executionId) {
+        return new Date(FIRST_CREATE_TIME.getTime() + TimeUnit.SECONDS.toMillis(executionId - 1));
+    }
+
+    private static void assertExecutionIds(final List<JobExecution> executions, final long first, final long step, final int count) {
+        assertEquals(count, executions.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(first - i * step, executions.get(i).getExecutionId());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+import java.util.Properties;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.job.model.Job;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the age and count based eviction of the records of an {@link InMemoryJobRepositoryService}.
+ */
+public class InMemoryJobRepositoryServiceTestCase {
+
+    private static final String JOB_NAME = "test-job";
+
+    private final Job job = new Job(JOB_NAME);
+    private InMemoryJobRepositoryService repository;
+
+    @After
+    public void stop() {
+        if (repository != null) {
+            repository.stop(null);
+        }
+    }
+
+    @Test
+    public void testMaxExecutions() throws Exception {
+        start(null, 2);
+        final JobInstanceImpl instance1 = createJobInstance();
+        final JobExecutionImpl execution1 = createJobExecution(instance1, BatchStatus.COMPLETED);
+        final JobExecutionImpl execution2 = createJobExecution(instance1, BatchStatus.FAILED);
+        final JobInstanceImpl instance2 = createJobInstance();
+        final JobExecutionImpl execution3 = createJobExecution(instance2, BatchStatus.COMPLETED);
+        final JobInstanceImpl instance3 = createJobInstance();
+        final JobExecutionImpl execution4 = createJobExecution(instance3, BatchStatus.STARTED);
+
+        repository.evict();
+
+        // The 2 oldest finished executions are evicted, along with their job instance
+        assertNull(repository.getJobExecution(execution1.getExecutionId()));
+        assertNull(repository.getJobExecution(execution2.getExecutionId()));
+        assertNull(repository.getJobInstance(instance1.getInstanceId()));
+        assertNotNull(repository.getJobExecution(execution3.getExecutionId()));
+        assertNotNull(repository.getJobInstance(instance2.getInstanceId()));
+        assertNotNull(repository.getJobExecution(execution4.getExecutionId()));
+        assertNotNull(repository.getJobInstance(instance3.getInstanceId()));
+
+        assertEquals(2, repository.getJobExecutionCount());
+        assertEquals(2, repository.getJobInstanceCount());
+        assertEquals(2, repository.getEvictedJobExecutionCount());
+        assertEquals(1, repository.getEvictedJobInstanceCount());
+        assertEquals(2, repository.getJobInstanceCount(JOB_NAME));
+        assertEquals(List.of(execution4.getExecutionId(), execution3.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME));
+        assertEquals(List.of(execution4.getExecutionId()), repository.getRunningExecutions(JOB_NAME));
+
+        // Nothing left to evict
+        repository.evict();
+        assertEquals(2, repository.getJobExecutionCount());
+        assertEquals(2, repository.getEvictedJobExecutionCount());
+    }
+
+    @Test
+    public void testMaxExecutionsRetainsRunningExecutions() throws Exception {
+        start(null, 1);
+        final JobInstanceImpl instance = createJobInstance();
+        final JobExecutionImpl execution1 = createJobExecution(instance, BatchStatus.STARTED);
+        final JobExecutionImpl execution2 = createJobExecution(instance, BatchStatus.STARTING);
+
+        repository.evict();
+
+        // Executions which did not finish are never evicted, even beyond the maximum
+        assertNotNull(repository.getJobExecution(execution1.getExecutionId()));
+        assertNotNull(repository.getJobExecution(execution2.getExecutionId()));
+        assertNotNull(repository.getJobInstance(instance.getInstanceId()));
+        assertEquals(2, repository.getJobExecutionCount());
+        assertEquals(0, repository.getEvictedJobExecutionCount());
+    }
+
+    @Test
+    public void testMaxAge() throws Exception {
+        start(1L, null);
+        final JobInstanceImpl instance1 = createJobInstance();
+        final JobExecutionImpl execution1 = createJobExecution(instance1, BatchStatus.COMPLETED);
+        final JobInstanceImpl instance2 = createJobInstance();
+        final JobExecutionImpl execution2 = createJobExecution(instance2, BatchStatus.STOPPED);
+        final JobExecutionImpl execution3 = createJobExecution(instance2, BatchStatus.STARTED);
+
+        Thread.sleep(10);
+        repository.evict();
+
+        // Finished executions older than the maximum age are evicted
+        assertNull(repository.getJobExecution(execution1.getExecutionId()));
+        assertNull(repository.getJobExecution(execution2.getExecutionId()));
+        assertNotNull(repository.getJobExecution(execution3.getExecutionId()));
+        // A job instance is only evicted along with its last execution
+        assertNull(repository.getJobInstance(instance1.getInstanceId()));
+        assertNotNull(repository.getJobInstance(instance2.getInstanceId()));
+
+        assertEquals(1, repository.getJobExecutionCount());
+        assertEquals(1, repository.getJobInstanceCount());
+        assertEquals(2, repository.getEvictedJobExecutionCount());
+        assertEquals(1, repository.getEvictedJobInstanceCount());
+        assertEquals(List.of(execution3.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME));
+    }
+
+    @Test
+    public void testMaxAgeRetainsRecentExecutions() throws Exception {
+        start(60_000L, null);
+        final JobInstanceImpl instance = createJobInstance();
+        final JobExecutionImpl execution = createJobExecution(instance, BatchStatus.COMPLETED);
+
+        repository.evict();
+
+        assertNotNull(repository.getJobExecution(execution.getExecutionId()));
+        assertNotNull(repository.getJobInstance(instance.getInstanceId()));
+        assertEquals(0, repository.getEvictedJobExecutionCount());
+        assertEquals(0, repository.getEvictedJobInstanceCount());
+    }
+
+    private void start(final Long maxAge, final Integer maxExecutions) throws Exception {
+        repository = new InMemoryJobRepositoryService(jobRepository -> { }, null, "test", maxAge, maxExecutions);
+        repository.start(null);
+    }
+
+    private JobInstanceImpl createJobInstance() {
+        return repository.createJobInstance(job, "test", getClass().getClassLoader());
+    }
+
+    private JobExecutionImpl createJobExecution(final JobInstanceImpl instance, final BatchStatus status) {
+        final JobExecutionImpl execution = repository.createJobExecution(instance, new Properties());
+        execution.setBatchStatus(status);
+        repository.updateJobExecution(execution, false, false);
+        return execution;
+    }
+}
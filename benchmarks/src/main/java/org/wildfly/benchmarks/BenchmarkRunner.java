@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this module, accepting the usual JMH command line options.
+ * Unless overridden via the JMH -rf/-rff options, results are written as JSON to {@value #RESULT_DIRECTORY_PROPERTY}/jmh-&lt;revision&gt;.json,
+ * where the revision is that of the git commit of the working directory, so that the results of distinct commits can be compared.
+ */
+public class BenchmarkRunner {
+
+    static final String RESULT_DIRECTORY_PROPERTY = "wildfly.benchmarks.results";
+    static final String REVISION_PROPERTY = "wildfly.benchmarks.revision";
+
+    public static void main(String... args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        if (!options.getResult().hasValue()) {
+            File directory = new File(System.getProperty(RESULT_DIRECTORY_PROPERTY, "."));
+            builder.result(new File(directory, String.format("jmh-%s.json", resolveRevision())).getPath());
+        }
+        if (!options.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (options.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackage().getName() + "\\..*");
+        }
+        Options runOptions = builder.parent(options).build();
+        new Runner(runOptions).run();
+    }
+
+    private static String resolveRevision() {
+        String revision = System.getProperty(REVISION_PROPERTY);
+        if (revision != null) {
+            return revision;
+        }
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                if ((process.waitFor() == 0) && (line != null) && !line.isBlank()) {
+                    return line.trim();
+                }
+            }
+        } catch (IOException e) {
+            // Not a git working directory, or git is not installed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "local";
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.clustering;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.ee.immutable.CompositeImmutability;
+import org.wildfly.clustering.ee.immutable.DefaultImmutability;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.SerializationContextBuilder;
+import org.wildfly.clustering.marshalling.protostream.SimpleClassLoaderMarshaller;
+import org.wildfly.clustering.web.cache.session.attributes.fine.FineSessionAttributes;
+
+/**
+ * Measures a request against {@link FineSessionAttributes}, i.e. a number of attribute reads and writes followed by the close of the session attributes,
+ * which marshals and writes the modified attributes.
+ * The cache is a local stand-in, i.e. a map, and attributes are marshalled eagerly, as they would be for a persistent or remote cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FineSessionAttributesBenchmark {
+
+    private static final String KEY = "session";
+    private static final int ATTRIBUTES = 10;
+
+    private final Map<String, ByteBuffer> cache = new ConcurrentHashMap<>();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final CacheProperties properties = new CacheProperties() {
+        @Override
+        public boolean isLockOnRead() {
+            return false;
+        }
+
+        @Override
+        public boolean isLockOnWrite() {
+            return true;
+        }
+
+        @Override
+        public boolean isMarshalling() {
+            return true;
+        }
+
+        @Override
+        public boolean isPersistent() {
+            return false;
+        }
+
+        @Override
+        public boolean isTransactional() {
+            return true;
+        }
+    };
+    private final MutatorFactory<String, Map<String, ByteBuffer>> mutatorFactory = new MutatorFactory<>() {
+        @Override
+        public Mutator createMutator(String key, Map<String, ByteBuffer> updates) {
+            return () -> {
+                for (Map.Entry<String, ByteBuffer> entry : updates.entrySet()) {
+                    String attributeKey = key + '.' + entry.getKey();
+                    if (entry.getValue() != null) {
+                        FineSessionAttributesBenchmark.this.cache.put(attributeKey, entry.getValue());
+                    } else {
+                        FineSessionAttributesBenchmark.this.cache.remove(attributeKey);
+                    }
+                }
+            };
+        }
+    };
+    private final Immutability immutability = new CompositeImmutability(EnumSet.allOf(DefaultImmutability.class));
+
+    private ProtoStreamByteBufferMarshaller marshaller;
+    private int counter = 0;
+
+    @Setup
+    public void setup() {
+        ClassLoader loader = FineSessionAttributesBenchmark.class.getClassLoader();
+        this.marshaller = new ProtoStreamByteBufferMarshaller(new SerializationContextBuilder(new SimpleClassLoaderMarshaller(loader)).load(loader).build());
+    }
+
+    @Setup(Level.Iteration)
+    public void populate() {
+        this.attributes.clear();
+        this.cache.clear();
+        for (int i = 0; i < ATTRIBUTES; ++i) {
+            this.attributes.put("attribute" + i, "value" + i);
+        }
+        this.attributes.put("cart", new ArrayList<>(List.of("item1", "item2", "item3")));
+    }
+
+    /**
+     * Reads immutable attributes only, which requires no writes on close.
+     */
+    @Benchmark
+    public Object read() {
+        FineSessionAttributes<String, ByteBuffer> attributes = this.createSessionAttributes();
+        Object result = null;
+        for (int i = 0; i < ATTRIBUTES; ++i) {
+            result = attributes.getAttribute("attribute" + i);
+        }
+        attributes.close();
+        return result;
+    }
+
+    /**
+     * Reads a mutable attribute, which is rewritten on close.
+     */
+    @Benchmark
+    public Object readMutable() {
+        FineSessionAttributes<String, ByteBuffer> attributes = this.createSessionAttributes();
+        Object result = attributes.getAttribute("cart");
+        attributes.close();
+        return result;
+    }
+
+    /**
+     * Updates a single attribute, which is written on close.
+     */
+    @Benchmark
+    public Object write() {
+        FineSessionAttributes<String, ByteBuffer> attributes = this.createSessionAttributes();
+        Object result = attributes.setAttribute("attribute0", Integer.valueOf(this.counter++));
+        attributes.close();
+        return result;
+    }
+
+    private FineSessionAttributes<String, ByteBuffer> createSessionAttributes() {
+        return new FineSessionAttributes<>(KEY, this.attributes, this.mutatorFactory, this.marshaller, this.immutability, this.properties, null);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.clustering;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.protostream.ImmutableSerializationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.SerializationContextBuilder;
+import org.wildfly.clustering.marshalling.protostream.SimpleClassLoaderMarshaller;
+import org.wildfly.clustering.marshalling.protostream.UnpooledProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Measures the ProtoStream marshalling of a typical graph of session attributes,
+ * using thread-confined writer contexts, or new writer contexts for every size and write operation.
+ * Use the JMH gc profiler (-prof gc) to compare the allocation rates of both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtoStreamByteBufferMarshallerBenchmark {
+
+    @Param({ "reused", "new" })
+    private String writerContext;
+
+    private ByteBufferMarshaller marshaller;
+    private Map<String, Object> attributes;
+
+    @Setup
+    public void setup() {
+        ClassLoader loader = ProtoStreamByteBufferMarshallerBenchmark.class.getClassLoader();
+        ImmutableSerializationContext context = new SerializationContextBuilder(new SimpleClassLoaderMarshaller(loader)).load(loader).build();
+        this.marshaller = this.writerContext.equals("new") ? new UnpooledProtoStreamByteBufferMarshaller(context) : new ProtoStreamByteBufferMarshaller(context);
+
+        List<String> roles = new ArrayList<>(List.of("user", "customer", "subscriber"));
+        Map<String, Object> cart = new LinkedHashMap<>();
+        cart.put("SKU-0001", 2);
+        cart.put("SKU-0042", 1);
+        cart.put("SKU-1337", 5);
+
+        this.attributes = new HashMap<>();
+        this.attributes.put("username", "jdoe");
+        this.attributes.put("visits", 42);
+        this.attributes.put("locale", Locale.CANADA_FRENCH);
+        this.attributes.put("last-access", new Date(1700000000000L));
+        this.attributes.put("token", UUID.fromString("a3b1c2d4-e5f6-4789-8abc-def012345678"));
+        this.attributes.put("roles", roles);
+        this.attributes.put("principal-roles", roles);
+        this.attributes.put("cart", cart);
+    }
+
+    @Benchmark
+    public ByteBuffer write() throws IOException {
+        return this.marshaller.write(this.attributes);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.clustering;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.clustering.jgroups.subsystem.ProtocolMetricsHandler;
+import org.jboss.dmr.ModelNode;
+import org.jgroups.annotations.ManagedAttribute;
+import org.jgroups.annotations.Property;
+import org.jgroups.stack.Protocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the reading of every metric of a JGroups protocol via reflection, toggling the accessibility of each field or method per read,
+ * vs via the method handles compiled by {@link ProtocolMetricsHandler}.
+ * Both variants read the same metrics, thus the ratio of their scores is the ratio of their per-read cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolMetricsBenchmark {
+
+    @Param({ "org.jgroups.protocols.UNICAST3", "org.jgroups.protocols.pbcast.NAKACK2", "org.jgroups.protocols.FRAG2", "org.jgroups.protocols.UDP" })
+    private String protocolClassName;
+
+    private final List<AccessibleObject> accessibles = new ArrayList<>();
+    private Protocol protocol;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        this.protocol = Protocol.class.getClassLoader().loadClass(this.protocolClassName).asSubclass(Protocol.class).getConstructor().newInstance();
+        Class<?> targetClass = this.protocol.getClass();
+        while (Protocol.class.isAssignableFrom(targetClass)) {
+            for (Method method : targetClass.getDeclaredMethods()) {
+                if ((method.getParameterCount() == 0) && isManagedAttribute(method)) {
+                    this.accessibles.add(method);
+                }
+            }
+            for (Field field : targetClass.getDeclaredFields()) {
+                if (isManagedAttribute(field)) {
+                    this.accessibles.add(field);
+                }
+            }
+            targetClass = targetClass.getSuperclass();
+        }
+    }
+
+    private static boolean isManagedAttribute(AccessibleObject object) {
+        return object.isAnnotationPresent(ManagedAttribute.class) || (object.isAnnotationPresent(Property.class) && object.getAnnotation(Property.class).exposeAsManagedAttribute());
+    }
+
+    @Benchmark
+    public ModelNode reflection() {
+        ModelNode result = new ModelNode().setEmptyObject();
+        for (AccessibleObject accessible : this.accessibles) {
+            ModelNode value = result.get(accessible.toString());
+            try {
+                Object object = read(accessible, this.protocol);
+                if (object != null) {
+                    value.set(object.toString());
+                }
+            } catch (Exception e) {
+                // Leave undefined
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ModelNode compiled() {
+        return ProtocolMetricsHandler.readMetrics(this.protocol);
+    }
+
+    private static Object read(AccessibleObject accessible, Object target) throws Exception {
+        PrivilegedExceptionAction<Object> action = new PrivilegedExceptionAction<>() {
+            @Override
+            public Object run() throws Exception {
+                accessible.setAccessible(true);
+                try {
+                    return (accessible instanceof Field) ? ((Field) accessible).get(target) : ((Method) accessible).invoke(target);
+                } finally {
+                    accessible.setAccessible(false);
+                }
+            }
+        };
+        try {
+            return AccessController.doPrivileged(action);
+        } catch (PrivilegedActionException e) {
+            throw e.getException();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.clustering;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.SerializationContextBuilder;
+import org.wildfly.clustering.marshalling.protostream.SimpleClassLoaderMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.web.cache.session.metadata.fine.DefaultSessionAccessMetaDataEntry;
+import org.wildfly.clustering.web.cache.session.metadata.fine.DefaultSessionCreationMetaDataEntry;
+import org.wildfly.clustering.web.cache.session.metadata.fine.FineSessionMetaDataSerializationContextInitializer;
+
+/**
+ * Measures the ProtoStream marshalling of the session meta data entries written to the cache on every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionMetaDataMarshallerBenchmark {
+
+    private ByteBufferMarshaller marshaller;
+    private DefaultSessionCreationMetaDataEntry<Object> creationMetaData;
+    private DefaultSessionAccessMetaDataEntry accessMetaData;
+    private ByteBuffer creationMetaDataBuffer;
+    private ByteBuffer accessMetaDataBuffer;
+
+    @Setup
+    public void setup() throws IOException {
+        ClassLoader loader = SessionMetaDataMarshallerBenchmark.class.getClassLoader();
+        this.marshaller = new ProtoStreamByteBufferMarshaller(new SerializationContextBuilder(new SimpleClassLoaderMarshaller(loader)).load(loader).register(List.of(new FineSessionMetaDataSerializationContextInitializer())).build());
+
+        this.creationMetaData = new DefaultSessionCreationMetaDataEntry<>(Instant.now());
+        this.creationMetaData.setTimeout(Duration.ofMinutes(10));
+        this.accessMetaData = new DefaultSessionAccessMetaDataEntry();
+        this.accessMetaData.setLastAccessDuration(Duration.ofSeconds(90), Duration.ofMillis(250));
+
+        this.creationMetaDataBuffer = this.marshaller.write(this.creationMetaData);
+        this.accessMetaDataBuffer = this.marshaller.write(this.accessMetaData);
+    }
+
+    @Benchmark
+    public ByteBuffer writeCreationMetaData() throws IOException {
+        return this.marshaller.write(this.creationMetaData);
+    }
+
+    @Benchmark
+    public Object readCreationMetaData() throws IOException {
+        return this.marshaller.read(this.creationMetaDataBuffer.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer writeAccessMetaData() throws IOException {
+        return this.marshaller.write(this.accessMetaData);
+    }
+
+    @Benchmark
+    public Object readAccessMetaData() throws IOException {
+        return this.marshaller.read(this.accessMetaDataBuffer.duplicate());
+    }
+}
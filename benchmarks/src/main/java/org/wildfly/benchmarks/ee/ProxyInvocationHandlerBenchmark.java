@@ -0,0 +1,72 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.ee;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ee.component.ComponentClientInstance;
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ee.component.ProxyInvocationHandler;
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.Interceptors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the invocation of a component view proxy via {@link ProxyInvocationHandler}, through a chain of pass-through interceptors.
+ * The component view is a local stand-in, whose component is never consulted by the interceptors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyInvocationHandlerBenchmark {
+
+    public interface Greeter {
+        String greet(String name);
+    }
+
+    @Param({ "1", "5", "10" })
+    private int interceptors;
+
+    private Greeter proxy;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        List<Interceptor> chain = new ArrayList<>(this.interceptors + 1);
+        for (int i = 0; i < this.interceptors; ++i) {
+            chain.add(InterceptorContext::proceed);
+        }
+        // Terminal interceptor, in lieu of the component instance
+        chain.add(context -> context.getParameters()[0]);
+        Method method = Greeter.class.getMethod("greet", String.class);
+        Map<Method, Interceptor> interceptors = Map.of(method, Interceptors.getChainedInterceptor(chain));
+        ComponentView view = (ComponentView) Proxy.newProxyInstance(ComponentView.class.getClassLoader(), new Class<?>[] { ComponentView.class }, (proxy, viewMethod, args) -> null);
+        this.proxy = (Greeter) Proxy.newProxyInstance(Greeter.class.getClassLoader(), new Class<?>[] { Greeter.class }, new ProxyInvocationHandler(interceptors, new ComponentClientInstance(), view));
+    }
+
+    @Benchmark
+    public String invoke() {
+        return this.proxy.greet("world");
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.ejb3;
+
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.timerservice.schedule.CalendarBasedTimeout;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfMonth;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfWeek;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Hour;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Minute;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Month;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Second;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Year;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the computation of the next timeout of a calendar-based timer, for a number of typical schedules.
+ * Each invocation computes the timeout following the previous one, such that the schedule progresses through time, including daylight saving time transitions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarBasedTimeoutBenchmark {
+
+    public enum Schedule {
+        EVERY_FIFTEEN_MINUTES("0", "*/15", "*", "*", "*", "*"),
+        WEEKDAYS("0", "30", "8", "*", "*", "Mon-Fri"),
+        LAST_FRIDAY("0", "0", "18", "Last Fri", "*", "*"),
+        FIRST_OR_MONDAY("0", "0", "2", "1", "*", "Mon"),
+        LEAP_DAY("0", "0", "0", "29", "Feb", "*"),
+        ;
+        private final String second;
+        private final String minute;
+        private final String hour;
+        private final String dayOfMonth;
+        private final String month;
+        private final String dayOfWeek;
+
+        Schedule(String second, String minute, String hour, String dayOfMonth, String month, String dayOfWeek) {
+            this.second = second;
+            this.minute = minute;
+            this.hour = hour;
+            this.dayOfMonth = dayOfMonth;
+            this.month = month;
+            this.dayOfWeek = dayOfWeek;
+        }
+
+        CalendarBasedTimeout createTimeout(TimeZone timezone, Date start) {
+            return new CalendarBasedTimeout(new Second(this.second), new Minute(this.minute), new Hour(this.hour), new DayOfMonth(this.dayOfMonth), new Month(this.month), new DayOfWeek(this.dayOfWeek), new Year("*"), timezone, start, null);
+        }
+    }
+
+    @Param
+    private Schedule schedule;
+
+    @Param({ "UTC", "Europe/Berlin" })
+    private String timezone;
+
+    private CalendarBasedTimeout timeout;
+    private Calendar current;
+
+    @Setup
+    public void setup() {
+        this.timeout = this.schedule.createTimeout(TimeZone.getTimeZone(this.timezone), Date.from(Instant.parse("2024-01-01T00:00:00Z")));
+        this.current = this.timeout.getFirstTimeout();
+    }
+
+    @Benchmark
+    public Calendar nextTimeout() {
+        Calendar next = this.timeout.getNextTimeout(this.current);
+        // Restart from the first timeout once the schedule is exhausted
+        this.current = (next != null) ? next : this.timeout.getFirstTimeout();
+        return next;
+    }
+}
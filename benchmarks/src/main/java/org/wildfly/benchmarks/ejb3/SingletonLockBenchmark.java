@@ -0,0 +1,80 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.ejb3;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import org.jboss.as.ejb3.component.singleton.SingletonLockMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the container managed concurrency locks of singleton beans for each {@link SingletonLockMode},
+ * using a read-mostly workload of concurrent readers and a single writer.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingletonLockBenchmark {
+
+    @Param({ "reentrant", "stamped" })
+    private String mode;
+
+    private ReadWriteLock lock;
+    private long first;
+    private long second;
+
+    @Setup
+    public void setup() {
+        this.lock = SingletonLockMode.forValue(this.mode).createLock();
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public void read(Blackhole blackhole) {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            blackhole.consume(this.first == this.second);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public void write() {
+        Lock writeLock = this.lock.writeLock();
+        writeLock.lock();
+        try {
+            this.first++;
+            this.second++;
+        } finally {
+            writeLock.unlock();
+        }
+        // Simulate the interval between writes
+        Blackhole.consumeCPU(256);
+    }
+}
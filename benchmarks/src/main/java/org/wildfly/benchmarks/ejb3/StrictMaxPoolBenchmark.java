@@ -0,0 +1,86 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.ejb3;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.strictmax.StrictMaxPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the acquisition and release of stateless bean instances from a {@link StrictMaxPool}, with and without contention.
+ * Bean instances are created by a local stand-in for the stateless component.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrictMaxPoolBenchmark {
+
+    @Param({ "4", "64" })
+    private int maxSize;
+
+    private StrictMaxPool<Object> pool;
+
+    @Setup
+    public void setup() {
+        StatelessObjectFactory<Object> factory = new StatelessObjectFactory<>() {
+            @Override
+            public Object create() {
+                return new Object();
+            }
+
+            @Override
+            public void destroy(Object instance) {
+            }
+        };
+        this.pool = new StrictMaxPool<>(factory, this.maxSize, 5, TimeUnit.MINUTES);
+        this.pool.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pool.stop();
+    }
+
+    @Benchmark
+    public void uncontended(Blackhole blackhole) {
+        this.getAndRelease(blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void contended(Blackhole blackhole) {
+        this.getAndRelease(blackhole);
+    }
+
+    private void getAndRelease(Blackhole blackhole) {
+        Object instance = this.pool.get();
+        try {
+            // Simulate a short business method
+            Blackhole.consumeCPU(64);
+            blackhole.consume(instance);
+        } finally {
+            this.pool.release(instance);
+        }
+    }
+}
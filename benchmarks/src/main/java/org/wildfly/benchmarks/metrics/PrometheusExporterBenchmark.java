@@ -0,0 +1,73 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.metrics;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.extension.metrics.MetricMetadata;
+import org.wildfly.extension.metrics.PrometheusExporter;
+import org.wildfly.extension.metrics.WildFlyMetricMetadata;
+import org.wildfly.extension.metrics.WildFlyMetricRegistry;
+
+/**
+ * Measures the export of a metric registry in the Prometheus text format, i.e. a scrape of the /metrics endpoint.
+ * Metric values are supplied by local stand-ins, rather than by reading the management model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrometheusExporterBenchmark {
+
+    private static final String[] ATTRIBUTES = new String[] { "request-count", "error-count", "processing-time", "max-request-time" };
+
+    @Param({ "10", "100" })
+    private int deployments;
+
+    private final PrometheusExporter exporter = new PrometheusExporter();
+    private WildFlyMetricRegistry registry;
+
+    @Setup
+    public void setup() {
+        this.registry = new WildFlyMetricRegistry();
+        for (int i = 0; i < this.deployments; ++i) {
+            PathAddress address = PathAddress.pathAddress("deployment", "deployment" + i + ".war").append("subsystem", "undertow").append("servlet", "Servlet");
+            for (String attribute : ATTRIBUTES) {
+                boolean time = attribute.endsWith("time");
+                MetricMetadata metadata = new WildFlyMetricMetadata(attribute, address, "wildfly", "The " + attribute + " of the servlet", time ? MeasurementUnit.MILLISECONDS : MeasurementUnit.NONE, time ? MetricMetadata.Type.GAUGE : MetricMetadata.Type.COUNTER);
+                double value = i * ATTRIBUTES.length + attribute.length();
+                this.registry.registerMetric(() -> OptionalDouble.of(value), metadata);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.registry.close();
+    }
+
+    @Benchmark
+    public String export() {
+        return this.exporter.export(this.registry);
+    }
+}
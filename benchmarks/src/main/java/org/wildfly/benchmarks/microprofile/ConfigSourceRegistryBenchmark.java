@@ -0,0 +1,90 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.microprofile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.extension.microprofile.config.smallrye.ConfigSourceRegistry;
+import org.wildfly.extension.microprofile.config.smallrye.IterableRegistry;
+
+/**
+ * Measures the creation of the config of a deployment, layering the config sources of the subsystem over those of the deployment,
+ * and the subsequent lookup of properties, for a registry of the original config sources of the subsystem vs a {@link ConfigSourceRegistry}.
+ * Run with {@code -prof gc} to compare the memory allocated per deployment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigSourceRegistryBenchmark {
+
+    private static final int PROPERTIES = 20;
+    private static final int ORDINALS = 3;
+
+    @Param({ "10", "60" })
+    private int sources;
+
+    @Param({ "iterable", "snapshot" })
+    private String registry;
+
+    private final List<ConfigSource> subsystemSources = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private ConfigSource deploymentSource;
+    private SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        IterableRegistry<ConfigSource> registry = this.registry.equals("snapshot") ? new ConfigSourceRegistry() : new IterableRegistry<>();
+        for (int i = 0; i < this.sources; ++i) {
+            Map<String, String> properties = new HashMap<>();
+            for (int j = 0; j < PROPERTIES; ++j) {
+                String name = "source" + i + ".property" + j;
+                properties.put(name, "value" + j);
+                this.names.add(name);
+            }
+            String name = "source" + i;
+            registry.register(name, new PropertiesConfigSource(properties, name, 100 + (i % ORDINALS) * 100));
+        }
+        registry.forEach(this.subsystemSources::add);
+        this.deploymentSource = new PropertiesConfigSource(Map.of("deployment.property", "value"), "deployment", 100);
+        this.config = this.createConfig();
+    }
+
+    @Benchmark
+    public SmallRyeConfig createConfig() {
+        return new SmallRyeConfigBuilder().withSources(this.deploymentSource).withSources(this.subsystemSources).build();
+    }
+
+    @Benchmark
+    public int lookup() {
+        int result = 0;
+        for (String name : this.names) {
+            result += this.config.getRawValue(name).length();
+        }
+        return result;
+    }
+}
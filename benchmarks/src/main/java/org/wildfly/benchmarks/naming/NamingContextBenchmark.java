@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.naming;
+
+import java.util.Hashtable;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.CompositeName;
+import javax.naming.NamingException;
+
+import org.jboss.as.naming.InMemoryNamingStore;
+import org.jboss.as.naming.NamingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link NamingContext#lookup(String)} against an {@link InMemoryNamingStore}, populated with a typical number of bindings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NamingContextBenchmark {
+
+    private static final int BINDINGS = 100;
+
+    private InMemoryNamingStore store;
+    private NamingContext context;
+
+    @Setup
+    public void setup() throws NamingException {
+        this.store = new InMemoryNamingStore();
+        for (int i = 0; i < BINDINGS; ++i) {
+            this.store.bind(new CompositeName("comp/env/resource" + i), "value" + i);
+        }
+        this.store.bind(new CompositeName("jdbc/ExampleDS"), "datasource");
+        this.context = new NamingContext(this.store, new Hashtable<>());
+    }
+
+    @TearDown
+    public void tearDown() throws NamingException {
+        this.store.close();
+    }
+
+    @Benchmark
+    public Object lookup() throws NamingException {
+        return this.context.lookup("jdbc/ExampleDS");
+    }
+
+    @Benchmark
+    public Object lookupNested() throws NamingException {
+        return this.context.lookup("comp/env/resource50");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object lookupConcurrent() throws NamingException {
+        return this.context.lookup("comp/env/resource50");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmarks.webservices;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.webservices.invocation.OperationDispatchTable;
+import org.jboss.as.webservices.metrics.EndpointOperationMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the translation of the SEI method of an invocation to the corresponding component view method of an endpoint,
+ * via a linear scan of the component view methods vs an {@link OperationDispatchTable}.
+ * The SEI methods are distinct, but equal, instances of the component view methods, as returned by reflection per invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationDispatchBenchmark {
+
+    private static final Class<?>[] OPERATION_CLASSES = { String.class, StringBuilder.class, ArrayList.class, Thread.class };
+
+    @Param({ "10", "100" })
+    private int operations;
+
+    private final List<Method> viewMethods = new ArrayList<>();
+    private Method[] seiMethods;
+    private OperationDispatchTable table;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        Set<String> signatures = new HashSet<>();
+        for (Class<?> operationClass : OPERATION_CLASSES) {
+            for (Method method : operationClass.getDeclaredMethods()) {
+                if ((this.viewMethods.size() < this.operations) && signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    this.viewMethods.add(method);
+                }
+            }
+        }
+        this.seiMethods = new Method[this.viewMethods.size()];
+        for (int i = 0; i < this.seiMethods.length; ++i) {
+            Method method = this.viewMethods.get(i);
+            this.seiMethods[i] = method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+        }
+        this.table = new OperationDispatchTable(this.viewMethods, new EndpointOperationMetrics(() -> true));
+    }
+
+    private Method nextMethod() {
+        return this.seiMethods[ThreadLocalRandom.current().nextInt(this.seiMethods.length)];
+    }
+
+    @Benchmark
+    public Method scan() {
+        Method seiMethod = this.nextMethod();
+        for (Method viewMethod : this.viewMethods) {
+            if (seiMethod.getName().equals(viewMethod.getName()) && Arrays.equals(seiMethod.getParameterTypes(), viewMethod.getParameterTypes())) {
+                return viewMethod;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    @Benchmark
+    public Method table() {
+        return this.table.get(this.nextMethod()).getViewMethod();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.protostream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.OptionalInt;
+
+import org.infinispan.protostream.ImmutableSerializationContext;
+import org.infinispan.protostream.ProtobufTagMarshaller.WriteContext;
+import org.infinispan.protostream.impl.TagWriterImpl;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Baseline for {@link ProtoStreamByteBufferMarshaller}, whose size and write operations each create a new writer context rather than reusing a thread-confined context.
+ * Like {@link ProtoStreamByteBufferMarshaller}, buffers are pre-sized exactly via {@link #size(Object)}.
+ * Declared within the package of the marshaller, since the {@link Any} wrapper of marshalled values is not visible elsewhere.
+ */
+public class UnpooledProtoStreamByteBufferMarshaller implements ByteBufferMarshaller {
+
+    private final ImmutableSerializationContext context;
+    private final ByteBufferMarshaller marshaller;
+
+    public UnpooledProtoStreamByteBufferMarshaller(ImmutableSerializationContext context) {
+        this.context = context;
+        this.marshaller = new ProtoStreamByteBufferMarshaller(context);
+    }
+
+    @Override
+    public OptionalInt size(Object object) {
+        ProtoStreamSizeOperation operation = new DefaultProtoStreamSizeOperation(this.context);
+        ProtoStreamMarshaller<Any> marshaller = operation.findMarshaller(Any.class);
+        return marshaller.size(operation, new Any(object));
+    }
+
+    @Override
+    public boolean isMarshallable(Object object) {
+        return this.marshaller.isMarshallable(object);
+    }
+
+    @Override
+    public Object readFrom(InputStream input) throws IOException {
+        return this.marshaller.readFrom(input);
+    }
+
+    @Override
+    public void writeTo(OutputStream output, Object object) throws IOException {
+        WriteContext context = TagWriterImpl.newInstanceNoBuffer(this.context, output);
+        ProtoStreamWriter writer = new DefaultProtoStreamWriter(context);
+        ProtoStreamMarshaller<Any> marshaller = writer.findMarshaller(Any.class);
+        marshaller.writeTo(writer, new Any(object));
+    }
+}
@@ -13,7 +13,7 @@ import org.wildfly.clustering.ejb.bean.BeanInstance;
  * @param <K> the bean and bean group identifier type
  * @param <V> the bean instance type
  */
-public interface BeanGroupManager<K, V extends BeanInstance<K>> extends ImmutableBeanGroupManager<K, V> {
+public interface BeanGroupManager<K, V extends BeanInstance<K>> extends ImmutableBeanGroupManager<K, V>, BeanGroupStatistics {
 
     @Override
     default ImmutableBeanGroup<K, V> getImmutableBeanGroup(K id) {
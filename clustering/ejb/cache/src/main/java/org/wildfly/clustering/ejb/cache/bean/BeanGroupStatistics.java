@@ -0,0 +1,19 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+/**
+ * Exposes marshalling statistics for groups of beans.
+ */
+public interface BeanGroupStatistics {
+
+    /**
+     * Returns the average number of bytes marshalled per invocation, i.e. per mutation of a bean group.
+     * This includes any marshalling performed by the cache on behalf of bean groups, e.g. for replication, persistence, or state transfer.
+     * @return a number of bytes
+     */
+    long getMarshalledBytesPerInvocation();
+}
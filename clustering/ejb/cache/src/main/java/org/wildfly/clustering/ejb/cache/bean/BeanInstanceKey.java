@@ -0,0 +1,16 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import org.wildfly.clustering.ee.Key;
+
+/**
+ * The key used to cache an individual bean instance of a bean group.
+ * @param <K> the bean identifier type
+ */
+public interface BeanInstanceKey<K> extends Key<K> {
+
+}
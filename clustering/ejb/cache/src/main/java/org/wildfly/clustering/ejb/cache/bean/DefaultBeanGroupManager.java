@@ -39,6 +39,7 @@ public class DefaultBeanGroupManager<K, V extends BeanInstance<K>, C> implements
     private final Manager<K, MutableBeanGroup<K, V>> manager;
     private final Consumer<Map<K, V>> postActivateTask;
     private final Consumer<Map<K, V>> prePassivateTask;
+    private final DefaultBeanGroupStatistics statistics;
 
     public DefaultBeanGroupManager(DefaultBeanGroupManagerConfiguration<K, V, C> configuration) {
         this.creator = configuration.getCreator();
@@ -47,7 +48,8 @@ public class DefaultBeanGroupManager<K, V extends BeanInstance<K>, C> implements
         boolean persistent = configuration.getCacheProperties().isPersistent();
         this.postActivateTask = persistent ? new MapValuesTask<>(BeanInstance::postActivate) : Functions.discardingConsumer();
         this.prePassivateTask = persistent ? new MapValuesTask<>(BeanInstance::prePassivate) : Functions.discardingConsumer();
-        this.manager = new ConcurrentManager<>(Functions.discardingConsumer(), new NewBeanGroupCloseTask<>(configuration.getRemover()));
+        this.statistics = configuration.getStatistics();
+        this.manager = new ConcurrentManager<>(Functions.discardingConsumer(), new NewBeanGroupCloseTask<>(configuration.getRemover(), this.statistics));
     }
 
     @Override
@@ -78,7 +80,12 @@ public class DefaultBeanGroupManager<K, V extends BeanInstance<K>, C> implements
         return this.manager.apply(id, beanGroupFactory);
     }
 
-    private static class MapValuesTask<K, V> implements Consumer<Map<K, V>> {
+    @Override
+    public long getMarshalledBytesPerInvocation() {
+        return this.statistics.getMarshalledBytesPerInvocation();
+    }
+
+    static class MapValuesTask<K, V> implements Consumer<Map<K, V>> {
         private final Consumer<V> task;
 
         MapValuesTask(Consumer<V> task) {
@@ -91,11 +98,13 @@ public class DefaultBeanGroupManager<K, V extends BeanInstance<K>, C> implements
         }
     }
 
-    private static class NewBeanGroupCloseTask<K, V extends BeanInstance<K>, C> implements Consumer<MutableBeanGroup<K, V>> {
+    static class NewBeanGroupCloseTask<K, V extends BeanInstance<K>> implements Consumer<MutableBeanGroup<K, V>> {
         private final Remover<K> remover;
+        private final DefaultBeanGroupStatistics statistics;
 
-        NewBeanGroupCloseTask(Remover<K> remover) {
+        NewBeanGroupCloseTask(Remover<K> remover, DefaultBeanGroupStatistics statistics) {
             this.remover = remover;
+            this.statistics = statistics;
         }
 
         @Override
@@ -104,6 +113,7 @@ public class DefaultBeanGroupManager<K, V extends BeanInstance<K>, C> implements
                 this.remover.remove(group.getId());
             } else {
                 group.mutate();
+                this.statistics.recordInvocation();
             }
         }
     }
@@ -28,4 +28,5 @@ public interface DefaultBeanGroupManagerConfiguration<K, V extends BeanInstance<
     MutatorFactory<K, MarshalledValue<Map<K, V>, C>> getMutatorFactory();
     CacheProperties getCacheProperties();
     MarshalledValueFactory<C> getMarshalledValueFactory();
+    DefaultBeanGroupStatistics getStatistics();
 }
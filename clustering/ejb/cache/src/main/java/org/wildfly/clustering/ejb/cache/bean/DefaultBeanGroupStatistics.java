@@ -0,0 +1,39 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link BeanGroupStatistics} implementation that records the number of bytes marshalled on behalf of bean groups,
+ * along with the number of bean group mutations.
+ */
+public class DefaultBeanGroupStatistics implements BeanGroupStatistics {
+
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder invocations = new LongAdder();
+
+    /**
+     * Records the specified number of bytes marshalled on behalf of a bean group.
+     * @param bytes a number of bytes
+     */
+    public void recordBytes(long bytes) {
+        this.bytes.add(bytes);
+    }
+
+    /**
+     * Records the mutation of a bean group.
+     */
+    public void recordInvocation() {
+        this.invocations.increment();
+    }
+
+    @Override
+    public long getMarshalledBytesPerInvocation() {
+        long invocations = this.invocations.sum();
+        return (invocations > 0) ? this.bytes.sum() / invocations : 0L;
+    }
+}
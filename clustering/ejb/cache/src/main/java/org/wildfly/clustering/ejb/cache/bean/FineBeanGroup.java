@@ -0,0 +1,90 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.Remover;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+
+/**
+ * A {@link BeanGroup} implementation whose bean instances are persisted independently of one another.
+ * On mutation, only those bean instances accessed or added via this group are written, and the membership of this group only if it changed.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ */
+public class FineBeanGroup<K, V extends BeanInstance<K>> extends DefaultImmutableBeanGroup<K, V> implements MutableBeanGroup<K, V> {
+
+    private final Map<K, V> instances;
+    private final Set<K> members;
+    private final Consumer<Map<K, V>> prePassivateTask;
+    private final Mutator mutator;
+    private final Function<V, Mutator> instanceMutatorFactory;
+    private final Remover<K> instanceRemover;
+    private final Set<K> updates = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean membershipChanged = new AtomicBoolean(false);
+
+    public FineBeanGroup(K id, Map<K, V> instances, Set<K> members, Consumer<Map<K, V>> prePassivateTask, Mutator mutator, Function<V, Mutator> instanceMutatorFactory, Remover<K> instanceRemover, Runnable closeTask) {
+        super(id, instances, closeTask);
+        this.instances = instances;
+        this.members = members;
+        this.prePassivateTask = prePassivateTask;
+        this.mutator = mutator;
+        this.instanceMutatorFactory = instanceMutatorFactory;
+        this.instanceRemover = instanceRemover;
+    }
+
+    @Override
+    public V getBeanInstance(K id) {
+        V instance = super.getBeanInstance(id);
+        if (instance != null) {
+            // We cannot detect whether an accessed bean instance was modified, so presume it was
+            this.updates.add(id);
+        }
+        return instance;
+    }
+
+    @Override
+    public void addBeanInstance(V instance) {
+        K id = instance.getId();
+        this.instances.put(id, instance);
+        this.updates.add(id);
+        if (this.members.add(id)) {
+            this.membershipChanged.set(true);
+        }
+    }
+
+    @Override
+    public V removeBeanInstance(K id) {
+        V instance = this.instances.remove(id);
+        this.updates.remove(id);
+        if (this.members.remove(id)) {
+            this.membershipChanged.set(true);
+            this.instanceRemover.remove(id);
+        }
+        return instance;
+    }
+
+    @Override
+    public void mutate() {
+        this.prePassivateTask.accept(this.instances);
+        for (K id : this.updates) {
+            V instance = this.instances.get(id);
+            if (instance != null) {
+                this.instanceMutatorFactory.apply(instance).mutate();
+            }
+        }
+        if (this.membershipChanged.get()) {
+            this.mutator.mutate();
+        }
+    }
+}
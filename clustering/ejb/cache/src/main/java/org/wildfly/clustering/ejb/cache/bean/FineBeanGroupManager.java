@@ -0,0 +1,112 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.wildfly.clustering.ee.Creator;
+import org.wildfly.clustering.ee.Locator;
+import org.wildfly.clustering.ee.Manager;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.Remover;
+import org.wildfly.clustering.ee.cache.ConcurrentManager;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+import org.wildfly.clustering.marshalling.spi.MarshalledValueFactory;
+import org.wildfly.common.function.Functions;
+
+/**
+ * A manager for bean groups whose bean instances are each stored within their own cache entry.
+ * The cache entry of the bean group itself only references the identifiers of its members.
+ * Consequently, a mutation of a bean group only marshals those bean instances accessed since the group was acquired.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ * @param <C> the marshalled value context type
+ */
+public class FineBeanGroupManager<K, V extends BeanInstance<K>, C> implements BeanGroupManager<K, V> {
+
+    private final Creator<K, MarshalledValue<Set<K>, C>, MarshalledValue<Set<K>, C>> creator;
+    private final MutatorFactory<K, MarshalledValue<Set<K>, C>> mutatorFactory;
+    private final Creator<K, MarshalledValue<V, C>, MarshalledValue<V, C>> instanceCreator;
+    private final Locator<K, MarshalledValue<V, C>> instanceLocator;
+    private final Remover<K> instanceRemover;
+    private final MutatorFactory<K, MarshalledValue<V, C>> instanceMutatorFactory;
+    private final MarshalledValueFactory<C> factory;
+    private final Manager<K, MutableBeanGroup<K, V>> manager;
+    private final Consumer<Map<K, V>> postActivateTask;
+    private final Consumer<Map<K, V>> prePassivateTask;
+    private final DefaultBeanGroupStatistics statistics;
+
+    public FineBeanGroupManager(FineBeanGroupManagerConfiguration<K, V, C> configuration) {
+        this.creator = configuration.getCreator();
+        this.mutatorFactory = configuration.getMutatorFactory();
+        this.instanceCreator = configuration.getBeanInstanceCreator();
+        this.instanceLocator = configuration.getBeanInstanceLocator();
+        this.instanceRemover = configuration.getBeanInstanceRemover();
+        this.instanceMutatorFactory = configuration.getBeanInstanceMutatorFactory();
+        this.factory = configuration.getMarshalledValueFactory();
+        boolean persistent = configuration.getCacheProperties().isPersistent();
+        this.postActivateTask = persistent ? new DefaultBeanGroupManager.MapValuesTask<>(BeanInstance::postActivate) : Functions.discardingConsumer();
+        this.prePassivateTask = persistent ? new DefaultBeanGroupManager.MapValuesTask<>(BeanInstance::prePassivate) : Functions.discardingConsumer();
+        this.statistics = configuration.getStatistics();
+        this.manager = new ConcurrentManager<>(Functions.discardingConsumer(), new DefaultBeanGroupManager.NewBeanGroupCloseTask<>(configuration.getRemover(), this.statistics));
+    }
+
+    @Override
+    public BeanGroup<K, V> getBeanGroup(K id) {
+        return this.manager.apply(id, closeTask -> this.createBeanGroup(id, closeTask));
+    }
+
+    private MutableBeanGroup<K, V> createBeanGroup(K id, Runnable closeTask) {
+        C context = this.factory.getMarshallingContext();
+        Set<K> members = ConcurrentHashMap.newKeySet();
+        MarshalledValue<Set<K>, C> newValue = this.factory.createMarshalledValue(members);
+        MarshalledValue<Set<K>, C> value = this.creator.createValue(id, newValue);
+        Map<K, V> instances = new ConcurrentHashMap<>();
+        Map<K, MarshalledValue<V, C>> instanceValues = new ConcurrentHashMap<>();
+        if (value != newValue) {
+            try {
+                members = value.get(context);
+                for (K memberId : members) {
+                    MarshalledValue<V, C> instanceValue = this.instanceLocator.findValue(memberId);
+                    if (instanceValue != null) {
+                        instanceValues.put(memberId, instanceValue);
+                        instances.put(memberId, instanceValue.get(context));
+                    } else {
+                        DefaultBeanGroupManager.LOGGER.debugf("Bean group %s references non-existent bean %s", id, memberId);
+                    }
+                }
+                // Bean instances of a group are activated as a unit
+                this.postActivateTask.accept(instances);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        Mutator mutator = this.mutatorFactory.createMutator(id, value);
+        Function<V, Mutator> instanceMutatorFactory = instance -> {
+            K instanceId = instance.getId();
+            MarshalledValue<V, C> instanceValue = instanceValues.get(instanceId);
+            if (instanceValue == null) {
+                // Bean instance was added to this group, and must be created regardless of whether the cache is persistent
+                MarshalledValue<V, C> newInstanceValue = this.factory.createMarshalledValue(instance);
+                return () -> this.instanceCreator.createValue(instanceId, newInstanceValue);
+            }
+            return this.instanceMutatorFactory.createMutator(instanceId, instanceValue);
+        };
+        return new FineBeanGroup<>(id, instances, members, this.prePassivateTask, mutator, instanceMutatorFactory, this.instanceRemover, closeTask);
+    }
+
+    @Override
+    public long getMarshalledBytesPerInvocation() {
+        return this.statistics.getMarshalledBytesPerInvocation();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.util.Set;
+
+import org.wildfly.clustering.ee.Creator;
+import org.wildfly.clustering.ee.Locator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.Remover;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+import org.wildfly.clustering.marshalling.spi.MarshalledValueFactory;
+
+/**
+ * Encapsulates the configuration of a {@link FineBeanGroupManager}.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ * @param <C> the marshalled value context type
+ */
+public interface FineBeanGroupManagerConfiguration<K, V extends BeanInstance<K>, C> {
+    Creator<K, MarshalledValue<Set<K>, C>, MarshalledValue<Set<K>, C>> getCreator();
+    Remover<K> getRemover();
+    MutatorFactory<K, MarshalledValue<Set<K>, C>> getMutatorFactory();
+    Creator<K, MarshalledValue<V, C>, MarshalledValue<V, C>> getBeanInstanceCreator();
+    Locator<K, MarshalledValue<V, C>> getBeanInstanceLocator();
+    Remover<K> getBeanInstanceRemover();
+    MutatorFactory<K, MarshalledValue<V, C>> getBeanInstanceMutatorFactory();
+    CacheProperties getCacheProperties();
+    MarshalledValueFactory<C> getMarshalledValueFactory();
+    DefaultBeanGroupStatistics getStatistics();
+}
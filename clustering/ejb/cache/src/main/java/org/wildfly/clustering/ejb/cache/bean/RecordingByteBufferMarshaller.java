@@ -0,0 +1,63 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
+import java.util.function.LongConsumer;
+
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * A {@link ByteBufferMarshaller} decorator that records the size of each marshalled object.
+ * Since the marshaller is not aware of the purpose for which an object is marshalled, this records every write,
+ * e.g. for replication, persistence to a cache store, or state transfer.
+ */
+public class RecordingByteBufferMarshaller implements ByteBufferMarshaller {
+
+    private final ByteBufferMarshaller marshaller;
+    private final LongConsumer recorder;
+
+    public RecordingByteBufferMarshaller(ByteBufferMarshaller marshaller, LongConsumer recorder) {
+        this.marshaller = marshaller;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public boolean isMarshallable(Object object) {
+        return this.marshaller.isMarshallable(object);
+    }
+
+    @Override
+    public Object readFrom(InputStream input) throws IOException {
+        return this.marshaller.readFrom(input);
+    }
+
+    @Override
+    public void writeTo(OutputStream output, Object object) throws IOException {
+        this.marshaller.writeTo(output, object);
+    }
+
+    @Override
+    public Object read(ByteBuffer buffer) throws IOException {
+        return this.marshaller.read(buffer);
+    }
+
+    @Override
+    public ByteBuffer write(Object object) throws IOException {
+        ByteBuffer buffer = this.marshaller.write(object);
+        this.recorder.accept(buffer.remaining());
+        return buffer;
+    }
+
+    @Override
+    public OptionalInt size(Object object) {
+        return this.marshaller.size(object);
+    }
+}
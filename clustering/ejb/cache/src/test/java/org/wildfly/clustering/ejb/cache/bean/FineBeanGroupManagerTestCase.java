@@ -0,0 +1,211 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+import org.wildfly.clustering.ee.Creator;
+import org.wildfly.clustering.ee.Locator;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.Remover;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+import org.wildfly.clustering.marshalling.spi.MarshalledValueFactory;
+
+/**
+ * Unit test for {@link FineBeanGroupManager}.
+ */
+public class FineBeanGroupManagerTestCase {
+
+    private final Creator<String, MarshalledValue<Set<String>, Object>, MarshalledValue<Set<String>, Object>> creator = mock(Creator.class);
+    private final Remover<String> remover = mock(Remover.class);
+    private final MutatorFactory<String, MarshalledValue<Set<String>, Object>> mutatorFactory = mock(MutatorFactory.class);
+    private final Creator<String, MarshalledValue<BeanInstance<String>, Object>, MarshalledValue<BeanInstance<String>, Object>> instanceCreator = mock(Creator.class);
+    private final Locator<String, MarshalledValue<BeanInstance<String>, Object>> instanceLocator = mock(Locator.class);
+    private final Remover<String> instanceRemover = mock(Remover.class);
+    private final MutatorFactory<String, MarshalledValue<BeanInstance<String>, Object>> instanceMutatorFactory = mock(MutatorFactory.class);
+    private final CacheProperties properties = mock(CacheProperties.class);
+    private final MarshalledValueFactory<Object> factory = mock(MarshalledValueFactory.class);
+    private final DefaultBeanGroupStatistics statistics = new DefaultBeanGroupStatistics();
+    private final Object context = new Object();
+    private final String id = "group";
+    private final MarshalledValue<Set<String>, Object> newValue = mock(MarshalledValue.class);
+    private final Mutator mutator = mock(Mutator.class);
+
+    private BeanGroupManager<String, BeanInstance<String>> createManager(boolean persistent) {
+        FineBeanGroupManagerConfiguration<String, BeanInstance<String>, Object> configuration = mock(FineBeanGroupManagerConfiguration.class);
+        when(configuration.getCreator()).thenReturn(this.creator);
+        when(configuration.getRemover()).thenReturn(this.remover);
+        when(configuration.getMutatorFactory()).thenReturn(this.mutatorFactory);
+        when(configuration.getBeanInstanceCreator()).thenReturn(this.instanceCreator);
+        when(configuration.getBeanInstanceLocator()).thenReturn(this.instanceLocator);
+        when(configuration.getBeanInstanceRemover()).thenReturn(this.instanceRemover);
+        when(configuration.getBeanInstanceMutatorFactory()).thenReturn(this.instanceMutatorFactory);
+        when(configuration.getCacheProperties()).thenReturn(this.properties);
+        when(configuration.getMarshalledValueFactory()).thenReturn(this.factory);
+        when(configuration.getStatistics()).thenReturn(this.statistics);
+        when(this.properties.isPersistent()).thenReturn(persistent);
+        when(this.factory.getMarshallingContext()).thenReturn(this.context);
+        doReturn(this.newValue).when(this.factory).createMarshalledValue(any(Set.class));
+        return new FineBeanGroupManager<>(configuration);
+    }
+
+    private MarshalledValue<Set<String>, Object> existingValue(String... members) throws IOException {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ids.addAll(List.of(members));
+        MarshalledValue<Set<String>, Object> value = mock(MarshalledValue.class);
+        when(value.get(this.context)).thenReturn(ids);
+        when(this.creator.createValue(this.id, this.newValue)).thenReturn(value);
+        when(this.mutatorFactory.createMutator(this.id, value)).thenReturn(this.mutator);
+        return value;
+    }
+
+    private MarshalledValue<BeanInstance<String>, Object> existingInstanceValue(BeanInstance<String> instance) throws IOException {
+        String instanceId = instance.getId();
+        MarshalledValue<BeanInstance<String>, Object> value = mock(MarshalledValue.class);
+        when(value.get(this.context)).thenReturn(instance);
+        when(this.instanceLocator.findValue(instanceId)).thenReturn(value);
+        return value;
+    }
+
+    private static BeanInstance<String> createBeanInstance(String id) {
+        BeanInstance<String> instance = mock(BeanInstance.class);
+        when(instance.getId()).thenReturn(id);
+        return instance;
+    }
+
+    @Test
+    public void create() throws IOException {
+        BeanGroupManager<String, BeanInstance<String>> manager = this.createManager(true);
+        when(this.creator.createValue(this.id, this.newValue)).thenReturn(this.newValue);
+        when(this.mutatorFactory.createMutator(this.id, this.newValue)).thenReturn(this.mutator);
+
+        BeanInstance<String> instance = createBeanInstance("bean");
+        MarshalledValue<BeanInstance<String>, Object> instanceValue = mock(MarshalledValue.class);
+        doReturn(instanceValue).when(this.factory).createMarshalledValue(instance);
+
+        BeanGroup<String, BeanInstance<String>> group = manager.getBeanGroup(this.id);
+
+        assertTrue(group.isEmpty());
+        verify(this.newValue, never()).get(any());
+        verify(this.instanceLocator, never()).findValue(anyString());
+
+        group.addBeanInstance(instance);
+        group.close();
+
+        // Added bean instance is created, and the membership of the new group is written
+        verify(this.instanceCreator).createValue("bean", instanceValue);
+        verify(this.instanceMutatorFactory, never()).createMutator(anyString(), any());
+        verify(this.mutator).mutate();
+        verify(instance, never()).postActivate();
+        verify(instance).prePassivate();
+        verify(this.remover, never()).remove(this.id);
+    }
+
+    @Test
+    public void load() throws IOException {
+        BeanGroupManager<String, BeanInstance<String>> manager = this.createManager(true);
+        this.existingValue("bean1", "bean2", "missing");
+        BeanInstance<String> instance1 = createBeanInstance("bean1");
+        BeanInstance<String> instance2 = createBeanInstance("bean2");
+        MarshalledValue<BeanInstance<String>, Object> instanceValue1 = this.existingInstanceValue(instance1);
+        this.existingInstanceValue(instance2);
+        Mutator instanceMutator1 = mock(Mutator.class);
+        when(this.instanceMutatorFactory.createMutator("bean1", instanceValue1)).thenReturn(instanceMutator1);
+
+        BeanGroup<String, BeanInstance<String>> group = manager.getBeanGroup(this.id);
+
+        // Member missing from the cache is skipped
+        assertFalse(group.isEmpty());
+        assertNull(group.getBeanInstance("missing"));
+        // Bean instances of a group are activated as a unit
+        verify(instance1).postActivate();
+        verify(instance2).postActivate();
+
+        assertSame(instance1, group.getBeanInstance("bean1"));
+
+        group.close();
+
+        // Only the accessed bean instance is mutated
+        verify(instanceMutator1).mutate();
+        verify(this.instanceMutatorFactory, never()).createMutator(eq("bean2"), any());
+        verify(this.instanceCreator, never()).createValue(anyString(), any());
+        // Membership did not change
+        verify(this.mutator, never()).mutate();
+        // Bean instances of a group are passivated as a unit
+        verify(instance1).prePassivate();
+        verify(instance2).prePassivate();
+        assertEquals(0L, this.statistics.getMarshalledBytesPerInvocation());
+    }
+
+    @Test
+    public void remove() throws IOException {
+        BeanGroupManager<String, BeanInstance<String>> manager = this.createManager(false);
+        this.existingValue("bean1", "bean2");
+        BeanInstance<String> instance1 = createBeanInstance("bean1");
+        BeanInstance<String> instance2 = createBeanInstance("bean2");
+        this.existingInstanceValue(instance1);
+        this.existingInstanceValue(instance2);
+
+        BeanGroup<String, BeanInstance<String>> group = manager.getBeanGroup(this.id);
+
+        // Activation callbacks are only triggered for persistent caches
+        verify(instance1, never()).postActivate();
+
+        assertSame(instance2, group.removeBeanInstance("bean2"));
+
+        // Removed member is deleted
+        verify(this.instanceRemover).remove("bean2");
+
+        group.close();
+
+        verify(this.instanceMutatorFactory, never()).createMutator(anyString(), any());
+        // Membership changed
+        verify(this.mutator).mutate();
+        verify(this.remover, never()).remove(this.id);
+        verify(instance1, never()).prePassivate();
+    }
+
+    @Test
+    public void removeLast() throws IOException {
+        BeanGroupManager<String, BeanInstance<String>> manager = this.createManager(false);
+        this.existingValue("bean");
+        BeanInstance<String> instance = createBeanInstance("bean");
+        this.existingInstanceValue(instance);
+
+        BeanGroup<String, BeanInstance<String>> group = manager.getBeanGroup(this.id);
+
+        assertSame(instance, group.removeBeanInstance("bean"));
+        assertTrue(group.isEmpty());
+
+        group.close();
+
+        // Removed member is deleted, as is the empty group
+        verify(this.instanceRemover).remove("bean");
+        verify(this.remover).remove(this.id);
+        verify(this.mutator, never()).mutate();
+    }
+}
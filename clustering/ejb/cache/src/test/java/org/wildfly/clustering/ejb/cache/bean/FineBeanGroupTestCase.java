@@ -0,0 +1,152 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.Remover;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+
+/**
+ * Unit test for {@link FineBeanGroup}.
+ */
+public class FineBeanGroupTestCase {
+
+    private final BeanInstance<String> instance1 = mock(BeanInstance.class);
+    private final BeanInstance<String> instance2 = mock(BeanInstance.class);
+    private final Mutator instanceMutator1 = mock(Mutator.class);
+    private final Mutator instanceMutator2 = mock(Mutator.class);
+    private final Map<String, BeanInstance<String>> instances = new ConcurrentHashMap<>();
+    private final Set<String> members = ConcurrentHashMap.newKeySet();
+    private final Consumer<Map<String, BeanInstance<String>>> prePassivateTask = mock(Consumer.class);
+    private final Mutator mutator = mock(Mutator.class);
+    private final Function<BeanInstance<String>, Mutator> instanceMutatorFactory = mock(Function.class);
+    private final Remover<String> instanceRemover = mock(Remover.class);
+    private final Runnable closeTask = mock(Runnable.class);
+    private final MutableBeanGroup<String, BeanInstance<String>> group;
+
+    public FineBeanGroupTestCase() {
+        when(this.instance1.getId()).thenReturn("bean1");
+        when(this.instance2.getId()).thenReturn("bean2");
+        when(this.instanceMutatorFactory.apply(this.instance1)).thenReturn(this.instanceMutator1);
+        when(this.instanceMutatorFactory.apply(this.instance2)).thenReturn(this.instanceMutator2);
+        this.instances.put("bean1", this.instance1);
+        this.instances.put("bean2", this.instance2);
+        this.members.addAll(this.instances.keySet());
+        this.group = new FineBeanGroup<>("group", this.instances, this.members, this.prePassivateTask, this.mutator, this.instanceMutatorFactory, this.instanceRemover, this.closeTask);
+    }
+
+    @Test
+    public void mutateAccessed() {
+        assertSame(this.instance1, this.group.getBeanInstance("bean1"));
+        assertNull(this.group.getBeanInstance("missing"));
+
+        this.group.mutate();
+
+        verify(this.prePassivateTask).accept(this.instances);
+        // Only the accessed bean instance is mutated
+        verify(this.instanceMutator1).mutate();
+        verify(this.instanceMutatorFactory, never()).apply(this.instance2);
+        // Membership did not change
+        verify(this.mutator, never()).mutate();
+    }
+
+    @Test
+    public void mutateUntouched() {
+        this.group.mutate();
+
+        verify(this.instanceMutatorFactory, never()).apply(any());
+        verify(this.mutator, never()).mutate();
+    }
+
+    @Test
+    public void add() {
+        BeanInstance<String> instance3 = mock(BeanInstance.class);
+        Mutator instanceMutator3 = mock(Mutator.class);
+        when(instance3.getId()).thenReturn("bean3");
+        when(this.instanceMutatorFactory.apply(instance3)).thenReturn(instanceMutator3);
+
+        this.group.addBeanInstance(instance3);
+
+        assertSame(instance3, this.group.getBeanInstance("bean3"));
+        assertTrue(this.members.contains("bean3"));
+
+        this.group.mutate();
+
+        verify(instanceMutator3).mutate();
+        verify(this.instanceMutatorFactory, never()).apply(this.instance1);
+        verify(this.instanceMutatorFactory, never()).apply(this.instance2);
+        // Membership changed
+        verify(this.mutator).mutate();
+    }
+
+    @Test
+    public void addExisting() {
+        // Re-adding an existing member mutates the bean instance, but not the membership
+        this.group.addBeanInstance(this.instance1);
+
+        this.group.mutate();
+
+        verify(this.instanceMutator1).mutate();
+        verify(this.mutator, never()).mutate();
+    }
+
+    @Test
+    public void remove() {
+        assertSame(this.instance1, this.group.getBeanInstance("bean1"));
+
+        assertSame(this.instance1, this.group.removeBeanInstance("bean1"));
+
+        // Removed bean instance is deleted immediately
+        verify(this.instanceRemover).remove("bean1");
+        assertFalse(this.members.contains("bean1"));
+        assertNull(this.group.getBeanInstance("bean1"));
+        assertFalse(this.group.isEmpty());
+
+        this.group.mutate();
+
+        // Removed bean instance is not written, even though it was accessed
+        verify(this.instanceMutatorFactory, never()).apply(this.instance1);
+        // Membership changed
+        verify(this.mutator).mutate();
+    }
+
+    @Test
+    public void removeNonMember() {
+        assertNull(this.group.removeBeanInstance("missing"));
+
+        verify(this.instanceRemover, never()).remove(any());
+
+        this.group.mutate();
+
+        verify(this.mutator, never()).mutate();
+        assertEquals(2, this.members.size());
+    }
+
+    @Test
+    public void close() {
+        this.group.close();
+
+        verify(this.closeTask).run();
+    }
+}
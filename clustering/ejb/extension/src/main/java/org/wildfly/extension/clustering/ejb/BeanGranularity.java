@@ -0,0 +1,27 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import org.wildfly.clustering.ejb.bean.BeanGroupPersistenceStrategy;
+
+/**
+ * Enumerates the granularity values of a bean group.
+ */
+public enum BeanGranularity {
+
+    GROUP(BeanGroupPersistenceStrategy.COARSE),
+    BEAN(BeanGroupPersistenceStrategy.FINE),
+    ;
+    private final BeanGroupPersistenceStrategy strategy;
+
+    BeanGranularity(BeanGroupPersistenceStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public BeanGroupPersistenceStrategy getPersistenceStrategy() {
+        return this.strategy;
+    }
+}
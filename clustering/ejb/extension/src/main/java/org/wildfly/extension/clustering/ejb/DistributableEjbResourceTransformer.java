@@ -0,0 +1,34 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.function.Function;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+
+/**
+ * Transformer for the distributable-ejb subsystem resource.
+ */
+public class DistributableEjbResourceTransformer implements Function<ModelVersion, TransformationDescriptionBuilder> {
+
+    @Override
+    public ResourceTransformationDescriptionBuilder apply(ModelVersion version) {
+        ResourceTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+
+        if (DistributableEjbSubsystemModel.VERSION_2_0_0.requiresTransformation(version)) {
+            builder.addChildResource(InfinispanBeanManagementResourceDefinition.WILDCARD_PATH).getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, InfinispanBeanManagementResourceDefinition.Attribute.GRANULARITY.getName())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, InfinispanBeanManagementResourceDefinition.Attribute.GRANULARITY.getName())
+                    .end();
+        }
+
+        return builder;
+    }
+}
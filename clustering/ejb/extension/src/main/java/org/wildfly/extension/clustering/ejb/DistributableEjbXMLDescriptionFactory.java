@@ -6,6 +6,8 @@ package org.wildfly.extension.clustering.ejb;
 
 import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -23,10 +25,14 @@ public enum DistributableEjbXMLDescriptionFactory implements Function<Distributa
     @Override
     public PersistentResourceXMLDescription apply(DistributableEjbSubsystemSchema schema) {
         return builder(DistributableEjbResourceDefinition.PATH, schema.getNamespace()).addAttributes(Attribute.stream(DistributableEjbResourceDefinition.Attribute.class))
-                .addChild(builder(InfinispanBeanManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(BeanManagementResourceDefinition.Attribute.class), Attribute.stream(InfinispanBeanManagementResourceDefinition.Attribute.class))))
+                .addChild(builder(InfinispanBeanManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(BeanManagementResourceDefinition.Attribute.class), Attribute.stream(getInfinispanBeanManagementAttributes(schema)))))
                 .addChild(builder(LocalClientMappingsRegistryProviderResourceDefinition.PATH).setXmlElementName("local-client-mappings-registry"))
                 .addChild(builder(InfinispanClientMappingsRegistryProviderResourceDefinition.PATH).addAttributes(Attribute.stream(InfinispanClientMappingsRegistryProviderResourceDefinition.Attribute.class)).setXmlElementName("infinispan-client-mappings-registry"))
                 .addChild(builder(InfinispanTimerManagementResourceDefinition.WILDCARD_PATH).addAttributes(Attribute.stream(InfinispanTimerManagementResourceDefinition.Attribute.class)).setXmlElementName("infinispan-timer-management"))
                 .build();
     }
+
+    private static Set<InfinispanBeanManagementResourceDefinition.Attribute> getInfinispanBeanManagementAttributes(DistributableEjbSubsystemSchema schema) {
+        return schema.since(DistributableEjbSubsystemSchema.VERSION_2_0) ? EnumSet.allOf(InfinispanBeanManagementResourceDefinition.Attribute.class) : EnumSet.complementOf(EnumSet.of(InfinispanBeanManagementResourceDefinition.Attribute.GRANULARITY));
+    }
 }
@@ -9,6 +9,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.clustering.ejb.bean.BeanGroupPersistenceStrategy;
 import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
 import org.wildfly.clustering.ejb.infinispan.bean.InfinispanBeanManagementConfiguration;
 import org.wildfly.clustering.ejb.infinispan.bean.InfinispanBeanManagementProvider;
@@ -16,6 +17,7 @@ import org.wildfly.clustering.service.ServiceConfigurator;
 
 import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.CACHE;
 import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.CACHE_CONTAINER;
+import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.GRANULARITY;
 
 /**
  * Service configurator for Infinispan bean management providers.
@@ -27,6 +29,7 @@ public class InfinispanBeanManagementServiceConfigurator extends BeanManagementS
 
     private volatile String containerName;
     private volatile String cacheName;
+    private volatile BeanGroupPersistenceStrategy persistenceStrategy;
 
     public InfinispanBeanManagementServiceConfigurator(PathAddress address) {
         super(address);
@@ -36,6 +39,7 @@ public class InfinispanBeanManagementServiceConfigurator extends BeanManagementS
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.containerName = CACHE_CONTAINER.resolveModelAttribute(context, model).asString();
         this.cacheName = CACHE.resolveModelAttribute(context, model).asStringOrNull();
+        this.persistenceStrategy = BeanGranularity.valueOf(GRANULARITY.resolveModelAttribute(context, model).asString()).getPersistenceStrategy();
         return super.configure(context, model);
     }
 
@@ -53,4 +57,9 @@ public class InfinispanBeanManagementServiceConfigurator extends BeanManagementS
     public String getCacheName() {
         return this.cacheName;
     }
+
+    @Override
+    public BeanGroupPersistenceStrategy getPersistenceStrategy() {
+        return this.persistenceStrategy;
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.jboss.as.clustering.subsystem.AdditionalInitialization;
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemTest;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.wildfly.clustering.infinispan.service.InfinispanCacheRequirement;
+import org.wildfly.clustering.infinispan.service.InfinispanDefaultCacheRequirement;
+
+/**
+ * Transformer tests for distributable-ejb subsystem.
+ */
+@RunWith(value = Parameterized.class)
+public class DistributableEjbTransformerTestCase extends AbstractSubsystemTest {
+
+    @Parameters
+    public static Iterable<DistributableEjbSubsystemModel> parameters() {
+        return EnumSet.complementOf(EnumSet.of(DistributableEjbSubsystemModel.CURRENT));
+    }
+
+    private final org.jboss.as.subsystem.test.AdditionalInitialization additionalInitialization;
+    private final ModelVersion version;
+
+    public DistributableEjbTransformerTestCase(DistributableEjbSubsystemModel model) {
+        super(DistributableEjbExtension.SUBSYSTEM_NAME, new DistributableEjbExtension());
+        this.version = model.getVersion();
+        this.additionalInitialization = new AdditionalInitialization()
+                .require(InfinispanDefaultCacheRequirement.CONFIGURATION, "foo")
+                .require(InfinispanCacheRequirement.CONFIGURATION, "foo", "bar")
+                ;
+    }
+
+    /**
+     * Tests transformation of model from current version into specified version.
+     */
+    @Test
+    public void testTransformation() throws Exception {
+        String subsystemXmlResource = String.format("distributable-ejb-transform-%d_%d_%d.xml", this.version.getMajor(), this.version.getMinor(), this.version.getMicro());
+
+        // create builder for current subsystem version
+        KernelServicesBuilder builder = createKernelServicesBuilder(this.additionalInitialization)
+                .setSubsystemXmlResource(subsystemXmlResource);
+
+        // Legacy models were only ever shipped by WildFly releases, thus the legacy controller uses the current classes
+        builder.createLegacyKernelServicesBuilder(this.additionalInitialization, ModelTestControllerVersion.MASTER, this.version)
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices services = builder.build();
+
+        Assert.assertTrue(services.isSuccessfulBoot());
+        Assert.assertTrue(services.getLegacyServices(this.version).isSuccessfulBoot());
+
+        // check that both versions of the legacy model are the same and valid
+        checkSubsystemModelTransformation(services, this.version, null, false);
+    }
+
+    /**
+     * Tests rejected transformation of the model from current version into specified version.
+     */
+    @Test
+    public void testRejections() throws Exception {
+        // create builder for current subsystem version
+        KernelServicesBuilder builder = createKernelServicesBuilder(this.additionalInitialization);
+
+        builder.createLegacyKernelServicesBuilder(this.additionalInitialization, ModelTestControllerVersion.MASTER, this.version)
+                .dontPersistXml();
+
+        KernelServices services = builder.build();
+        Assert.assertTrue(services.isSuccessfulBoot());
+        KernelServices legacyServices = services.getLegacyServices(this.version);
+        Assert.assertNotNull(legacyServices);
+        Assert.assertTrue(legacyServices.isSuccessfulBoot());
+
+        List<ModelNode> operations = builder.parseXmlResource("distributable-ejb-transform-reject.xml");
+        ModelTestUtils.checkFailedTransformedBootOperations(services, this.version, operations, this.createFailedOperationTransformationConfig());
+    }
+
+    private FailedOperationTransformationConfig createFailedOperationTransformationConfig() {
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        PathAddress subsystemAddress = PathAddress.pathAddress(DistributableEjbResourceDefinition.PATH);
+
+        if (DistributableEjbSubsystemModel.VERSION_2_0_0.requiresTransformation(this.version)) {
+            // A non-default granularity is rejected, while the default granularity is discarded
+            config.addFailedAttribute(subsystemAddress.append(InfinispanBeanManagementResourceDefinition.pathElement("fine")), new FailedOperationTransformationConfig.NewAttributesConfig(InfinispanBeanManagementResourceDefinition.Attribute.GRANULARITY.getName()));
+        }
+
+        return config;
+    }
+}
@@ -7,11 +7,14 @@ package org.wildfly.clustering.ejb.infinispan.bean;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 import org.infinispan.Cache;
+import org.infinispan.context.Flag;
 import org.jboss.as.clustering.controller.CapabilityServiceConfigurator;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
@@ -22,6 +25,7 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
+import org.wildfly.clustering.ejb.bean.BeanGroupPersistenceStrategy;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
 import org.wildfly.clustering.ejb.cache.bean.BeanGroupKey;
 import org.wildfly.clustering.ejb.infinispan.logging.InfinispanEjbLogger;
@@ -45,16 +49,18 @@ public class InfinispanBeanGroupListenerServiceConfigurator<K, V extends BeanIns
 
     private final SupplierDependency<Cache<?, ?>> cache;
     private final SupplierDependency<C> context;
+    private final BeanGroupPersistenceStrategy strategy;
 
     private volatile Executor executor;
     private volatile ListenerRegistration postActivateListenerRegistration;
     private volatile ListenerRegistration prePassivateListenerRegistration;
     private volatile ListenerRegistration postPassivateListenerRegistration;
 
-    InfinispanBeanGroupListenerServiceConfigurator(ServiceName name, SupplierDependency<Cache<?, ?>> cache, SupplierDependency<C> context) {
+    InfinispanBeanGroupListenerServiceConfigurator(ServiceName name, SupplierDependency<Cache<?, ?>> cache, SupplierDependency<C> context, BeanGroupPersistenceStrategy strategy) {
         super(name);
         this.cache = cache;
         this.context = context;
+        this.strategy = strategy;
     }
 
     @Override
@@ -84,12 +90,10 @@ public class InfinispanBeanGroupListenerServiceConfigurator<K, V extends BeanIns
         }
     }
 
-    void postActivate(BeanGroupKey<K> key, MarshalledValue<Map<K, V>, C> value) {
-        C context = this.context.get();
+    void postActivate(BeanGroupKey<K> key, MarshalledValue<Object, C> value) {
         InfinispanEjbLogger.ROOT_LOGGER.tracef("Received post-activate event for bean group %s", key.getId());
         try {
-            Map<K, V> instances = value.get(context);
-            for (V instance : instances.values()) {
+            for (V instance : this.getBeanInstances(value, false)) {
                 InfinispanEjbLogger.ROOT_LOGGER.tracef("Invoking post-activate callback for bean %s", instance.getId());
                 instance.postActivate();
             }
@@ -98,22 +102,25 @@ public class InfinispanBeanGroupListenerServiceConfigurator<K, V extends BeanIns
         }
     }
 
-    void prePassivate(BeanGroupKey<K> key, MarshalledValue<Map<K, V>, C> value) {
-        C context = this.context.get();
+    void prePassivate(BeanGroupKey<K> key, MarshalledValue<Object, C> value) {
         InfinispanEjbLogger.ROOT_LOGGER.tracef("Received pre-passivate event for bean group %s", key.getId());
         @SuppressWarnings("unchecked")
         Cache<Key<K>, ?> cache = (Cache<Key<K>, ?>) this.cache.get();
         try {
-            Map<K, V> instances = value.get(context);
+            Collection<V> instances = this.getBeanInstances(value, true);
             List<V> passivated = new ArrayList<>(instances.size());
             try {
-                for (V instance : instances.values()) {
+                for (V instance : instances) {
                     K id = instance.getId();
                     InfinispanEjbLogger.ROOT_LOGGER.tracef("Invoking pre-passivate callback for bean %s", id);
                     instance.prePassivate();
                     passivated.add(instance);
                     // Cascade eviction to creation meta data entry
                     this.executor.execute(() -> cache.evict(new InfinispanBeanMetaDataKey<>(id)));
+                    if (this.strategy == BeanGroupPersistenceStrategy.FINE) {
+                        // Cascade eviction to bean instance entry
+                        this.executor.execute(() -> cache.evict(new InfinispanBeanInstanceKey<>(id)));
+                    }
                 }
             } catch (RuntimeException | Error e) {
                 // Restore state of pre-passivated beans
@@ -133,6 +140,33 @@ public class InfinispanBeanGroupListenerServiceConfigurator<K, V extends BeanIns
         }
     }
 
+    /**
+     * Returns the bean instances of the bean group with the specified cache value.
+     * For the fine persistence strategy, the bean group only references its members, whose instances are retrieved from their own cache entries.
+     * @param value the cache value of a bean group
+     * @param skipCacheLoad indicates whether or not to only consider bean instances that are already in memory
+     * @return a collection of bean instances
+     * @throws IOException if the bean instances could not be unmarshalled
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<V> getBeanInstances(MarshalledValue<Object, C> value, boolean skipCacheLoad) throws IOException {
+        C context = this.context.get();
+        if (this.strategy == BeanGroupPersistenceStrategy.COARSE) {
+            return ((Map<K, V>) value.get(context)).values();
+        }
+        Set<K> members = (Set<K>) value.get(context);
+        Cache<Key<K>, MarshalledValue<V, C>> cache = this.getCache();
+        Cache<Key<K>, MarshalledValue<V, C>> instanceCache = skipCacheLoad ? cache.getAdvancedCache().withFlags(Flag.SKIP_CACHE_LOAD) : cache;
+        List<V> instances = new ArrayList<>(members.size());
+        for (K id : members) {
+            MarshalledValue<V, C> instanceValue = instanceCache.get(new InfinispanBeanInstanceKey<>(id));
+            if (instanceValue != null) {
+                instances.add(instanceValue.get(context));
+            }
+        }
+        return instances;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <KK, VV> Cache<KK, VV> getCache() {
@@ -6,6 +6,7 @@
 package org.wildfly.clustering.ejb.infinispan.bean;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -16,16 +17,22 @@ import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
 import org.wildfly.clustering.ee.Creator;
+import org.wildfly.clustering.ee.Locator;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.ee.cache.CacheProperties;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.ejb.DeploymentConfiguration;
+import org.wildfly.clustering.ejb.bean.BeanGroupPersistenceStrategy;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
 import org.wildfly.clustering.ejb.cache.bean.BeanGroupManager;
 import org.wildfly.clustering.ejb.cache.bean.BeanGroupManagerServiceNameProvider;
 import org.wildfly.clustering.ejb.cache.bean.DefaultBeanGroupManager;
 import org.wildfly.clustering.ejb.cache.bean.DefaultBeanGroupManagerConfiguration;
+import org.wildfly.clustering.ejb.cache.bean.DefaultBeanGroupStatistics;
+import org.wildfly.clustering.ejb.cache.bean.FineBeanGroupManager;
+import org.wildfly.clustering.ejb.cache.bean.FineBeanGroupManagerConfiguration;
+import org.wildfly.clustering.ejb.cache.bean.RecordingByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValueFactory;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.spi.MarshalledValue;
@@ -44,11 +51,13 @@ public class InfinispanBeanGroupManagerServiceConfigurator<K, V extends BeanInst
 
     private final SupplierDependency<Cache<?, ?>> cache;
     private final SupplierDependency<ByteBufferMarshaller> marshaller;
+    private final BeanGroupPersistenceStrategy strategy;
 
-    public InfinispanBeanGroupManagerServiceConfigurator(DeploymentConfiguration config, SupplierDependency<Cache<?, ?>> cache, SupplierDependency<ByteBufferMarshaller> marshaller) {
+    public InfinispanBeanGroupManagerServiceConfigurator(DeploymentConfiguration config, SupplierDependency<Cache<?, ?>> cache, SupplierDependency<ByteBufferMarshaller> marshaller, BeanGroupPersistenceStrategy strategy) {
         super(config);
         this.cache = cache;
         this.marshaller = marshaller;
+        this.strategy = strategy;
     }
 
     @Override
@@ -62,34 +71,100 @@ public class InfinispanBeanGroupManagerServiceConfigurator<K, V extends BeanInst
     @Override
     public BeanGroupManager<K, V> get() {
         CacheProperties properties = this.getCacheProperties();
-        InfinispanBeanGroupManager<K, V, ByteBufferMarshaller> factory = new InfinispanBeanGroupManager<>(this);
-        MarshalledValueFactory<ByteBufferMarshaller> marshalledValueFactory = new ByteBufferMarshalledValueFactory(this.marshaller.get());
-        return new DefaultBeanGroupManager<>(new DefaultBeanGroupManagerConfiguration<K, V, ByteBufferMarshaller>() {
-            @Override
-            public Creator<K, MarshalledValue<Map<K, V>, ByteBufferMarshaller>, MarshalledValue<Map<K, V>, ByteBufferMarshaller>> getCreator() {
-                return factory;
-            }
+        DefaultBeanGroupStatistics statistics = new DefaultBeanGroupStatistics();
+        // Record the number of bytes marshalled on behalf of this deployment
+        MarshalledValueFactory<ByteBufferMarshaller> marshalledValueFactory = new ByteBufferMarshalledValueFactory(new RecordingByteBufferMarshaller(this.marshaller.get(), statistics::recordBytes));
+        switch (this.strategy) {
+            case FINE: {
+                InfinispanBeanGroupManager<K, MarshalledValue<Set<K>, ByteBufferMarshaller>> factory = new InfinispanBeanGroupManager<>(this);
+                InfinispanBeanInstanceManager<K, MarshalledValue<V, ByteBufferMarshaller>> instanceFactory = new InfinispanBeanInstanceManager<>(this);
+                return new FineBeanGroupManager<>(new FineBeanGroupManagerConfiguration<K, V, ByteBufferMarshaller>() {
+                    @Override
+                    public Creator<K, MarshalledValue<Set<K>, ByteBufferMarshaller>, MarshalledValue<Set<K>, ByteBufferMarshaller>> getCreator() {
+                        return factory;
+                    }
 
-            @Override
-            public Remover<K> getRemover() {
-                return factory;
-            }
+                    @Override
+                    public Remover<K> getRemover() {
+                        return factory;
+                    }
 
-            @Override
-            public MutatorFactory<K, MarshalledValue<Map<K, V>, ByteBufferMarshaller>> getMutatorFactory() {
-                return factory;
-            }
+                    @Override
+                    public MutatorFactory<K, MarshalledValue<Set<K>, ByteBufferMarshaller>> getMutatorFactory() {
+                        return factory;
+                    }
+
+                    @Override
+                    public Creator<K, MarshalledValue<V, ByteBufferMarshaller>, MarshalledValue<V, ByteBufferMarshaller>> getBeanInstanceCreator() {
+                        return instanceFactory;
+                    }
+
+                    @Override
+                    public Locator<K, MarshalledValue<V, ByteBufferMarshaller>> getBeanInstanceLocator() {
+                        return instanceFactory;
+                    }
+
+                    @Override
+                    public Remover<K> getBeanInstanceRemover() {
+                        return instanceFactory;
+                    }
+
+                    @Override
+                    public MutatorFactory<K, MarshalledValue<V, ByteBufferMarshaller>> getBeanInstanceMutatorFactory() {
+                        return instanceFactory;
+                    }
 
-            @Override
-            public CacheProperties getCacheProperties() {
-                return properties;
+                    @Override
+                    public CacheProperties getCacheProperties() {
+                        return properties;
+                    }
+
+                    @Override
+                    public MarshalledValueFactory<ByteBufferMarshaller> getMarshalledValueFactory() {
+                        return marshalledValueFactory;
+                    }
+
+                    @Override
+                    public DefaultBeanGroupStatistics getStatistics() {
+                        return statistics;
+                    }
+                });
             }
+            default: {
+                InfinispanBeanGroupManager<K, MarshalledValue<Map<K, V>, ByteBufferMarshaller>> factory = new InfinispanBeanGroupManager<>(this);
+                return new DefaultBeanGroupManager<>(new DefaultBeanGroupManagerConfiguration<K, V, ByteBufferMarshaller>() {
+                    @Override
+                    public Creator<K, MarshalledValue<Map<K, V>, ByteBufferMarshaller>, MarshalledValue<Map<K, V>, ByteBufferMarshaller>> getCreator() {
+                        return factory;
+                    }
+
+                    @Override
+                    public Remover<K> getRemover() {
+                        return factory;
+                    }
+
+                    @Override
+                    public MutatorFactory<K, MarshalledValue<Map<K, V>, ByteBufferMarshaller>> getMutatorFactory() {
+                        return factory;
+                    }
+
+                    @Override
+                    public CacheProperties getCacheProperties() {
+                        return properties;
+                    }
+
+                    @Override
+                    public MarshalledValueFactory<ByteBufferMarshaller> getMarshalledValueFactory() {
+                        return marshalledValueFactory;
+                    }
 
-            @Override
-            public MarshalledValueFactory<ByteBufferMarshaller> getMarshalledValueFactory() {
-                return marshalledValueFactory;
+                    @Override
+                    public DefaultBeanGroupStatistics getStatistics() {
+                        return statistics;
+                    }
+                });
             }
-        });
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,20 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan.bean;
+
+import org.wildfly.clustering.ee.infinispan.GroupedKey;
+import org.wildfly.clustering.ejb.cache.bean.BeanInstanceKey;
+
+/**
+ * The key used to cache an individual bean instance of a bean group.
+ * @param <K> the bean identifier type
+ */
+public class InfinispanBeanInstanceKey<K> extends GroupedKey<K> implements BeanInstanceKey<K> {
+
+    public InfinispanBeanInstanceKey(K id) {
+        super(id);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan.bean;
+
+import org.infinispan.Cache;
+import org.wildfly.clustering.ee.Creator;
+import org.wildfly.clustering.ee.Locator;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.Remover;
+import org.wildfly.clustering.ee.infinispan.CacheMutatorFactory;
+import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
+import org.wildfly.clustering.ejb.cache.bean.BeanInstanceKey;
+
+/**
+ * Manages the cache entries for the individual bean instances of a bean group.
+ * @param <K> the bean identifier type
+ * @param <V> the cache value type of a bean instance
+ */
+public class InfinispanBeanInstanceManager<K, V> implements Creator<K, V, V>, Locator<K, V>, Remover<K>, MutatorFactory<K, V> {
+
+    private final Cache<BeanInstanceKey<K>, V> cache;
+    private final Cache<BeanInstanceKey<K>, V> writeOnlyCache;
+    private final MutatorFactory<BeanInstanceKey<K>, V> mutatorFactory;
+
+    public InfinispanBeanInstanceManager(InfinispanConfiguration configuration) {
+        this.cache = configuration.getCache();
+        this.writeOnlyCache = configuration.getWriteOnlyCache();
+        this.mutatorFactory = new CacheMutatorFactory<>(configuration.getCache());
+    }
+
+    @Override
+    public V createValue(K id, V value) {
+        // Bean identifiers are unique, thus there is never an existing value
+        this.writeOnlyCache.put(new InfinispanBeanInstanceKey<>(id), value);
+        return value;
+    }
+
+    @Override
+    public V findValue(K id) {
+        return this.cache.get(new InfinispanBeanInstanceKey<>(id));
+    }
+
+    @Override
+    public boolean remove(K id) {
+        this.writeOnlyCache.remove(new InfinispanBeanInstanceKey<>(id));
+        return true;
+    }
+
+    @Override
+    public Mutator createMutator(K id, V value) {
+        return this.mutatorFactory.createMutator(new InfinispanBeanInstanceKey<>(id), value);
+    }
+}
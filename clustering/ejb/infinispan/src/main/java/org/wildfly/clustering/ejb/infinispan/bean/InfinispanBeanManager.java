@@ -46,6 +46,7 @@ import org.wildfly.clustering.ejb.bean.BeanExpirationConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
 import org.wildfly.clustering.ejb.bean.BeanManager;
 import org.wildfly.clustering.ejb.cache.bean.BeanFactory;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupStatistics;
 import org.wildfly.clustering.ejb.cache.bean.MutableBean;
 import org.wildfly.clustering.ejb.cache.bean.OnCloseBean;
 import org.wildfly.clustering.ejb.infinispan.logging.InfinispanEjbLogger;
@@ -76,6 +77,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
     private final Predicate<Map.Entry<? super Key<K>, ? super Object>> filter;
     private final Function<Key<K>, Node> primaryOwnerLocator;
     private final Affinity strongAffinity;
+    private final BeanGroupStatistics statistics;
 
     private volatile Scheduler<K, ExpirationMetaData> scheduler;
     private volatile ListenerRegistration schedulerListenerRegistration;
@@ -93,6 +95,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         Group group = configuration.getGroup();
         this.strongAffinity = this.cache.getCacheConfiguration().clustering().cacheMode().isClustered() ? new ClusterAffinity(group.getName()) : new NodeAffinity(group.getLocalMember().getName());
         this.filter = new InfinispanBeanMetaDataFilter<>(configuration.getBeanName());
+        this.statistics = configuration.getBeanGroupStatistics();
     }
 
     @Override
@@ -232,6 +235,11 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         return this.count(EnumSet.of(Flag.CACHE_MODE_LOCAL)) - this.getActiveCount();
     }
 
+    @Override
+    public long getMarshalledBytesPerInvocation() {
+        return this.statistics.getMarshalledBytesPerInvocation();
+    }
+
     private int count(Set<Flag> flags) {
         try (Stream<Key<K>> keys = this.cache.getAdvancedCache().withFlags(flags).keySet().stream()) {
             return (int) keys.filter(InfinispanBeanGroupKey.class::isInstance).count();
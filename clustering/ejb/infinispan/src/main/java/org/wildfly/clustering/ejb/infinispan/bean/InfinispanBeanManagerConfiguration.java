@@ -6,6 +6,7 @@ package org.wildfly.clustering.ejb.infinispan.bean;
 
 import org.infinispan.remoting.transport.Address;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupStatistics;
 import org.wildfly.clustering.ejb.cache.bean.BeanManagerConfiguration;
 import org.wildfly.clustering.infinispan.affinity.KeyAffinityServiceFactory;
 import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
@@ -22,4 +23,5 @@ public interface InfinispanBeanManagerConfiguration<K, V extends BeanInstance<K>
     @Override Group<Address> getGroup();
     KeyAffinityServiceFactory getAffinityFactory();
     CommandDispatcherFactory getCommandDispatcherFactory();
+    BeanGroupStatistics getBeanGroupStatistics();
 }
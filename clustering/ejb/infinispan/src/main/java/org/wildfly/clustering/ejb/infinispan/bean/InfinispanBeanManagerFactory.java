@@ -15,6 +15,7 @@ import org.wildfly.clustering.ejb.bean.BeanManager;
 import org.wildfly.clustering.ejb.bean.BeanManagerConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanManagerFactory;
 import org.wildfly.clustering.ejb.cache.bean.BeanFactory;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupStatistics;
 import org.wildfly.clustering.ejb.cache.bean.RemappableBeanMetaDataEntry;
 import org.wildfly.clustering.ejb.cache.bean.CompositeBeanFactory;
 import org.wildfly.clustering.infinispan.affinity.KeyAffinityServiceFactory;
@@ -90,5 +91,10 @@ public class InfinispanBeanManagerFactory<K, V extends BeanInstance<K>> implemen
         public CommandDispatcherFactory getCommandDispatcherFactory() {
             return this.factoryConfiguration.getCommandDispatcherFactory();
         }
+
+        @Override
+        public BeanGroupStatistics getBeanGroupStatistics() {
+            return this.factoryConfiguration.getBeanGroupManager();
+        }
     }
 }
@@ -21,5 +21,6 @@ public class InfinispanBeanSerializationContextInitializer extends AbstractSeria
     public void registerMarshallers(SerializationContext context) {
         context.registerMarshaller(new FunctionalMarshaller<>((Class<InfinispanBeanMetaDataKey<SessionID>>) (Class<?>) InfinispanBeanMetaDataKey.class, SessionID.class, InfinispanBeanMetaDataKey::getId, InfinispanBeanMetaDataKey::new));
         context.registerMarshaller(new FunctionalMarshaller<>((Class<InfinispanBeanGroupKey<SessionID>>) (Class<?>) InfinispanBeanGroupKey.class, SessionID.class, InfinispanBeanGroupKey::getId, InfinispanBeanGroupKey::new));
+        context.registerMarshaller(new FunctionalMarshaller<>((Class<InfinispanBeanInstanceKey<SessionID>>) (Class<?>) InfinispanBeanInstanceKey.class, SessionID.class, InfinispanBeanInstanceKey::getId, InfinispanBeanInstanceKey::new));
     }
 }
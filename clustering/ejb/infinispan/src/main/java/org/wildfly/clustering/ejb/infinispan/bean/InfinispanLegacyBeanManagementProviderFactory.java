@@ -7,6 +7,7 @@ package org.wildfly.clustering.ejb.infinispan.bean;
 import java.util.function.Function;
 
 import org.kohsuke.MetaInfServices;
+import org.wildfly.clustering.ejb.bean.BeanGroupPersistenceStrategy;
 import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
 import org.wildfly.clustering.ejb.bean.BeanDeploymentMarshallingContext;
 import org.wildfly.clustering.ejb.bean.LegacyBeanManagementConfiguration;
@@ -45,6 +46,11 @@ public class InfinispanLegacyBeanManagementProviderFactory implements LegacyBean
             public Function<BeanDeploymentMarshallingContext, ByteBufferMarshaller> getMarshallerFactory() {
                 return BeanMarshallerFactory.JBOSS;
             }
+
+            @Override
+            public BeanGroupPersistenceStrategy getPersistenceStrategy() {
+                return BeanGroupPersistenceStrategy.COARSE;
+            }
         });
     }
 }
@@ -42,4 +42,12 @@ public class SessionIDKeySerializer<K extends Key<SessionID>> extends KeySeriali
             super((Class<InfinispanBeanGroupKey<SessionID>>) (Class<?>) InfinispanBeanGroupKey.class, new SessionIDKeySerializer<>(InfinispanBeanGroupKey::new));
         }
     }
+
+    @MetaInfServices(Formatter.class)
+    public static class InfinispanBeanInstanceKeyFormatter extends BinaryFormatter<InfinispanBeanInstanceKey<SessionID>> {
+        @SuppressWarnings("unchecked")
+        public InfinispanBeanInstanceKeyFormatter() {
+            super((Class<InfinispanBeanInstanceKey<SessionID>>) (Class<?>) InfinispanBeanInstanceKey.class, new SessionIDKeySerializer<>(InfinispanBeanInstanceKey::new));
+        }
+    }
 }
@@ -25,5 +25,6 @@ public class BeanKeyMapperTestCase {
         SessionID id = new UUIDSessionID(UUID.randomUUID());
         tester.test(new InfinispanBeanMetaDataKey<>(id));
         tester.test(new InfinispanBeanGroupKey<>(id));
+        tester.test(new InfinispanBeanInstanceKey<>(id));
     }
 }
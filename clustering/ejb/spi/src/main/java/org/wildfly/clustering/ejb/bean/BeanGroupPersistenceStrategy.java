@@ -0,0 +1,20 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.bean;
+
+/**
+ * Enumerates the strategies for persisting the bean instances of a bean group.
+ */
+public enum BeanGroupPersistenceStrategy {
+    /**
+     * All bean instances of a group are stored within a single cache entry.
+     */
+    COARSE,
+    /**
+     * Each bean instance of a group is stored within its own cache entry, while the group entry references its members.
+     */
+    FINE,
+}
@@ -20,4 +20,10 @@ public interface BeanManagementConfiguration extends BeanPassivationConfiguratio
      * @return a marshaller factory
      */
     Function<BeanDeploymentMarshallingContext, ByteBufferMarshaller> getMarshallerFactory();
+
+    /**
+     * Returns the strategy for persisting the bean instances of a bean group.
+     * @return a persistence strategy
+     */
+    BeanGroupPersistenceStrategy getPersistenceStrategy();
 }
@@ -20,4 +20,11 @@ public interface BeanStatistics {
      * @return a number of beans
      */
     int getPassiveCount();
+
+    /**
+     * Returns the average number of bytes marshalled per invocation, i.e. per mutation of a bean group.
+     * This includes any marshalling performed by the cache on behalf of bean groups, e.g. for replication, persistence, or state transfer.
+     * @return a number of bytes
+     */
+    long getMarshalledBytesPerInvocation();
 }
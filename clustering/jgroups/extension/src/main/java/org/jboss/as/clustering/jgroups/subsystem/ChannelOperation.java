@@ -0,0 +1,42 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import org.jboss.as.clustering.controller.Operation;
+import org.jboss.as.controller.ExpressionResolver;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jgroups.JChannel;
+
+/**
+ * Runtime operations of a channel.
+ */
+public enum ChannelOperation implements Operation<JChannel> {
+
+    READ_PROTOCOL_METRICS("read-protocol-metrics", ModelType.OBJECT) {
+        @Override
+        public ModelNode execute(ExpressionResolver resolver, ModelNode operation, JChannel channel) {
+            return ProtocolMetricsHandler.readMetrics(channel);
+        }
+    },
+    ;
+    private final OperationDefinition definition;
+
+    ChannelOperation(String name, ModelType replyType) {
+        this.definition = new SimpleOperationDefinitionBuilder(name, JGroupsExtension.SUBSYSTEM_RESOLVER.createChildResolver(ChannelResourceDefinition.WILDCARD_PATH))
+                .setReplyType(replyType)
+                .setReadOnly()
+                .setRuntimeOnly()
+                .build();
+    }
+
+    @Override
+    public OperationDefinition getDefinition() {
+        return this.definition;
+    }
+}
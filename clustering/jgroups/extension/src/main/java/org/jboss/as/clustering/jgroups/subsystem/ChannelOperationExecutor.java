@@ -0,0 +1,40 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import java.util.function.Function;
+
+import org.jboss.as.clustering.controller.FunctionExecutor;
+import org.jboss.as.clustering.controller.FunctionExecutorRegistry;
+import org.jboss.as.clustering.controller.Operation;
+import org.jboss.as.clustering.controller.OperationExecutor;
+import org.jboss.as.clustering.controller.OperationFunction;
+import org.jboss.as.clustering.controller.UnaryCapabilityNameResolver;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceName;
+import org.jgroups.JChannel;
+import org.wildfly.clustering.jgroups.spi.JGroupsRequirement;
+
+/**
+ * Executes runtime operations against an underlying channel service.
+ */
+public class ChannelOperationExecutor implements OperationExecutor<JChannel> {
+
+    private final FunctionExecutorRegistry<JChannel> executors;
+
+    public ChannelOperationExecutor(FunctionExecutorRegistry<JChannel> executors) {
+        this.executors = executors;
+    }
+
+    @Override
+    public ModelNode execute(OperationContext context, ModelNode op, Operation<JChannel> operation) throws OperationFailedException {
+        ServiceName name = JGroupsRequirement.CHANNEL.getServiceName(context, UnaryCapabilityNameResolver.DEFAULT);
+        FunctionExecutor<JChannel> executor = this.executors.get(name);
+        return (executor != null) ? executor.execute(new OperationFunction<>(context, op, Function.identity(), operation)) : null;
+    }
+}
@@ -13,6 +13,7 @@ import org.jboss.as.clustering.controller.CapabilityReference;
 import org.jboss.as.clustering.controller.ChildResourceDefinition;
 import org.jboss.as.clustering.controller.ManagementResourceRegistration;
 import org.jboss.as.clustering.controller.MetricHandler;
+import org.jboss.as.clustering.controller.OperationHandler;
 import org.jboss.as.clustering.controller.ResourceDescriptor;
 import org.jboss.as.clustering.controller.ResourceServiceHandler;
 import org.jboss.as.clustering.controller.ServiceValueExecutorRegistry;
@@ -136,6 +137,7 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
 
         if (registration.isRuntimeOnlyRegistrationValid()) {
             new MetricHandler<>(new ChannelMetricExecutor(executors), ChannelMetric.class).register(registration);
+            new OperationHandler<>(new ChannelOperationExecutor(executors), ChannelOperation.class).register(registration);
         }
 
         new ForkResourceDefinition(executors).register(registration);
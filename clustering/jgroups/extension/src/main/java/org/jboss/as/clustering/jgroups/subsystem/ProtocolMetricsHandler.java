@@ -4,13 +4,17 @@
  */
 package org.jboss.as.clustering.jgroups.subsystem;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,6 +39,7 @@ import org.wildfly.common.function.ExceptionFunction;
 
 /**
  * A generic handler for protocol metrics based on reflection.
+ * The metric accessors of a protocol class are discovered once and compiled into method handles on first read.
  *
  * @author Richard Achmatowicz (c) 2013 Red Hat Inc.
  * @author Radoslav Husar
@@ -42,6 +47,13 @@ import org.wildfly.common.function.ExceptionFunction;
  */
 public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
 
+    private static final ClassValue<Map<String, Attribute>> PROTOCOL_ATTRIBUTES = new ClassValue<>() {
+        @Override
+        protected Map<String, Attribute> computeValue(Class<?> protocolClass) {
+            return createProtocolAttributes(protocolClass);
+        }
+    };
+
     interface Attribute {
         String getName();
         String getDescription();
@@ -51,6 +63,7 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
 
     abstract static class AbstractAttribute<A extends AccessibleObject> implements Attribute {
         final A accessible;
+        private volatile MethodHandle handle;
 
         AbstractAttribute(A accessible) {
             this.accessible = accessible;
@@ -82,25 +95,47 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
 
         @Override
         public Object read(final Object object) throws Exception {
-            PrivilegedExceptionAction<Object> action = new PrivilegedExceptionAction<>() {
-                @Override
-                public Object run() throws Exception {
-                    AbstractAttribute.this.accessible.setAccessible(true);
-                    try {
-                        return AbstractAttribute.this.get(object);
-                    } finally {
-                        AbstractAttribute.this.accessible.setAccessible(false);
+            MethodHandle handle = this.handle;
+            if (handle == null) {
+                handle = this.compile();
+            }
+            try {
+                return handle.invokeExact(object);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+
+        /**
+         * Compiles this attribute into a method handle of type (Object)Object, bypassing access checks on each subsequent read.
+         */
+        private synchronized MethodHandle compile() throws Exception {
+            if (this.handle == null) {
+                PrivilegedExceptionAction<MethodHandle> action = new PrivilegedExceptionAction<>() {
+                    @Override
+                    public MethodHandle run() throws Exception {
+                        AbstractAttribute.this.accessible.setAccessible(true);
+                        return AbstractAttribute.this.unreflect(MethodHandles.lookup());
                     }
+                };
+                MethodHandle handle;
+                try {
+                    handle = AccessController.doPrivileged(action);
+                } catch (PrivilegedActionException e) {
+                    throw e.getException();
                 }
-            };
-            try {
-                return AccessController.doPrivileged(action);
-            } catch (PrivilegedActionException e) {
-                throw e.getException();
+                if (handle.type().parameterCount() == 0) {
+                    // Static member
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                this.handle = handle.asType(MethodType.methodType(Object.class, Object.class));
             }
+            return this.handle;
         }
 
-        abstract Object get(Object object) throws Exception;
+        abstract MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException;
     }
 
     static class FieldAttribute extends AbstractAttribute<Field> {
@@ -120,8 +155,8 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         }
 
         @Override
-        Object get(Object object) throws IllegalAccessException {
-            return this.accessible.get(object);
+        MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+            return lookup.unreflectGetter(this.accessible);
         }
     }
 
@@ -142,8 +177,8 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         }
 
         @Override
-        Object get(Object object) throws IllegalAccessException, InvocationTargetException {
-            return this.accessible.invoke(object);
+        MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+            return lookup.unreflect(this.accessible);
         }
     }
 
@@ -233,13 +268,7 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
                 if (attribute == null) {
                     throw new OperationFailedException(JGroupsLogger.ROOT_LOGGER.unknownMetric(name));
                 }
-                FieldType type = FieldType.valueOf(attribute.getType());
-                ModelNode result = new ModelNode();
-                Object value = attribute.read(protocol);
-                if (value != null) {
-                    type.setValue(result, value);
-                }
-                return result;
+                return read(attribute, protocol);
             }
         };
         FunctionExecutor<JChannel> executor = this.executors.get(channelServiceName);
@@ -260,7 +289,58 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         return attributes.get(name);
     }
 
+    /**
+     * Returns the attributes of the specified protocol class, by name.
+     * Attributes are discovered once per protocol class, and compiled on first read.
+     * @param protocolClass a protocol class
+     * @return an unmodifiable map of attributes
+     */
     static Map<String, Attribute> findProtocolAttributes(Class<? extends Protocol> protocolClass) {
+        return PROTOCOL_ATTRIBUTES.get(protocolClass);
+    }
+
+    /**
+     * Reads all metrics of the specified protocol.
+     * Metrics that cannot be read, e.g. for a protocol that is not yet initialized, are undefined.
+     * @param protocol a protocol
+     * @return an object of metric values, by metric name
+     */
+    public static ModelNode readMetrics(Protocol protocol) {
+        ModelNode result = new ModelNode().setEmptyObject();
+        for (Map.Entry<String, Attribute> entry : findProtocolAttributes(protocol.getClass()).entrySet()) {
+            ModelNode value = result.get(entry.getKey());
+            try {
+                value.set(read(entry.getValue(), protocol));
+            } catch (Exception e) {
+                JGroupsLogger.ROOT_LOGGER.debugf(e, "Failed to read metric %s of protocol %s", entry.getKey(), protocol.getName());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads all metrics of every protocol of the stack of the specified channel, in a single pass.
+     * @param channel a channel
+     * @return an object of protocol metrics, by protocol name
+     */
+    public static ModelNode readMetrics(JChannel channel) {
+        ModelNode result = new ModelNode().setEmptyObject();
+        for (Protocol protocol : channel.getProtocolStack().getProtocols()) {
+            result.get(protocol.getName()).set(readMetrics(protocol));
+        }
+        return result;
+    }
+
+    private static ModelNode read(Attribute attribute, Object protocol) throws Exception {
+        ModelNode result = new ModelNode();
+        Object value = attribute.read(protocol);
+        if (value != null) {
+            FieldType.valueOf(attribute.getType()).setValue(result, value);
+        }
+        return result;
+    }
+
+    private static Map<String, Attribute> createProtocolAttributes(Class<?> protocolClass) {
         Map<String, Attribute> attributes = new HashMap<>();
         Class<?> targetClass = protocolClass;
         while (Protocol.class.isAssignableFrom(targetClass)) {
@@ -276,7 +356,7 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
             }
             targetClass = targetClass.getSuperclass();
         }
-        return attributes;
+        return Collections.unmodifiableMap(attributes);
     }
 
     private static void putIfAbsent(Map<String, Attribute> attributes, Attribute attribute) {
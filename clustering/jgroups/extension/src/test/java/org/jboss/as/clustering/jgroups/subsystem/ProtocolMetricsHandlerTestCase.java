@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import java.util.Map;
+
+import org.jboss.as.clustering.jgroups.subsystem.ProtocolMetricsHandler.Attribute;
+import org.jboss.dmr.ModelNode;
+import org.jgroups.annotations.ManagedAttribute;
+import org.jgroups.annotations.Property;
+import org.jgroups.stack.Protocol;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ProtocolMetricsHandlerTestCase {
+
+    public static class TestProtocol extends Protocol {
+        @ManagedAttribute(description = "A private field")
+        private long messages = 10L;
+
+        @Property(name = "timer.queue_max_size", description = "A property exposed as a managed attribute")
+        protected int queueSize = 5;
+
+        @Property(description = "A property not exposed as a managed attribute", exposeAsManagedAttribute = false)
+        protected int hidden = 1;
+
+        @ManagedAttribute(description = "A private method")
+        private double getRatio() {
+            return 0.5d;
+        }
+
+        @ManagedAttribute(description = "A method returning null")
+        public String getLabel() {
+            return null;
+        }
+
+        @ManagedAttribute(description = "A method that fails")
+        public int getFailure() {
+            throw new IllegalStateException();
+        }
+    }
+
+    @Test
+    public void findProtocolAttributes() {
+        Map<String, Attribute> attributes = ProtocolMetricsHandler.findProtocolAttributes(TestProtocol.class);
+        Assert.assertTrue(attributes.containsKey("messages"));
+        Assert.assertTrue(attributes.containsKey("timer-queue_max_size"));
+        Assert.assertTrue(attributes.containsKey("ratio"));
+        Assert.assertFalse(attributes.containsKey("hidden"));
+        // Attributes are discovered once per protocol class
+        Assert.assertSame(attributes, ProtocolMetricsHandler.findProtocolAttributes(TestProtocol.class));
+    }
+
+    @Test
+    public void readMetrics() throws Exception {
+        TestProtocol protocol = new TestProtocol();
+        Assert.assertEquals(10L, ProtocolMetricsHandler.getAttribute(TestProtocol.class, "messages").read(protocol));
+
+        ModelNode metrics = ProtocolMetricsHandler.readMetrics(protocol);
+        Assert.assertEquals(10L, metrics.get("messages").asLong());
+        Assert.assertEquals(5, metrics.get("timer-queue_max_size").asInt());
+        Assert.assertEquals(0.5d, metrics.get("ratio").asDouble(), 0d);
+        Assert.assertFalse(metrics.get("label").isDefined());
+        // Metrics that cannot be read are undefined
+        Assert.assertTrue(metrics.has("failure"));
+        Assert.assertFalse(metrics.get("failure").isDefined());
+
+        protocol.messages = 20L;
+        Assert.assertEquals(20L, ProtocolMetricsHandler.readMetrics(protocol).get("messages").asLong());
+    }
+}
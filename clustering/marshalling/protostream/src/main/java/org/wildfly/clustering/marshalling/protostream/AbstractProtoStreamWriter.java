@@ -225,28 +225,58 @@ public abstract class AbstractProtoStreamWriter extends AbstractProtoStreamOpera
     }
 
     static class DefaultProtoStreamWriterContext implements ProtoStreamWriterContext, Function<Object, Reference> {
-        private final Map<Object, Reference> references = new IdentityHashMap<>(128);
+        static final int INITIAL_CAPACITY = 128;
+
+        // References recorded before this context was cloned, which do not change during the lifetime of this context
+        private final DefaultProtoStreamWriterContext parent;
+        private Map<Object, Reference> references;
         private int reference = 0; // Enumerates object references
         private final Map<Object, OptionalInt> sizes;
 
         DefaultProtoStreamWriterContext() {
-            this(new IdentityHashMap<>(128));
+            this(new IdentityHashMap<>(INITIAL_CAPACITY));
         }
 
         private DefaultProtoStreamWriterContext(Map<Object, OptionalInt> sizes) {
+            this.parent = null;
+            this.references = new IdentityHashMap<>(INITIAL_CAPACITY);
             this.sizes = sizes;
         }
 
+        private DefaultProtoStreamWriterContext(DefaultProtoStreamWriterContext parent) {
+            this.parent = parent;
+            this.reference = parent.reference;
+            // Share size cache
+            this.sizes = parent.sizes;
+        }
+
+        /**
+         * Clears the references and sizes of this context, so that it can be reused by a subsequent operation.
+         * @return true, if the capacity of this context did not grow beyond its initial capacity, false otherwise
+         */
+        boolean reset() {
+            boolean reusable = (this.references.size() <= INITIAL_CAPACITY) && (this.sizes.size() <= INITIAL_CAPACITY);
+            this.references.clear();
+            this.sizes.clear();
+            this.reference = 0;
+            return reusable;
+        }
+
         @Override
         public void record(Object object) {
-            if (object != null) {
+            if ((object != null) && ((this.parent == null) || (this.parent.getReference(object) == null))) {
+                if (this.references == null) {
+                    this.references = new IdentityHashMap<>();
+                }
                 this.references.computeIfAbsent(object, this);
             }
         }
 
         @Override
         public Reference getReference(Object object) {
-            return (object != null) ? this.references.get(object) : null;
+            if (object == null) return null;
+            Reference reference = (this.references != null) ? this.references.get(object) : null;
+            return ((reference == null) && (this.parent != null)) ? this.parent.getReference(object) : reference;
         }
 
         @Override
@@ -256,12 +286,9 @@ public abstract class AbstractProtoStreamWriter extends AbstractProtoStreamOpera
 
         @Override
         public ProtoStreamWriterContext clone() {
-            // Share size cache
-            DefaultProtoStreamWriterContext context = new DefaultProtoStreamWriterContext(this.sizes);
-            // Copy references
-            context.references.putAll(this.references);
-            context.reference = this.reference;
-            return context;
+            // Rather than copying the references of this context, the copy only records its new references
+            // This context is not modified while its copy is in use, i.e. during the computation of the size of a nested object
+            return new DefaultProtoStreamWriterContext(this);
         }
 
         @Override
@@ -31,7 +31,12 @@ public class DefaultProtoStreamWriter extends AbstractProtoStreamWriter implemen
         this(context, new DefaultProtoStreamWriterContext());
     }
 
-    private DefaultProtoStreamWriter(WriteContext context, ProtoStreamWriterContext writerContext) {
+    /**
+     * Creates a default ProtoStream writer using the specified writer context.
+     * @param context the write context
+     * @param writerContext the writer context
+     */
+    DefaultProtoStreamWriter(WriteContext context, ProtoStreamWriterContext writerContext) {
         super(context, writerContext);
         this.context = writerContext;
     }
@@ -17,6 +17,7 @@ import org.infinispan.protostream.ProtobufTagMarshaller.ReadContext;
 import org.infinispan.protostream.ProtobufTagMarshaller.WriteContext;
 import org.infinispan.protostream.impl.TagReaderImpl;
 import org.infinispan.protostream.impl.TagWriterImpl;
+import org.wildfly.clustering.marshalling.protostream.AbstractProtoStreamWriter.DefaultProtoStreamWriterContext;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 
 /**
@@ -32,9 +33,14 @@ public class ProtoStreamByteBufferMarshaller implements ByteBufferMarshaller {
 
     @Override
     public OptionalInt size(Object object) {
-        ProtoStreamSizeOperation operation = new DefaultProtoStreamSizeOperation(this.context);
-        ProtoStreamMarshaller<Any> marshaller = operation.findMarshaller(Any.class);
-        return marshaller.size(operation, new Any(object));
+        DefaultProtoStreamWriterContext writerContext = WriterContextHolder.acquire();
+        try {
+            ProtoStreamSizeOperation operation = new DefaultProtoStreamSizeOperation(this.context, writerContext);
+            ProtoStreamMarshaller<Any> marshaller = operation.findMarshaller(Any.class);
+            return marshaller.size(operation, new Any(object));
+        } finally {
+            WriterContextHolder.release(writerContext);
+        }
     }
 
     @Override
@@ -70,9 +76,46 @@ public class ProtoStreamByteBufferMarshaller implements ByteBufferMarshaller {
 
     @Override
     public void writeTo(OutputStream output, Object object) throws IOException {
-        WriteContext context = TagWriterImpl.newInstanceNoBuffer(this.context, output);
-        ProtoStreamWriter writer = new DefaultProtoStreamWriter(context);
-        ProtoStreamMarshaller<Any> marshaller = writer.findMarshaller(Any.class);
-        marshaller.writeTo(writer, new Any(object));
+        DefaultProtoStreamWriterContext writerContext = WriterContextHolder.acquire();
+        try {
+            WriteContext context = TagWriterImpl.newInstanceNoBuffer(this.context, output);
+            ProtoStreamWriter writer = new DefaultProtoStreamWriter(context, writerContext);
+            ProtoStreamMarshaller<Any> marshaller = writer.findMarshaller(Any.class);
+            marshaller.writeTo(writer, new Any(object));
+        } finally {
+            WriterContextHolder.release(writerContext);
+        }
+    }
+
+    /**
+     * Holds the thread-confined writer context used by the size and write operations of this marshaller.
+     * Reusing this context avoids allocating its hash tables for every marshalled value.
+     */
+    private static class WriterContextHolder {
+        private static final ThreadLocal<DefaultProtoStreamWriterContext> CONTEXT = new ThreadLocal<>();
+
+        /**
+         * Acquires the writer context of the current thread.
+         * Reentrant marshalling, e.g. by a marshaller delegating to this marshaller, uses a new context.
+         * @return a writer context for a single size or write operation
+         */
+        static DefaultProtoStreamWriterContext acquire() {
+            DefaultProtoStreamWriterContext context = CONTEXT.get();
+            if (context == null) {
+                return new DefaultProtoStreamWriterContext();
+            }
+            CONTEXT.remove();
+            return context;
+        }
+
+        /**
+         * Returns the specified context to the current thread, unless it grew while marshalling a large object graph.
+         * @param context a writer context
+         */
+        static void release(DefaultProtoStreamWriterContext context) {
+            if (context.reset()) {
+                CONTEXT.set(context);
+            }
+        }
     }
 }
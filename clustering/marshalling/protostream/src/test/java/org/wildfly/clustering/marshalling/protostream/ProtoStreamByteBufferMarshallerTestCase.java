@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.protostream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Validates the buffers produced by {@link ProtoStreamByteBufferMarshaller#write(Object)} for a typical graph of session attributes.
+ */
+public class ProtoStreamByteBufferMarshallerTestCase {
+
+    private final ByteBufferMarshaller marshaller = TestProtoStreamByteBufferMarshaller.INSTANCE;
+
+    @Test
+    public void test() throws IOException {
+        Map<String, Object> attributes = createSessionAttributes();
+
+        OptionalInt size = this.marshaller.size(attributes);
+        assertTrue(size.isPresent());
+
+        ByteBuffer buffer = this.marshaller.write(attributes);
+        // The buffer is sized exactly by the size operation, thus never regrown nor trimmed
+        assertEquals(size.getAsInt(), buffer.remaining());
+        assertEquals(buffer.remaining(), buffer.array().length);
+
+        // Consecutive writes reuse the writer context of this thread
+        ByteBuffer repeated = this.marshaller.write(attributes);
+        assertEquals(buffer, repeated);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) this.marshaller.read(buffer);
+        assertEquals(attributes, result);
+        // References shared by the graph are preserved
+        assertSame(result.get("roles"), result.get("principal-roles"));
+    }
+
+    private static Map<String, Object> createSessionAttributes() {
+        List<String> roles = new ArrayList<>(List.of("user", "customer", "subscriber"));
+        Map<String, Object> cart = new LinkedHashMap<>();
+        cart.put("SKU-0001", 2);
+        cart.put("SKU-0042", 1);
+        cart.put("SKU-1337", 5);
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("username", "jdoe");
+        attributes.put("visits", 42);
+        attributes.put("locale", Locale.CANADA_FRENCH);
+        attributes.put("last-access", new Date(1700000000000L));
+        attributes.put("token", UUID.fromString("a3b1c2d4-e5f6-4789-8abc-def012345678"));
+        attributes.put("roles", roles);
+        attributes.put("principal-roles", roles);
+        attributes.put("cart", cart);
+        return attributes;
+    }
+}
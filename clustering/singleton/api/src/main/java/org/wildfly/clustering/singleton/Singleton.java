@@ -4,6 +4,7 @@
  */
 package org.wildfly.clustering.singleton;
 
+import java.time.Duration;
 import java.util.Set;
 
 import org.wildfly.clustering.group.Node;
@@ -30,4 +31,13 @@ public interface Singleton {
      * @return a set of cluster members
      */
     Set<Node> getProviders();
+
+    /**
+     * Returns the duration of the most recent election of the primary provider of the singleton,
+     * from the change of its providers until the elected primary provider started the singleton.
+     * @return a duration, or null, if unknown.
+     */
+    default Duration getFailoverLatency() {
+        return null;
+    }
 }
@@ -5,11 +5,14 @@
 
 package org.wildfly.extension.clustering.singleton;
 
+import java.time.Duration;
+
 import org.jboss.as.clustering.controller.Metric;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.group.Node;
@@ -43,7 +46,14 @@ public enum SingletonMetric implements Metric<Singleton> {
             }
             return result;
         }
-    }
+    },
+    FAILOVER_LATENCY("failover-latency", ModelType.LONG, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(Singleton singleton) throws OperationFailedException {
+            Duration latency = singleton.getFailoverLatency();
+            return (latency != null) ? new ModelNode(latency.toMillis()) : null;
+        }
+    },
     ;
     private final AttributeDefinition definition;
 
@@ -51,6 +61,10 @@ public enum SingletonMetric implements Metric<Singleton> {
         this.definition = new SimpleAttributeDefinitionBuilder(name, type).setStorageRuntime().build();
     }
 
+    SingletonMetric(String name, ModelType type, MeasurementUnit unit) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type).setMeasurementUnit(unit).setStorageRuntime().build();
+    }
+
     SingletonMetric(String name) {
         this.definition = new StringListAttributeDefinition.Builder(name).setStorageRuntime().build();
     }
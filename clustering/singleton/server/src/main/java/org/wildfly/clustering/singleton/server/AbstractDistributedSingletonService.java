@@ -5,20 +5,20 @@
 
 package org.wildfly.clustering.singleton.server;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jboss.msc.service.ServiceName;
-import org.jboss.msc.service.ServiceNotFoundException;
 import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -40,7 +40,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * Logic common to current and legacy {@link SingletonService} implementations.
  * @author Paul Ferraro
  */
-public abstract class AbstractDistributedSingletonService<C extends SingletonContext> implements SingletonService, SingletonContext, Listener, Supplier<C> {
+public abstract class AbstractDistributedSingletonService<C extends SingletonContext> implements SingletonService, SingletonContext, DistributedSingleton, Listener, Supplier<C> {
 
     private final ServiceName name;
     private final Supplier<ServiceProviderRegistry<ServiceName>> registry;
@@ -55,6 +55,9 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
     private volatile Lifecycle primaryLifecycle;
     private volatile CommandDispatcher<C> dispatcher;
     private volatile ServiceProviderRegistration<ServiceName> registration;
+    private volatile SingletonElectionCoordinator coordinator;
+    private volatile Duration failoverLatency;
+    private volatile Set<Node> providers = Collections.emptySet();
 
     public AbstractDistributedSingletonService(DistributedSingletonServiceContext context, Function<ServiceTarget, Lifecycle> primaryLifecycleFactory) {
         this.name = context.getServiceName();
@@ -73,98 +76,29 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
         this.primaryLifecycle = this.primaryLifecycleFactory.apply(target);
 
         this.dispatcher = this.dispatcherFactory.get().createCommandDispatcher(this.name.getCanonicalName(), this.get(), WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
+        this.coordinator = SingletonElectionCoordinator.register(this.dispatcherFactory.get(), this);
         this.registration = this.registry.get().register(this.name, this);
     }
 
     @Override
     public void stop(StopContext context) {
         this.registration.close();
+        this.coordinator.unregister(this);
         this.dispatcher.close();
     }
 
     @Override
-    public synchronized void providersChanged(Set<Node> nodes) {
+    public void providersChanged(Set<Node> nodes) {
+        this.providers = nodes;
+
         Group group = this.registry.get().getGroup();
         List<Node> candidates = new ArrayList<>(group.getMembership().getMembers());
         candidates.retainAll(nodes);
 
         // Only run election on a single node
         if (candidates.isEmpty() || candidates.get(0).equals(group.getLocalMember())) {
-            // First validate that quorum was met
-            int size = candidates.size();
-            boolean quorumMet = size >= this.quorum;
-
-            if ((this.quorum > 1) && (size == this.quorum)) {
-                // Log fragility of singleton availability
-                SingletonLogger.ROOT_LOGGER.quorumJustReached(this.name.getCanonicalName(), this.quorum);
-            }
-
-            Node elected = quorumMet ? this.electionPolicy.elect(candidates) : null;
-
-            try {
-                if (elected != null) {
-                    // Stop service on every node except elected node
-                    for (Map.Entry<Node, CompletionStage<Void>> entry : this.dispatcher.executeOnGroup(new StopCommand(), elected).entrySet()) {
-                        try {
-                            entry.getValue().toCompletableFuture().join();
-                        } catch (CancellationException e) {
-                            SingletonLogger.ROOT_LOGGER.tracef("Singleton service %s is not installed on %s", this.name.getCanonicalName(), entry.getKey().getName());
-                        } catch (CompletionException e) {
-                            Throwable cause = e.getCause();
-                            if ((cause instanceof IllegalStateException) && (cause.getCause() instanceof ServiceNotFoundException)) {
-                                SingletonLogger.ROOT_LOGGER.debugf("Singleton service %s is no longer installed on %s", this.name.getCanonicalName(), entry.getKey().getName());
-                            } else {
-                                throw e;
-                            }
-                        }
-                    }
-                    // Start service on elected node
-                    try {
-                        this.dispatcher.executeOnMember(new StartCommand(), elected).toCompletableFuture().join();
-                    } catch (CancellationException e) {
-                        SingletonLogger.ROOT_LOGGER.debugf("Singleton service %s could not be started on the elected primary singleton provider (%s) because it left the cluster.  A new primary provider election will take place.", this.name.getCanonicalName(), elected.getName());
-                    } catch (CompletionException e) {
-                        Throwable cause = e.getCause();
-                        if ((cause instanceof IllegalStateException) && (cause.getCause() instanceof ServiceNotFoundException)) {
-                            SingletonLogger.ROOT_LOGGER.debugf("Service % is no longer installed on the elected primary singleton provider (%s). A new primary provider election will take place.", this.name.getCanonicalName(), elected.getName());
-                        } else {
-                            throw e;
-                        }
-                    }
-                } else {
-                    if (!quorumMet) {
-                        SingletonLogger.ROOT_LOGGER.quorumNotReached(this.name.getCanonicalName(), this.quorum);
-                    }
-
-                    // Stop service on every node
-                    for (Map.Entry<Node, CompletionStage<Void>> entry : this.dispatcher.executeOnGroup(new StopCommand()).entrySet()) {
-                        try {
-                            entry.getValue().toCompletableFuture().join();
-                        } catch (CancellationException e) {
-                            SingletonLogger.ROOT_LOGGER.tracef("Singleton service %s is not installed on %s", this.name.getCanonicalName(), entry.getKey().getName());
-                        } catch (CompletionException e) {
-                            Throwable cause = e.getCause();
-                            if ((cause instanceof IllegalStateException) && (cause.getCause() instanceof ServiceNotFoundException)) {
-                                SingletonLogger.ROOT_LOGGER.debugf("Singleton service %s is no longer installed on %s", this.name.getCanonicalName(), entry.getKey().getName());
-                            } else {
-                                throw e;
-                            }
-                        }
-                    }
-                }
-
-                if (this.electionListener != null) {
-                    for (CompletionStage<Void> stage : this.dispatcher.executeOnGroup(new SingletonElectionCommand(candidates, elected)).values()) {
-                        try {
-                            stage.toCompletableFuture().join();
-                        } catch (CancellationException e) {
-                            // Ignore
-                        }
-                    }
-                }
-            } catch (CommandDispatcherException e) {
-                throw new IllegalStateException(e);
-            }
+            // Elections are batched with those of the other singletons of this group
+            this.coordinator.elect(this, candidates).toCompletableFuture().join();
         }
     }
 
@@ -184,6 +118,16 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
         }
     }
 
+    @Override
+    public void elected(List<Node> candidates, Node elected, Duration latency) {
+        if (elected != null) {
+            this.failoverLatency = latency;
+        }
+        if (this.electionListener != null) {
+            this.elected(candidates, elected);
+        }
+    }
+
     @Override
     public void elected(List<Node> candidates, Node elected) {
         try {
@@ -200,7 +144,12 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
 
     @Override
     public Node getPrimaryProvider() {
-        if (this.isPrimary()) return this.registry.get().getGroup().getLocalMember();
+        Node localMember = this.registry.get().getGroup().getLocalMember();
+        if (this.isPrimary()) return localMember;
+
+        // Use the outcome of the most recent election, if its primary provider is still a provider
+        Node elected = this.coordinator.getPrimaryProvider(this.name, this.providers);
+        if ((elected != null) && !elected.equals(localMember)) return elected;
 
         List<Node> primaryMembers = new LinkedList<>();
         try {
@@ -227,11 +176,33 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
         return this.registration.getProviders();
     }
 
-    int getQuorum() {
+    @Override
+    public Duration getFailoverLatency() {
+        return this.failoverLatency;
+    }
+
+    @Override
+    public ServiceName getServiceName() {
+        return this.name;
+    }
+
+    @Override
+    public SingletonElectionPolicy getElectionPolicy() {
+        return this.electionPolicy;
+    }
+
+    @Override
+    public int getQuorum() {
         return this.quorum;
     }
 
-    CommandDispatcher<C> getCommandDispatcher() {
+    @Override
+    public boolean hasElectionListener() {
+        return this.electionListener != null;
+    }
+
+    @Override
+    public CommandDispatcher<C> getCommandDispatcher() {
         return this.dispatcher;
     }
 
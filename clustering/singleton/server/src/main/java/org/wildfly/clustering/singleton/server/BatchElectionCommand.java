@@ -0,0 +1,78 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Command to notify the distributed singletons sharing a {@link SingletonElectionCoordinator} of the results of a batch of elections.
+ */
+public class BatchElectionCommand implements Command<Void, SingletonElectionCoordinator> {
+    private static final long serialVersionUID = 5207403634432409567L;
+
+    private final Collection<Election> elections;
+
+    public BatchElectionCommand(Collection<Election> elections) {
+        this.elections = elections;
+    }
+
+    Collection<Election> getElections() {
+        return this.elections;
+    }
+
+    @Override
+    public Void execute(SingletonElectionCoordinator coordinator) {
+        for (Election election : this.elections) {
+            List<Node> candidates = election.getCandidates();
+            Integer index = election.getIndex();
+            coordinator.elected(election.getServiceName(), candidates, (index != null) ? candidates.get(index) : null, election.getLatency());
+        }
+        return null;
+    }
+
+    /**
+     * The result of the election of the primary provider of a distributed singleton.
+     */
+    public static class Election {
+        private final ServiceName name;
+        private final List<Node> candidates;
+        private final Integer index;
+        private final Duration latency;
+
+        public Election(ServiceName name, List<Node> candidates, Node elected, Duration latency) {
+            this(name, candidates, (elected != null) ? candidates.indexOf(elected) : null, latency);
+        }
+
+        Election(ServiceName name, List<Node> candidates, Integer index, Duration latency) {
+            this.name = name;
+            this.candidates = candidates;
+            this.index = index;
+            this.latency = latency;
+        }
+
+        ServiceName getServiceName() {
+            return this.name;
+        }
+
+        List<Node> getCandidates() {
+            return this.candidates;
+        }
+
+        Integer getIndex() {
+            return this.index;
+        }
+
+        Duration getLatency() {
+            return this.latency;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.infinispan.protostream.descriptors.WireType;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamReader;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
+
+/**
+ * Marshaller for a {@link BatchElectionCommand}.
+ * Each election is written as a service name, followed by its candidates, its elected index, if any, and its latency.
+ */
+public class BatchElectionCommandMarshaller implements ProtoStreamMarshaller<BatchElectionCommand> {
+
+    private static final int SERVICE_INDEX = 1;
+    private static final int CANDIDATE_INDEX = 2;
+    private static final int ELECTED_INDEX = 3;
+    private static final int LATENCY_INDEX = 4;
+
+    @Override
+    public BatchElectionCommand readFrom(ProtoStreamReader reader) throws IOException {
+        List<BatchElectionCommand.Election> elections = new LinkedList<>();
+        ServiceName name = null;
+        List<Node> candidates = null;
+        Integer elected = null;
+        Duration latency = Duration.ZERO;
+        while (!reader.isAtEnd()) {
+            int tag = reader.readTag();
+            switch (WireType.getTagFieldNumber(tag)) {
+                case SERVICE_INDEX:
+                    if (name != null) {
+                        elections.add(new BatchElectionCommand.Election(name, candidates, elected, latency));
+                    }
+                    name = ServiceName.parse(reader.readString());
+                    candidates = new LinkedList<>();
+                    elected = null;
+                    latency = Duration.ZERO;
+                    break;
+                case CANDIDATE_INDEX:
+                    candidates.add(reader.readAny(Node.class));
+                    break;
+                case ELECTED_INDEX:
+                    elected = reader.readUInt32();
+                    break;
+                case LATENCY_INDEX:
+                    latency = Duration.ofNanos(reader.readUInt64());
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        if (name != null) {
+            elections.add(new BatchElectionCommand.Election(name, candidates, elected, latency));
+        }
+        return new BatchElectionCommand(elections);
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, BatchElectionCommand command) throws IOException {
+        for (BatchElectionCommand.Election election : command.getElections()) {
+            writer.writeString(SERVICE_INDEX, election.getServiceName().getCanonicalName());
+            for (Node candidate : election.getCandidates()) {
+                writer.writeAny(CANDIDATE_INDEX, candidate);
+            }
+            Integer elected = election.getIndex();
+            if (elected != null) {
+                writer.writeUInt32(ELECTED_INDEX, elected);
+            }
+            writer.writeUInt64(LATENCY_INDEX, election.getLatency().toNanos());
+        }
+    }
+
+    @Override
+    public Class<? extends BatchElectionCommand> getJavaClass() {
+        return BatchElectionCommand.class;
+    }
+}
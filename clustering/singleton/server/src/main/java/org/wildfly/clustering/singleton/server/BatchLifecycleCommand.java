@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * Command to start or stop a set of distributed singletons sharing a {@link SingletonElectionCoordinator}.
+ * Singletons not installed on the target member are skipped, and the failure of one singleton does not affect the others.
+ * The failures are propagated to the election coordinator as the suppressed exceptions of a single failure,
+ * each of which identifies the failed singleton by its message, and wraps the original failure.
+ */
+public abstract class BatchLifecycleCommand implements Command<Void, SingletonElectionCoordinator> {
+    private static final long serialVersionUID = -1395315370553592036L;
+
+    private final Collection<ServiceName> names;
+
+    BatchLifecycleCommand(Collection<ServiceName> names) {
+        this.names = names;
+    }
+
+    Collection<ServiceName> getServiceNames() {
+        return this.names;
+    }
+
+    abstract void execute(Lifecycle lifecycle);
+
+    @Override
+    public Void execute(SingletonElectionCoordinator coordinator) {
+        List<RuntimeException> failures = new ArrayList<>(0);
+        for (ServiceName name : this.names) {
+            DistributedSingleton singleton = coordinator.getSingleton(name);
+            if (singleton != null) {
+                try {
+                    this.execute(singleton);
+                } catch (RuntimeException e) {
+                    failures.add(new IllegalStateException(name.getCanonicalName(), e));
+                }
+            } else {
+                SingletonLogger.ROOT_LOGGER.tracef("Singleton service %s is not installed", name.getCanonicalName());
+            }
+        }
+        if (!failures.isEmpty()) {
+            IllegalStateException exception = new IllegalStateException(failures.stream().map(Throwable::getMessage).collect(Collectors.joining(", ")));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return null;
+    }
+}
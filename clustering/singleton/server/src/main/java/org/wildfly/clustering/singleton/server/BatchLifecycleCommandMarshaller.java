@@ -0,0 +1,63 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.infinispan.protostream.descriptors.WireType;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamReader;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
+
+/**
+ * Marshaller for a {@link BatchLifecycleCommand}.
+ * @param <C> the command type
+ */
+public class BatchLifecycleCommandMarshaller<C extends BatchLifecycleCommand> implements ProtoStreamMarshaller<C> {
+
+    private static final int SERVICE_INDEX = 1;
+
+    private final Class<C> commandClass;
+    private final Function<Collection<ServiceName>, C> factory;
+
+    public BatchLifecycleCommandMarshaller(Class<C> commandClass, Function<Collection<ServiceName>, C> factory) {
+        this.commandClass = commandClass;
+        this.factory = factory;
+    }
+
+    @Override
+    public C readFrom(ProtoStreamReader reader) throws IOException {
+        List<ServiceName> names = new LinkedList<>();
+        while (!reader.isAtEnd()) {
+            int tag = reader.readTag();
+            switch (WireType.getTagFieldNumber(tag)) {
+                case SERVICE_INDEX:
+                    names.add(ServiceName.parse(reader.readString()));
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        return this.factory.apply(names);
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, C command) throws IOException {
+        for (ServiceName name : command.getServiceNames()) {
+            writer.writeString(SERVICE_INDEX, name.getCanonicalName());
+        }
+    }
+
+    @Override
+    public Class<? extends C> getJavaClass() {
+        return this.commandClass;
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.util.Collection;
+
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Command to start a set of distributed singletons.
+ */
+public class BatchStartCommand extends BatchLifecycleCommand {
+    private static final long serialVersionUID = 2730127342406436291L;
+
+    public BatchStartCommand(Collection<ServiceName> names) {
+        super(names);
+    }
+
+    @Override
+    void execute(Lifecycle lifecycle) {
+        lifecycle.start();
+    }
+}
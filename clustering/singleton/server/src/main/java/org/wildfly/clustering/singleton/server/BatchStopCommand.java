@@ -0,0 +1,26 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.util.Collection;
+
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Command to stop a set of distributed singletons.
+ */
+public class BatchStopCommand extends BatchLifecycleCommand {
+    private static final long serialVersionUID = -7016254185917640227L;
+
+    public BatchStopCommand(Collection<ServiceName> names) {
+        super(names);
+    }
+
+    @Override
+    void execute(Lifecycle lifecycle) {
+        lifecycle.stop();
+    }
+}
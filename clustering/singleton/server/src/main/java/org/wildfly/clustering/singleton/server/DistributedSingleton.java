@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.singleton.SingletonElectionPolicy;
+
+/**
+ * A distributed singleton whose primary provider is elected by a {@link SingletonElectionCoordinator}.
+ */
+interface DistributedSingleton extends Lifecycle {
+
+    /**
+     * Returns the name of this singleton, unique within its group.
+     * @return a service name
+     */
+    ServiceName getServiceName();
+
+    /**
+     * Returns the policy with which to elect the primary provider of this singleton.
+     * @return an election policy
+     */
+    SingletonElectionPolicy getElectionPolicy();
+
+    /**
+     * Returns the minimum number of providers required to elect a primary provider of this singleton.
+     * @return a quorum
+     */
+    int getQuorum();
+
+    /**
+     * Returns the command dispatcher of this singleton, used to start, stop, and notify this singleton on members without a {@link SingletonElectionCoordinator}.
+     * @return a command dispatcher
+     */
+    CommandDispatcher<? extends SingletonContext> getCommandDispatcher();
+
+    /**
+     * Indicates whether this singleton has an election listener, in which case members without a {@link SingletonElectionCoordinator} are notified of its elections.
+     * @return true, if this singleton has an election listener, false otherwise
+     */
+    boolean hasElectionListener();
+
+    /**
+     * Notifies this singleton of the election of its primary provider.
+     * @param candidates the candidate providers
+     * @param elected the elected primary provider, or null, if no primary provider was elected
+     * @param latency the duration of the election
+     */
+    void elected(List<Node> candidates, Node elected, Duration latency);
+}
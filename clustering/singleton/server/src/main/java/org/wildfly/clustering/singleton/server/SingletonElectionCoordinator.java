@@ -0,0 +1,338 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceNotFoundException;
+import org.wildfly.clustering.context.DefaultExecutorService;
+import org.wildfly.clustering.context.ExecutorServiceFactory;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Coordinates the elections of the primary providers of the distributed singletons sharing a command dispatcher factory.
+ * Elections are run sequentially, by a single thread, in batches of all elections requested since the previous batch, e.g. following a membership change.
+ * Within a batch, each member receives a single command stopping every singleton for which it was not elected,
+ * followed by a single command starting every singleton for which it was elected,
+ * followed by a single notification of the results of every election of the batch.
+ * Members without a coordinator (i.e. running a previous version) are sent the commands and election notifications of each singleton individually.
+ * Each member records the outcome of every election of which it was notified, from which the primary provider of a singleton can be determined locally.
+ */
+public class SingletonElectionCoordinator {
+
+    static final String DISPATCHER_ID = "org.wildfly.clustering.singleton.election";
+
+    private static final Map<CommandDispatcherFactory, SingletonElectionCoordinator> COORDINATORS = new IdentityHashMap<>();
+
+    /**
+     * Registers the specified singleton with the election coordinator of the specified command dispatcher factory, creating it if necessary.
+     * @param factory a command dispatcher factory
+     * @param singleton a distributed singleton
+     * @return the election coordinator of the command dispatcher factory
+     */
+    static SingletonElectionCoordinator register(CommandDispatcherFactory factory, DistributedSingleton singleton) {
+        synchronized (COORDINATORS) {
+            SingletonElectionCoordinator coordinator = COORDINATORS.computeIfAbsent(factory, SingletonElectionCoordinator::new);
+            coordinator.singletons.put(singleton.getServiceName(), singleton);
+            return coordinator;
+        }
+    }
+
+    private final CommandDispatcherFactory factory;
+    private final CommandDispatcher<SingletonElectionCoordinator> dispatcher;
+    private final ExecutorService executor = new DefaultExecutorService(SingletonElectionCoordinator.class, ExecutorServiceFactory.SINGLE_THREAD);
+    private final Map<ServiceName, DistributedSingleton> singletons = new ConcurrentHashMap<>();
+    // Primary provider of each singleton of the group, per the most recent election of which this member was notified
+    private final Map<ServiceName, Node> primaryProviders = new ConcurrentHashMap<>();
+    // Guarded by this.pending
+    private final Map<ServiceName, PendingElection> pending = new LinkedHashMap<>();
+    private boolean scheduled = false;
+
+    private SingletonElectionCoordinator(CommandDispatcherFactory factory) {
+        this.factory = factory;
+        this.dispatcher = factory.createCommandDispatcher(DISPATCHER_ID, this, WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
+    }
+
+    /**
+     * Unregisters the specified singleton from this coordinator, closing this coordinator if no singletons remain.
+     * @param singleton a distributed singleton
+     */
+    void unregister(DistributedSingleton singleton) {
+        synchronized (COORDINATORS) {
+            if (this.singletons.remove(singleton.getServiceName(), singleton)) {
+                this.primaryProviders.remove(singleton.getServiceName());
+            }
+            if (this.singletons.isEmpty()) {
+                COORDINATORS.remove(this.factory);
+                this.dispatcher.close();
+                WildFlySecurityManager.doUnchecked(this.executor, DefaultExecutorService.SHUTDOWN_ACTION);
+            }
+        }
+    }
+
+    DistributedSingleton getSingleton(ServiceName name) {
+        return this.singletons.get(name);
+    }
+
+    /**
+     * Records the outcome of an election of the primary provider of the specified singleton, and notifies the singleton, if installed on this member.
+     * @param name the service name of a singleton
+     * @param candidates the candidate providers
+     * @param elected the elected primary provider, or null, if no primary provider was elected
+     * @param latency the duration of the election
+     */
+    void elected(ServiceName name, List<Node> candidates, Node elected, Duration latency) {
+        if (elected != null) {
+            this.primaryProviders.put(name, elected);
+        } else {
+            this.primaryProviders.remove(name);
+        }
+        DistributedSingleton singleton = this.singletons.get(name);
+        if (singleton != null) {
+            singleton.elected(candidates, elected, latency);
+        }
+    }
+
+    /**
+     * Returns the primary provider of the specified singleton, according to the most recent election of which this member was notified.
+     * @param name the service name of a singleton
+     * @param providers the current providers of the singleton
+     * @return the elected primary provider, or null, if unknown or no longer a provider of the singleton
+     */
+    Node getPrimaryProvider(ServiceName name, Set<Node> providers) {
+        Node elected = this.primaryProviders.get(name);
+        return ((elected != null) && providers.contains(elected)) ? elected : null;
+    }
+
+    /**
+     * Requests the election of the primary provider of the specified singleton from the specified candidates.
+     * Supersedes any pending election of this singleton.
+     * @param singleton a distributed singleton
+     * @param candidates the candidate providers of the singleton
+     * @return a stage that completes when the singleton was started on its elected primary provider, if any, and stopped elsewhere.
+     */
+    CompletionStage<Void> elect(DistributedSingleton singleton, List<Node> candidates) {
+        long timestamp = System.nanoTime();
+        synchronized (this.pending) {
+            PendingElection election = this.pending.get(singleton.getServiceName());
+            // Retain the timestamp of the superseded election
+            election = (election != null) ? new PendingElection(election, candidates) : new PendingElection(singleton, candidates, timestamp);
+            this.pending.put(singleton.getServiceName(), election);
+            if (!this.scheduled) {
+                try {
+                    this.executor.execute(this::run);
+                    this.scheduled = true;
+                } catch (RejectedExecutionException e) {
+                    // Coordinator was closed
+                    this.pending.clear();
+                    election.getFuture().complete(null);
+                }
+            }
+            return election.getFuture();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            Collection<PendingElection> elections;
+            synchronized (this.pending) {
+                if (this.pending.isEmpty()) {
+                    this.scheduled = false;
+                    return;
+                }
+                elections = new ArrayList<>(this.pending.values());
+                this.pending.clear();
+            }
+            try {
+                this.elect(elections);
+                for (PendingElection election : elections) {
+                    election.getFuture().complete(null);
+                }
+            } catch (CommandDispatcherException e) {
+                for (PendingElection election : elections) {
+                    election.getFuture().completeExceptionally(new IllegalStateException(e));
+                }
+            } catch (RuntimeException e) {
+                for (PendingElection election : elections) {
+                    election.getFuture().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void elect(Collection<PendingElection> elections) throws CommandDispatcherException {
+        List<Node> members = this.factory.getGroup().getMembership().getMembers();
+        Map<Node, Set<ServiceName>> stops = new LinkedHashMap<>();
+        Map<Node, Set<ServiceName>> starts = new LinkedHashMap<>();
+        Map<PendingElection, Node> results = new LinkedHashMap<>();
+
+        for (PendingElection election : elections) {
+            DistributedSingleton singleton = election.getSingleton();
+            ServiceName name = singleton.getServiceName();
+            List<Node> candidates = election.getCandidates();
+            int quorum = singleton.getQuorum();
+
+            // First validate that quorum was met
+            int size = candidates.size();
+            boolean quorumMet = size >= quorum;
+
+            if ((quorum > 1) && (size == quorum)) {
+                // Log fragility of singleton availability
+                SingletonLogger.ROOT_LOGGER.quorumJustReached(name.getCanonicalName(), quorum);
+            }
+            if (!quorumMet) {
+                SingletonLogger.ROOT_LOGGER.quorumNotReached(name.getCanonicalName(), quorum);
+            }
+
+            Node elected = quorumMet ? singleton.getElectionPolicy().elect(candidates) : null;
+            results.put(election, elected);
+
+            // Stop singleton on every member except elected member
+            for (Node member : members) {
+                if (!member.equals(elected)) {
+                    stops.computeIfAbsent(member, key -> new LinkedHashSet<>()).add(name);
+                }
+            }
+            if (elected != null) {
+                starts.computeIfAbsent(elected, key -> new LinkedHashSet<>()).add(name);
+            }
+        }
+
+        this.execute(stops, BatchStopCommand::new, new StopCommand());
+        this.execute(starts, BatchStartCommand::new, new StartCommand());
+
+        long now = System.nanoTime();
+        List<BatchElectionCommand.Election> notifications = new ArrayList<>(results.size());
+        for (Map.Entry<PendingElection, Node> entry : results.entrySet()) {
+            PendingElection election = entry.getKey();
+            notifications.add(new BatchElectionCommand.Election(election.getSingleton().getServiceName(), election.getCandidates(), entry.getValue(), Duration.ofNanos(now - election.getTimestamp())));
+        }
+        for (Map.Entry<Node, CompletionStage<Void>> entry : this.dispatcher.executeOnGroup(new BatchElectionCommand(notifications)).entrySet()) {
+            try {
+                entry.getValue().toCompletableFuture().join();
+            } catch (CancellationException e) {
+                // Member has no election coordinator
+                for (Map.Entry<PendingElection, Node> result : results.entrySet()) {
+                    DistributedSingleton singleton = result.getKey().getSingleton();
+                    if (singleton.hasElectionListener()) {
+                        this.execute(singleton, new SingletonElectionCommand(result.getKey().getCandidates(), result.getValue()), entry.getKey());
+                    }
+                }
+            }
+        }
+    }
+
+    private void execute(Map<Node, Set<ServiceName>> batches, Function<Collection<ServiceName>, BatchLifecycleCommand> factory, Command<Void, Lifecycle> command) throws CommandDispatcherException {
+        // Send the batch of each member concurrently
+        Map<Node, CompletionStage<Void>> stages = new LinkedHashMap<>();
+        for (Map.Entry<Node, Set<ServiceName>> entry : batches.entrySet()) {
+            stages.put(entry.getKey(), this.dispatcher.executeOnMember(factory.apply(entry.getValue()), entry.getKey()));
+        }
+        for (Map.Entry<Node, CompletionStage<Void>> entry : stages.entrySet()) {
+            Node member = entry.getKey();
+            try {
+                entry.getValue().toCompletableFuture().join();
+            } catch (CancellationException e) {
+                // Member has no election coordinator
+                for (ServiceName name : batches.get(member)) {
+                    DistributedSingleton singleton = this.singletons.get(name);
+                    if (singleton != null) {
+                        this.execute(singleton, command, member);
+                    }
+                }
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                Throwable[] failures = (cause != null) ? cause.getSuppressed() : new Throwable[0];
+                if (failures.length > 0) {
+                    // Report the failure of each singleton of the batch, see BatchLifecycleCommand
+                    for (Throwable failure : failures) {
+                        commandFailed(failure.getCause(), failure.getMessage(), member);
+                    }
+                } else {
+                    SingletonLogger.ROOT_LOGGER.commandFailed(cause, batches.get(member).stream().map(ServiceName::getCanonicalName).collect(Collectors.joining(", ")), member.getName());
+                }
+            }
+        }
+    }
+
+    private void execute(DistributedSingleton singleton, Command<Void, ? super SingletonContext> command, Node member) throws CommandDispatcherException {
+        try {
+            singleton.getCommandDispatcher().executeOnMember(command, member).toCompletableFuture().join();
+        } catch (CancellationException e) {
+            SingletonLogger.ROOT_LOGGER.tracef("Singleton service %s is not installed on %s", singleton.getServiceName().getCanonicalName(), member.getName());
+        } catch (CompletionException e) {
+            commandFailed(e.getCause(), singleton.getServiceName().getCanonicalName(), member);
+        }
+    }
+
+    private static void commandFailed(Throwable cause, String name, Node member) {
+        if ((cause instanceof IllegalStateException) && (cause.getCause() instanceof ServiceNotFoundException)) {
+            SingletonLogger.ROOT_LOGGER.debugf("Singleton service %s is no longer installed on %s", name, member.getName());
+        } else {
+            SingletonLogger.ROOT_LOGGER.commandFailed(cause, name, member.getName());
+        }
+    }
+
+    private static class PendingElection {
+        private final DistributedSingleton singleton;
+        private final List<Node> candidates;
+        private final long timestamp;
+        private final CompletableFuture<Void> future;
+
+        PendingElection(DistributedSingleton singleton, List<Node> candidates, long timestamp) {
+            this.singleton = singleton;
+            this.candidates = candidates;
+            this.timestamp = timestamp;
+            this.future = new CompletableFuture<>();
+        }
+
+        PendingElection(PendingElection election, List<Node> candidates) {
+            this.singleton = election.singleton;
+            this.candidates = candidates;
+            this.timestamp = election.timestamp;
+            this.future = election.future;
+        }
+
+        DistributedSingleton getSingleton() {
+            return this.singleton;
+        }
+
+        List<Node> getCandidates() {
+            return this.candidates;
+        }
+
+        long getTimestamp() {
+            return this.timestamp;
+        }
+
+        CompletableFuture<Void> getFuture() {
+            return this.future;
+        }
+    }
+}
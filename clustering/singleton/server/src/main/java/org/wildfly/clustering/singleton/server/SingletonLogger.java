@@ -70,4 +70,8 @@ public interface SingletonLogger extends BasicLogger {
 
     @Message(id = 11, value = "Specified quorum %d must be greater than zero")
     IllegalArgumentException invalidQuorum(int quorum);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 12, value = "Failed to start or stop the %s singleton service(s) on %s")
+    void commandFailed(@Cause Throwable cause, String services, String member);
 }
@@ -26,6 +26,9 @@ public enum SingletonSerializationContextInitializerProvider implements Serializ
             context.registerMarshaller(new ValueMarshaller<>(new StopCommand()));
             context.registerMarshaller(new ValueMarshaller<>(new PrimaryProviderCommand()));
             context.registerMarshaller(new ValueMarshaller<>(new SingletonValueCommand<>()));
+            context.registerMarshaller(new BatchLifecycleCommandMarshaller<>(BatchStartCommand.class, BatchStartCommand::new));
+            context.registerMarshaller(new BatchLifecycleCommandMarshaller<>(BatchStopCommand.class, BatchStopCommand::new));
+            context.registerMarshaller(new BatchElectionCommandMarshaller());
         }
     }),
     ;
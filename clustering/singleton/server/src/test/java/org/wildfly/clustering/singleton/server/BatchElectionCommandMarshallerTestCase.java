@@ -0,0 +1,55 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.msc.service.ServiceName;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.marshalling.Tester;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamTesterFactory;
+import org.wildfly.clustering.server.infinispan.group.LocalNode;
+
+/**
+ * Validates marshalling of {@link BatchElectionCommand}.
+ */
+public class BatchElectionCommandMarshallerTestCase {
+
+    @Test
+    public void test() throws IOException {
+        Tester<BatchElectionCommand> tester = ProtoStreamTesterFactory.INSTANCE.createTester();
+
+        Node node1 = new LocalNode("node1");
+        Node node2 = new LocalNode("node2");
+        Node node3 = new LocalNode("node3");
+
+        tester.test(new BatchElectionCommand(List.of()), BatchElectionCommandMarshallerTestCase::assertEquals);
+        tester.test(new BatchElectionCommand(List.of(new BatchElectionCommand.Election(ServiceName.JBOSS.append("foo"), List.of(node1, node2, node3), node2, Duration.ofMillis(10)))), BatchElectionCommandMarshallerTestCase::assertEquals);
+        tester.test(new BatchElectionCommand(List.of(
+                new BatchElectionCommand.Election(ServiceName.JBOSS.append("foo"), List.of(node1, node2), node1, Duration.ofMillis(10)),
+                new BatchElectionCommand.Election(ServiceName.JBOSS.append("bar"), List.of(node3), (Node) null, Duration.ZERO),
+                new BatchElectionCommand.Election(ServiceName.JBOSS.append("baz"), List.of(), (Node) null, Duration.ofSeconds(1, 500)))), BatchElectionCommandMarshallerTestCase::assertEquals);
+    }
+
+    static void assertEquals(BatchElectionCommand command1, BatchElectionCommand command2) {
+        List<BatchElectionCommand.Election> elections1 = new ArrayList<>(command1.getElections());
+        List<BatchElectionCommand.Election> elections2 = new ArrayList<>(command2.getElections());
+        Assert.assertEquals(elections1.size(), elections2.size());
+        for (int i = 0; i < elections1.size(); ++i) {
+            BatchElectionCommand.Election election1 = elections1.get(i);
+            BatchElectionCommand.Election election2 = elections2.get(i);
+            Assert.assertEquals(election1.getServiceName(), election2.getServiceName());
+            Assert.assertEquals(election1.getCandidates(), election2.getCandidates());
+            Assert.assertEquals(election1.getIndex(), election2.getIndex());
+            Assert.assertEquals(election1.getLatency(), election2.getLatency());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.msc.service.ServiceName;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.Tester;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamTesterFactory;
+
+/**
+ * Validates marshalling of {@link BatchStartCommand} and {@link BatchStopCommand}.
+ */
+public class BatchLifecycleCommandMarshallerTestCase {
+
+    @Test
+    public void test() throws IOException {
+        Tester<BatchLifecycleCommand> tester = ProtoStreamTesterFactory.INSTANCE.createTester();
+
+        List<ServiceName> names = List.of(ServiceName.JBOSS.append("foo"), ServiceName.JBOSS.append("bar"), ServiceName.JBOSS.append("baz", "qux"));
+
+        tester.test(new BatchStartCommand(List.of()), BatchLifecycleCommandMarshallerTestCase::assertEquals);
+        tester.test(new BatchStartCommand(names), BatchLifecycleCommandMarshallerTestCase::assertEquals);
+        tester.test(new BatchStopCommand(List.of()), BatchLifecycleCommandMarshallerTestCase::assertEquals);
+        tester.test(new BatchStopCommand(names), BatchLifecycleCommandMarshallerTestCase::assertEquals);
+    }
+
+    static void assertEquals(BatchLifecycleCommand command1, BatchLifecycleCommand command2) {
+        Assert.assertSame(command1.getClass(), command2.getClass());
+        // Order of service names is significant
+        Assert.assertEquals(new ArrayList<>(command1.getServiceNames()), new ArrayList<>(command2.getServiceNames()));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.jboss.msc.service.ServiceName;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Validates the propagation of failures by {@link BatchStartCommand} and {@link BatchStopCommand}.
+ */
+public class BatchLifecycleCommandTestCase {
+
+    private final ServiceName name1 = ServiceName.JBOSS.append("singleton1");
+    private final ServiceName name2 = ServiceName.JBOSS.append("singleton2");
+    private final ServiceName name3 = ServiceName.JBOSS.append("singleton3");
+    private final ServiceName missingName = ServiceName.JBOSS.append("missing");
+    private final DistributedSingleton singleton1 = mock(DistributedSingleton.class);
+    private final DistributedSingleton singleton2 = mock(DistributedSingleton.class);
+    private final DistributedSingleton singleton3 = mock(DistributedSingleton.class);
+    private final SingletonElectionCoordinator coordinator = mock(SingletonElectionCoordinator.class);
+
+    public BatchLifecycleCommandTestCase() {
+        when(this.coordinator.getSingleton(this.name1)).thenReturn(this.singleton1);
+        when(this.coordinator.getSingleton(this.name2)).thenReturn(this.singleton2);
+        when(this.coordinator.getSingleton(this.name3)).thenReturn(this.singleton3);
+    }
+
+    @Test
+    public void start() {
+        new BatchStartCommand(List.of(this.name1, this.missingName, this.name2)).execute(this.coordinator);
+
+        verify(this.singleton1).start();
+        verify(this.singleton2).start();
+        verify(this.singleton1, never()).stop();
+    }
+
+    @Test
+    public void startFailure() {
+        IllegalStateException failure2 = new IllegalStateException();
+        RuntimeException failure3 = new RuntimeException();
+        doThrow(failure2).when(this.singleton2).start();
+        doThrow(failure3).when(this.singleton3).start();
+
+        try {
+            new BatchStartCommand(List.of(this.name3, this.name1, this.name2)).execute(this.coordinator);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // Each failure identifies its singleton, and wraps its cause
+            Throwable[] failures = e.getSuppressed();
+            Assert.assertEquals(2, failures.length);
+            Assert.assertEquals(this.name3.getCanonicalName(), failures[0].getMessage());
+            Assert.assertSame(failure3, failures[0].getCause());
+            Assert.assertEquals(this.name2.getCanonicalName(), failures[1].getMessage());
+            Assert.assertSame(failure2, failures[1].getCause());
+        }
+
+        // The failure of one singleton does not prevent the start of the others
+        verify(this.singleton1).start();
+    }
+
+    @Test
+    public void stopFailure() {
+        IllegalStateException failure = new IllegalStateException();
+        doThrow(failure).when(this.singleton1).stop();
+
+        try {
+            new BatchStopCommand(List.of(this.name1, this.name2)).execute(this.coordinator);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(1, e.getSuppressed().length);
+            Assert.assertSame(failure, e.getSuppressed()[0].getCause());
+        }
+
+        verify(this.singleton2).stop();
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.msc.service.ServiceName;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.group.Group;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.singleton.SingletonElectionPolicy;
+
+/**
+ * Validates the batching of singleton elections, and the consistency of the primary providers recorded by each member, across the members of an in-memory group.
+ */
+public class SingletonElectionCoordinatorTestCase {
+    private static final int SERVICES = 20;
+
+    @Test
+    public void test() throws Exception {
+        try (TestGroup group = new TestGroup(3)) {
+            List<Node> members = group.getMembers();
+            Node local = members.get(0);
+            SingletonElectionCoordinator coordinator = group.getCoordinator(local);
+            // Holds the elections requested by a group membership change until all were requested
+            AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+            TestSingleton gate = new TestSingleton(ServiceName.JBOSS.append("gate"), candidates -> {
+                try {
+                    latch.get().await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return candidates.get(0);
+            });
+            group.register(local, gate);
+
+            this.elect(coordinator, gate, latch, group.getSingletons(local), new ArrayList<>(members));
+            this.validate(group, members);
+
+            // Simulate the departure of a member
+            Node departed = members.remove(members.size() - 1);
+            group.getCommands().clear();
+            this.elect(coordinator, gate, latch, group.getSingletons(local), new ArrayList<>(members));
+            this.validate(group, members);
+            Assert.assertFalse(group.getCommands().containsKey(departed));
+        }
+    }
+
+    private void elect(SingletonElectionCoordinator coordinator, TestSingleton gate, AtomicReference<CountDownLatch> gateLatch, List<TestSingleton> singletons, List<Node> candidates) {
+        CountDownLatch latch = new CountDownLatch(1);
+        gateLatch.set(latch);
+        List<CompletionStage<Void>> stages = new ArrayList<>(SERVICES + 1);
+        stages.add(coordinator.elect(gate, candidates));
+        for (TestSingleton singleton : singletons) {
+            stages.add(coordinator.elect(singleton, candidates));
+        }
+        latch.countDown();
+        for (CompletionStage<Void> stage : stages) {
+            stage.toCompletableFuture().join();
+        }
+    }
+
+    private void validate(TestGroup group, List<Node> members) {
+        this.validateConsistency(group, members);
+        for (Node member : members) {
+            Map<Class<?>, AtomicInteger> received = group.getCommands().get(member);
+            // At most one command of each type per member for the gate, and one for all other singletons
+            for (Class<?> commandClass : List.of(BatchStopCommand.class, BatchStartCommand.class, BatchElectionCommand.class)) {
+                AtomicInteger count = received.get(commandClass);
+                Assert.assertTrue(commandClass.getSimpleName(), (count != null) && (count.get() <= 2));
+            }
+            Assert.assertEquals(3, received.size());
+        }
+    }
+
+    @Test
+    public void partition() throws Exception {
+        try (TestGroup group = new TestGroup(4)) {
+            List<Node> members = List.copyOf(group.getMembers());
+            this.elect(group, members);
+            this.validateConsistency(group, members);
+
+            // Split the group into two partitions
+            List<List<Node>> partitions = List.of(members.subList(0, 2), members.subList(2, 4));
+            for (List<Node> partition : partitions) {
+                for (Node member : partition) {
+                    group.setView(member, partition);
+                }
+            }
+            // Primary providers elected in the other partition are no longer valid
+            for (List<Node> partition : partitions) {
+                Set<Node> providers = Set.copyOf(partition);
+                for (Node member : partition) {
+                    for (TestSingleton singleton : group.getSingletons(member)) {
+                        Node primary = group.getCoordinator(member).getPrimaryProvider(singleton.getServiceName(), providers);
+                        Assert.assertTrue((primary == null) || partition.contains(primary));
+                    }
+                }
+            }
+            for (List<Node> partition : partitions) {
+                this.elect(group, partition);
+            }
+            for (List<Node> partition : partitions) {
+                this.validateConsistency(group, partition);
+            }
+
+            // Merge the partitions
+            for (Node member : members) {
+                group.setView(member, members);
+            }
+            this.elect(group, members);
+            this.validateConsistency(group, members);
+        }
+    }
+
+    private void elect(TestGroup group, List<Node> members) {
+        // Elections are run by the first candidate
+        Node local = members.get(0);
+        SingletonElectionCoordinator coordinator = group.getCoordinator(local);
+        List<CompletionStage<Void>> stages = new ArrayList<>(SERVICES);
+        for (TestSingleton singleton : group.getSingletons(local)) {
+            stages.add(coordinator.elect(singleton, members));
+        }
+        for (CompletionStage<Void> stage : stages) {
+            stage.toCompletableFuture().join();
+        }
+    }
+
+    private void validateConsistency(TestGroup group, List<Node> members) {
+        Set<Node> providers = Set.copyOf(members);
+        for (int i = 0; i < SERVICES; ++i) {
+            Node expected = members.get(i % members.size());
+            for (Node member : members) {
+                TestSingleton singleton = group.getSingletons(member).get(i);
+                // Each singleton is started on its elected primary provider only
+                Assert.assertEquals(member.equals(expected), singleton.isStarted());
+                Assert.assertSame(expected, singleton.getElected());
+                Assert.assertNotNull(singleton.getLatency());
+                // Every member agrees on the primary provider
+                Assert.assertSame(expected, group.getCoordinator(member).getPrimaryProvider(singleton.getServiceName(), providers));
+            }
+        }
+    }
+
+    private static class TestSingleton implements DistributedSingleton {
+        private final ServiceName name;
+        private final SingletonElectionPolicy policy;
+        private volatile boolean started = false;
+        private volatile Node elected;
+        private volatile Duration latency;
+
+        TestSingleton(ServiceName name, SingletonElectionPolicy policy) {
+            this.name = name;
+            this.policy = policy;
+        }
+
+        boolean isStarted() {
+            return this.started;
+        }
+
+        Node getElected() {
+            return this.elected;
+        }
+
+        Duration getLatency() {
+            return this.latency;
+        }
+
+        @Override
+        public void start() {
+            this.started = true;
+        }
+
+        @Override
+        public void stop() {
+            this.started = false;
+        }
+
+        @Override
+        public ServiceName getServiceName() {
+            return this.name;
+        }
+
+        @Override
+        public SingletonElectionPolicy getElectionPolicy() {
+            return this.policy;
+        }
+
+        @Override
+        public int getQuorum() {
+            return 1;
+        }
+
+        @Override
+        public CommandDispatcher<? extends SingletonContext> getCommandDispatcher() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean hasElectionListener() {
+            return false;
+        }
+
+        @Override
+        public void elected(List<Node> candidates, Node elected, Duration latency) {
+            this.elected = elected;
+            this.latency = latency;
+        }
+    }
+
+    /**
+     * An in-memory group, in which every member registers the same singletons.
+     * Each member has its own view of the group membership, which may differ from that of other members during a partition.
+     */
+    private static class TestGroup implements AutoCloseable {
+        private final List<Node> members = new CopyOnWriteArrayList<>();
+        private final Map<Node, List<Node>> views = new ConcurrentHashMap<>();
+        private final Map<Node, SingletonElectionCoordinator> coordinators = new ConcurrentHashMap<>();
+        private final Map<Node, Map<Class<?>, AtomicInteger>> commands = new ConcurrentHashMap<>();
+        private final Map<Node, TestCommandDispatcherFactory> factories = new ConcurrentHashMap<>();
+        private final Map<Node, List<TestSingleton>> singletons = new ConcurrentHashMap<>();
+        private final List<Runnable> unregistrations = new ArrayList<>();
+
+        TestGroup(int size) {
+            for (int i = 0; i < size; ++i) {
+                Node member = mock(Node.class);
+                when(member.getName()).thenReturn("member" + i);
+                this.members.add(member);
+            }
+            for (Node member : this.members) {
+                this.views.put(member, this.members);
+                this.factories.put(member, new TestCommandDispatcherFactory(member, this.views, this.coordinators, this.commands));
+                List<TestSingleton> memberSingletons = new ArrayList<>(SERVICES);
+                for (int i = 0; i < SERVICES; ++i) {
+                    int index = i;
+                    TestSingleton singleton = new TestSingleton(ServiceName.JBOSS.append("singleton", String.valueOf(i)), candidates -> candidates.get(index % candidates.size()));
+                    memberSingletons.add(singleton);
+                    this.register(member, singleton);
+                }
+                this.singletons.put(member, memberSingletons);
+            }
+        }
+
+        void register(Node member, TestSingleton singleton) {
+            SingletonElectionCoordinator coordinator = SingletonElectionCoordinator.register(this.factories.get(member), singleton);
+            this.unregistrations.add(() -> coordinator.unregister(singleton));
+        }
+
+        List<Node> getMembers() {
+            return this.members;
+        }
+
+        void setView(Node member, List<Node> view) {
+            this.views.put(member, view);
+        }
+
+        SingletonElectionCoordinator getCoordinator(Node member) {
+            return this.coordinators.get(member);
+        }
+
+        List<TestSingleton> getSingletons(Node member) {
+            return this.singletons.get(member);
+        }
+
+        Map<Node, Map<Class<?>, AtomicInteger>> getCommands() {
+            return this.commands;
+        }
+
+        @Override
+        public void close() {
+            this.unregistrations.forEach(Runnable::run);
+            // Last unregistration closes the coordinator of each member
+            Assert.assertTrue(this.coordinators.isEmpty());
+        }
+    }
+
+    /**
+     * A command dispatcher factory of an in-memory group, which executes commands synchronously, counting the commands received by each member.
+     * Commands sent to a member outside of the view of the sender complete with a {@link java.util.concurrent.CancellationException}.
+     */
+    private static class TestCommandDispatcherFactory implements CommandDispatcherFactory {
+        private final Node local;
+        private final Map<Node, List<Node>> views;
+        private final Map<Node, SingletonElectionCoordinator> coordinators;
+        private final Map<Node, Map<Class<?>, AtomicInteger>> commands;
+        private final Group group = mock(Group.class);
+
+        TestCommandDispatcherFactory(Node local, Map<Node, List<Node>> views, Map<Node, SingletonElectionCoordinator> coordinators, Map<Node, Map<Class<?>, AtomicInteger>> commands) {
+            this.local = local;
+            this.views = views;
+            this.coordinators = coordinators;
+            this.commands = commands;
+            Membership membership = mock(Membership.class);
+            when(this.group.getLocalMember()).thenReturn(local);
+            when(this.group.getMembership()).thenReturn(membership);
+            when(membership.getMembers()).then(invocation -> new ArrayList<>(views.get(local)));
+        }
+
+        @Override
+        public Group getGroup() {
+            return this.group;
+        }
+
+        @Override
+        public <C> CommandDispatcher<C> createCommandDispatcher(Object id, C context, ClassLoader loader) {
+            Assert.assertEquals(SingletonElectionCoordinator.DISPATCHER_ID, id);
+            this.coordinators.put(this.local, (SingletonElectionCoordinator) context);
+            Node local = this.local;
+            Map<Node, List<Node>> views = this.views;
+            Map<Node, SingletonElectionCoordinator> coordinators = this.coordinators;
+            Map<Node, Map<Class<?>, AtomicInteger>> commands = this.commands;
+            return new CommandDispatcher<>() {
+                @Override
+                public C getContext() {
+                    return context;
+                }
+
+                @SuppressWarnings("unchecked")
+                @Override
+                public <R> CompletionStage<R> executeOnMember(Command<R, ? super C> command, Node member) {
+                    CompletableFuture<R> result = new CompletableFuture<>();
+                    SingletonElectionCoordinator target = views.get(local).contains(member) ? coordinators.get(member) : null;
+                    if (target == null) {
+                        result.cancel(false);
+                        return result;
+                    }
+                    commands.computeIfAbsent(member, key -> new ConcurrentHashMap<>()).computeIfAbsent(command.getClass(), key -> new AtomicInteger()).incrementAndGet();
+                    try {
+                        result.complete(command.execute((C) target));
+                    } catch (Exception e) {
+                        result.completeExceptionally(e);
+                    }
+                    return result;
+                }
+
+                @Override
+                public <R> Map<Node, CompletionStage<R>> executeOnGroup(Command<R, ? super C> command, Node... excludedMembers) {
+                    Map<Node, CompletionStage<R>> results = new ConcurrentHashMap<>();
+                    for (Node member : views.get(local)) {
+                        if (!List.of(excludedMembers).contains(member)) {
+                            results.put(member, this.executeOnMember(command, member));
+                        }
+                    }
+                    return results;
+                }
+
+                @Override
+                public void close() {
+                    coordinators.remove(local);
+                }
+            };
+        }
+    }
+}
@@ -8,22 +8,29 @@ package org.jboss.as.connector.services.workmanager.statistics;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 import org.jboss.as.connector.dynamicresource.ClearWorkManagerStatisticsHandler;
+import org.jboss.as.connector.services.workmanager.transport.CommandDispatcherTransport;
 import org.jboss.as.connector.subsystems.resourceadapters.CommonAttributes;
 import org.jboss.as.connector.subsystems.resourceadapters.Constants;
 import org.jboss.as.connector.subsystems.resourceadapters.WorkManagerRuntimeAttributeReadHandler;
 import org.jboss.as.connector.subsystems.resourceadapters.WorkManagerRuntimeAttributeWriteHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ResourceBuilder;
 import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.descriptions.OverrideDescriptionProvider;
 import org.jboss.as.controller.descriptions.StandardResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.workmanager.DistributedWorkManagerImpl;
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
@@ -33,6 +40,12 @@ import org.jboss.msc.value.InjectedValue;
 
 public class DistributedWorkManagerStatisticsService implements Service<ManagementResourceRegistration> {
 
+    // Throughput of the transport of the distributed work manager
+    static final SimpleAttributeDefinition TRANSPORT_REQUESTS = createTransportMetric("transport-requests");
+    static final SimpleAttributeDefinition TRANSPORT_COMMANDS = createTransportMetric("transport-commands");
+    static final SimpleAttributeDefinition TRANSPORT_COALESCED_REQUESTS = createTransportMetric("transport-coalesced-requests");
+    static final SimpleAttributeDefinition TRANSPORT_CAPACITY_CACHE_HITS = createTransportMetric("transport-capacity-cache-hits");
+
     private final ManagementResourceRegistration overrideRegistration;
     private final boolean statsEnabled;
 
@@ -96,6 +109,15 @@ public class DistributedWorkManagerStatisticsService implements Service<Manageme
 
                 dwmSubRegistration.registerOperationHandler(ClearWorkManagerStatisticsHandler.DEFINITION, new ClearWorkManagerStatisticsHandler(dwm));
 
+                Object transport = (dwm instanceof DistributedWorkManagerImpl) ? ((DistributedWorkManagerImpl) dwm).getTransport() : null;
+                if (transport instanceof CommandDispatcherTransport) {
+                    CommandDispatcherTransport dispatcherTransport = (CommandDispatcherTransport) transport;
+                    dwmSubRegistration.registerMetric(TRANSPORT_REQUESTS, new TransportMetricHandler(dispatcherTransport::getRequestCount));
+                    dwmSubRegistration.registerMetric(TRANSPORT_COMMANDS, new TransportMetricHandler(dispatcherTransport::getCommandCount));
+                    dwmSubRegistration.registerMetric(TRANSPORT_COALESCED_REQUESTS, new TransportMetricHandler(dispatcherTransport::getCoalescedRequestCount));
+                    dwmSubRegistration.registerMetric(TRANSPORT_CAPACITY_CACHE_HITS, new TransportMetricHandler(dispatcherTransport::getCapacityCacheHitCount));
+                }
+
             }
         }
     }
@@ -120,4 +142,26 @@ public class DistributedWorkManagerStatisticsService implements Service<Manageme
     public Injector<DistributedWorkManager> getDistributedWorkManagerInjector() {
         return distributedWorkManager;
     }
+
+    private static SimpleAttributeDefinition createTransportMetric(String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setStorageRuntime()
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .build();
+    }
+
+    private static class TransportMetricHandler implements OperationStepHandler {
+        private final LongSupplier metric;
+
+        TransportMetricHandler(LongSupplier metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.isNormalServer()) {
+                context.addStep((ctx, op) -> ctx.getResult().set(this.metric.getAsLong()), OperationContext.Stage.RUNTIME);
+            }
+        }
+    }
 }
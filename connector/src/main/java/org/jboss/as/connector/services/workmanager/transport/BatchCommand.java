@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.List;
+
+import jakarta.resource.spi.work.WorkException;
+
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * Executes a batch of commands, coalesced by the sending {@link CommandDispatcherTransport}, within a single cluster command.
+ * The failure of a command does not prevent the execution of the subsequent commands of the batch.
+ * Sent via a command dispatcher dedicated to batches, and only to members known to support it, see {@link CommandBatchSender}.
+ * Deliberately absent from {@link CommandDispatcherTransportClassTableContributor}, whose class indexes must remain stable across versions, thus marshalled by class name.
+ */
+public class BatchCommand implements Command<WorkException[], CommandDispatcherTransport> {
+    private static final long serialVersionUID = 3181512357785236553L;
+
+    private final List<Command<Void, CommandDispatcherTransport>> commands;
+
+    public BatchCommand(List<Command<Void, CommandDispatcherTransport>> commands) {
+        this.commands = commands;
+    }
+
+    /**
+     * Returns the failures of the commands of this batch.
+     * @return an array of failures, indexed by command, whose elements are null for commands that executed successfully
+     */
+    @Override
+    public WorkException[] execute(CommandDispatcherTransport transport) {
+        WorkException[] exceptions = new WorkException[this.commands.size()];
+        int index = 0;
+        for (Command<Void, CommandDispatcherTransport> command : this.commands) {
+            try {
+                command.execute(transport);
+            } catch (WorkException e) {
+                exceptions[index] = e;
+            } catch (Exception e) {
+                exceptions[index] = new WorkException(e);
+            }
+            index++;
+        }
+        return exceptions;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.jboss.as.connector.logging.ConnectorLogger;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * The locally cached capacity of a remote work manager.
+ */
+class Capacity {
+    // Duration after which a cached capacity of a remote work manager is refreshed
+    static final long REFRESH_INTERVAL = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final Node member;
+    private final LongSupplier nanoTime;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile long free;
+    private volatile long timestamp;
+
+    Capacity(Node member, long free) {
+        this(member, free, System::nanoTime);
+    }
+
+    Capacity(Node member, long free, LongSupplier nanoTime) {
+        this.member = member;
+        this.nanoTime = nanoTime;
+        this.free = free;
+        this.timestamp = nanoTime.getAsLong();
+    }
+
+    Node getMember() {
+        return this.member;
+    }
+
+    long getFree() {
+        return this.free;
+    }
+
+    boolean isStale() {
+        return this.nanoTime.getAsLong() - this.timestamp > REFRESH_INTERVAL;
+    }
+
+    boolean startRefresh() {
+        return this.refreshing.compareAndSet(false, true);
+    }
+
+    void refreshed(Object free, Throwable exception) {
+        if ((exception == null) && (free != null)) {
+            this.free = (Long) free;
+            this.timestamp = this.nanoTime.getAsLong();
+        } else if (exception != null) {
+            ConnectorLogger.ROOT_LOGGER.debug(exception.getLocalizedMessage(), exception);
+        }
+        this.refreshing.set(false);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.resource.spi.work.WorkException;
+
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.common.function.ExceptionFunction;
+
+/**
+ * Coalesces the requests to a given member.
+ * A request is sent immediately if no batch is in flight to its member,
+ * otherwise it is queued, and the queued requests are sent as a single batch as soon as the batch in flight completes.
+ * Thus requests are only delayed while the member is busy responding to previous requests.
+ */
+class CommandBatch {
+    private final ExceptionFunction<List<Command<Void, CommandDispatcherTransport>>, CompletionStage<WorkException[]>, CommandDispatcherException> sender;
+    private final LongAdder coalescedRequests;
+    // Guarded by this
+    private List<Map.Entry<Command<Void, CommandDispatcherTransport>, CompletableFuture<Void>>> pending = new ArrayList<>();
+    private boolean inFlight = false;
+
+    /**
+     * Creates a batch of requests.
+     * @param sender sends a batch of commands to the member, returning the exceptions of the respective commands
+     * @param coalescedRequests counts the requests queued behind a batch in flight
+     */
+    CommandBatch(ExceptionFunction<List<Command<Void, CommandDispatcherTransport>>, CompletionStage<WorkException[]>, CommandDispatcherException> sender, LongAdder coalescedRequests) {
+        this.sender = sender;
+        this.coalescedRequests = coalescedRequests;
+    }
+
+    CompletionStage<Void> submit(Command<Void, CommandDispatcherTransport> command) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        boolean send = false;
+        synchronized (this) {
+            this.pending.add(new AbstractMap.SimpleImmutableEntry<>(command, future));
+            if (!this.inFlight) {
+                this.inFlight = true;
+                send = true;
+            } else {
+                this.coalescedRequests.increment();
+            }
+        }
+        if (send) {
+            this.flush();
+        }
+        return future;
+    }
+
+    private void flush() {
+        List<Map.Entry<Command<Void, CommandDispatcherTransport>, CompletableFuture<Void>>> batch;
+        synchronized (this) {
+            batch = this.pending;
+            if (batch.isEmpty()) {
+                this.inFlight = false;
+                return;
+            }
+            this.pending = new ArrayList<>();
+        }
+        List<Command<Void, CommandDispatcherTransport>> commands = new ArrayList<>(batch.size());
+        for (Map.Entry<Command<Void, CommandDispatcherTransport>, CompletableFuture<Void>> entry : batch) {
+            commands.add(entry.getKey());
+        }
+        try {
+            this.sender.apply(commands).whenComplete((exceptions, exception) -> {
+                complete(batch, exceptions, exception);
+                this.flush();
+            });
+        } catch (CommandDispatcherException | RuntimeException e) {
+            complete(batch, null, e);
+            this.flush();
+        }
+    }
+
+    private static void complete(List<Map.Entry<Command<Void, CommandDispatcherTransport>, CompletableFuture<Void>>> batch, WorkException[] exceptions, Throwable exception) {
+        // Propagate the cause of a failed stage, so that e.g. a cancellation, i.e. the member left, is still recognizable as such
+        Throwable cause = ((exception instanceof CompletionException) && (exception.getCause() != null)) ? exception.getCause() : exception;
+        int index = 0;
+        for (Map.Entry<Command<Void, CommandDispatcherTransport>, CompletableFuture<Void>> entry : batch) {
+            CompletableFuture<Void> future = entry.getValue();
+            if (cause != null) {
+                future.completeExceptionally(cause);
+            } else if ((exceptions != null) && (exceptions[index] != null)) {
+                future.completeExceptionally(exceptions[index]);
+            } else {
+                future.complete(null);
+            }
+            index++;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.resource.spi.work.WorkException;
+
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.common.function.ExceptionFunction;
+
+/**
+ * Sends the batches of requests of a {@link CommandBatch} to a given member.
+ * A batch of a single request is sent as its original command.
+ * A batch of multiple requests is sent as a single {@link BatchCommand} only if the member is known to support it,
+ * i.e. if it responded to an empty {@link BatchCommand} sent via the command dispatcher dedicated to batches,
+ * which a member running a previous version does not register, and thus cancels.
+ * Otherwise, the requests of the batch are sent as their original commands.
+ */
+class CommandBatchSender implements ExceptionFunction<List<Command<Void, CommandDispatcherTransport>>, CompletionStage<WorkException[]>, CommandDispatcherException> {
+    private final ExceptionFunction<Command<Void, CommandDispatcherTransport>, CompletionStage<Void>, CommandDispatcherException> commandExecutor;
+    private final ExceptionFunction<BatchCommand, CompletionStage<WorkException[]>, CommandDispatcherException> batchExecutor;
+    private volatile CompletableFuture<Boolean> batchSupported;
+
+    /**
+     * Creates a sender of batches of requests to a member.
+     * @param commandExecutor executes a command on the member, via the command dispatcher of the transport
+     * @param batchExecutor executes a batch command on the member, via the command dispatcher dedicated to batches
+     */
+    CommandBatchSender(ExceptionFunction<Command<Void, CommandDispatcherTransport>, CompletionStage<Void>, CommandDispatcherException> commandExecutor, ExceptionFunction<BatchCommand, CompletionStage<WorkException[]>, CommandDispatcherException> batchExecutor) {
+        this.commandExecutor = commandExecutor;
+        this.batchExecutor = batchExecutor;
+    }
+
+    @Override
+    public CompletionStage<WorkException[]> apply(List<Command<Void, CommandDispatcherTransport>> commands) throws CommandDispatcherException {
+        if ((commands.size() > 1) && this.isBatchSupported()) {
+            return this.batchExecutor.apply(new BatchCommand(commands));
+        }
+        return this.executeEach(commands);
+    }
+
+    /**
+     * Indicates whether the member is known to support batch commands.
+     * The first invocation probes the member asynchronously, thus reports no support until the probe completes.
+     */
+    private boolean isBatchSupported() throws CommandDispatcherException {
+        CompletableFuture<Boolean> supported = this.batchSupported;
+        if (supported == null) {
+            supported = this.batchExecutor.apply(new BatchCommand(List.of())).handle((exceptions, exception) -> exception == null).toCompletableFuture();
+            this.batchSupported = supported;
+        }
+        return supported.getNow(Boolean.FALSE);
+    }
+
+    private CompletionStage<WorkException[]> executeEach(List<Command<Void, CommandDispatcherTransport>> commands) throws CommandDispatcherException {
+        WorkException[] exceptions = new WorkException[commands.size()];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[commands.size()];
+        for (int i = 0; i < commands.size(); ++i) {
+            int index = i;
+            futures[i] = this.commandExecutor.apply(commands.get(i)).toCompletableFuture().exceptionally(exception -> {
+                Throwable cause = ((exception instanceof CompletionException) && (exception.getCause() != null)) ? exception.getCause() : exception;
+                if (cause instanceof CancellationException) {
+                    // The member left, which fails the batch as a whole
+                    throw (CancellationException) cause;
+                }
+                exceptions[index] = (cause instanceof WorkException) ? (WorkException) cause : new WorkException(cause);
+                return null;
+            });
+        }
+        return CompletableFuture.allOf(futures).thenApply(result -> exceptions);
+    }
+}
@@ -14,6 +14,8 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.resource.spi.work.DistributableWork;
 import jakarta.resource.spi.work.WorkException;
@@ -44,11 +46,25 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  */
 public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> implements GroupListener {
 
+    private static final String BATCH_DISPATCHER_SUFFIX = "/batch";
+
     private final ServiceExecutor executor = new StampedLockServiceExecutor();
     private final CommandDispatcherFactory dispatcherFactory;
     private final String name;
 
+    // Pending batches of requests, per member
+    private final Map<Node, CommandBatch> batches = new ConcurrentHashMap<>();
+    // Cached capacities of remote work managers
+    private final Map<Address, Capacity> shortRunningFree = new ConcurrentHashMap<>();
+    private final Map<Address, Capacity> longRunningFree = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder coalescedRequests = new LongAdder();
+    private final LongAdder capacityCacheHits = new LongAdder();
+
     private volatile CommandDispatcher<CommandDispatcherTransport> dispatcher;
+    // Dedicated to batch commands, which members running a previous version do not support
+    private volatile CommandDispatcher<CommandDispatcherTransport> batchDispatcher;
     private volatile Registration groupListenerRegistration;
     private volatile boolean initialized = false;
 
@@ -64,6 +80,8 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
 
     @Override
     public void startup() throws Exception {
+        // Created first, so that any member reachable via the transport's dispatcher is also reachable via its batch dispatcher
+        this.batchDispatcher = this.dispatcherFactory.createCommandDispatcher(this.name + BATCH_DISPATCHER_SUFFIX, this, WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
         this.dispatcher = this.dispatcherFactory.createCommandDispatcher(this.name, this, WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
         this.groupListenerRegistration = this.dispatcherFactory.getGroup().register(this);
         this.broadcast(new JoinCommand());
@@ -79,6 +97,7 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
             } finally {
                 this.groupListenerRegistration.close();
                 this.dispatcher.close();
+                this.batchDispatcher.close();
             }
         });
     }
@@ -100,17 +119,43 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
 
     @Override
     protected Serializable sendMessage(Node physicalAddress, Request request, Serializable... parameters) throws WorkException {
+        this.requests.increment();
+        switch (request) {
+            case GET_SHORTRUNNING_FREE: {
+                return this.getCapacity(this.shortRunningFree, physicalAddress, request, parameters);
+            }
+            case GET_LONGRUNNING_FREE: {
+                return this.getCapacity(this.longRunningFree, physicalAddress, request, parameters);
+            }
+            default: {
+                return this.send(physicalAddress, request, parameters);
+            }
+        }
+    }
+
+    private Serializable send(Node physicalAddress, Request request, Serializable... parameters) throws WorkException {
         Command<?, CommandDispatcherTransport> command = createCommand(request, parameters);
         CommandDispatcher<CommandDispatcherTransport> dispatcher = this.dispatcher;
+        boolean batchable = isBatchable(request);
         ExceptionSupplier<Optional<Serializable>, WorkException> task = new ExceptionSupplier<>() {
+            @SuppressWarnings("unchecked")
             @Override
             public Optional<Serializable> get() throws WorkException {
                 try {
-                    CompletionStage<?> response = dispatcher.executeOnMember(command, physicalAddress);
+                    CompletionStage<?> response = batchable ? CommandDispatcherTransport.this.batches.computeIfAbsent(physicalAddress, CommandDispatcherTransport.this::createBatch).submit((Command<Void, CommandDispatcherTransport>) command) : CommandDispatcherTransport.this.execute(dispatcher, command, physicalAddress);
                     return Optional.ofNullable((Serializable) response.toCompletableFuture().join());
                 } catch (CancellationException e) {
                     return Optional.empty();
-                } catch (CommandDispatcherException | CompletionException e) {
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof CancellationException) {
+                        // The member left
+                        return Optional.empty();
+                    }
+                    if (e.getCause() instanceof WorkException) {
+                        throw (WorkException) e.getCause();
+                    }
+                    throw new WorkException(e);
+                } catch (CommandDispatcherException e) {
                     throw new WorkException(e);
                 }
             }
@@ -119,6 +164,103 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
         return val != null ? val.orElse(null) : null;
     }
 
+    private <R> CompletionStage<R> execute(CommandDispatcher<CommandDispatcherTransport> dispatcher, Command<R, CommandDispatcherTransport> command, Node member) throws CommandDispatcherException {
+        this.commands.increment();
+        return dispatcher.executeOnMember(command, member);
+    }
+
+    private CommandBatch createBatch(Node member) {
+        return new CommandBatch(new CommandBatchSender(command -> this.execute(this.dispatcher, command, member), command -> this.execute(this.batchDispatcher, command, member)), this.coalescedRequests);
+    }
+
+    /**
+     * Indicates whether the specified request can be coalesced with other requests to the same member, i.e. whether its command has no result,
+     * and its execution is short.
+     * {@link Request#DO_WORK} and {@link Request#START_WORK} are not batched, since their execution spans the execution, or the start, of their work.
+     */
+    private static boolean isBatchable(Request request) {
+        switch (request) {
+            case SCHEDULE_WORK:
+            case DELTA_DOWORK_ACCEPTED:
+            case DELTA_DOWORK_REJECTED:
+            case DELTA_SCHEDULEWORK_ACCEPTED:
+            case DELTA_SCHEDULEWORK_REJECTED:
+            case DELTA_STARTWORK_ACCEPTED:
+            case DELTA_STARTWORK_REJECTED:
+            case DELTA_WORK_FAILED:
+            case DELTA_WORK_SUCCESSFUL:
+            case UPDATE_LONGRUNNING_FREE:
+            case UPDATE_SHORTRUNNING_FREE: {
+                return true;
+            }
+            default: {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the short-running or long-running capacity of a remote work manager from the local cache.
+     * A missing capacity is fetched synchronously, while a stale capacity is returned as is, and refreshed asynchronously.
+     */
+    private Serializable getCapacity(Map<Address, Capacity> capacities, Node physicalAddress, Request request, Serializable... parameters) throws WorkException {
+        Address address = (Address) parameters[0];
+        Capacity capacity = capacities.get(address);
+        if (capacity == null) {
+            Long free = (Long) this.send(physicalAddress, request, parameters);
+            if (free != null) {
+                capacities.put(address, new Capacity(physicalAddress, free));
+            }
+            return free;
+        }
+        this.capacityCacheHits.increment();
+        if (capacity.isStale() && capacity.startRefresh()) {
+            CommandDispatcher<CommandDispatcherTransport> dispatcher = this.dispatcher;
+            Command<?, CommandDispatcherTransport> command = createCommand(request, parameters);
+            Runnable task = () -> {
+                try {
+                    this.execute(dispatcher, command, physicalAddress).whenComplete(capacity::refreshed);
+                } catch (CommandDispatcherException e) {
+                    capacity.refreshed(null, e);
+                }
+            };
+            this.executor.execute(task);
+        }
+        return capacity.getFree();
+    }
+
+    /**
+     * Returns the number of requests sent to remote work managers.
+     * @return a number of requests
+     */
+    public long getRequestCount() {
+        return this.requests.sum();
+    }
+
+    /**
+     * Returns the number of cluster commands sent to remote work managers, where a batch of coalesced requests is sent as a single command to members that support it.
+     * @return a number of cluster commands
+     */
+    public long getCommandCount() {
+        return this.commands.sum();
+    }
+
+    /**
+     * Returns the number of requests that were coalesced into the batch of another request.
+     * @return a number of requests
+     */
+    public long getCoalescedRequestCount() {
+        return this.coalescedRequests.sum();
+    }
+
+    /**
+     * Returns the number of requests for the capacity of a remote work manager that were served by the local cache.
+     * @return a number of requests
+     */
+    public long getCapacityCacheHitCount() {
+        return this.capacityCacheHits.sum();
+    }
+
     private void broadcast(Command<Void, CommandDispatcherTransport> command) throws WorkException {
         CommandDispatcher<CommandDispatcherTransport> dispatcher = this.dispatcher;
         ExceptionRunnable<WorkException> task = new ExceptionRunnable<>() {
@@ -220,7 +362,10 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
             // Handle abrupt leavers
             for (Node leaver : leavers) {
                 this.leave(leaver);
+                this.batches.remove(leaver);
             }
+            this.shortRunningFree.values().removeIf(capacity -> leavers.contains(capacity.getMember()));
+            this.longRunningFree.values().removeIf(capacity -> leavers.contains(capacity.getMember()));
 
             if (merged) {
                 this.join(membership);
@@ -0,0 +1,54 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.resource.spi.work.WorkException;
+
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * Unit test for {@link BatchCommand}.
+ */
+public class BatchCommandTestCase {
+
+    @Test
+    public void test() {
+        AtomicInteger executed = new AtomicInteger();
+        WorkException rejected = new WorkException("rejected");
+        IllegalStateException failed = new IllegalStateException("failed");
+        Command<Void, CommandDispatcherTransport> success = transport -> {
+            executed.incrementAndGet();
+            return null;
+        };
+        Command<Void, CommandDispatcherTransport> rejection = transport -> {
+            executed.incrementAndGet();
+            throw rejected;
+        };
+        Command<Void, CommandDispatcherTransport> failure = transport -> {
+            executed.incrementAndGet();
+            throw failed;
+        };
+
+        WorkException[] result = new BatchCommand(List.of(success, rejection, success, failure, success)).execute(null);
+
+        // A failed command does not prevent the execution of the subsequent commands of the batch
+        assertEquals(5, executed.get());
+        assertEquals(5, result.length);
+        assertNull(result[0]);
+        assertSame(rejected, result[1]);
+        assertNull(result[2]);
+        assertSame(failed, result[3].getCause());
+        assertNull(result[4]);
+    }
+}
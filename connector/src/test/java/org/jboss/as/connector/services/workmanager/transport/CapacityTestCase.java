@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Capacity}.
+ */
+public class CapacityTestCase {
+
+    private final AtomicLong time = new AtomicLong(1000L);
+    private final Capacity capacity = new Capacity(null, 10L, this.time::get);
+
+    @Test
+    public void staleness() {
+        assertFalse(this.capacity.isStale());
+
+        this.time.addAndGet(Capacity.REFRESH_INTERVAL);
+        assertFalse(this.capacity.isStale());
+
+        this.time.incrementAndGet();
+        assertTrue(this.capacity.isStale());
+        assertEquals(10L, this.capacity.getFree());
+    }
+
+    @Test
+    public void refresh() {
+        this.time.addAndGet(Capacity.REFRESH_INTERVAL + 1);
+        assertTrue(this.capacity.isStale());
+
+        // Only a single refresh at a time
+        assertTrue(this.capacity.startRefresh());
+        assertFalse(this.capacity.startRefresh());
+
+        this.capacity.refreshed(5L, null);
+        assertEquals(5L, this.capacity.getFree());
+        assertFalse(this.capacity.isStale());
+
+        // A subsequent refresh may start once the previous refresh completed
+        assertTrue(this.capacity.startRefresh());
+    }
+
+    @Test
+    public void failedRefresh() {
+        this.time.addAndGet(Capacity.REFRESH_INTERVAL + 1);
+        assertTrue(this.capacity.startRefresh());
+
+        // A failed refresh retains the cached capacity, which remains stale
+        this.capacity.refreshed(null, new IllegalStateException());
+        assertEquals(10L, this.capacity.getFree());
+        assertTrue(this.capacity.isStale());
+        assertTrue(this.capacity.startRefresh());
+
+        // As does a refresh whose member left
+        this.capacity.refreshed(null, null);
+        assertEquals(10L, this.capacity.getFree());
+        assertTrue(this.capacity.isStale());
+    }
+}
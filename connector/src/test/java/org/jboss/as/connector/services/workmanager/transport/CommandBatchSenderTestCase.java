@@ -0,0 +1,140 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.resource.spi.work.WorkException;
+
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * Unit test for {@link CommandBatchSender}.
+ */
+public class CommandBatchSenderTestCase {
+
+    private final List<Command<Void, CommandDispatcherTransport>> commands = new ArrayList<>();
+    private final List<CompletableFuture<Void>> commandResponses = new ArrayList<>();
+    private final List<BatchCommand> batches = new ArrayList<>();
+    private final List<CompletableFuture<WorkException[]>> batchResponses = new ArrayList<>();
+    private final CommandBatchSender sender = new CommandBatchSender(this::execute, this::executeBatch);
+
+    private final Command<Void, CommandDispatcherTransport> command1 = transport -> null;
+    private final Command<Void, CommandDispatcherTransport> command2 = transport -> null;
+
+    private CompletionStage<Void> execute(Command<Void, CommandDispatcherTransport> command) {
+        CompletableFuture<Void> response = new CompletableFuture<>();
+        this.commands.add(command);
+        this.commandResponses.add(response);
+        return response;
+    }
+
+    private CompletionStage<WorkException[]> executeBatch(BatchCommand command) {
+        CompletableFuture<WorkException[]> response = new CompletableFuture<>();
+        this.batches.add(command);
+        this.batchResponses.add(response);
+        return response;
+    }
+
+    @Test
+    public void single() throws Exception {
+        CompletableFuture<WorkException[]> response = this.sender.apply(List.of(this.command1)).toCompletableFuture();
+
+        // A single request is sent as its original command, without probing the member
+        assertEquals(List.of(this.command1), this.commands);
+        assertTrue(this.batches.isEmpty());
+
+        this.commandResponses.get(0).complete(null);
+        assertArrayEquals(new WorkException[1], response.join());
+    }
+
+    @Test
+    public void supported() throws Exception {
+        CompletableFuture<WorkException[]> response = this.sender.apply(List.of(this.command1, this.command2)).toCompletableFuture();
+
+        // The member is probed, but is not yet known to support batches
+        assertEquals(1, this.batches.size());
+        assertEquals(0, this.batches.get(0).execute(null).length);
+        assertEquals(List.of(this.command1, this.command2), this.commands);
+        this.commandResponses.forEach(future -> future.complete(null));
+        assertArrayEquals(new WorkException[2], response.join());
+
+        this.batchResponses.get(0).complete(new WorkException[0]);
+
+        // Once the probe responded, subsequent batches are sent as a single command
+        response = this.sender.apply(List.of(this.command1, this.command2)).toCompletableFuture();
+        assertEquals(2, this.batches.size());
+        assertEquals(2, this.commands.size());
+
+        WorkException[] exceptions = new WorkException[2];
+        this.batchResponses.get(1).complete(exceptions);
+        assertSame(exceptions, response.join());
+
+        // A single request is still sent as its original command
+        this.sender.apply(List.of(this.command1));
+        assertEquals(2, this.batches.size());
+        assertEquals(3, this.commands.size());
+    }
+
+    @Test
+    public void unsupported() throws Exception {
+        this.sender.apply(List.of(this.command1, this.command2));
+
+        // A member running a previous version cancels the probe, since it has no command dispatcher dedicated to batches
+        this.batchResponses.get(0).completeExceptionally(new CancellationException());
+
+        this.sender.apply(List.of(this.command1, this.command2));
+
+        // The requests of subsequent batches are sent as their original commands, without probing the member again
+        assertEquals(1, this.batches.size());
+        assertEquals(List.of(this.command1, this.command2, this.command1, this.command2), this.commands);
+    }
+
+    @Test
+    public void failure() throws Exception {
+        CompletableFuture<WorkException[]> response = this.sender.apply(List.of(this.command1, this.command2)).toCompletableFuture();
+
+        // The failure of a command fails only the respective request
+        IllegalStateException exception = new IllegalStateException();
+        this.commandResponses.get(0).completeExceptionally(new CompletionException(exception));
+        assertFalse(response.isDone());
+        this.commandResponses.get(1).complete(null);
+
+        WorkException[] exceptions = response.join();
+        assertEquals(2, exceptions.length);
+        assertSame(exception, exceptions[0].getCause());
+        assertNull(exceptions[1]);
+    }
+
+    @Test
+    public void cancelled() throws Exception {
+        CompletableFuture<WorkException[]> response = this.sender.apply(List.of(this.command1, this.command2)).toCompletableFuture();
+
+        // A cancelled command, i.e. the member left, cancels the batch as a whole
+        this.commandResponses.get(0).completeExceptionally(new CancellationException());
+        this.commandResponses.get(1).complete(null);
+        try {
+            response.join();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof CancellationException);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.resource.spi.work.WorkException;
+
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+
+/**
+ * Unit test for {@link CommandBatch}.
+ */
+public class CommandBatchTestCase {
+
+    private final List<List<Command<Void, CommandDispatcherTransport>>> sent = new ArrayList<>();
+    private final List<CompletableFuture<WorkException[]>> responses = new ArrayList<>();
+    private final LongAdder coalesced = new LongAdder();
+    private final CommandBatch batch = new CommandBatch(this::send, this.coalesced);
+
+    private CompletionStage<WorkException[]> send(List<Command<Void, CommandDispatcherTransport>> commands) {
+        CompletableFuture<WorkException[]> response = new CompletableFuture<>();
+        this.sent.add(commands);
+        this.responses.add(response);
+        return response;
+    }
+
+    @Test
+    public void coalesce() {
+        Command<Void, CommandDispatcherTransport> command1 = transport -> null;
+        Command<Void, CommandDispatcherTransport> command2 = transport -> null;
+        Command<Void, CommandDispatcherTransport> command3 = transport -> null;
+
+        // Sent immediately, since no batch is in flight
+        CompletableFuture<Void> future1 = this.batch.submit(command1).toCompletableFuture();
+        assertEquals(1, this.sent.size());
+        assertEquals(List.of(command1), this.sent.get(0));
+
+        // Queued behind the batch in flight
+        CompletableFuture<Void> future2 = this.batch.submit(command2).toCompletableFuture();
+        CompletableFuture<Void> future3 = this.batch.submit(command3).toCompletableFuture();
+        assertEquals(1, this.sent.size());
+        assertEquals(2, this.coalesced.sum());
+        assertFalse(future2.isDone());
+        assertFalse(future3.isDone());
+
+        // Completion of the batch in flight sends the queued commands as a single batch
+        this.responses.get(0).complete(new WorkException[1]);
+        assertTrue(future1.isDone());
+        assertFalse(future1.isCompletedExceptionally());
+        assertEquals(2, this.sent.size());
+        assertEquals(List.of(command2, command3), this.sent.get(1));
+
+        WorkException rejected = new WorkException("rejected");
+        this.responses.get(1).complete(new WorkException[] { null, rejected });
+        assertFalse(future2.isCompletedExceptionally());
+        assertTrue(future3.isCompletedExceptionally());
+        try {
+            future3.join();
+            fail();
+        } catch (CompletionException e) {
+            assertSame(rejected, e.getCause());
+        }
+
+        // Nothing in flight, so the next command is sent immediately
+        this.batch.submit(command1);
+        assertEquals(3, this.sent.size());
+        assertEquals(2, this.coalesced.sum());
+    }
+
+    @Test
+    public void failure() {
+        CompletableFuture<Void> future1 = this.batch.submit(transport -> null).toCompletableFuture();
+        CompletableFuture<Void> future2 = this.batch.submit(transport -> null).toCompletableFuture();
+        CompletableFuture<Void> future3 = this.batch.submit(transport -> null).toCompletableFuture();
+
+        // A failed batch fails each of its commands
+        IllegalStateException exception = new IllegalStateException();
+        this.responses.get(0).completeExceptionally(new CompletionException(exception));
+        try {
+            future1.join();
+            fail();
+        } catch (CompletionException e) {
+            assertSame(exception, e.getCause());
+        }
+
+        // A cancelled batch, i.e. the member left, cancels each of its commands
+        this.responses.get(1).completeExceptionally(new CompletionException(new CancellationException()));
+        for (CompletableFuture<Void> future : List.of(future2, future3)) {
+            try {
+                future.join();
+                fail();
+            } catch (CancellationException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void sendFailure() {
+        CommandDispatcherException exception = new CommandDispatcherException(new IllegalStateException());
+        CommandBatch batch = new CommandBatch(commands -> {
+            throw exception;
+        }, this.coalesced);
+
+        CompletableFuture<Void> future = batch.submit(transport -> null).toCompletableFuture();
+        try {
+            future.join();
+            fail();
+        } catch (CompletionException e) {
+            assertSame(exception, e.getCause());
+        }
+
+        // The batch is not left in flight
+        future = batch.submit(transport -> null).toCompletableFuture();
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, this.coalesced.sum());
+    }
+}
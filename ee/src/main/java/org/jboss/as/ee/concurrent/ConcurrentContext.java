@@ -28,7 +28,6 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
@@ -117,40 +116,74 @@ public class ConcurrentContext {
 
     /**
      * Saves the current invocation context on a chained context handle.
+     * If a {@link ContextSnapshotScope} is open in the current thread, the context is saved only once per scope, with the shareable handles of such snapshot reused by all tasks submitted in the scope.
      * @param contextService
      * @param contextObjectProperties
      * @return
      */
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+        final ChainedSetupContextHandle snapshot = (ChainedSetupContextHandle) ContextSnapshotScope.getSnapshot(this, contextService, contextObjectProperties);
+        if (snapshot != null) {
+            return snapshot.isShareable() ? snapshot : resaveContext(snapshot, contextService, contextObjectProperties);
+        }
         final ContextServiceTypesConfiguration contextServiceTypesConfiguration = ((ContextServiceImpl)contextService).getContextServiceTypesConfiguration();
         final List<SetupContextHandle> handles = new ArrayList<>(factoryOrderedList.size());
         for (ContextHandleFactory factory : factoryOrderedList) {
-            // TODO *FOLLOW UP* migrate all factories on other subsystems to use the new EE10ContextHandleFactory API, and once all done replace the legacy ContextHandleFactory API with the new one, no need to keep both
-            if (factory instanceof EE10ContextHandleFactory) {
-                final EE10ContextHandleFactory ee10ContextHandleFactory = (EE10ContextHandleFactory) factory;
-                final String contextType = ee10ContextHandleFactory.getContextType();
-                final SetupContextHandle setupContextHandle;
-                if (contextServiceTypesConfiguration.isCleared(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.clearedContext(contextService, contextObjectProperties);
-                } else if (contextServiceTypesConfiguration.isPropagated(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.propagatedContext(contextService, contextObjectProperties);
-                } else if (contextServiceTypesConfiguration.isUnchanged(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.unchangedContext(contextService, contextObjectProperties);
-                } else {
-                    setupContextHandle = null;
-                }
+            final SetupContextHandle setupContextHandle = saveContext(factory, contextServiceTypesConfiguration, contextService, contextObjectProperties);
+            if (setupContextHandle != null) {
+                handles.add(setupContextHandle);
+            }
+        }
+        final ChainedSetupContextHandle chainedSetupContextHandle = new ChainedSetupContextHandle(this, handles);
+        ContextSnapshotScope.setSnapshot(this, contextService, contextObjectProperties, chainedSetupContextHandle);
+        return chainedSetupContextHandle;
+    }
+
+    /**
+     * Saves the current invocation context on a chained context handle, reusing the shareable handles of the specified snapshot.
+     * @param snapshot
+     * @param contextService
+     * @param contextObjectProperties
+     * @return
+     */
+    private SetupContextHandle resaveContext(ChainedSetupContextHandle snapshot, ContextService contextService, Map<String, String> contextObjectProperties) {
+        final ContextServiceTypesConfiguration contextServiceTypesConfiguration = ((ContextServiceImpl)contextService).getContextServiceTypesConfiguration();
+        final List<SetupContextHandle> handles = new ArrayList<>(snapshot.setupHandles.size());
+        for (SetupContextHandle handle : snapshot.setupHandles) {
+            if (handle.isShareable()) {
+                handles.add(handle);
+            } else {
+                final SetupContextHandle setupContextHandle = saveContext(factoryMap.get(handle.getFactoryName()), contextServiceTypesConfiguration, contextService, contextObjectProperties);
                 if (setupContextHandle != null) {
                     handles.add(setupContextHandle);
                 }
-            } else {
-                if (contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION)) {
-                    handles.add(factory.saveContext(contextService, contextObjectProperties));
-                }
             }
         }
         return new ChainedSetupContextHandle(this, handles);
     }
 
+    private static SetupContextHandle saveContext(ContextHandleFactory factory, ContextServiceTypesConfiguration contextServiceTypesConfiguration, ContextService contextService, Map<String, String> contextObjectProperties) {
+        // TODO *FOLLOW UP* migrate all factories on other subsystems to use the new EE10ContextHandleFactory API, and once all done replace the legacy ContextHandleFactory API with the new one, no need to keep both
+        if (factory instanceof EE10ContextHandleFactory) {
+            final EE10ContextHandleFactory ee10ContextHandleFactory = (EE10ContextHandleFactory) factory;
+            final String contextType = ee10ContextHandleFactory.getContextType();
+            if (contextServiceTypesConfiguration.isCleared(contextType)) {
+                return ee10ContextHandleFactory.clearedContext(contextService, contextObjectProperties);
+            } else if (contextServiceTypesConfiguration.isPropagated(contextType)) {
+                return ee10ContextHandleFactory.propagatedContext(contextService, contextObjectProperties);
+            } else if (contextServiceTypesConfiguration.isUnchanged(contextType)) {
+                return ee10ContextHandleFactory.unchangedContext(contextService, contextObjectProperties);
+            } else {
+                return null;
+            }
+        } else {
+            if (contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION)) {
+                return factory.saveContext(contextService, contextObjectProperties);
+            }
+            return null;
+        }
+    }
+
     /**
      * A setup context handle that is a chain of other setup context handles
      */
@@ -159,20 +192,31 @@ public class ConcurrentContext {
         private static final long serialVersionUID = 3609876437062603461L;
         private transient ConcurrentContext concurrentContext;
         private transient List<SetupContextHandle> setupHandles;
+        private transient boolean shareable;
 
         private ChainedSetupContextHandle(ConcurrentContext concurrentContext, List<SetupContextHandle> setupHandles) {
             this.concurrentContext = concurrentContext;
             this.setupHandles = setupHandles;
+            this.shareable = isShareable(setupHandles);
+        }
+
+        private static boolean isShareable(List<SetupContextHandle> setupHandles) {
+            for (SetupContextHandle handle : setupHandles) {
+                if (!handle.isShareable()) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         @Override
         public ResetContextHandle setup() throws IllegalStateException {
-            final LinkedList<ResetContextHandle> resetHandles = new LinkedList<>();
+            final ResetContextHandle[] resetHandles = new ResetContextHandle[setupHandles.size()];
             final ResetContextHandle resetContextHandle = new ChainedResetContextHandle(resetHandles);
             try {
                 ConcurrentContext.pushCurrent(concurrentContext);
-                for (SetupContextHandle handle : setupHandles) {
-                    resetHandles.addFirst(handle.setup());
+                for (int i = 0; i < resetHandles.length; i++) {
+                    resetHandles[i] = setupHandles.get(i).setup();
                 }
             } catch (Error | RuntimeException e) {
                 resetContextHandle.reset();
@@ -186,6 +230,11 @@ public class ConcurrentContext {
             return CONTEXT_HANDLE_FACTORY_NAME;
         }
 
+        @Override
+        public boolean isShareable() {
+            return shareable;
+        }
+
         private void writeObject(ObjectOutputStream out) throws IOException {
             out.defaultWriteObject();
             // write the concurrent context service name
@@ -258,6 +307,7 @@ public class ConcurrentContext {
                     }
                     setupHandles.add(factory.readSetupContextHandle(in));
                 }
+                shareable = isShareable(setupHandles);
             } finally {
                 if (sm == null) {
                     currentThread().setContextClassLoader(classLoader);
@@ -280,16 +330,21 @@ public class ConcurrentContext {
     private static class ChainedResetContextHandle implements ResetContextHandle {
 
         private static final long serialVersionUID = 8329909590327062062L;
-        private transient List<ResetContextHandle> resetHandles;
+        private transient ResetContextHandle[] resetHandles;
 
-        private ChainedResetContextHandle(List<ResetContextHandle> resetHandles) {
+        private ChainedResetContextHandle(ResetContextHandle[] resetHandles) {
             this.resetHandles = resetHandles;
         }
 
         @Override
         public void reset() {
             if(resetHandles != null) {
-                for (ResetContextHandle handle : resetHandles) {
+                // reset in the reverse order of setup, skipping the handles not setup due to a failure
+                for (int i = resetHandles.length - 1; i >= 0; i--) {
+                    final ResetContextHandle handle = resetHandles[i];
+                    if (handle == null) {
+                        continue;
+                    }
                     try {
                         handle.reset();
                     } catch (Throwable e) {
@@ -92,5 +92,14 @@ public class ContextServiceImpl extends org.glassfish.enterprise.concurrent.Cont
         return contextServiceTypesConfiguration;
     }
 
+    /**
+     * Opens a scope, in the current thread, where the invocation context is saved only once for this context service, with the resulting immutable snapshot shared by all tasks submitted in the scope, e.g. the tasks of a fan-out.
+     * The returned scope must be closed by the current thread, once all such tasks are submitted.
+     * @return the new scope
+     */
+    public ContextSnapshotScope openContextSnapshotScope() {
+        return ContextSnapshotScope.open(this);
+    }
+
     // TODO *FOLLOW UP* revisit RI impl of the async methods, which quality seems to have issues (e.g. each method uses a new Managed Executor instance...)
 }
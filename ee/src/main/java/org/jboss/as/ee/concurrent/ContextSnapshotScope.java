@@ -0,0 +1,100 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.util.Map;
+import java.util.Objects;
+
+import jakarta.enterprise.concurrent.ContextService;
+import org.jboss.as.ee.concurrent.handle.SetupContextHandle;
+
+/**
+ * A scope, in the submitting thread, where the invocation context saved for a context service is captured only once, as an immutable snapshot,
+ * which is then shared by all the tasks submitted in the scope, e.g. all the tasks of an invokeAll fan-out.
+ * <p/>
+ * The invocation context must not change while the scope is open, thus scopes should only wrap the submission of tasks, never any application code.
+ * Scopes are not thread safe, and must be closed by the thread which opened them.
+ *
+ * @see ContextServiceImpl#openContextSnapshotScope()
+ */
+public final class ContextSnapshotScope implements AutoCloseable {
+
+    /**
+     * the scope open in each thread
+     */
+    private static final ThreadLocal<ContextSnapshotScope> current = new ThreadLocal<>();
+
+    private final ContextService contextService;
+    private final ContextSnapshotScope previous;
+    private ConcurrentContext concurrentContext;
+    private Map<String, String> contextObjectProperties;
+    private SetupContextHandle snapshot;
+    private boolean closed;
+
+    private ContextSnapshotScope(ContextService contextService, ContextSnapshotScope previous) {
+        this.contextService = contextService;
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a new scope, in the current thread, for the specified context service.
+     * @param contextService the context service
+     * @return the new scope
+     */
+    static ContextSnapshotScope open(ContextService contextService) {
+        final ContextSnapshotScope scope = new ContextSnapshotScope(contextService, current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    /**
+     * Retrieves the snapshot captured in the scope open in the current thread, if any.
+     * @param concurrentContext the concurrent context saving the invocation context
+     * @param contextService the context service the invocation context is saved for
+     * @param contextObjectProperties the properties of the task's contextual object
+     * @return the snapshot previously captured for the same context service and properties, null if there is none
+     */
+    static SetupContextHandle getSnapshot(ConcurrentContext concurrentContext, ContextService contextService, Map<String, String> contextObjectProperties) {
+        final ContextSnapshotScope scope = current.get();
+        if (scope == null || scope.snapshot == null || scope.contextService != contextService || scope.concurrentContext != concurrentContext || !Objects.equals(scope.contextObjectProperties, contextObjectProperties)) {
+            return null;
+        }
+        return scope.snapshot;
+    }
+
+    /**
+     * Stores the snapshot captured for the specified context service, in the scope open in the current thread, if any.
+     * @param concurrentContext the concurrent context which saved the invocation context
+     * @param contextService the context service the invocation context was saved for
+     * @param contextObjectProperties the properties of the task's contextual object
+     * @param snapshot the captured snapshot
+     */
+    static void setSnapshot(ConcurrentContext concurrentContext, ContextService contextService, Map<String, String> contextObjectProperties, SetupContextHandle snapshot) {
+        final ContextSnapshotScope scope = current.get();
+        if (scope != null && scope.contextService == contextService) {
+            scope.concurrentContext = concurrentContext;
+            scope.contextObjectProperties = contextObjectProperties;
+            scope.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * Closes the scope, restoring the one previously open in the current thread, if any.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        snapshot = null;
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+}
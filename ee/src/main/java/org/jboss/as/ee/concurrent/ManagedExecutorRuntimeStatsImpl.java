@@ -45,6 +45,9 @@ class ManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeStats {
 
     @Override
     public int getHungThreadsCount() {
+        if (abstractManagedExecutorService.getManagedThreadFactory() instanceof ManagedVirtualThreadFactoryImpl) {
+            return ((ManagedVirtualThreadFactoryImpl) abstractManagedExecutorService.getManagedThreadFactory()).getHungTasksCount();
+        }
         final Collection hungThreads = abstractManagedExecutorService.getHungThreads();
         return hungThreads != null ? hungThreads.size() : 0;
     }
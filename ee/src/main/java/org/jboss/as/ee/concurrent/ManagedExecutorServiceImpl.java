@@ -9,11 +9,17 @@ import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.ManagedThreadFactoryImpl;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.jboss.as.ee.concurrent.ControlPointUtils.doWrap;
 import static org.jboss.as.ee.concurrent.SecurityIdentityUtils.doIdentityWrap;
@@ -26,16 +32,38 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
 
     private final ControlPoint controlPoint;
     private final ManagedExecutorRuntimeStats runtimeStats;
+    private final ContextServiceImpl contextService;
 
     public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, ContextServiceImpl contextService, RejectPolicy rejectPolicy, BlockingQueue<Runnable> queue, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy, queue);
         this.controlPoint = controlPoint;
+        this.contextService = contextService;
         this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
     }
 
     public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextService, rejectPolicy);
         this.controlPoint = controlPoint;
+        this.contextService = contextService;
+        this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+    }
+
+    /**
+     * Creates an executor which runs tasks in virtual threads, created by the specified factory.
+     * @param maxConcurrentTasks the max number of tasks running concurrently, if greater than 0, with the remaining tasks waiting in a queue with the specified capacity; otherwise each task runs immediately in a new virtual thread
+     */
+    public ManagedExecutorServiceImpl(String name, ManagedVirtualThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int maxConcurrentTasks, int queueCapacity, long keepAliveTime, TimeUnit keepAliveTimeUnit, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint) {
+        super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks,
+                maxConcurrentTasks > 0 ? maxConcurrentTasks : 0,
+                maxConcurrentTasks > 0 ? maxConcurrentTasks : Integer.MAX_VALUE,
+                maxConcurrentTasks > 0 ? keepAliveTime : 0L, keepAliveTimeUnit, 0L, contextService, rejectPolicy,
+                maxConcurrentTasks > 0 && queueCapacity > 0 ? new LinkedBlockingQueue<>(queueCapacity) : new SynchronousQueue<>());
+        if (maxConcurrentTasks > 0 && keepAliveTime > 0) {
+            // the permits are the pool's core threads, which should not outlive the workload
+            getThreadPoolExecutor().allowCoreThreadTimeOut(true);
+        }
+        this.controlPoint = controlPoint;
+        this.contextService = contextService;
         this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
     }
 
@@ -45,7 +73,9 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
         try {
             return super.submit(doIdentityWrap(callable));
         } catch (Exception e) {
-            controlPoint.requestComplete();
+            if (controlPoint != null) {
+                controlPoint.requestComplete();
+            }
             throw e;
         }
     }
@@ -56,7 +86,9 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
         try {
             return super.submit(doIdentityWrap(runnable), result);
         } catch (Exception e) {
-            controlPoint.requestComplete();
+            if (controlPoint != null) {
+                controlPoint.requestComplete();
+            }
             throw e;
         }
     }
@@ -67,7 +99,9 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
         try {
             return super.submit(doIdentityWrap(runnable));
         } catch (Exception e) {
-            controlPoint.requestComplete();
+            if (controlPoint != null) {
+                controlPoint.requestComplete();
+            }
             throw e;
         }
     }
@@ -78,11 +112,42 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
         try {
             super.execute(doIdentityWrap(runnable));
         } catch (Exception e) {
-            controlPoint.requestComplete();
+            if (controlPoint != null) {
+                controlPoint.requestComplete();
+            }
             throw e;
         }
     }
 
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        // all tasks are submitted by the current thread, thus may share the same context snapshot
+        try (ContextSnapshotScope ignored = ContextSnapshotScope.open(contextService)) {
+            return super.invokeAll(tasks);
+        }
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException {
+        try (ContextSnapshotScope ignored = ContextSnapshotScope.open(contextService)) {
+            return super.invokeAll(tasks, timeout, unit);
+        }
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        try (ContextSnapshotScope ignored = ContextSnapshotScope.open(contextService)) {
+            return super.invokeAny(tasks);
+        }
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        try (ContextSnapshotScope ignored = ContextSnapshotScope.open(contextService)) {
+            return super.invokeAny(tasks, timeout, unit);
+        }
+    }
+
     @Override
     protected ThreadPoolExecutor getThreadPoolExecutor() {
         return (ThreadPoolExecutor) super.getThreadPoolExecutor();
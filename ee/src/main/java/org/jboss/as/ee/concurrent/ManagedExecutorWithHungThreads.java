@@ -28,6 +28,11 @@ public interface ManagedExecutorWithHungThreads {
     default void terminateHungTasks() {
         final String executorName = getClass().getSimpleName() + ":" + getName();
         EeLogger.ROOT_LOGGER.debugf("Cancelling %s hung tasks...", executorName);
+        if (getManagedThreadFactory() instanceof ManagedVirtualThreadFactoryImpl) {
+            // virtual threads are not managed threads, the factory tracks the running tasks instead
+            ((ManagedVirtualThreadFactoryImpl) getManagedThreadFactory()).terminateHungTasks(executorName);
+            return;
+        }
         final Collection<AbstractManagedThread> hungThreads = getHungThreads();
         if (hungThreads != null) {
             for (AbstractManagedThread t : hungThreads) {
@@ -52,4 +57,10 @@ public interface ManagedExecutorWithHungThreads {
      * @return the executor's hung threads
      */
     Collection<AbstractManagedThread> getHungThreads();
+
+    /**
+     *
+     * @return the executor's thread factory
+     */
+    org.glassfish.enterprise.concurrent.ManagedThreadFactoryImpl getManagedThreadFactory();
 }
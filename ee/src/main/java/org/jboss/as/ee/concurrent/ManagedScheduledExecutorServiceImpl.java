@@ -9,12 +9,16 @@ import org.wildfly.extension.requestcontroller.ControlPoint;
 
 import jakarta.enterprise.concurrent.LastExecution;
 import jakarta.enterprise.concurrent.Trigger;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.jboss.as.ee.concurrent.ControlPointUtils.doScheduledWrap;
 import static org.jboss.as.ee.concurrent.ControlPointUtils.doWrap;
@@ -29,10 +33,12 @@ public class ManagedScheduledExecutorServiceImpl extends org.glassfish.enterpris
 
     private final ControlPoint controlPoint;
     private final ManagedExecutorRuntimeStats runtimeStats;
+    private final ContextServiceImpl contextService;
 
     public ManagedScheduledExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy);
         this.controlPoint = controlPoint;
+        this.contextService = contextService;
         this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
     }
 
@@ -41,6 +47,35 @@ public class ManagedScheduledExecutorServiceImpl extends org.glassfish.enterpris
         super.execute(doIdentityWrap(doWrap(command, controlPoint)));
     }
 
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        // all tasks are submitted by the current thread, thus may share the same context snapshot
+        try (ContextSnapshotScope ignored = ContextSnapshotScope.open(contextService)) {
+            return super.invokeAll(tasks);
+        }
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException {
+        try (ContextSnapshotScope ignored = ContextSnapshotScope.open(contextService)) {
+            return super.invokeAll(tasks, timeout, unit);
+        }
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        try (ContextSnapshotScope ignored = ContextSnapshotScope.open(contextService)) {
+            return super.invokeAny(tasks);
+        }
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        try (ContextSnapshotScope ignored = ContextSnapshotScope.open(contextService)) {
+            return super.invokeAny(tasks, timeout, unit);
+        }
+    }
+
     @Override
     public Future<?> submit(Runnable task) {
         return super.submit(doIdentityWrap(doWrap(task, controlPoint)));
@@ -0,0 +1,170 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.security.AccessControlContext;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
+import org.jboss.as.ee.logging.EeLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * {@link ManagedThreadFactoryImpl} variant which creates virtual threads, meant to be used only as the thread factory of a managed executor.
+ * <p/>
+ * Since virtual threads may not extend {@link org.glassfish.enterprise.concurrent.AbstractManagedThread}, the tasks running in the threads are tracked by the factory itself,
+ * which is then also responsible for the detection and termination of hung tasks.
+ * Context propagation is not affected, since that is done per task by the executor, and not by its thread factory.
+ */
+public class ManagedVirtualThreadFactoryImpl extends ManagedThreadFactoryImpl {
+
+    /**
+     * the factory's name
+     */
+    private final String name;
+
+    /**
+     * the factory creating the unstarted virtual threads
+     */
+    private final ThreadFactory virtualThreadFactory;
+
+    /**
+     * the threshold, in milliseconds, after which a running task is considered hung, or 0 if hung tasks should not be detected
+     */
+    private final long hungTaskThreshold;
+
+    /**
+     * the tasks currently running in threads created by this factory
+     */
+    private final Map<Thread, RunningTask> runningTasks = new ConcurrentHashMap<>();
+
+    /**
+     * the factory's ACC
+     */
+    private final AccessControlContext accessControlContext;
+
+    private volatile boolean stopped;
+
+    private ManagedVirtualThreadFactoryImpl(String name, ThreadFactory virtualThreadFactory, long hungTaskThreshold) {
+        super(name, null, Thread.NORM_PRIORITY);
+        this.name = name;
+        this.virtualThreadFactory = virtualThreadFactory;
+        this.hungTaskThreshold = hungTaskThreshold;
+        this.accessControlContext = AccessController.getContext();
+    }
+
+    /**
+     * Creates a new factory, if the current runtime supports virtual threads.
+     * @param name the factory's name, which is also used as the prefix of the created threads names
+     * @param hungTaskThreshold the threshold, in milliseconds, after which a running task is considered hung, or 0 if hung tasks should not be detected
+     * @return the new factory, or null if the current runtime does not support virtual threads
+     */
+    public static ManagedVirtualThreadFactoryImpl create(String name, long hungTaskThreshold) {
+        final ThreadFactory virtualThreadFactory;
+        try {
+            // Thread.ofVirtual().name(prefix, 1).factory(), requires Java 21+
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-VirtualThread-", 1L);
+            virtualThreadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+        return new ManagedVirtualThreadFactoryImpl(name, virtualThreadFactory, hungTaskThreshold);
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        if (stopped) {
+            throw EeLogger.ROOT_LOGGER.threadFactoryStopped(name);
+        }
+        // use the factory's acc as privileged, otherwise the new thread inherits current thread's acc
+        final Thread t = AccessController.doPrivileged((PrivilegedAction<Thread>) () -> virtualThreadFactory.newThread(r), accessControlContext);
+        // reset thread classloader to prevent leaks
+        if (!WildFlySecurityManager.isChecking()) {
+            t.setContextClassLoader(null);
+        } else {
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                t.setContextClassLoader(null);
+                return null;
+            });
+        }
+        return t;
+    }
+
+    @Override
+    public void taskStarting(Thread t, ManagedFutureTask task) {
+        super.taskStarting(t, task);
+        runningTasks.put(t, new RunningTask(task));
+    }
+
+    @Override
+    public void taskDone(Thread t) {
+        super.taskDone(t);
+        runningTasks.remove(t);
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        super.stop();
+    }
+
+    /**
+     *
+     * @return the number of running tasks which are considered hung
+     */
+    public int getHungTasksCount() {
+        final long now = System.currentTimeMillis();
+        int count = 0;
+        for (RunningTask runningTask : runningTasks.values()) {
+            if (runningTask.isHung(now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Attempts to terminate the hung tasks running in threads created by this factory, by cancelling such tasks.
+     * @param executorName the name of the executor using this factory
+     */
+    void terminateHungTasks(String executorName) {
+        final long now = System.currentTimeMillis();
+        for (RunningTask runningTask : runningTasks.values()) {
+            if (!runningTask.isHung(now)) {
+                continue;
+            }
+            final String taskIdentityName = runningTask.task.getTaskIdentityName();
+            try {
+                if (runningTask.task.cancel(true)) {
+                    EeLogger.ROOT_LOGGER.hungTaskCancelled(executorName, taskIdentityName);
+                } else {
+                    EeLogger.ROOT_LOGGER.hungTaskNotCancelled(executorName, taskIdentityName);
+                }
+            } catch (Throwable throwable) {
+                EeLogger.ROOT_LOGGER.huntTaskTerminationFailure(throwable, executorName, taskIdentityName);
+            }
+        }
+    }
+
+    private final class RunningTask {
+        private final ManagedFutureTask task;
+        private final long startTime = System.currentTimeMillis();
+
+        private RunningTask(ManagedFutureTask task) {
+            this.task = task;
+        }
+
+        boolean isHung(long now) {
+            return hungTaskThreshold > 0 && now - startTime > hungTaskThreshold;
+        }
+    }
+}
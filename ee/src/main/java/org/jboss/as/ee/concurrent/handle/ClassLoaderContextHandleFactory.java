@@ -85,6 +85,11 @@ public class ClassLoaderContextHandleFactory implements EE10ContextHandleFactory
             return NAME;
         }
 
+        @Override
+        public boolean isShareable() {
+            return true;
+        }
+
         // serialization
 
         private void writeObject(ObjectOutputStream out) throws IOException {
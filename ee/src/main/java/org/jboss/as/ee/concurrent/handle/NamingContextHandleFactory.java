@@ -86,6 +86,11 @@ public class NamingContextHandleFactory implements EE10ContextHandleFactory {
             return NAME;
         }
 
+        @Override
+        public boolean isShareable() {
+            return true;
+        }
+
         @Override
         public ResetContextHandle setup() throws IllegalStateException {
             NamespaceContextSelector.pushCurrentSelector(namespaceContextSelector);
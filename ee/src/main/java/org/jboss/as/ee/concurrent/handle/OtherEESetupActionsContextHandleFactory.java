@@ -83,6 +83,11 @@ public class OtherEESetupActionsContextHandleFactory implements EE10ContextHandl
             return NAME;
         }
 
+        @Override
+        public boolean isShareable() {
+            return true;
+        }
+
         @Override
         public org.jboss.as.ee.concurrent.handle.ResetContextHandle setup() throws IllegalStateException {
             final LinkedList<SetupAction> resetActions = new LinkedList<>();
@@ -163,6 +168,11 @@ public class OtherEESetupActionsContextHandleFactory implements EE10ContextHandl
             return NAME;
         }
 
+        @Override
+        public boolean isShareable() {
+            return true;
+        }
+
         @Override
         public org.jboss.as.ee.concurrent.handle.ResetContextHandle setup() throws IllegalStateException {
             // we probably should instead have a thread stack with the current setup actions and restore current on reset?
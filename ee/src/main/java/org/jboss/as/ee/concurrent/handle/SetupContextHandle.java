@@ -23,4 +23,12 @@ public interface SetupContextHandle extends org.glassfish.enterprise.concurrent.
      * @return
      */
     String getFactoryName();
+
+    /**
+     * Indicates if the handle is immutable, and may be setup by multiple threads concurrently, i.e. if a single handle may be shared by all tasks submitted with the same invocation context.
+     * @return true if the handle may be shared, false otherwise
+     */
+    default boolean isShareable() {
+        return false;
+    }
 }
@@ -89,6 +89,11 @@ public class ThreadContextProviderContextHandleFactory implements EE10ContextHan
             return factoryName;
         }
 
+        @Override
+        public boolean isShareable() {
+            return true;
+        }
+
         @Override
         public ResetContextHandle setup() throws IllegalStateException {
             final ThreadContextRestorer threadContextRestorer = savedContextSnapshot.begin();
@@ -104,6 +104,11 @@ public class TransactionContextHandleFactory implements EE10ContextHandleFactory
             return NAME;
         }
 
+        @Override
+        public boolean isShareable() {
+            return true;
+        }
+
         // serialization
         private void writeObject(ObjectOutputStream out) throws IOException {
             throw EeLogger.ROOT_LOGGER.serializationMustBeHandledByTheFactory();
@@ -79,6 +79,11 @@ public class TransactionLeakContextHandleFactory implements ContextHandleFactory
             return NAME;
         }
 
+        @Override
+        public boolean isShareable() {
+            return true;
+        }
+
         // serialization
 
         private void writeObject(ObjectOutputStream out) throws IOException {
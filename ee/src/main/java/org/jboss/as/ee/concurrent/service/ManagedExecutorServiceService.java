@@ -15,6 +15,7 @@ import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.ManagedExecutorServiceAdapter;
 import org.jboss.as.ee.concurrent.ManagedExecutorServiceImpl;
 import org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl;
+import org.jboss.as.ee.concurrent.ManagedVirtualThreadFactoryImpl;
 import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -49,6 +50,8 @@ public class ManagedExecutorServiceService extends EEConcurrentAbstractService<M
     private final DelegatingSupplier<ContextServiceImpl> contextServiceSupplier = new DelegatingSupplier<>();
     private final AbstractManagedExecutorService.RejectPolicy rejectPolicy;
     private final Integer threadPriority;
+    private final boolean virtualThreads;
+    private final Integer maxConcurrentTasks;
     private final Supplier<RequestController> requestControllerSupplier;
     private ControlPoint controlPoint;
     private final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService;
@@ -73,13 +76,15 @@ public class ManagedExecutorServiceService extends EEConcurrentAbstractService<M
      * @param queueCapacity
      * @param rejectPolicy
      * @param threadPriority
+     * @param virtualThreads
+     * @param maxConcurrentTasks
      * @see ManagedExecutorServiceImpl#ManagedExecutorServiceImpl(String, org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl, long, boolean, int, int, long, java.util.concurrent.TimeUnit, long, int, org.glassfish.enterprise.concurrent.ContextServiceImpl, org.glassfish.enterprise.concurrent.AbstractManagedExecutorService.RejectPolicy, org.wildfly.extension.requestcontroller.ControlPoint)
      */
     public ManagedExecutorServiceService(final Consumer<ManagedExecutorServiceAdapter> consumer,
                                          final Supplier<ContextServiceImpl> contextServiceSupplier,
                                          final Supplier<ManagedThreadFactoryImpl> managedThreadFactorySupplier,
                                          final Supplier<RequestController> requestControllerSupplier,
-                                         String name, String jndiName, long hungTaskThreshold, long hungTaskTerminationPeriod, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, AbstractManagedExecutorService.RejectPolicy rejectPolicy, Integer threadPriority, final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService) {
+                                         String name, String jndiName, long hungTaskThreshold, long hungTaskTerminationPeriod, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, AbstractManagedExecutorService.RejectPolicy rejectPolicy, Integer threadPriority, boolean virtualThreads, Integer maxConcurrentTasks, final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService) {
         super(jndiName);
         this.consumer = consumer;
         this.contextServiceSupplier.set(contextServiceSupplier);
@@ -97,30 +102,45 @@ public class ManagedExecutorServiceService extends EEConcurrentAbstractService<M
         this.queueCapacity = queueCapacity;
         this.rejectPolicy = rejectPolicy;
         this.threadPriority = threadPriority;
+        this.virtualThreads = virtualThreads;
+        this.maxConcurrentTasks = maxConcurrentTasks;
         this.hungTasksPeriodicTerminationService = hungTasksPeriodicTerminationService;
     }
 
     @Override
     void startValue(StartContext context) throws StartException {
-        final int priority;
-        if (threadPriority != null) {
-            priority = threadPriority;
-        } else {
-            ManagedThreadFactoryImpl managedThreadFactory = managedThreadFactorySupplier != null ? managedThreadFactorySupplier.get() : null;
-            priority = managedThreadFactory != null ? managedThreadFactory.getPriority() : Thread.NORM_PRIORITY;
-        }
-        ManagedThreadFactoryImpl managedThreadFactory = new ManagedThreadFactoryImpl("EE-ManagedExecutorService-"+name, null, priority);
         if (requestControllerSupplier != null) {
             final RequestController requestController = requestControllerSupplier.get();
             controlPoint = requestController != null ? requestController.getControlPoint(name, "managed-executor-service") : null;
         }
-        executorService = new ManagedExecutorServiceImpl(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextServiceSupplier != null ? contextServiceSupplier.get() : null, rejectPolicy, controlPoint);
+        final ContextServiceImpl contextService = contextServiceSupplier != null ? contextServiceSupplier.get() : null;
+        final ManagedVirtualThreadFactoryImpl virtualThreadFactory = virtualThreads ? ManagedVirtualThreadFactoryImpl.create("EE-ManagedExecutorService-"+name, longRunningTasks ? 0L : hungTaskThreshold) : null;
+        if (virtualThreadFactory != null) {
+            executorService = new ManagedExecutorServiceImpl(name, virtualThreadFactory, hungTaskThreshold, longRunningTasks, maxConcurrentTasks != null ? maxConcurrentTasks : 0, queueCapacity, keepAliveTime, keepAliveTimeUnit, contextService, rejectPolicy, controlPoint);
+        } else {
+            if (virtualThreads) {
+                EeLogger.ROOT_LOGGER.virtualThreadsNotSupported(name);
+            }
+            executorService = createPlatformThreadExecutorService(contextService);
+        }
         if (hungTaskThreshold > 0 && hungTaskTerminationPeriod > 0) {
             hungTasksPeriodicTerminationFuture = hungTasksPeriodicTerminationService.get().startHungTaskPeriodicTermination(executorService, hungTaskTerminationPeriod);
         }
         consumer.accept(executorService.getAdapter());
     }
 
+    private ManagedExecutorServiceImpl createPlatformThreadExecutorService(ContextServiceImpl contextService) {
+        final int priority;
+        if (threadPriority != null) {
+            priority = threadPriority;
+        } else {
+            ManagedThreadFactoryImpl managedThreadFactory = managedThreadFactorySupplier != null ? managedThreadFactorySupplier.get() : null;
+            priority = managedThreadFactory != null ? managedThreadFactory.getPriority() : Thread.NORM_PRIORITY;
+        }
+        ManagedThreadFactoryImpl managedThreadFactory = new ManagedThreadFactoryImpl("EE-ManagedExecutorService-"+name, null, priority);
+        return new ManagedExecutorServiceImpl(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextService, rejectPolicy, controlPoint);
+    }
+
     @Override
     void stopValue(StopContext context) {
         if (executorService != null) {
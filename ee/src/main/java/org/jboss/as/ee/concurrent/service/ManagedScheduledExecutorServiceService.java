@@ -15,6 +15,7 @@ import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.ManagedScheduledExecutorServiceAdapter;
 import org.jboss.as.ee.concurrent.ManagedScheduledExecutorServiceImpl;
 import org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl;
+import org.jboss.as.ee.concurrent.ManagedVirtualThreadFactoryImpl;
 import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -46,6 +47,7 @@ public class ManagedScheduledExecutorServiceService extends EEConcurrentAbstract
     private final DelegatingSupplier<ContextServiceImpl> contextServiceSupplier = new DelegatingSupplier<>();
     private final AbstractManagedExecutorService.RejectPolicy rejectPolicy;
     private final Integer threadPriority;
+    private final boolean virtualThreads;
     private final Supplier<RequestController> requestControllerSupplier;
     private ControlPoint controlPoint;
     private final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService;
@@ -67,13 +69,14 @@ public class ManagedScheduledExecutorServiceService extends EEConcurrentAbstract
      * @param threadLifeTime
      * @param rejectPolicy
      * @param threadPriority
+     * @param virtualThreads
      * @see ManagedScheduledExecutorServiceImpl#ManagedScheduledExecutorServiceImpl(String, org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl, long, boolean, int, long, java.util.concurrent.TimeUnit, long, org.glassfish.enterprise.concurrent.ContextServiceImpl, org.glassfish.enterprise.concurrent.AbstractManagedExecutorService.RejectPolicy, org.wildfly.extension.requestcontroller.ControlPoint)
      */
     public ManagedScheduledExecutorServiceService(final Consumer<ManagedScheduledExecutorServiceAdapter> consumer,
                                                   final Supplier<ContextServiceImpl> contextServiceSupplier,
                                                   final Supplier<ManagedThreadFactoryImpl> managedThreadFactorySupplier,
                                                   final Supplier<RequestController> requestControllerSupplier,
-                                                  String name, String jndiName, long hungTaskThreshold, long hungTaskTerminationPeriod, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, AbstractManagedExecutorService.RejectPolicy rejectPolicy, Integer threadPriority, final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService) {
+                                                  String name, String jndiName, long hungTaskThreshold, long hungTaskTerminationPeriod, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, AbstractManagedExecutorService.RejectPolicy rejectPolicy, Integer threadPriority, boolean virtualThreads, final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService) {
         super(jndiName);
         this.consumer = consumer;
         this.contextServiceSupplier.set(contextServiceSupplier);
@@ -89,19 +92,27 @@ public class ManagedScheduledExecutorServiceService extends EEConcurrentAbstract
         this.threadLifeTime = threadLifeTime;
         this.rejectPolicy = rejectPolicy;
         this.threadPriority = threadPriority;
+        this.virtualThreads = virtualThreads;
         this.hungTasksPeriodicTerminationService = hungTasksPeriodicTerminationService;
     }
 
     @Override
     void startValue(StartContext context) throws StartException {
-        final int priority;
-        if (threadPriority != null) {
-            priority = threadPriority;
-        } else {
-            ManagedThreadFactoryImpl managedThreadFactory = managedThreadFactorySupplier != null ? managedThreadFactorySupplier.get() : null;
-            priority = managedThreadFactory != null ? managedThreadFactory.getPriority() : Thread.NORM_PRIORITY;
+        // in virtual mode the executor's core threads are virtual threads, the number of tasks running concurrently is still bound by the core pool size
+        ManagedThreadFactoryImpl managedThreadFactory = virtualThreads ? ManagedVirtualThreadFactoryImpl.create("EE-ManagedScheduledExecutorService-" + name, longRunningTasks ? 0L : hungTaskThreshold) : null;
+        if (managedThreadFactory == null) {
+            if (virtualThreads) {
+                EeLogger.ROOT_LOGGER.virtualThreadsNotSupported(name);
+            }
+            final int priority;
+            if (threadPriority != null) {
+                priority = threadPriority;
+            } else {
+                ManagedThreadFactoryImpl threadFactory = managedThreadFactorySupplier != null ? managedThreadFactorySupplier.get() : null;
+                priority = threadFactory != null ? threadFactory.getPriority() : Thread.NORM_PRIORITY;
+            }
+            managedThreadFactory = new ManagedThreadFactoryImpl("EE-ManagedScheduledExecutorService-" + name, null, priority);
         }
-        ManagedThreadFactoryImpl managedThreadFactory = new ManagedThreadFactoryImpl("EE-ManagedScheduledExecutorService-" + name, null, priority);
         if (requestControllerSupplier != null) {
             final RequestController requestController = requestControllerSupplier.get();
             controlPoint = requestController != null ? requestController.getControlPoint(name, "managed-scheduled-executor-service") : null;
@@ -1213,4 +1213,15 @@ public interface EeLogger extends BasicLogger {
     @Message(id = 136, value = "Failed to run scheduled task: %s")
     RuntimeException failureWhileRunningTask(Object delegate,@Cause Exception e);
 
+    /**
+     * Logs a message indicating that virtual threads are not supported by the current runtime.
+     * @param executorName the name of the executor.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 137, value = "Virtual threads are not supported by the current runtime, %s will use platform threads")
+    void virtualThreadsNotSupported(String executorName);
+
+    @Message(id = 138, value = "Thread factory %s was stopped")
+    IllegalStateException threadFactoryStopped(String name);
+
 }
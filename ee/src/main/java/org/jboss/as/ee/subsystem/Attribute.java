@@ -38,6 +38,8 @@ enum Attribute {
     KEEPALIVE_TIME(ManagedExecutorServiceResourceDefinition.KEEPALIVE_TIME),
     QUEUE_LENGTH(ManagedExecutorServiceResourceDefinition.QUEUE_LENGTH),
     REJECT_POLICY(ManagedExecutorServiceResourceDefinition.REJECT_POLICY),
+    THREAD_MODE(ManagedExecutorServiceResourceDefinition.THREAD_MODE),
+    MAX_CONCURRENT_TASKS(ManagedExecutorServiceResourceDefinition.MAX_CONCURRENT_TASKS),
 
     DATASOURCE(DefaultBindingsResourceDefinition.DATASOURCE),
     JMS_CONNECTION_FACTORY(DefaultBindingsResourceDefinition.JMS_CONNECTION_FACTORY),
@@ -0,0 +1,39 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.subsystem;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+
+/**
+ * Registers the transformers of the ee subsystem to legacy model versions.
+ */
+public class EeTransformers implements ExtensionTransformerRegistration {
+
+    @Override
+    public String getSubsystemName() {
+        return EeExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
+
+        registerTransformers_7_0_0(builder.createBuilder(EESubsystemModel.Version.v7_0_0, EESubsystemModel.Version.v6_0_0));
+
+        builder.buildAndRegister(registration, new ModelVersion[] { EESubsystemModel.Version.v6_0_0 });
+    }
+
+    private static void registerTransformers_7_0_0(ResourceTransformationDescriptionBuilder subsystem) {
+        // The thread mode and the concurrent task limit of the managed executors are unknown to 6.0.0
+        ManagedExecutorServiceResourceDefinition.registerTransformers7_0(subsystem);
+        ManagedScheduledExecutorServiceResourceDefinition.registerTransformers7_0(subsystem);
+    }
+}
@@ -58,6 +58,8 @@ public class ManagedExecutorServiceResourceDefinition extends SimpleResourceDefi
     public static final String KEEPALIVE_TIME = "keepalive-time";
     public static final String QUEUE_LENGTH = "queue-length";
     public static final String REJECT_POLICY = "reject-policy";
+    public static final String THREAD_MODE = "thread-mode";
+    public static final String MAX_CONCURRENT_TASKS = "max-concurrent-tasks";
 
     public static final SimpleAttributeDefinition JNDI_NAME_AD =
             new SimpleAttributeDefinitionBuilder(JNDI_NAME, ModelType.STRING, false)
@@ -154,7 +156,22 @@ public class ManagedExecutorServiceResourceDefinition extends SimpleResourceDefi
                     .setValidator(EnumValidator.create(AbstractManagedExecutorService.RejectPolicy.class))
                     .build();
 
-    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, THREAD_FACTORY_AD, THREAD_PRIORITY_AD, HUNG_TASK_TERMINATION_PERIOD_AD, HUNG_TASK_THRESHOLD_AD, LONG_RUNNING_TASKS_AD, CORE_THREADS_AD, MAX_THREADS_AD, KEEPALIVE_TIME_AD, QUEUE_LENGTH_AD, REJECT_POLICY_AD};
+    public static final SimpleAttributeDefinition THREAD_MODE_AD =
+            new SimpleAttributeDefinitionBuilder(THREAD_MODE, ModelType.STRING, true)
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .setDefaultValue(new ModelNode(ThreadMode.PLATFORM.toString()))
+                    .setValidator(EnumValidator.create(ThreadMode.class))
+                    .build();
+
+    public static final SimpleAttributeDefinition MAX_CONCURRENT_TASKS_AD =
+            new SimpleAttributeDefinitionBuilder(MAX_CONCURRENT_TASKS, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, THREAD_FACTORY_AD, THREAD_PRIORITY_AD, HUNG_TASK_TERMINATION_PERIOD_AD, HUNG_TASK_THRESHOLD_AD, LONG_RUNNING_TASKS_AD, CORE_THREADS_AD, MAX_THREADS_AD, KEEPALIVE_TIME_AD, QUEUE_LENGTH_AD, REJECT_POLICY_AD, THREAD_MODE_AD, MAX_CONCURRENT_TASKS_AD};
 
     public static final PathElement PATH_ELEMENT = PathElement.pathElement(EESubsystemModel.MANAGED_EXECUTOR_SERVICE);
 
@@ -231,6 +248,15 @@ public class ManagedExecutorServiceResourceDefinition extends SimpleResourceDefi
                 .end();
     }
 
+    static void registerTransformers7_0(final ResourceTransformationDescriptionBuilder builder) {
+        final ResourceTransformationDescriptionBuilder resourceBuilder = builder.addChildResource(PATH_ELEMENT);
+        resourceBuilder.getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, new ModelNode(ThreadMode.PLATFORM.toString())), THREAD_MODE_AD)
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, MAX_CONCURRENT_TASKS_AD)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, THREAD_MODE_AD, MAX_CONCURRENT_TASKS_AD)
+                .end();
+    }
+
     static class ValidatingWriteHandler extends ReloadRequiredWriteAttributeHandler {
         public ValidatingWriteHandler(final AttributeDefinition... definitions) {
             super(definitions);
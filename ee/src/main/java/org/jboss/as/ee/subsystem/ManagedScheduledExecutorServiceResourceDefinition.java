@@ -51,6 +51,7 @@ public class ManagedScheduledExecutorServiceResourceDefinition extends SimpleRes
     public static final String CORE_THREADS = "core-threads";
     public static final String KEEPALIVE_TIME = "keepalive-time";
     public static final String REJECT_POLICY = "reject-policy";
+    public static final String THREAD_MODE = "thread-mode";
 
     public static final SimpleAttributeDefinition JNDI_NAME_AD =
             new SimpleAttributeDefinitionBuilder(JNDI_NAME, ModelType.STRING, false)
@@ -134,7 +135,15 @@ public class ManagedScheduledExecutorServiceResourceDefinition extends SimpleRes
                     .setValidator(EnumValidator.create(AbstractManagedExecutorService.RejectPolicy.class))
                     .build();
 
-    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, THREAD_FACTORY_AD, THREAD_PRIORITY_AD, HUNG_TASK_TERMINATION_PERIOD_AD, HUNG_TASK_THRESHOLD_AD, LONG_RUNNING_TASKS_AD, CORE_THREADS_AD, KEEPALIVE_TIME_AD, REJECT_POLICY_AD};
+    public static final SimpleAttributeDefinition THREAD_MODE_AD =
+            new SimpleAttributeDefinitionBuilder(THREAD_MODE, ModelType.STRING, true)
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .setDefaultValue(new ModelNode(ThreadMode.PLATFORM.toString()))
+                    .setValidator(EnumValidator.create(ThreadMode.class))
+                    .build();
+
+    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, THREAD_FACTORY_AD, THREAD_PRIORITY_AD, HUNG_TASK_TERMINATION_PERIOD_AD, HUNG_TASK_THRESHOLD_AD, LONG_RUNNING_TASKS_AD, CORE_THREADS_AD, KEEPALIVE_TIME_AD, REJECT_POLICY_AD, THREAD_MODE_AD};
 
     public static final PathElement PATH_ELEMENT = PathElement.pathElement(EESubsystemModel.MANAGED_SCHEDULED_EXECUTOR_SERVICE);
 
@@ -210,4 +219,12 @@ public class ManagedScheduledExecutorServiceResourceDefinition extends SimpleRes
                 .addRejectCheck(RejectAttributeChecker.DEFINED, HUNG_TASK_TERMINATION_PERIOD_AD)
                 .end();
     }
+
+    static void registerTransformers7_0(final ResourceTransformationDescriptionBuilder builder) {
+        final ResourceTransformationDescriptionBuilder resourceBuilder = builder.addChildResource(PATH_ELEMENT);
+        resourceBuilder.getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, new ModelNode(ThreadMode.PLATFORM.toString())), THREAD_MODE_AD)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, THREAD_MODE_AD)
+                .end();
+    }
 }
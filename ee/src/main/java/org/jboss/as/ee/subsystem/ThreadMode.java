@@ -0,0 +1,19 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.subsystem;
+
+/**
+ * The kind of threads used by a managed executor to run its tasks.
+ */
+enum ThreadMode {
+    /**
+     * tasks run in a pool of platform threads
+     */
+    PLATFORM,
+    /**
+     * tasks run in virtual threads, requires a runtime with support for virtual threads
+     */
+    VIRTUAL,
+}
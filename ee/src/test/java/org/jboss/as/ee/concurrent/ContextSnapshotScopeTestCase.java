@@ -0,0 +1,235 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.concurrent.ContextService;
+import jakarta.enterprise.concurrent.ContextServiceDefinition;
+import org.jboss.as.ee.concurrent.handle.ClassLoaderContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.EE10ContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.ResetContextHandle;
+import org.jboss.as.ee.concurrent.handle.SetupContextHandle;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Unit test for the context snapshots shared by the tasks submitted in a {@link ContextSnapshotScope}.
+ */
+public class ContextSnapshotScopeTestCase {
+
+    private static final int TASKS = 50;
+
+    @Test
+    public void testSharedSnapshot() {
+        final CountingContextHandleFactory factory = new CountingContextHandleFactory("shareable", true);
+        final ConcurrentContext concurrentContext = createConcurrentContext(factory);
+        final ContextServiceImpl contextService = createContextService();
+
+        // without a scope each task saves its own context
+        final SetupContextHandle handle = concurrentContext.saveContext(contextService, null);
+        assertNotSame(handle, concurrentContext.saveContext(contextService, null));
+        assertEquals(2, factory.saved.get());
+
+        factory.saved.set(0);
+        try (ContextSnapshotScope scope = contextService.openContextSnapshotScope()) {
+            final SetupContextHandle snapshot = concurrentContext.saveContext(contextService, null);
+            for (int i = 1; i < TASKS; i++) {
+                assertSame(snapshot, concurrentContext.saveContext(contextService, null));
+            }
+            // a task with other properties gets its own snapshot
+            assertNotSame(snapshot, concurrentContext.saveContext(contextService, Map.of("key", "value")));
+            // as well as a task saving the context for another context service
+            assertNotSame(snapshot, concurrentContext.saveContext(createContextService(), null));
+        }
+        assertEquals(3, factory.saved.get());
+
+        // once the scope is closed each task saves its own context again
+        factory.saved.set(0);
+        concurrentContext.saveContext(contextService, null);
+        concurrentContext.saveContext(contextService, null);
+        assertEquals(2, factory.saved.get());
+    }
+
+    @Test
+    public void testNonShareableHandlesSavedPerTask() {
+        final CountingContextHandleFactory shareableFactory = new CountingContextHandleFactory("shareable", true);
+        final CountingContextHandleFactory nonShareableFactory = new CountingContextHandleFactory("non-shareable", false);
+        final ConcurrentContext concurrentContext = createConcurrentContext(shareableFactory, nonShareableFactory);
+        final ContextServiceImpl contextService = createContextService();
+        try (ContextSnapshotScope scope = contextService.openContextSnapshotScope()) {
+            for (int i = 0; i < TASKS; i++) {
+                concurrentContext.saveContext(contextService, null).setup().reset();
+            }
+        }
+        assertEquals(1, shareableFactory.saved.get());
+        assertEquals(TASKS, nonShareableFactory.saved.get());
+        assertEquals(TASKS, shareableFactory.setup.get());
+        assertEquals(TASKS, nonShareableFactory.setup.get());
+    }
+
+    @Test
+    public void testSetupAndReset() {
+        final ClassLoader classLoader = new ClassLoader(null) {
+        };
+        final ConcurrentContext concurrentContext = createConcurrentContext(new ClassLoaderContextHandleFactory(classLoader));
+        final ContextServiceImpl contextService = createContextService();
+        final SetupContextHandle snapshot;
+        try (ContextSnapshotScope scope = contextService.openContextSnapshotScope()) {
+            snapshot = concurrentContext.saveContext(contextService, null);
+        }
+        assertTrue(snapshot.isShareable());
+        final ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        // a shared snapshot may be setup more than once, including nested
+        final ResetContextHandle reset1 = snapshot.setup();
+        final ResetContextHandle reset2 = snapshot.setup();
+        assertSame(classLoader, Thread.currentThread().getContextClassLoader());
+        assertSame(concurrentContext, ConcurrentContext.current());
+        reset2.reset();
+        assertSame(classLoader, Thread.currentThread().getContextClassLoader());
+        reset1.reset();
+        assertSame(previous, Thread.currentThread().getContextClassLoader());
+        assertNull(ConcurrentContext.current());
+    }
+
+    /**
+     * Compares the bytes allocated by the submitting thread to save the context of a fan-out of tasks, with and without a scope.
+     */
+    @Test
+    public void testAllocation() {
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported());
+        final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        final ConcurrentContext concurrentContext = createConcurrentContext(new ClassLoaderContextHandleFactory(getClass().getClassLoader()), new CountingContextHandleFactory("shareable", true));
+        final ContextServiceImpl contextService = createContextService();
+        final int fanOuts = 1000;
+        // warm up
+        saveContext(concurrentContext, contextService, fanOuts, false);
+        saveContext(concurrentContext, contextService, fanOuts, true);
+        final long threadId = Thread.currentThread().getId();
+        long start = allocationMXBean.getThreadAllocatedBytes(threadId);
+        saveContext(concurrentContext, contextService, fanOuts, false);
+        final long perTaskSnapshots = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+        start = allocationMXBean.getThreadAllocatedBytes(threadId);
+        saveContext(concurrentContext, contextService, fanOuts, true);
+        final long sharedSnapshots = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+        assertTrue(sharedSnapshots + " >= " + perTaskSnapshots, sharedSnapshots < perTaskSnapshots);
+    }
+
+    private static void saveContext(ConcurrentContext concurrentContext, ContextServiceImpl contextService, int fanOuts, boolean shared) {
+        for (int i = 0; i < fanOuts; i++) {
+            if (shared) {
+                try (ContextSnapshotScope scope = contextService.openContextSnapshotScope()) {
+                    for (int j = 0; j < TASKS; j++) {
+                        concurrentContext.saveContext(contextService, null);
+                    }
+                }
+            } else {
+                for (int j = 0; j < TASKS; j++) {
+                    concurrentContext.saveContext(contextService, null);
+                }
+            }
+        }
+    }
+
+    private static ConcurrentContext createConcurrentContext(EE10ContextHandleFactory... factories) {
+        final ConcurrentContext concurrentContext = new ConcurrentContext();
+        for (EE10ContextHandleFactory factory : factories) {
+            concurrentContext.addFactory(factory);
+        }
+        return concurrentContext;
+    }
+
+    private static ContextServiceImpl createContextService() {
+        return new ContextServiceImpl("test", new DefaultContextSetupProviderImpl(), ContextServiceTypesConfiguration.DEFAULT);
+    }
+
+    private static class CountingContextHandleFactory implements EE10ContextHandleFactory {
+
+        private static final AtomicInteger priority = new AtomicInteger(1000);
+
+        private final String name;
+        private final boolean shareable;
+        private final int chainPriority = priority.incrementAndGet();
+        private final AtomicInteger saved = new AtomicInteger();
+        private final AtomicInteger setup = new AtomicInteger();
+
+        CountingContextHandleFactory(String name, boolean shareable) {
+            this.name = name;
+            this.shareable = shareable;
+        }
+
+        @Override
+        public String getContextType() {
+            return ContextServiceDefinition.APPLICATION;
+        }
+
+        @Override
+        public SetupContextHandle clearedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+            return propagatedContext(contextService, contextObjectProperties);
+        }
+
+        @Override
+        public SetupContextHandle propagatedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+            saved.incrementAndGet();
+            return new SetupContextHandle() {
+                @Override
+                public ResetContextHandle setup() {
+                    setup.incrementAndGet();
+                    return new ResetContextHandle() {
+                        @Override
+                        public void reset() {
+                        }
+
+                        @Override
+                        public String getFactoryName() {
+                            return name;
+                        }
+                    };
+                }
+
+                @Override
+                public String getFactoryName() {
+                    return name;
+                }
+
+                @Override
+                public boolean isShareable() {
+                    return shareable;
+                }
+            };
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getChainPriority() {
+            return chainPriority;
+        }
+
+        @Override
+        public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) {
+        }
+
+        @Override
+        public SetupContextHandle readSetupContextHandle(ObjectInputStream in) {
+            return null;
+        }
+    }
+}
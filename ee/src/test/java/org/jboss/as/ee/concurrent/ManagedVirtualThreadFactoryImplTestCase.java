@@ -0,0 +1,165 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.glassfish.enterprise.concurrent.AbstractManagedExecutorService.RejectPolicy;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Unit test for the hung task detection and back-pressure of a managed executor using a {@link ManagedVirtualThreadFactoryImpl}.
+ * Skipped on runtimes without virtual thread support.
+ */
+public class ManagedVirtualThreadFactoryImplTestCase {
+
+    private ManagedVirtualThreadFactoryImpl factory;
+    private ManagedExecutorServiceImpl executor;
+
+    @After
+    public void destroy() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+        if (this.factory != null) {
+            this.factory.stop();
+        }
+    }
+
+    @Test
+    public void testHungTasks() throws Exception {
+        final long hungTaskThreshold = 100L;
+        this.createExecutor(hungTaskThreshold, 0, 0);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final long submitted = System.currentTimeMillis();
+        final Future<?> future = this.executor.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // a task is only hung once it runs for longer than the threshold
+        final int hungTasks = this.factory.getHungTasksCount();
+        if (System.currentTimeMillis() - submitted < hungTaskThreshold) {
+            assertEquals(0, hungTasks);
+        }
+        waitUntil(() -> this.factory.getHungTasksCount() == 1);
+        assertEquals(1, this.executor.getRuntimeStats().getHungThreadsCount());
+
+        this.executor.terminateHungTasks();
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+        waitUntil(() -> this.factory.getHungTasksCount() == 0);
+    }
+
+    @Test
+    public void testNoHungTasksWithoutThreshold() throws Exception {
+        this.createExecutor(0L, 0, 0);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Future<?> future = this.executor.submit(() -> await(release));
+        Thread.sleep(50);
+        assertEquals(0, this.factory.getHungTasksCount());
+        release.countDown();
+        future.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testRejectionAtLimit() throws Exception {
+        // one running task, one queued task, after which submissions are rejected
+        this.createExecutor(0L, 1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger completed = new AtomicInteger();
+        final Runnable task = () -> {
+            running.incrementAndGet();
+            await(release);
+            completed.incrementAndGet();
+        };
+        final Future<?> first = this.executor.submit(task);
+        waitUntil(() -> running.get() == 1);
+        final Future<?> second = this.executor.submit(task);
+        try {
+            this.executor.submit(task);
+            fail("Task submitted beyond max-concurrent-tasks and queue-length should have been rejected");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        // the queued task waits for a permit
+        Thread.sleep(50);
+        assertEquals(1, running.get());
+        assertFalse(second.isDone());
+
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        assertEquals(2, completed.get());
+    }
+
+    @Test
+    public void testCapacityReleasedOnCompletion() throws Exception {
+        this.createExecutor(0L, 1, 1);
+        for (int i = 0; i < 10; i++) {
+            final CountDownLatch release = new CountDownLatch(1);
+            final AtomicInteger running = new AtomicInteger();
+            final Runnable task = () -> {
+                running.incrementAndGet();
+                await(release);
+            };
+            final Future<?> first = this.executor.submit(task);
+            waitUntil(() -> running.get() == 1);
+            final Future<?> second = this.executor.submit(task);
+            try {
+                this.executor.submit(task);
+                fail("Task submitted beyond max-concurrent-tasks and queue-length should have been rejected");
+            } catch (RejectedExecutionException e) {
+                // expected
+            }
+            release.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+            // completed tasks must have released their permit and queue slot for the next iteration
+        }
+    }
+
+    private void createExecutor(long hungTaskThreshold, int maxConcurrentTasks, int queueCapacity) {
+        this.factory = ManagedVirtualThreadFactoryImpl.create("test", hungTaskThreshold);
+        Assume.assumeTrue("Virtual threads not supported", this.factory != null);
+        final ContextServiceImpl contextService = new ContextServiceImpl("test", new DefaultContextSetupProviderImpl(), ContextServiceTypesConfiguration.DEFAULT);
+        this.executor = new ManagedExecutorServiceImpl("test", this.factory, hungTaskThreshold, false, maxConcurrentTasks, queueCapacity, 60L, TimeUnit.SECONDS, contextService, RejectPolicy.ABORT, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+}
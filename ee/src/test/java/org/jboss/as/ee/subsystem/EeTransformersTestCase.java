@@ -0,0 +1,86 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.subsystem;
+
+import java.util.List;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Transformer tests for the ee subsystem.
+ */
+public class EeTransformersTestCase extends AbstractSubsystemTest {
+
+    public EeTransformersTestCase() {
+        super(EeExtension.SUBSYSTEM_NAME, new EeExtension());
+    }
+
+    @Test
+    public void testTransformers600() throws Exception {
+        this.testTransformers(EESubsystemModel.Version.v6_0_0);
+    }
+
+    @Test
+    public void testRejectingTransformers600() throws Exception {
+        this.testRejectingTransformers(EESubsystemModel.Version.v6_0_0);
+    }
+
+    private void testTransformers(ModelVersion version) throws Exception {
+        KernelServicesBuilder builder = this.createKernelServicesBuilder(createAdditionalInitialization())
+                .setSubsystemXmlResource(String.format("ee-transform-%d_%d_%d.xml", version.getMajor(), version.getMinor(), version.getMicro()));
+        // Legacy models were only ever shipped by WildFly releases, thus the legacy controller uses the current classes
+        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), ModelTestControllerVersion.MASTER, version)
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(mainServices.getLegacyServices(version).isSuccessfulBoot());
+
+        // The default thread mode is discarded
+        this.checkSubsystemModelTransformation(mainServices, version, null, false);
+    }
+
+    private void testRejectingTransformers(ModelVersion version) throws Exception {
+        KernelServicesBuilder builder = this.createKernelServicesBuilder(createAdditionalInitialization());
+        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), ModelTestControllerVersion.MASTER, version)
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(mainServices.getLegacyServices(version).isSuccessfulBoot());
+
+        List<ModelNode> operations = builder.parseXmlResource("ee-transform-reject.xml");
+        PathAddress subsystemAddress = PathAddress.pathAddress(EeExtension.PATH_SUBSYSTEM);
+
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig()
+                .addFailedAttribute(subsystemAddress.append(PathElement.pathElement(EESubsystemModel.MANAGED_EXECUTOR_SERVICE, "virtual")),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(ManagedExecutorServiceResourceDefinition.THREAD_MODE_AD))
+                .addFailedAttribute(subsystemAddress.append(PathElement.pathElement(EESubsystemModel.MANAGED_EXECUTOR_SERVICE, "limited")),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(ManagedExecutorServiceResourceDefinition.MAX_CONCURRENT_TASKS_AD))
+                .addFailedAttribute(subsystemAddress.append(PathElement.pathElement(EESubsystemModel.MANAGED_SCHEDULED_EXECUTOR_SERVICE, "virtual")),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(ManagedScheduledExecutorServiceResourceDefinition.THREAD_MODE_AD));
+
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, version, operations, config);
+    }
+
+    private static AdditionalInitialization createAdditionalInitialization() {
+        return AdditionalInitialization.withCapabilities(EeCapabilities.PATH_MANAGER_CAPABILITY);
+    }
+}
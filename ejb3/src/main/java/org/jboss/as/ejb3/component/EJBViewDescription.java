@@ -14,6 +14,7 @@ import org.jboss.as.ee.component.InjectionSource;
 import org.jboss.as.ee.component.ViewConfiguration;
 import org.jboss.as.ee.component.ViewConfigurator;
 import org.jboss.as.ee.component.ViewDescription;
+import org.jboss.as.ejb3.remote.EJBViewMethodIndex;
 import org.jboss.as.ejb3.remote.RemoteViewInjectionSource;
 import org.jboss.as.ejb3.validator.EjbProxy;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
@@ -52,6 +53,15 @@ public class EJBViewDescription extends ViewDescription {
                 configuration.putPrivateData(MethodInterfaceType.class, getMethodIntf());
             }
         });
+        if (methodIntf == MethodInterfaceType.Remote || methodIntf == MethodInterfaceType.Home) {
+            // add a configurator to attach the index used to locate the methods of remote invocations
+            getConfigurators().add(new ViewConfigurator() {
+                @Override
+                public void configure(final DeploymentPhaseContext context, final ComponentConfiguration componentConfiguration, final ViewDescription description, final ViewConfiguration configuration) throws DeploymentUnitProcessingException {
+                    configuration.putPrivateData(EJBViewMethodIndex.class, new EJBViewMethodIndex(configuration.getProxyFactory().getCachedMethods()));
+                }
+            });
+        }
         // add a view configurator for setting up application specific container interceptors for the EJB view
         getConfigurators().add(EJBContainerInterceptorsViewConfigurator.INSTANCE);
         // add server interceptors configurator
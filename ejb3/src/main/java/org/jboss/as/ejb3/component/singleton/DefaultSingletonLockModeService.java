@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.singleton;
+
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Service that manages the default lock mode of singleton beans.
+ * Changes only apply to singleton beans deployed afterwards.
+ */
+public class DefaultSingletonLockModeService implements Service<DefaultSingletonLockModeService> {
+
+    public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("ejb3", "singletonDefaultLockMode");
+
+    private volatile SingletonLockMode value;
+
+    public DefaultSingletonLockModeService(final SingletonLockMode value) {
+        this.value = value;
+    }
+
+    public SingletonLockMode getDefaultLockMode() {
+        return this.value;
+    }
+
+    public void setDefaultLockMode(final SingletonLockMode value) {
+        this.value = value;
+    }
+
+    @Override
+    public void start(final StartContext context) throws StartException {
+
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+
+    }
+
+    @Override
+    public DefaultSingletonLockModeService getValue() throws IllegalStateException, IllegalArgumentException {
+        return this;
+    }
+}
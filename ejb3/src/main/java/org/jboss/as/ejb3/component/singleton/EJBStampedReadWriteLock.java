@@ -0,0 +1,219 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * An implementation of {@link java.util.concurrent.locks.ReadWriteLock} with the same semantics as {@link EJBReadWriteLock},
+ * i.e. reentrant read and write locks, a thread holding the write lock may obtain the read lock, and a thread holding a read lock
+ * trying to obtain the write lock fails with an {@link jakarta.ejb.IllegalLoopbackException},
+ * but which delegates to a {@link StampedLock} rather than to a {@link java.util.concurrent.locks.ReentrantReadWriteLock}.
+ * <p>
+ * Read locks only track their per thread reentrancy via a mutable holder, i.e. without boxing, and cost a single CAS of the delegate,
+ * which benefits read-mostly singletons invoked concurrently by many threads.
+ * Optimistic reads of the {@link StampedLock} are not used, since the invocation of a business method cannot be validated and retried.
+ */
+public class EJBStampedReadWriteLock implements ReadWriteLock {
+
+    private final StampedLock delegate = new StampedLock();
+
+    /**
+     * Number of read locks held by each thread
+     */
+    private final ThreadLocal<ReadHolds> readHolds = ThreadLocal.withInitial(ReadHolds::new);
+
+    // Only written by the thread holding the write lock
+    private volatile Thread writeOwner;
+    private int writeHolds;
+    private long writeStamp;
+
+    private final Lock readLock = new ReadLock();
+    private final Lock writeLock = new WriteLock();
+
+    private static class ReadHolds {
+        int count;
+    }
+
+    public class ReadLock implements Lock {
+
+        @Override
+        public void lock() {
+            ReadHolds holds = readHolds.get();
+            if (!this.reenter(holds)) {
+                delegate.readLock();
+            }
+            holds.count++;
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            ReadHolds holds = readHolds.get();
+            if (!this.reenter(holds)) {
+                delegate.readLockInterruptibly();
+            }
+            holds.count++;
+        }
+
+        @Override
+        public boolean tryLock() {
+            ReadHolds holds = readHolds.get();
+            if (!this.reenter(holds) && delegate.tryReadLock() == 0L) {
+                return false;
+            }
+            holds.count++;
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            ReadHolds holds = readHolds.get();
+            if (!this.reenter(holds) && delegate.tryReadLock(time, unit) == 0L) {
+                return false;
+            }
+            holds.count++;
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            ReadHolds holds = readHolds.get();
+            if (holds.count == 0) {
+                throw new IllegalMonitorStateException();
+            }
+            holds.count--;
+            // A read lock obtained by the thread holding the write lock is not backed by a read lock of the delegate
+            if (writeOwner != Thread.currentThread() && !delegate.tryUnlockRead()) {
+                throw new IllegalMonitorStateException();
+            }
+        }
+
+        /**
+         * Not implemented
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Obtains a read lock without blocking if the current thread already holds the write lock, or a read lock.
+         * In the latter case, the delegate cannot be write locked, thus queued writers cannot block a reentrant reader.
+         * @return true, if the current thread already holds a lock, false otherwise
+         */
+        private boolean reenter(ReadHolds holds) {
+            if (writeOwner == Thread.currentThread()) {
+                return true;
+            }
+            if (holds.count > 0) {
+                long stamp = delegate.tryReadLock();
+                assert stamp != 0L;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public class WriteLock implements Lock {
+
+        @Override
+        public void lock() {
+            if (!this.reenter()) {
+                this.acquired(delegate.writeLock());
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (!this.reenter()) {
+                this.acquired(delegate.writeLockInterruptibly());
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            return this.reenter() || this.acquired(delegate.tryWriteLock());
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return this.reenter() || this.acquired(delegate.tryWriteLock(time, unit));
+        }
+
+        @Override
+        public void unlock() {
+            if (writeOwner != Thread.currentThread()) {
+                throw new IllegalMonitorStateException();
+            }
+            if (--writeHolds == 0) {
+                int reads = readHolds.get().count;
+                if (reads > 0) {
+                    // Downgrade, backing the read locks obtained while holding the write lock by read locks of the delegate
+                    delegate.tryConvertToReadLock(writeStamp);
+                    for (int i = 1; i < reads; ++i) {
+                        delegate.tryReadLock();
+                    }
+                } else {
+                    delegate.unlockWrite(writeStamp);
+                }
+                writeOwner = null;
+            }
+        }
+
+        /**
+         * Not implemented
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Ensures that the current thread doesn't hold any read locks. If
+         * the thread holds any read locks, this method throws a {@link jakarta.ejb.IllegalLoopbackException}.
+         * @return true, if the current thread already holds the write lock, false otherwise
+         */
+        private boolean reenter() {
+            if (readHolds.get().count > 0) {
+                throw EjbLogger.ROOT_LOGGER.failToUpgradeToWriteLock();
+            }
+            if (writeOwner == Thread.currentThread()) {
+                writeHolds++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean acquired(long stamp) {
+            if (stamp == 0L) {
+                return false;
+            }
+            writeStamp = stamp;
+            writeHolds = 1;
+            writeOwner = Thread.currentThread();
+            return true;
+        }
+    }
+
+    @Override
+    public Lock readLock() {
+        return this.readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return this.writeLock;
+    }
+}
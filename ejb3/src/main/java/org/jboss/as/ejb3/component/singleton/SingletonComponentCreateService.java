@@ -24,6 +24,7 @@ public class SingletonComponentCreateService extends SessionBeanComponentCreateS
     private final boolean initOnStartup;
     private final List<ServiceName> dependsOn;
     private final InjectedValue<DefaultAccessTimeoutService> defaultAccessTimeoutService = new InjectedValue<DefaultAccessTimeoutService>();
+    private final InjectedValue<DefaultSingletonLockModeService> defaultLockModeService = new InjectedValue<DefaultSingletonLockModeService>();
 
     public SingletonComponentCreateService(final ComponentConfiguration componentConfiguration, final ApplicationExceptions ejbJarConfiguration, final boolean initOnStartup, final List<ServiceName> dependsOn) {
         super(componentConfiguration, ejbJarConfiguration);
@@ -47,4 +48,12 @@ public class SingletonComponentCreateService extends SessionBeanComponentCreateS
     Injector<DefaultAccessTimeoutService> getDefaultAccessTimeoutInjector() {
         return this.defaultAccessTimeoutService;
     }
+
+    public DefaultSingletonLockModeService getDefaultLockModeService() {
+        return defaultLockModeService.getValue();
+    }
+
+    Injector<DefaultSingletonLockModeService> getDefaultLockModeInjector() {
+        return this.defaultLockModeService;
+    }
 }
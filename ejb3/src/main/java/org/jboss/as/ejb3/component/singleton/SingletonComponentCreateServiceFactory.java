@@ -35,12 +35,13 @@ public class SingletonComponentCreateServiceFactory extends EJBComponentCreateSe
         if (this.ejbJarConfiguration == null) {
             throw EjbLogger.ROOT_LOGGER.ejbJarConfigNotBeenSet(this, configuration.getComponentName());
         }
-        // setup an injection dependency to inject the DefaultAccessTimeoutService in the singleton bean
+        // setup an injection dependency to inject the DefaultAccessTimeoutService and the DefaultSingletonLockModeService in the singleton bean
         // component create service
         configuration.getCreateDependencies().add(new DependencyConfigurator<SingletonComponentCreateService>() {
             @Override
             public void configureDependency(ServiceBuilder<?> serviceBuilder, SingletonComponentCreateService componentCreateService) throws DeploymentUnitProcessingException {
                 serviceBuilder.addDependency(DefaultAccessTimeoutService.SINGLETON_SERVICE_NAME, DefaultAccessTimeoutService.class, componentCreateService.getDefaultAccessTimeoutInjector());
+                serviceBuilder.addDependency(DefaultSingletonLockModeService.SERVICE_NAME, DefaultSingletonLockModeService.class, componentCreateService.getDefaultLockModeInjector());
             }
         });
         return new SingletonComponentCreateService(configuration, this.ejbJarConfiguration, this.initOnStartup, dependsOn);
@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Enumerates the implementations of the lock used for the container managed concurrency of singleton beans.
+ */
+public enum SingletonLockMode {
+    /**
+     * Locks backed by a {@link java.util.concurrent.locks.ReentrantReadWriteLock}
+     */
+    REENTRANT("reentrant") {
+        @Override
+        public ReadWriteLock createLock() {
+            return new EJBReadWriteLock();
+        }
+    },
+    /**
+     * Locks backed by a {@link java.util.concurrent.locks.StampedLock}, cheaper for read-mostly singletons under contention
+     */
+    STAMPED("stamped") {
+        @Override
+        public ReadWriteLock createLock() {
+            return new EJBStampedReadWriteLock();
+        }
+    },
+    ;
+
+    private final String value;
+
+    SingletonLockMode(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates a lock of this mode, for a singleton bean.
+     * @return a new read/write lock
+     */
+    public abstract ReadWriteLock createLock();
+
+    public static SingletonLockMode forValue(String value) {
+        for (SingletonLockMode mode : values()) {
+            if (mode.value.equals(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException(value);
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+}
@@ -122,6 +122,11 @@ public class DistributableStatefulSessionBeanCache<K, V extends StatefulSessionB
         return this.manager.getPassiveCount();
     }
 
+    @Override
+    public long getMarshalledBytesPerInvocation() {
+        return this.manager.getMarshalledBytesPerInvocation();
+    }
+
     @Override
     public Supplier<K> getIdentifierFactory() {
         return this.manager.getIdentifierFactory();
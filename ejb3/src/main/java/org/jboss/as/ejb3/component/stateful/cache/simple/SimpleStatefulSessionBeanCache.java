@@ -130,6 +130,11 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         return 0;
     }
 
+    @Override
+    public long getMarshalledBytesPerInvocation() {
+        return 0;
+    }
+
     @Override
     public Supplier<K> getIdentifierFactory() {
         return this.identifierFactory;
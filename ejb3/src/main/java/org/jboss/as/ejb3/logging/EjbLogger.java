@@ -3242,4 +3242,8 @@ public interface EjbLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 532, value = "Database detected from configuration is: '%s'. If this is incorrect, please specify the correct database.")
     void unknownDatabaseName(String name);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 533, value = "Failed to dispatch timeout on thread %s")
+    void timeoutDispatchFailed(String thread, @Cause Throwable cause);
 }
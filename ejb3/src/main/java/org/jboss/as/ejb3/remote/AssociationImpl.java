@@ -209,9 +209,7 @@ final class AssociationImpl implements Association, AutoCloseable {
             final Object result;
 
             try {
-                final Map<String, Object> contextDataHolder = new HashMap<>();
-                result = invokeMethod(componentView, invokedMethod, invocationRequest, requestContent, cancellationFlag, actualLocator, contextDataHolder);
-                attachments.putAll(contextDataHolder);
+                result = invokeMethod(componentView, invokedMethod, invocationRequest, requestContent, cancellationFlag, actualLocator);
             } catch (EJBComponentUnavailableException ex) {
                 // if the Jakarta Enterprise Beans are shutting down when the invocation was done, then it's as good as the Jakarta Enterprise Beans not being available. The client has to know about this as
                 // a "no such EJB" failure so that it can retry the invocation on a different node if possible.
@@ -558,7 +556,7 @@ final class AssociationImpl implements Association, AutoCloseable {
         }
     }
 
-    static Object invokeMethod(final ComponentView componentView, final Method method, final InvocationRequest incomingInvocation, final InvocationRequest.Resolved content, final CancellationFlag cancellationFlag, final EJBLocator<?> ejbLocator, Map<String, Object> contextDataHolder) throws Exception {
+    static Object invokeMethod(final ComponentView componentView, final Method method, final InvocationRequest incomingInvocation, final InvocationRequest.Resolved content, final CancellationFlag cancellationFlag, final EJBLocator<?> ejbLocator) throws Exception {
         final InterceptorContext interceptorContext = new InterceptorContext();
         interceptorContext.setParameters(content.getParameters());
         interceptorContext.setMethod(method);
@@ -609,23 +607,24 @@ final class AssociationImpl implements Association, AutoCloseable {
                 interceptorContext.putPrivateData(CancellationFlag.class, cancellationFlag);
             }
             final Object result = invokeWithIdentity(componentView, interceptorContext, securityIdentity);
-            handleReturningContextData(contextDataHolder, interceptorContext, content);
+            handleReturningContextData(interceptorContext, content);
             return result == null ? null : ((Future<?>) result).get();
         } else {
             Object result = invokeWithIdentity(componentView, interceptorContext, securityIdentity);
-            handleReturningContextData(contextDataHolder, interceptorContext, content);
+            handleReturningContextData(interceptorContext, content);
             return result;
         }
     }
 
-    private static void handleReturningContextData(Map<String, Object> contextDataHolder, InterceptorContext interceptorContext, InvocationRequest.Resolved content) {
+    private static void handleReturningContextData(InterceptorContext interceptorContext, InvocationRequest.Resolved content) {
         Set<String> returnKeys = (Set<String>) content.getAttachments().get(RETURNED_CONTEXT_DATA_KEY);
         if(returnKeys == null) {
             return;
         }
+        // the returned context data is written directly to the response attachments, which are only sent back if the invocation succeeds
         for(String key : returnKeys) {
             if(interceptorContext.getContextData().containsKey(key)) {
-                contextDataHolder.put(key, interceptorContext.getContextData().get(key));
+                content.getAttachments().put(key, interceptorContext.getContextData().get(key));
             } else {
                 // need to remove the attachment, as the ContextData value for this key got removed
                 content.getAttachments().remove(key);
@@ -637,7 +636,11 @@ final class AssociationImpl implements Association, AutoCloseable {
         return securityIdentity == null ? componentView.invoke(interceptorContext) : securityIdentity.runAsFunctionEx(ComponentView::invoke, componentView, interceptorContext);
     }
 
-    private static Method findMethod(final ComponentView componentView, final EJBMethodLocator ejbMethodLocator) {
+    static Method findMethod(final ComponentView componentView, final EJBMethodLocator ejbMethodLocator) {
+        final EJBViewMethodIndex methodIndex = componentView.getPrivateData(EJBViewMethodIndex.class);
+        if (methodIndex != null) {
+            return methodIndex.getMethod(ejbMethodLocator);
+        }
         final Set<Method> viewMethods = componentView.getViewMethods();
         for (final Method method : viewMethods) {
             if (method.getName().equals(ejbMethodLocator.getMethodName())) {
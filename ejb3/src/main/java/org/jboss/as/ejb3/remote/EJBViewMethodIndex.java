@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.ejb.client.EJBMethodLocator;
+
+/**
+ * An immutable index of the methods of an EJB view, keyed by {@link EJBMethodLocator}, i.e. by method name and parameter type names,
+ * which is used to locate the method targeted by a remote invocation without scanning all view methods.
+ * The index is attached to the view as private data.
+ */
+public final class EJBViewMethodIndex {
+
+    private final Map<EJBMethodLocator, Method> methods;
+
+    public EJBViewMethodIndex(final Collection<Method> viewMethods) {
+        final Map<EJBMethodLocator, Method> methods = new HashMap<>(viewMethods.size() * 4 / 3 + 1);
+        for (Method method : viewMethods) {
+            methods.putIfAbsent(locatorFor(method), method);
+        }
+        this.methods = methods;
+    }
+
+    /**
+     * Retrieves the view method matching the specified locator, which caches its own hash code, thus the lookup does not allocate.
+     * @param locator the method locator of the invocation
+     * @return the matching view method, or null if there is none
+     */
+    public Method getMethod(final EJBMethodLocator locator) {
+        return methods.get(locator);
+    }
+
+    private static EJBMethodLocator locatorFor(final Method method) {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        final String[] parameterTypeNames = new String[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypeNames[i] = parameterTypes[i].getName();
+        }
+        return new EJBMethodLocator(method.getName(), parameterTypeNames);
+    }
+}
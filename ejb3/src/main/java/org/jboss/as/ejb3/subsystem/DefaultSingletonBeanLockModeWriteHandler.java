@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import org.jboss.as.controller.AbstractWriteAttributeHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.ejb3.component.singleton.DefaultSingletonLockModeService;
+import org.jboss.as.ejb3.component.singleton.SingletonLockMode;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Write handler for the default lock mode of singleton beans, which applies to singleton beans deployed afterwards.
+ */
+class DefaultSingletonBeanLockModeWriteHandler extends AbstractWriteAttributeHandler<Void> {
+
+    static final DefaultSingletonBeanLockModeWriteHandler INSTANCE = new DefaultSingletonBeanLockModeWriteHandler();
+
+    private DefaultSingletonBeanLockModeWriteHandler() {
+        super(EJB3SubsystemRootResourceDefinition.DEFAULT_SINGLETON_BEAN_LOCK_MODE);
+    }
+
+    @Override
+    protected boolean applyUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName, ModelNode resolvedValue, ModelNode currentValue, HandbackHolder<Void> voidHandbackHolder) throws OperationFailedException {
+        final ModelNode model = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
+        updateOrCreateDefaultSingletonBeanLockModeService(context, model);
+
+        return false;
+    }
+
+    @Override
+    protected void revertUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName, ModelNode valueToRestore, ModelNode valueToRevert, Void handback) throws OperationFailedException {
+        final ModelNode restored = context.readResource(PathAddress.EMPTY_ADDRESS).getModel().clone();
+        restored.get(attributeName).set(valueToRestore);
+        updateOrCreateDefaultSingletonBeanLockModeService(context, restored);
+    }
+
+    void updateOrCreateDefaultSingletonBeanLockModeService(final OperationContext context, final ModelNode model) throws OperationFailedException {
+        final SingletonLockMode lockMode = SingletonLockMode.forValue(EJB3SubsystemRootResourceDefinition.DEFAULT_SINGLETON_BEAN_LOCK_MODE.resolveModelAttribute(context, model).asString());
+        final ServiceName serviceName = DefaultSingletonLockModeService.SERVICE_NAME;
+        final ServiceRegistry registry = context.getServiceRegistry(true);
+        final ServiceController<?> sc = registry.getService(serviceName);
+        if (sc != null) {
+            DefaultSingletonLockModeService.class.cast(sc.getValue()).setDefaultLockMode(lockMode);
+        } else {
+            context.getServiceTarget().addService(serviceName, new DefaultSingletonLockModeService(lockMode)).install();
+        }
+    }
+}
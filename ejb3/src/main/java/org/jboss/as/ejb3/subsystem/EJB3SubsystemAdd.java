@@ -473,6 +473,8 @@ class EJB3SubsystemAdd extends AbstractBoottimeAddStepHandler {
             DefaultSingletonBeanAccessTimeoutWriteHandler.INSTANCE.updateOrCreateDefaultSingletonBeanAccessTimeoutService(context, model);
         }
 
+        DefaultSingletonBeanLockModeWriteHandler.INSTANCE.updateOrCreateDefaultSingletonBeanLockModeService(context, model);
+
         if (model.hasDefined(DEFAULT_STATEFUL_BEAN_ACCESS_TIMEOUT)) {
             DefaultStatefulBeanAccessTimeoutWriteHandler.INSTANCE.updateOrCreateDefaultStatefulBeanAccessTimeoutService(context, model);
         }
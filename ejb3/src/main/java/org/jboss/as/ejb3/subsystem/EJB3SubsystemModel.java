@@ -67,11 +67,14 @@ public interface EJB3SubsystemModel {
     String PATH = "path";
 
     String DEFAULT_SINGLETON_BEAN_ACCESS_TIMEOUT = "default-singleton-bean-access-timeout";
+    String DEFAULT_SINGLETON_BEAN_LOCK_MODE = "default-singleton-bean-lock-mode";
     String DEFAULT_STATEFUL_BEAN_ACCESS_TIMEOUT = "default-stateful-bean-access-timeout";
     String DEFAULT_STATEFUL_BEAN_SESSION_TIMEOUT = "default-stateful-bean-session-timeout";
     String DEFAULT_DATA_STORE = "default-data-store";
     String DEFAULT_PERSISTENT_TIMER_MANAGEMENT = "default-persistent-timer-management";
     String DEFAULT_TRANSIENT_TIMER_MANAGEMENT = "default-transient-timer-management";
+    String DISPATCH_MODE = "dispatch-mode";
+    String DISPATCH_SHARDS = "dispatch-shards";
 
     String REMOTE = "remote";
     String SERVICE = "service";
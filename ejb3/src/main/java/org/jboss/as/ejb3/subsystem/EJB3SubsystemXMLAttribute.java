@@ -38,6 +38,8 @@ public enum EJB3SubsystemXMLAttribute {
     DEFAULT_TRANSIENT_TIMER_MANAGEMENT(EJB3SubsystemModel.DEFAULT_TRANSIENT_TIMER_MANAGEMENT),
     DATABASE("database"),
     DATASOURCE_JNDI_NAME("datasource-jndi-name"),
+    DISPATCH_MODE(EJB3SubsystemModel.DISPATCH_MODE),
+    DISPATCH_SHARDS(EJB3SubsystemModel.DISPATCH_SHARDS),
 
     ENABLED("enabled"),
     ENABLE_BY_DEFAULT("enable-by-default"),
@@ -53,6 +55,7 @@ public enum EJB3SubsystemXMLAttribute {
     KEEPALIVE_TIME("keepalive-time"),
 
     LOCAL_RECEIVER_PASS_BY_VALUE("local-receiver-pass-by-value"),
+    LOCK_MODE("lock-mode"),
 
     MAX_POOL_SIZE("max-pool-size"),
     MAX_SIZE("max-size"),
@@ -5,6 +5,7 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_10_0_0;
 import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_9_0_0;
 
 import org.jboss.as.controller.ModelVersion;
@@ -38,11 +39,28 @@ public class EJBTransformers implements ExtensionTransformerRegistration {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(currentModel);
 
         // register the transformations required for each legacy version after 9.0.0
-        registerTransformers_9_0_0(chainedBuilder.createBuilder(currentModel, VERSION_9_0_0.getVersion()));
+        registerTransformers_10_0_0(chainedBuilder.createBuilder(currentModel, VERSION_10_0_0.getVersion()));
+        registerTransformers_9_0_0(chainedBuilder.createBuilder(VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion()));
 
         // create the chained builder which incorporates all transformations
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[] {
-                VERSION_9_0_0.getVersion() });
+                VERSION_9_0_0.getVersion(), VERSION_10_0_0.getVersion() });
+    }
+
+    /*
+     * Transformers for changes in model version 11.0.0
+     */
+    private static void registerTransformers_10_0_0(ResourceTransformationDescriptionBuilder subsystemBuilder) {
+        subsystemBuilder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, EJB3SubsystemRootResourceDefinition.DEFAULT_SINGLETON_BEAN_LOCK_MODE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3SubsystemRootResourceDefinition.DEFAULT_SINGLETON_BEAN_LOCK_MODE)
+                .end();
+
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.TIMER_SERVICE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, TimerServiceResourceDefinition.DISPATCH_MODE)
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, TimerServiceResourceDefinition.DISPATCH_SHARDS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, TimerServiceResourceDefinition.DISPATCH_MODE, TimerServiceResourceDefinition.DISPATCH_SHARDS)
+                .end();
     }
 
     /*
@@ -8,15 +8,21 @@ package org.jboss.as.ejb3.subsystem;
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
 import java.util.Timer;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.capability.CapabilityServiceBuilder;
 import org.jboss.as.ejb3.deployment.processors.AroundTimeoutAnnotationParsingProcessor;
 import org.jboss.as.ejb3.deployment.processors.TimerServiceDeploymentProcessor;
 import org.jboss.as.ejb3.deployment.processors.annotation.TimerServiceAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.merging.TimerMethodMergingProcessor;
 import org.jboss.as.ejb3.timerservice.TimerServiceMetaData;
+import org.jboss.as.ejb3.timerservice.dispatch.ShardedTimeoutDispatcher;
+import org.jboss.as.ejb3.timerservice.dispatch.TimeoutDispatchMode;
+import org.jboss.as.ejb3.timerservice.dispatch.TimeoutDispatcher;
+import org.jboss.as.ejb3.timerservice.dispatch.TimerTimeoutDispatcher;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
@@ -43,6 +49,8 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
     protected void performBoottime(final OperationContext context, ModelNode operation, final ModelNode model) throws OperationFailedException {
 
         final String threadPoolName = TimerServiceResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asStringOrNull();
+        final TimeoutDispatchMode dispatchMode = TimeoutDispatchMode.forValue(TimerServiceResourceDefinition.DISPATCH_MODE.resolveModelAttribute(context, model).asString());
+        final int dispatchShards = TimerServiceResourceDefinition.DISPATCH_SHARDS.resolveModelAttribute(context, model).asInt(Runtime.getRuntime().availableProcessors());
 
         TimerServiceMetaData defaultMetaData = new TimerServiceMetaData();
         defaultMetaData.setDataStoreName(TimerServiceResourceDefinition.DEFAULT_DATA_STORE.resolveModelAttribute(context, model).asStringOrNull());
@@ -63,6 +71,10 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
 
         if (threadPoolName != null) {
             context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY).setInstance(new TimerValueService()).install();
+
+            CapabilityServiceBuilder<?> builder = context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMEOUT_DISPATCHER_CAPABILITY);
+            Supplier<Timer> timer = (dispatchMode == TimeoutDispatchMode.TIMER) ? builder.requiresCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY_NAME, Timer.class) : null;
+            builder.setInstance(new TimeoutDispatcherService(dispatchMode, dispatchShards, timer)).install();
         }
     }
 
@@ -86,4 +98,42 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
             return timer;
         }
     }
+
+    private static final class TimeoutDispatcherService implements Service<TimeoutDispatcher> {
+
+        private final TimeoutDispatchMode mode;
+        private final int shards;
+        private final Supplier<Timer> timer;
+        private TimeoutDispatcher dispatcher;
+
+        TimeoutDispatcherService(TimeoutDispatchMode mode, int shards, Supplier<Timer> timer) {
+            this.mode = mode;
+            this.shards = shards;
+            this.timer = timer;
+        }
+
+        @Override
+        public synchronized void start(final StartContext context) throws StartException {
+            switch (this.mode) {
+                case SHARDED:
+                    dispatcher = new ShardedTimeoutDispatcher("ejb-timer-dispatch", this.shards);
+                    break;
+                default:
+                    dispatcher = new TimerTimeoutDispatcher(this.timer.get());
+            }
+        }
+
+        @Override
+        public synchronized void stop(final StopContext context) {
+            if (dispatcher instanceof ShardedTimeoutDispatcher) {
+                ((ShardedTimeoutDispatcher) dispatcher).close();
+            }
+            dispatcher = null;
+        }
+
+        @Override
+        public synchronized TimeoutDispatcher getValue() throws IllegalStateException, IllegalArgumentException {
+            return dispatcher;
+        }
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import java.util.function.ToLongFunction;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.ejb3.timerservice.dispatch.DispatchMetrics;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Enumerates the timeout dispatch metrics of the timer-service resource.
+ */
+enum TimerServiceMetric {
+    SCHEDULED_TIMEOUT_COUNT("scheduled-timeout-count", ModelType.INT, AttributeAccess.Flag.GAUGE_METRIC, null, DispatchMetrics::getScheduledCount),
+    DISPATCH_COUNT("dispatch-count", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC, null, DispatchMetrics::getDispatchCount),
+    AVERAGE_DISPATCH_LAG("average-dispatch-lag", ModelType.LONG, AttributeAccess.Flag.GAUGE_METRIC, MeasurementUnit.MILLISECONDS, DispatchMetrics::getAverageLag),
+    MAX_DISPATCH_LAG("max-dispatch-lag", ModelType.LONG, AttributeAccess.Flag.GAUGE_METRIC, MeasurementUnit.MILLISECONDS, DispatchMetrics::getMaxLag),
+    ;
+
+    private final AttributeDefinition definition;
+    private final ModelType type;
+    private final ToLongFunction<DispatchMetrics> reader;
+
+    TimerServiceMetric(String name, ModelType type, AttributeAccess.Flag flag, MeasurementUnit unit, ToLongFunction<DispatchMetrics> reader) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type)
+                .setStorageRuntime()
+                .setMeasurementUnit(unit)
+                .addFlag(flag)
+                .build();
+        this.type = type;
+        this.reader = reader;
+    }
+
+    AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+
+    ModelNode read(DispatchMetrics metrics) {
+        long value = this.reader.applyAsLong(metrics);
+        return (this.type == ModelType.INT) ? new ModelNode((int) value) : new ModelNode(value);
+    }
+
+    static TimerServiceMetric forName(String name) {
+        for (TimerServiceMetric metric : values()) {
+            if (metric.definition.getName().equals(name)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+}
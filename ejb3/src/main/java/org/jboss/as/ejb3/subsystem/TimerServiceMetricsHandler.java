@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.ejb3.timerservice.dispatch.TimeoutDispatcher;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the metrics of the timeout dispatcher of the timer service.
+ * Metrics are undefined if the timer service is not running.
+ */
+class TimerServiceMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    static final TimerServiceMetricsHandler INSTANCE = new TimerServiceMetricsHandler();
+
+    private TimerServiceMetricsHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        TimerServiceMetric metric = TimerServiceMetric.forName(operation.get(ModelDescriptionConstants.NAME).asString());
+        ServiceController<?> controller = context.getServiceRegistry(false).getService(context.getCapabilityServiceName(TimerServiceResourceDefinition.TIMEOUT_DISPATCHER_CAPABILITY_NAME, TimeoutDispatcher.class));
+        if ((controller != null) && (controller.getState() == ServiceController.State.UP)) {
+            TimeoutDispatcher dispatcher = (TimeoutDispatcher) controller.getValue();
+            context.getResult().set(metric.read(dispatcher.getMetrics()));
+        }
+    }
+}
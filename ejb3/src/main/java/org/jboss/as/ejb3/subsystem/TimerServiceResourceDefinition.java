@@ -12,12 +12,17 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.dispatch.TimeoutDispatchMode;
+import org.jboss.as.ejb3.timerservice.dispatch.TimeoutDispatcher;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.jboss.as.threads.ThreadsServices;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.ejb.timer.TimerServiceRequirement;
 
@@ -45,6 +50,9 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
     public static final String TIMER_SERVICE_CAPABILITY_NAME = "org.wildfly.ejb3.timer-service";
     public static final RuntimeCapability<Void> TIMER_SERVICE_CAPABILITY = RuntimeCapability.Builder.of(TIMER_SERVICE_CAPABILITY_NAME, Timer.class).build();
 
+    public static final String TIMEOUT_DISPATCHER_CAPABILITY_NAME = "org.wildfly.ejb3.timer-service.timeout-dispatcher";
+    public static final RuntimeCapability<Void> TIMEOUT_DISPATCHER_CAPABILITY = RuntimeCapability.Builder.of(TIMEOUT_DISPATCHER_CAPABILITY_NAME, TimeoutDispatcher.class).build();
+
     static final SimpleAttributeDefinition THREAD_POOL_NAME =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.THREAD_POOL_NAME, ModelType.STRING)
                     .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
@@ -78,7 +86,22 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
                     .setCapabilityReference(TimerServiceRequirement.TIMER_MANAGEMENT_PROVIDER.getName(), TIMER_SERVICE_CAPABILITY)
                     .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE, DEFAULT_PERSISTENT_TIMER_MANAGEMENT, DEFAULT_TRANSIENT_TIMER_MANAGEMENT };
+    static final SimpleAttributeDefinition DISPATCH_MODE =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.DISPATCH_MODE, ModelType.STRING, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(TimeoutDispatchMode.TIMER.toString()))
+                    .setValidator(EnumValidator.create(TimeoutDispatchMode.class))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition DISPATCH_SHARDS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.DISPATCH_SHARDS, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE, DEFAULT_PERSISTENT_TIMER_MANAGEMENT, DEFAULT_TRANSIENT_TIMER_MANAGEMENT, DISPATCH_MODE, DISPATCH_SHARDS };
 
     private final PathManager pathManager;
 
@@ -88,7 +111,7 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
                 .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE)
                 .setAddRestartLevel(OperationEntry.Flag.RESTART_ALL_SERVICES)
                 .setRemoveRestartLevel(OperationEntry.Flag.RESTART_ALL_SERVICES)
-                .setCapabilities(TIMER_SERVICE_CAPABILITY));
+                .setCapabilities(TIMER_SERVICE_CAPABILITY, TIMEOUT_DISPATCHER_CAPABILITY));
         this.pathManager = pathManager;
     }
 
@@ -97,6 +120,11 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
         for (AttributeDefinition attr : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(attr, null, new ReloadRequiredWriteAttributeHandler(attr));
         }
+        if (resourceRegistration.isRuntimeOnlyRegistrationValid()) {
+            for (TimerServiceMetric metric : TimerServiceMetric.values()) {
+                resourceRegistration.registerMetric(metric.getDefinition(), TimerServiceMetricsHandler.INSTANCE);
+            }
+        }
     }
 
     @Override
@@ -5,9 +5,9 @@
 
 package org.jboss.as.ejb3.timerservice;
 
-import java.util.Timer;
 import java.util.concurrent.ExecutorService;
 
+import org.jboss.as.ejb3.timerservice.dispatch.TimeoutDispatcher;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.jboss.as.ejb3.timerservice.spi.ManagedTimerServiceConfiguration;
 
@@ -18,7 +18,7 @@ public interface TimerServiceConfiguration extends ManagedTimerServiceConfigurat
 
     ExecutorService getExecutor();
 
-    Timer getTimer();
+    TimeoutDispatcher getTimeoutDispatcher();
 
     TimerPersistence getTimerPersistence();
 }
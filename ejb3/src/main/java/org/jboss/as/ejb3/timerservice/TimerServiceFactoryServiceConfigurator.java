@@ -5,7 +5,6 @@
 
 package org.jboss.as.ejb3.timerservice;
 
-import java.util.Timer;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -16,6 +15,7 @@ import org.jboss.as.clustering.controller.CapabilityServiceConfigurator;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.subsystem.TimerServiceResourceDefinition;
+import org.jboss.as.ejb3.timerservice.dispatch.TimeoutDispatcher;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.jboss.as.ejb3.timerservice.spi.ManagedTimerService;
 import org.jboss.as.ejb3.timerservice.spi.ManagedTimerServiceConfiguration.TimerFilter;
@@ -48,7 +48,7 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
     private final String store;
     private final TimedObjectInvokerFactory invokerFactory;
 
-    private volatile SupplierDependency<Timer> timer;
+    private volatile SupplierDependency<TimeoutDispatcher> dispatcher;
     private volatile SupplierDependency<ExecutorService> executor;
     private volatile SupplierDependency<TimerPersistence> persistence;
     private volatile Predicate<TimerConfig> timerFilter = TimerFilter.ALL;
@@ -69,7 +69,7 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
 
     @Override
     public ServiceConfigurator configure(CapabilityServiceSupport support) {
-        this.timer = new ServiceSupplierDependency<>(support.getCapabilityServiceName(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY_NAME));
+        this.dispatcher = new ServiceSupplierDependency<>(support.getCapabilityServiceName(TimerServiceResourceDefinition.TIMEOUT_DISPATCHER_CAPABILITY_NAME));
         this.executor = new ServiceSupplierDependency<>(support.getCapabilityServiceName(TimerServiceResourceDefinition.THREAD_POOL_CAPABILITY_NAME, this.threadPoolName));
         this.persistence = (this.store != null) ? new ServiceSupplierDependency<>(support.getCapabilityServiceName(TimerServiceResourceDefinition.TIMER_PERSISTENCE_CAPABILITY_NAME, this.store)) : null;
         return this;
@@ -79,7 +79,7 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
     public ServiceBuilder<?> build(ServiceTarget target) {
         ServiceName name = this.getServiceName();
         ServiceBuilder<?> builder = target.addService(name);
-        Consumer<ManagedTimerServiceFactory> factory = new CompositeDependency(this.timer, this.executor, this.persistence).register(builder).provides(name);
+        Consumer<ManagedTimerServiceFactory> factory = new CompositeDependency(this.dispatcher, this.executor, this.persistence).register(builder).provides(name);
         return builder.setInstance(Service.newInstance(factory, this)).setInitialMode(ServiceController.Mode.ON_DEMAND);
     }
 
@@ -89,7 +89,7 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
         TimerServiceRegistry registry = this.registry;
         TimerListener listener = this.listener;
         ExecutorService executor = this.executor.get();
-        Timer timer = this.timer.get();
+        TimeoutDispatcher dispatcher = this.dispatcher.get();
         TimerPersistence persistence = (this.persistence != null) ? this.persistence.get() : null;
         Predicate<TimerConfig> timerFilter = this.timerFilter;
         return new TimerServiceImpl(new TimerServiceConfiguration() {
@@ -114,8 +114,8 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
             }
 
             @Override
-            public Timer getTimer() {
-                return timer;
+            public TimeoutDispatcher getTimeoutDispatcher() {
+                return dispatcher;
             }
 
             @Override
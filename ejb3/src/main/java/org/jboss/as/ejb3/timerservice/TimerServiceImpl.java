@@ -37,6 +37,7 @@ import jakarta.transaction.TransactionSynchronizationRegistry;
 
 import org.jboss.as.ejb3.context.CurrentInvocationContext;
 import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.timerservice.dispatch.TimeoutDispatcher;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.jboss.as.ejb3.timerservice.persistence.database.DatabaseTimerPersistence;
 import org.jboss.as.ejb3.timerservice.schedule.CalendarBasedTimeout;
@@ -70,9 +71,9 @@ public class TimerServiceImpl implements ManagedTimerService {
     private final ConcurrentMap<String, TimerImpl> timers = new ConcurrentHashMap<>();
 
     /**
-     * Holds the {@link java.util.concurrent.Future} of each of the timer tasks that have been scheduled
+     * Holds each of the timer tasks that have been scheduled
      */
-    private final ConcurrentMap<String, java.util.TimerTask> scheduledTimerFutures = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Task> scheduledTimerFutures = new ConcurrentHashMap<>();
 
     /**
      * Key that is used to store timers that are waiting on transaction completion in the transaction local
@@ -80,7 +81,7 @@ public class TimerServiceImpl implements ManagedTimerService {
     private final Object waitingOnTxCompletionKey = new Object();
 
     private final ExecutorService executor;
-    private final java.util.Timer timer;
+    private final TimeoutDispatcher dispatcher;
     private final TimedObjectInvoker invoker;
     private final TimerPersistence persistence;
     private final TimerServiceRegistry timerServiceRegistry;
@@ -100,7 +101,7 @@ public class TimerServiceImpl implements ManagedTimerService {
     public TimerServiceImpl(TimerServiceConfiguration configuration) {
         this.invoker = configuration.getInvoker();
         this.executor = configuration.getExecutor();
-        this.timer = configuration.getTimer();
+        this.dispatcher = configuration.getTimeoutDispatcher();
         this.persistence = configuration.getTimerPersistence();
         this.timerServiceRegistry = configuration.getTimerServiceRegistry();
         this.timerListener = configuration.getTimerListener();
@@ -155,7 +156,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         started = false;
         safeClose(listenerHandle);
         listenerHandle = null;
-        this.timer.purge(); //WFLY-3823
+        this.dispatcher.purge(); //WFLY-3823
     }
 
     @Override
@@ -662,7 +663,7 @@ public class TimerServiceImpl implements ManagedTimerService {
             if (delay < 0) {
                 delay = 0;
             }
-            this.timer.scheduleAtFixedRate(task, delay, intervalDuration);
+            task.schedule(this.dispatcher, timer.getId(), delay, intervalDuration);
         } else {
             EJB3_TIMER_LOGGER.debugv("Scheduling a single action timer {0} starting at {1} milliseconds from now", timer, delay);
             // if in past, then trigger immediately; if overdue by 5 minutes, set next expiration to current time
@@ -672,12 +673,12 @@ public class TimerServiceImpl implements ManagedTimerService {
                 }
                 delay = 0;
             }
-            this.timer.schedule(task, delay);
+            task.schedule(this.dispatcher, timer.getId(), delay, 0);
         }
     }
 
     /**
-     * Cancels any scheduled {@link java.util.concurrent.Future} corresponding to the passed <code>timer</code>
+     * Cancels any scheduled task corresponding to the passed <code>timer</code>
      *
      * @param timer the timer to cancel
      */
@@ -912,7 +913,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class TaskPostPersist extends java.util.TimerTask {
+    private class TaskPostPersist implements Runnable {
         private final TimerImpl timer;
         private long delta = 0;
         private long nextExpirationPristine = 0;
@@ -954,7 +955,7 @@ public class TimerServiceImpl implements ManagedTimerService {
                     if (delta == 0L) {
                         delta = nextExpirationDelay / (1L + MAX_RETRY.longValue());
                     }
-                    TimerServiceImpl.this.timer.schedule(new TaskPostPersist(timer, delta, nextExpirationPristine), delta);
+                    TimerServiceImpl.this.dispatcher.schedule(timer.getId(), new TaskPostPersist(timer, delta, nextExpirationPristine), delta, 0);
                 } else {
                     EJB3_TIMER_LOGGER.exceptionPersistPostTimerState(timer, e);
                 }
@@ -962,7 +963,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class Task extends java.util.TimerTask {
+    private class Task implements Runnable {
 
         private final TimerTask delegate;
         private final ControlPoint controlPoint;
@@ -971,6 +972,8 @@ public class TimerServiceImpl implements ManagedTimerService {
          * used to stop timer tasks banking up when the container is suspended.
          */
         private volatile boolean queued = false;
+        private volatile boolean cancelled = false;
+        private volatile TimeoutDispatcher.ScheduledTimeout timeout;
 
         public Task(final TimerTask delegate, ControlPoint controlPoint) {
             this.delegate = delegate;
@@ -997,10 +1000,19 @@ public class TimerServiceImpl implements ManagedTimerService {
             }
         }
 
-        @Override
+        void schedule(TimeoutDispatcher dispatcher, String timerId, long delay, long period) {
+            this.timeout = dispatcher.schedule(timerId, this, delay, period);
+            // Handle cancellation that raced with scheduling
+            if (this.cancelled) {
+                this.timeout.cancel();
+            }
+        }
+
         public boolean cancel() {
             delegate.cancel();
-            return super.cancel();
+            this.cancelled = true;
+            TimeoutDispatcher.ScheduledTimeout timeout = this.timeout;
+            return (timeout != null) && timeout.cancel();
         }
     }
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.dispatch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a {@link TimeoutDispatcher}, where the lag of a dispatch is the time at which a task actually ran minus the time at which it was scheduled to run.
+ */
+public class DispatchMetrics {
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder totalLag = new LongAdder();
+    private final LongAccumulator maxLag = new LongAccumulator(Math::max, 0L);
+    private final AtomicInteger scheduled = new AtomicInteger();
+
+    void scheduled() {
+        this.scheduled.incrementAndGet();
+    }
+
+    void unscheduled() {
+        this.scheduled.decrementAndGet();
+    }
+
+    void dispatched(long lag) {
+        long value = Math.max(lag, 0L);
+        this.dispatched.increment();
+        this.totalLag.add(value);
+        this.maxLag.accumulate(value);
+    }
+
+    /**
+     * Returns the number of tasks currently scheduled.
+     * @return a number of tasks
+     */
+    public int getScheduledCount() {
+        return this.scheduled.get();
+    }
+
+    /**
+     * Returns the number of task runs dispatched.
+     * @return a number of task runs
+     */
+    public long getDispatchCount() {
+        return this.dispatched.sum();
+    }
+
+    /**
+     * Returns the average lag of all dispatches.
+     * @return a lag in milliseconds
+     */
+    public long getAverageLag() {
+        long count = this.dispatched.sum();
+        return (count > 0) ? this.totalLag.sum() / count : 0L;
+    }
+
+    /**
+     * Returns the maximum lag of any dispatch.
+     * @return a lag in milliseconds
+     */
+    public long getMaxLag() {
+        return this.maxLag.get();
+    }
+}
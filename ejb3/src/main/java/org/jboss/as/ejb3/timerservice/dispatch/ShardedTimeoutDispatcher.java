@@ -0,0 +1,273 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.dispatch;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * Dispatches timeouts via a number of shards, each with its own time-ordered queue and dispatch thread.
+ * The tasks of a given timer are always dispatched by the same shard.
+ * Each queue is a binary heap that tracks the position of its tasks, so that a cancelled task is removed immediately, rather than when due.
+ */
+public class ShardedTimeoutDispatcher implements TimeoutDispatcher, AutoCloseable {
+
+    private final Shard[] shards;
+    private final LongSupplier clock;
+    private final DispatchMetrics metrics = new DispatchMetrics();
+
+    /**
+     * Creates and starts a sharded timeout dispatcher.
+     *
+     * @param name the base name of the dispatch threads
+     * @param shards the number of shards
+     */
+    public ShardedTimeoutDispatcher(String name, int shards) {
+        this(name, shards, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates and starts a sharded timeout dispatcher using the specified clock.
+     *
+     * @param name the base name of the dispatch threads
+     * @param shards the number of shards
+     * @param clock supplies the current time, in milliseconds
+     */
+    ShardedTimeoutDispatcher(String name, int shards, LongSupplier clock) {
+        this.clock = clock;
+        this.shards = new Shard[shards];
+        for (int i = 0; i < shards; ++i) {
+            this.shards[i] = new Shard(String.format("%s-%d", name, i + 1), this.metrics, clock);
+        }
+        for (Shard shard : this.shards) {
+            shard.start();
+        }
+    }
+
+    @Override
+    public ScheduledTimeout schedule(String key, Runnable task, long delay, long period) {
+        int hash = key.hashCode();
+        Shard shard = this.shards[Math.floorMod(hash ^ (hash >>> 16), this.shards.length)];
+        return shard.schedule(task, this.clock.getAsLong() + Math.max(delay, 0L), Math.max(period, 0L));
+    }
+
+    @Override
+    public void purge() {
+        // Cancelled tasks are never retained
+    }
+
+    @Override
+    public DispatchMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : this.shards) {
+            shard.close();
+        }
+    }
+
+    private static class Entry implements ScheduledTimeout {
+        final Shard shard;
+        final Runnable task;
+        final long period;
+        long time;
+        // Position of this entry within the heap of its shard, or -1 if not queued
+        int index = -1;
+
+        Entry(Shard shard, Runnable task, long time, long period) {
+            this.shard = shard;
+            this.task = task;
+            this.time = time;
+            this.period = period;
+        }
+
+        @Override
+        public boolean cancel() {
+            return this.shard.cancel(this);
+        }
+    }
+
+    private static class Shard implements Runnable, AutoCloseable {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final Thread thread;
+        private final DispatchMetrics metrics;
+        private final LongSupplier clock;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = this.lock.newCondition();
+        private Entry[] heap = new Entry[INITIAL_CAPACITY];
+        private int size = 0;
+        private boolean closed = false;
+
+        Shard(String name, DispatchMetrics metrics, LongSupplier clock) {
+            this.metrics = metrics;
+            this.clock = clock;
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            this.thread.start();
+        }
+
+        Entry schedule(Runnable task, long time, long period) {
+            Entry entry = new Entry(this, task, time, period);
+            this.lock.lock();
+            try {
+                if (this.closed) {
+                    throw new IllegalStateException(this.thread.getName());
+                }
+                this.offer(entry);
+                this.metrics.scheduled();
+                if (entry.index == 0) {
+                    // Entry is the new head, so dispatch thread must recompute its wait time
+                    this.available.signal();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            return entry;
+        }
+
+        boolean cancel(Entry entry) {
+            this.lock.lock();
+            try {
+                if (entry.index < 0) return false;
+                this.removeAt(entry.index);
+                this.metrics.unscheduled();
+                return true;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Entry entry;
+                long lag;
+                this.lock.lock();
+                try {
+                    while (true) {
+                        if (this.closed) return;
+                        entry = (this.size > 0) ? this.heap[0] : null;
+                        if (entry == null) {
+                            this.available.await();
+                        } else {
+                            long delay = entry.time - this.clock.getAsLong();
+                            if (delay <= 0) {
+                                lag = -delay;
+                                break;
+                            }
+                            this.available.awaitNanos(TimeUnit.MILLISECONDS.toNanos(delay));
+                        }
+                    }
+                    this.removeAt(0);
+                    if (entry.period > 0) {
+                        // Fixed rate, i.e. the next run is relative to the scheduled, not actual, time of this run
+                        entry.time += entry.period;
+                        this.offer(entry);
+                    } else {
+                        this.metrics.unscheduled();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    this.lock.unlock();
+                }
+                this.metrics.dispatched(lag);
+                try {
+                    entry.task.run();
+                } catch (Throwable e) {
+                    // Keep dispatching, otherwise every subsequent timeout of this shard would be silently lost
+                    EjbLogger.EJB3_TIMER_LOGGER.timeoutDispatchFailed(this.thread.getName(), e);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            this.lock.lock();
+            try {
+                this.closed = true;
+                for (int i = 0; i < this.size; ++i) {
+                    this.heap[i].index = -1;
+                    this.heap[i] = null;
+                    this.metrics.unscheduled();
+                }
+                this.size = 0;
+                this.available.signal();
+            } finally {
+                this.lock.unlock();
+            }
+            try {
+                this.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void offer(Entry entry) {
+            if (this.size == this.heap.length) {
+                this.heap = Arrays.copyOf(this.heap, this.size * 2);
+            }
+            this.siftUp(this.size++, entry);
+        }
+
+        private void removeAt(int index) {
+            Entry removed = this.heap[index];
+            removed.index = -1;
+            int last = --this.size;
+            Entry entry = this.heap[last];
+            this.heap[last] = null;
+            if (last != index) {
+                this.siftDown(index, entry);
+                if (this.heap[index] == entry) {
+                    this.siftUp(index, entry);
+                }
+            }
+        }
+
+        private void siftUp(int index, Entry entry) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                Entry parentEntry = this.heap[parent];
+                if (entry.time >= parentEntry.time) break;
+                this.set(index, parentEntry);
+                index = parent;
+            }
+            this.set(index, entry);
+        }
+
+        private void siftDown(int index, Entry entry) {
+            int half = this.size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1;
+                int right = child + 1;
+                if ((right < this.size) && (this.heap[right].time < this.heap[child].time)) {
+                    child = right;
+                }
+                if (entry.time <= this.heap[child].time) break;
+                this.set(index, this.heap[child]);
+                index = child;
+            }
+            this.set(index, entry);
+        }
+
+        private void set(int index, Entry entry) {
+            this.heap[index] = entry;
+            entry.index = index;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.dispatch;
+
+/**
+ * Enumerates the implementations of the {@link TimeoutDispatcher} of the timer service.
+ */
+public enum TimeoutDispatchMode {
+    /**
+     * Timeouts are dispatched by a single {@link java.util.Timer}
+     */
+    TIMER("timer"),
+    /**
+     * Timeouts are dispatched by a number of independent dispatch threads
+     */
+    SHARDED("sharded"),
+    ;
+
+    private final String value;
+
+    TimeoutDispatchMode(String value) {
+        this.value = value;
+    }
+
+    public static TimeoutDispatchMode forValue(String value) {
+        for (TimeoutDispatchMode mode : values()) {
+            if (mode.value.equals(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException(value);
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+}
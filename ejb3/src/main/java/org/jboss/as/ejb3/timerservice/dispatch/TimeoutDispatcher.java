@@ -0,0 +1,48 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.dispatch;
+
+/**
+ * Dispatches the timeouts of the timers of all timer services at their scheduled time.
+ * Dispatched tasks are expected to return promptly, i.e. to hand off the timeout invocation to an executor.
+ */
+public interface TimeoutDispatcher {
+
+    /**
+     * Schedules the specified task to run after the specified delay, and then repeatedly at a fixed rate, if a period is specified.
+     *
+     * @param key identifies the timer of the task, e.g. used to distribute tasks across dispatch threads
+     * @param task the task to run
+     * @param delay the delay, in milliseconds, before the first run of the task
+     * @param period the period, in milliseconds, between successive runs of the task, or 0 if the task runs once
+     * @return a handle with which to cancel the scheduled task
+     */
+    ScheduledTimeout schedule(String key, Runnable task, long delay, long period);
+
+    /**
+     * Discards any cancelled tasks still retained by this dispatcher.
+     */
+    void purge();
+
+    /**
+     * Returns the metrics of this dispatcher.
+     *
+     * @return the dispatch metrics
+     */
+    DispatchMetrics getMetrics();
+
+    /**
+     * A scheduled task.
+     */
+    interface ScheduledTimeout {
+        /**
+         * Cancels further runs of this task.
+         *
+         * @return true, if a run of this task was prevented, false otherwise
+         */
+        boolean cancel();
+    }
+}
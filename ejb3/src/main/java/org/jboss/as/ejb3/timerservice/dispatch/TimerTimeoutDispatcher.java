@@ -0,0 +1,87 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.dispatch;
+
+import java.util.Timer;
+import java.util.TimerTask;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * Dispatches all timeouts via a single {@link Timer}.
+ * Cancelled tasks remain in the queue of the timer until they are due, or until {@link #purge()}.
+ */
+public class TimerTimeoutDispatcher implements TimeoutDispatcher {
+
+    private final Timer timer;
+    private final DispatchMetrics metrics = new DispatchMetrics();
+
+    public TimerTimeoutDispatcher(Timer timer) {
+        this.timer = timer;
+    }
+
+    @Override
+    public ScheduledTimeout schedule(String key, Runnable task, long delay, long period) {
+        DispatchTask dispatchTask = new DispatchTask(task, period > 0, this.metrics);
+        this.metrics.scheduled();
+        try {
+            if (period > 0) {
+                this.timer.scheduleAtFixedRate(dispatchTask, delay, period);
+            } else {
+                this.timer.schedule(dispatchTask, delay);
+            }
+        } catch (RuntimeException e) {
+            this.metrics.unscheduled();
+            throw e;
+        }
+        return dispatchTask::cancel;
+    }
+
+    @Override
+    public void purge() {
+        this.timer.purge();
+    }
+
+    @Override
+    public DispatchMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    private static class DispatchTask extends TimerTask {
+        private final Runnable task;
+        private final boolean periodic;
+        private final DispatchMetrics metrics;
+
+        DispatchTask(Runnable task, boolean periodic, DispatchMetrics metrics) {
+            this.task = task;
+            this.periodic = periodic;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void run() {
+            this.metrics.dispatched(System.currentTimeMillis() - this.scheduledExecutionTime());
+            if (!this.periodic) {
+                this.metrics.unscheduled();
+            }
+            try {
+                this.task.run();
+            } catch (RuntimeException e) {
+                // Do not let a failed task terminate the timer thread
+                EjbLogger.EJB3_TIMER_LOGGER.timeoutDispatchFailed(Thread.currentThread().getName(), e);
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            boolean cancelled = super.cancel();
+            if (cancelled) {
+                this.metrics.unscheduled();
+            }
+            return cancelled;
+        }
+    }
+}
@@ -6,11 +6,18 @@ package org.jboss.as.ejb3.timerservice.schedule;
 
 import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Objects;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.ejb.ScheduleExpression;
 
@@ -21,7 +28,6 @@ import org.jboss.as.ejb3.timerservice.schedule.attribute.Minute;
 import org.jboss.as.ejb3.timerservice.schedule.attribute.Month;
 import org.jboss.as.ejb3.timerservice.schedule.attribute.Second;
 import org.jboss.as.ejb3.timerservice.schedule.attribute.Year;
-import org.jboss.as.ejb3.timerservice.schedule.value.ScheduleExpressionType;
 
 /**
  * CalendarBasedTimeout
@@ -40,6 +46,11 @@ public class CalendarBasedTimeout {
      */
     private ScheduleExpression scheduleExpression;
 
+    /**
+     * The schedule attributes compiled for the purpose of evaluating the next timeout
+     */
+    private final CompiledSchedule schedule;
+
     /**
      * The {@link Second} created out of the {@link jakarta.ejb.ScheduleExpression#getSecond()} value
      */
@@ -86,6 +97,11 @@ public class CalendarBasedTimeout {
      */
     private final TimeZone timezone;
 
+    /**
+     * The rules of the timezone being used for this {@link CalendarBasedTimeout}
+     */
+    private final ZoneRules rules;
+
     private final Date start;
     private final Date end;
 
@@ -128,8 +144,10 @@ public class CalendarBasedTimeout {
         this.dayOfWeek = dayOfWeek;
         this.year = year;
         this.timezone = timezone;
+        this.rules = timezone.toZoneId().getRules();
         this.start = start;
         this.end = end;
+        this.schedule = new CompiledSchedule(second, minute, hour, dayOfMonth, month, dayOfWeek, year);
 
         // Now that we have parsed the values from the ScheduleExpression,
         // determine and set the first timeout (relative to the current time)
@@ -204,307 +222,80 @@ public class CalendarBasedTimeout {
         if (this.noMoreTimeouts(currentCal)) {
             return null;
         }
-        Calendar nextCal = (Calendar) currentCal.clone();
-        nextCal.setTimeZone(this.timezone);
-        if (this.start != null && currentCal.getTime().before(this.start)) {
+        long time = currentCal.getTimeInMillis();
+        if (this.start != null && time < this.start.getTime()) {
             //this may result in a millisecond component, however that is ok
             //otherwise WFLY-6561 will rear its only head
             //also as the start time may include milliseconds this is technically correct
-            nextCal.setTime(this.start);
+            time = this.start.getTime();
         } else {
             if (increment) {
                 // increment the current second by 1
-                nextCal.add(Calendar.SECOND, 1);
+                time += 1000;
             }
-            nextCal.add(Calendar.MILLISECOND, -nextCal.get(Calendar.MILLISECOND));
-        }
-        nextCal.setFirstDayOfWeek(Calendar.SUNDAY);
-
-        nextCal = this.computeNextTime(nextCal);
-        if (nextCal == null) {
-            return null;
-        }
-
-        nextCal = this.computeNextMonth(nextCal);
-        if (nextCal == null) {
-            return null;
+            time -= Math.floorMod(time, 1000L);
         }
+        long seconds = Math.floorDiv(time, 1000L);
+        int millis = (int) Math.floorMod(time, 1000L);
+        ZoneOffset offset = this.rules.getOffset(Instant.ofEpochSecond(seconds));
+        LocalDateTime current = LocalDateTime.ofEpochSecond(seconds, 0, offset);
 
-        nextCal = this.computeNextDate(nextCal);
-        if (nextCal == null) {
-            return null;
-        }
-
-        nextCal = this.computeNextYear(nextCal);
-        if (nextCal == null) {
+        LocalDateTime next = this.schedule.getNextMatch(current);
+        if (next == null) {
             return null;
         }
+        ZoneOffset nextOffset = this.resolveOffset(current, offset, next);
 
         // one final check
-        if (this.noMoreTimeouts(nextCal)) {
-            return null;
-        }
-        return nextCal;
-    }
-
-    private Calendar computeNextTime(Calendar nextCal) {
-        int currentSecond = nextCal.get(Calendar.SECOND);
-        int currentMinute = nextCal.get(Calendar.MINUTE);
-        int currentHour = nextCal.get(Calendar.HOUR_OF_DAY);
-        final int currentTimeInSeconds = currentHour*3600 + currentMinute*60 + currentSecond;
-
-        // compute next second
-        Integer nextSecond = this.second.getNextMatch(currentSecond);
-        if (nextSecond == null) {
-            return null;
-        }
-        // compute next minute
-        if (nextSecond < currentSecond) {
-            currentMinute++;
-        }
-        Integer nextMinute = this.minute.getNextMatch(currentMinute < 60 ? currentMinute : 0);
-        if (nextMinute == null) {
-            return null;
-        }
-        // reset second if minute was changed  (Fix WFLY-5955)
-        if( nextMinute != currentMinute) {
-            nextSecond = this.second.getNextMatch(0);
-        }
-        // compute next hour
-        if (nextMinute < currentMinute) {
-            currentHour++;
-        }
-        Integer nextHour = this.hour.getNextMatch(currentHour < 24 ? currentHour : 0);
-        if (nextHour == null) {
-            return null;
-        }
-        if(nextHour != currentHour) {
-            // reset second/minute if hour changed  (Fix WFLY-5955)
-            nextSecond = this.second.getNextMatch(0);
-            nextMinute = this.minute.getNextMatch(0);
-        }
-
-        final int nextTimeInSeconds = nextHour*3600 + nextMinute*60 + nextSecond;
-        if (nextTimeInSeconds == currentTimeInSeconds) {
-            // no change in time
-            return nextCal;
-        }
-
-        // Set the time before adding the a day. If we do it after,
-        // we could be using an invalid DST value in setTime method
-        setTime(nextCal, nextHour, nextMinute, nextSecond);
-
-        // time change
-        if (nextTimeInSeconds < currentTimeInSeconds) {
-            // advance to next day
-            nextCal.add(Calendar.DATE, 1);
-        }
-
-        return nextCal;
-    }
-
-    private Calendar computeNextDayOfWeek(Calendar nextCal) {
-        Integer nextDayOfWeek = this.dayOfWeek.getNextMatch(nextCal);
-
-        if (nextDayOfWeek == null) {
+        if (this.end != null && TimeUnit.SECONDS.toMillis(next.toEpochSecond(nextOffset)) + millis > this.end.getTime()) {
             return null;
         }
-        int currentDayOfWeek = nextCal.get(Calendar.DAY_OF_WEEK);
-        // if the current day-of-week is a match, then nothing else to
-        // do. Just return back the calendar
-        if (currentDayOfWeek == nextDayOfWeek) {
-            return nextCal;
-        }
-        int currentMonth = nextCal.get(Calendar.MONTH);
-
-        // At this point, a suitable "next" day-of-week has been identified.
-        // There can be 2 cases
-        // 1) The "next" day-of-week is greater than the current day-of-week : This
-        // implies that the next day-of-week is within the "current" week.
-        // 2) The "next" day-of-week is lesser than the current day-of-week : This implies
-        // that the next day-of-week is in the next week (i.e. current week needs to
-        // be advanced to next week).
-        if (nextDayOfWeek < currentDayOfWeek) {
-            // advance one week
-            nextCal.add(Calendar.WEEK_OF_MONTH, 1);
-        }
-        // set the chosen day of week
-        nextCal.set(Calendar.DAY_OF_WEEK, nextDayOfWeek);
-        // since we are moving to a different day-of-week (as compared to the current day-of-week),
-        // we should reset the second, minute and hour appropriately, to their first possible
-        // values
-        resetTimeToFirstValues(nextCal);
-
-        if (nextCal.get(Calendar.MONTH) != currentMonth) {
-            nextCal = computeNextMonth(nextCal);
-        }
-        return nextCal;
+        return this.createCalendar(next, nextOffset, millis);
     }
 
-    private Calendar computeNextMonth(Calendar nextCal) {
-        Integer nextMonth = this.month.getNextMatch(nextCal);
-
-        if (nextMonth == null) {
-            return null;
-        }
-        int currentMonth = nextCal.get(Calendar.MONTH);
-        // if the current month is a match, then nothing else to
-        // do. Just return back the calendar
-        if (currentMonth == nextMonth) {
-            return nextCal;
-        }
-
-        // At this point, a suitable "next" month has been identified.
-        // There can be 2 cases
-        // 1) The "next" month is greater than the current month : This
-        // implies that the next month is within the "current" year.
-        // 2) The "next" month is lesser than the current month : This implies
-        // that the next month is in the next year (i.e. current year needs to
-        // be advanced to next year).
-        if (nextMonth < currentMonth) {
-            // advance to next year
-            nextCal.add(Calendar.YEAR, 1);
-        }
-        // set the chosen month
-        nextCal.set(Calendar.MONTH, nextMonth);
-        // since we are moving to a different month (as compared to the current month),
-        // we should reset the second, minute, hour, day-of-week and dayofmonth appropriately, to their first possible
-        // values
-        nextCal.set(Calendar.DAY_OF_WEEK, this.dayOfWeek.getFirst());
-        nextCal.set(Calendar.DAY_OF_MONTH, 1);
-        resetTimeToFirstValues(nextCal);
-
-        return nextCal;
-    }
-
-    private Calendar computeNextDate(Calendar nextCal) {
-        if (this.isDayOfMonthWildcard()) {
-            return this.computeNextDayOfWeek(nextCal);
-        }
-
-        if (this.isDayOfWeekWildcard()) {
-            return this.computeNextDayOfMonth(nextCal);
-        }
-
-        // both day-of-month and day-of-week are *non-wildcards*
-        Calendar nextDayOfMonthCal = this.computeNextDayOfMonth((Calendar) nextCal.clone());
-        Calendar nextDayOfWeekCal = this.computeNextDayOfWeek((Calendar) nextCal.clone());
-
-        if (nextDayOfMonthCal == null) {
-            return nextDayOfWeekCal;
-        }
-        if (nextDayOfWeekCal == null) {
-            return nextDayOfMonthCal;
-        }
-
-        return nextDayOfWeekCal.getTime().before(nextDayOfMonthCal.getTime()) ? nextDayOfWeekCal : nextDayOfMonthCal;
-    }
-
-    private Calendar computeNextDayOfMonth(Calendar nextCal) {
-        Integer nextDayOfMonth = this.dayOfMonth.getNextMatch(nextCal);
-
-        if (nextDayOfMonth == null) {
-            return null;
-        }
-        int currentDayOfMonth = nextCal.get(Calendar.DAY_OF_MONTH);
-        // if the current day-of-month is a match, then nothing else to
-        // do. Just return back the calendar
-        if (currentDayOfMonth == nextDayOfMonth) {
-            return nextCal;
-        }
-
-        if (nextDayOfMonth > currentDayOfMonth) {
-            if (this.monthHasDate(nextCal, nextDayOfMonth)) {
-                // set the chosen day-of-month
-                nextCal.set(Calendar.DAY_OF_MONTH, nextDayOfMonth);
-                // since we are moving to a different day-of-month (as compared to the current day-of-month),
-                // we should reset the second, minute and hour appropriately, to their first possible
-                // values
-                resetTimeToFirstValues(nextCal);
-
-            } else {
-                nextCal = this.advanceTillMonthHasDate(nextCal, nextDayOfMonth);
-            }
-        } else {
-            // since the next day is before the current day we need to shift to the next month
-            nextCal.add(Calendar.MONTH, 1);
-            // also we need to reset the time
-            resetTimeToFirstValues(nextCal);
-            nextCal = this.computeNextMonth(nextCal);
-            if (nextCal == null) {
-                return null;
-            }
-            nextDayOfMonth = this.dayOfMonth.getFirstMatch(nextCal);
-            if (nextDayOfMonth == null) {
-                return null;
-            }
-            // make sure the month can handle the date
-            nextCal = this.advanceTillMonthHasDate(nextCal, nextDayOfMonth);
-        }
-        return nextCal;
-    }
-
-    private Calendar computeNextYear(Calendar nextCal) {
-        Integer nextYear = this.year.getNextMatch(nextCal);
-
-        if (nextYear == null || nextYear > Year.MAX_YEAR) {
-            return null;
-        }
-        int currentYear = nextCal.get(Calendar.YEAR);
-        // if the current year is a match, then nothing else to
-        // do. Just return back the calendar
-        if (currentYear == nextYear) {
-            return nextCal;
-        }
-        // If the next year is lesser than the current year, then
-        // we have no more timeouts for the calendar expression
-        if (nextYear < currentYear) {
-            return null;
-        }
-
-        // at this point we have chosen a year which is greater than the current
-        // year.
-        // set the chosen year
-        nextCal.set(Calendar.YEAR, nextYear);
-        // since we are moving to a different year (as compared to the current year),
-        // we should reset all other calendar attribute expressions appropriately, to their first possible
-        // values
-        nextCal.set(Calendar.MONTH, this.month.getFirstMatch());
-        nextCal.set(Calendar.DAY_OF_MONTH, 1);
-        resetTimeToFirstValues(nextCal);
-
-        // recompute date
-        nextCal = this.computeNextDate(nextCal);
-
-        return nextCal;
-    }
-
-    private Calendar advanceTillMonthHasDate(Calendar cal, Integer date) {
-        resetTimeToFirstValues(cal);
-
-        // make sure the month can handle the date
-        while (monthHasDate(cal, date) == false) {
-            if (cal.get(Calendar.YEAR) > Year.MAX_YEAR) {
-                return null;
-            }
-            // this month can't handle the date, so advance month to next month
-            // and get the next suitable matching month
-            cal.add(Calendar.MONTH, 1);
-            cal = this.computeNextMonth(cal);
-            if (cal == null) {
-                return null;
-            }
-            date = this.dayOfMonth.getFirstMatch(cal);
-            if (date == null) {
-                return null;
-            }
+    /**
+     * Resolves the offset of the next timeout, consistent with the previous {@link GregorianCalendar} based computation.
+     * <ul>
+     * <li>Within the current day, the wall-clock time advances using the current offset,
+     * such that a timer firing every 15 minutes continues to do so across a daylight saving time transition (WFLY-9537).</li>
+     * <li>A wall-clock time within a gap uses the offset prior to the gap, i.e. the timeout is shifted forward by the length of the gap.</li>
+     * <li>A wall-clock time within an overlap on the following day uses the current offset, if valid, otherwise the earlier offset.
+     * A wall-clock time within an overlap on any subsequent day uses the later offset.</li>
+     * </ul>
+     */
+    private ZoneOffset resolveOffset(LocalDateTime current, ZoneOffset offset, LocalDateTime next) {
+        LocalDate currentDate = current.toLocalDate();
+        LocalDate nextDate = next.toLocalDate();
+        if (nextDate.equals(currentDate)) {
+            return offset;
+        }
+        List<ZoneOffset> offsets = this.rules.getValidOffsets(next);
+        switch (offsets.size()) {
+            case 0:
+                return this.rules.getTransition(next).getOffsetBefore();
+            case 1:
+                return offsets.get(0);
+            default:
+                if (nextDate.equals(currentDate.plusDays(1))) {
+                    return offsets.contains(offset) ? offset : offsets.get(0);
+                }
+                return offsets.get(1);
         }
-        cal.set(Calendar.DAY_OF_MONTH, date);
-        return cal;
     }
 
-    private boolean monthHasDate(Calendar cal, int date) {
-        return date <= cal.getActualMaximum(Calendar.DAY_OF_MONTH);
+    /**
+     * Creates a calendar for the specified wall-clock time, retaining the offset with which it was resolved.
+     */
+    private Calendar createCalendar(LocalDateTime time, ZoneOffset offset, int millis) {
+        int standardOffset = this.rules.getStandardOffset(time.toInstant(offset)).getTotalSeconds();
+        Calendar calendar = new GregorianCalendar(this.timezone);
+        calendar.setFirstDayOfWeek(Calendar.SUNDAY);
+        calendar.clear();
+        calendar.set(time.getYear(), time.getMonthValue() - 1, time.getDayOfMonth(), time.getHour(), time.getMinute(), time.getSecond());
+        calendar.set(Calendar.MILLISECOND, millis);
+        calendar.set(Calendar.ZONE_OFFSET, (int) TimeUnit.SECONDS.toMillis(standardOffset));
+        calendar.set(Calendar.DST_OFFSET, (int) TimeUnit.SECONDS.toMillis(offset.getTotalSeconds() - standardOffset));
+        return calendar;
     }
 
     private boolean isAfterEnd(Calendar cal) {
@@ -519,14 +310,6 @@ public class CalendarBasedTimeout {
         return false;
     }
 
-    private boolean isDayOfWeekWildcard() {
-        return this.dayOfWeek.getType() == ScheduleExpressionType.WILDCARD;
-    }
-
-    private boolean isDayOfMonthWildcard() {
-        return this.dayOfMonth.getType() == ScheduleExpressionType.WILDCARD;
-    }
-
     /**
      *
      * @param calendar
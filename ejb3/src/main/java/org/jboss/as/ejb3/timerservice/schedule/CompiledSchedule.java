@@ -0,0 +1,160 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.schedule;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.BitSet;
+
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfMonth;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfWeek;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Hour;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Minute;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Month;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Second;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Year;
+import org.jboss.as.ejb3.timerservice.schedule.value.ScheduleExpressionType;
+
+/**
+ * The attributes of a schedule expression, compiled into a bit mask per field, for the purpose of locating the next matching local date-time.
+ * Instead of moving a calendar forward field by field, the search skips directly to the next set bit of each field, from the year down to the second.
+ */
+class CompiledSchedule {
+
+    private static final int DAYS_OF_WEEK = 0x7F;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long months;
+    // Bit n represents the year n, or null if any year matches
+    private final BitSet years;
+    // Bit n represents the day of the week n, starting from Sunday, or null if any day of the week matches
+    private final Integer daysOfWeek;
+    private final DayOfMonth dayOfMonth;
+    private final boolean dayOfMonthWildcard;
+
+    CompiledSchedule(Second second, Minute minute, Hour hour, DayOfMonth dayOfMonth, Month month, DayOfWeek dayOfWeek, Year year) {
+        this.seconds = toBitMask(second.getAbsoluteValues(), Second.MIN_SECOND, Second.MAX_SECOND);
+        this.minutes = toBitMask(minute.getAbsoluteValues(), Minute.MIN_MINUTE, Minute.MAX_MINUTE);
+        this.hours = toBitMask(hour.getAbsoluteValues(), Hour.MIN_HOUR, Hour.MAX_HOUR);
+        this.months = toBitMask(month.getAbsoluteValues(), Month.MIN_MONTH, Month.MAX_MONTH);
+        this.years = year.getAbsoluteValues();
+        BitSet daysOfWeek = dayOfWeek.getAbsoluteValues();
+        this.daysOfWeek = (daysOfWeek != null) ? (int) toBitMask(daysOfWeek, DayOfWeek.MIN_DAY_OF_WEEK, DayOfWeek.MAX_DAY_OF_WEEK) & DAYS_OF_WEEK : null;
+        this.dayOfMonth = dayOfMonth;
+        this.dayOfMonthWildcard = dayOfMonth.getType() == ScheduleExpressionType.WILDCARD;
+    }
+
+    private static long toBitMask(BitSet values, int min, int max) {
+        if (values == null) {
+            return (-1L << min) & (-1L >>> (Long.SIZE - 1 - max));
+        }
+        long[] words = values.toLongArray();
+        return (words.length > 0) ? words[0] : 0L;
+    }
+
+    /**
+     * Returns the first local date-time, at or after the specified local date-time, matched by this schedule.
+     *
+     * @param time a local date-time, without fractional seconds
+     * @return the next matching local date-time, or null if there is no match prior to {@link Year#MAX_YEAR}
+     */
+    LocalDateTime getNextMatch(LocalDateTime time) {
+        int year = time.getYear();
+        int month = time.getMonthValue();
+        int day = time.getDayOfMonth();
+        int hour = time.getHour();
+        int minute = time.getMinute();
+        int second = time.getSecond();
+        while (year <= Year.MAX_YEAR) {
+            if (this.years != null && !this.years.get(year)) {
+                year = this.years.nextSetBit(year);
+                if (year < 0) {
+                    return null;
+                }
+                month = day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            int nextMonth = nextSetBit(this.months, month);
+            if (nextMonth < 0) {
+                year++;
+                month = day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = minute = second = 0;
+            }
+            int nextDay = nextSetBit(this.getDaysOfMonth(year, month), day);
+            if (nextDay < 0) {
+                month++;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                hour = minute = second = 0;
+            }
+            int nextHour = nextSetBit(this.hours, hour);
+            if (nextHour < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+            int nextMinute = nextSetBit(this.minutes, minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+            int nextSecond = nextSetBit(this.seconds, second);
+            if (nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            return LocalDateTime.of(year, month, day, hour, minute, nextSecond);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the days of the specified month matched by this schedule, as a bit mask in which bit n represents day n.
+     * If both day-of-month and day-of-week are specified, a day matches if it matches either one.
+     */
+    private long getDaysOfMonth(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        if (this.daysOfWeek == null) {
+            return this.dayOfMonth.getDaysOfMonth(yearMonth);
+        }
+        // Rotate days of week such that bit 0 represents the day of the week of the first day of the month
+        int first = yearMonth.atDay(1).getDayOfWeek().getValue() % 7;
+        long week = ((this.daysOfWeek >>> first) | (this.daysOfWeek << (7 - first))) & DAYS_OF_WEEK;
+        long days = (week | (week << 7) | (week << 14) | (week << 21) | (week << 28)) << 1;
+        days &= -1L >>> (Long.SIZE - 1 - yearMonth.lengthOfMonth());
+        return this.dayOfMonthWildcard ? days : days | this.dayOfMonth.getDaysOfMonth(yearMonth);
+    }
+
+    private static int nextSetBit(long mask, int from) {
+        if (from >= Long.SIZE) {
+            return -1;
+        }
+        long remaining = mask & (-1L << from);
+        return (remaining != 0) ? Long.numberOfTrailingZeros(remaining) : -1;
+    }
+}
@@ -4,12 +4,18 @@
  */
 package org.jboss.as.ejb3.timerservice.schedule.attribute;
 
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.regex.Pattern;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
@@ -85,6 +91,16 @@ public class DayOfMonth extends IntegerBasedExpression {
         ORDINAL_TO_WEEK_NUMBER_MAPPING.put("5th", 5);
     }
 
+    /**
+     * The absolute values of this {@link DayOfMonth}, as a bit mask in which bit n represents day n
+     */
+    private final long absoluteDaysOfMonth;
+
+    /**
+     * The relative values of this {@link DayOfMonth}, each compiled into a function that resolves the days of a given month as a bit mask
+     */
+    private final List<ToLongFunction<YearMonth>> relativeDaysOfMonth = new ArrayList<>();
+
     /**
      * Creates a {@link DayOfMonth} by parsing the passed {@link String} <code>value</code>
      * <p>
@@ -99,6 +115,27 @@ public class DayOfMonth extends IntegerBasedExpression {
      */
     public DayOfMonth(String value) {
         super(value);
+        long days = 0;
+        for (Integer dayOfMonth : this.absoluteValues) {
+            days |= 1L << dayOfMonth;
+        }
+        this.absoluteDaysOfMonth = days;
+        for (ScheduleValue relativeValue : this.relativeValues) {
+            if (relativeValue instanceof SingleValue) {
+                ToIntFunction<YearMonth> dayOfMonth = this.compileDayOfMonth(((SingleValue) relativeValue).getValue());
+                this.relativeDaysOfMonth.add(yearMonth -> 1L << dayOfMonth.applyAsInt(yearMonth));
+            } else if (relativeValue instanceof RangeValue) {
+                RangeValue range = (RangeValue) relativeValue;
+                ToIntFunction<YearMonth> start = this.compileDayOfMonth(range.getStart());
+                ToIntFunction<YearMonth> end = this.compileDayOfMonth(range.getEnd());
+                this.relativeDaysOfMonth.add(yearMonth -> {
+                    int dayOfMonthStart = start.applyAsInt(yearMonth);
+                    int dayOfMonthEnd = end.applyAsInt(yearMonth);
+                    // In range "x-y", if x is larger than y, the range is equivalent to "x-max, min-y"
+                    return (dayOfMonthStart <= dayOfMonthEnd) ? daysBetween(dayOfMonthStart, dayOfMonthEnd) : daysBetween(dayOfMonthStart, MAX_DAY_OF_MONTH) | daysBetween(1, dayOfMonthEnd);
+                });
+            }
+        }
     }
 
     /**
@@ -264,6 +301,63 @@ public class DayOfMonth extends IntegerBasedExpression {
         throw EjbLogger.EJB3_TIMER_LOGGER.invalidScheduleValue(DayOfMonth.class.getSimpleName(), trimmedRelativeDayOfMonth);
     }
 
+    /**
+     * Returns the days of the specified month matched by this {@link DayOfMonth}, as a bit mask in which bit n represents day n.
+     * <p>
+     * Relative values are resolved against the specified month.
+     * Days beyond the end of the specified month are never matched.
+     * </p>
+     *
+     * @param yearMonth a month of a year
+     * @return a bit mask of matching days of the month
+     */
+    public long getDaysOfMonth(YearMonth yearMonth) {
+        long days = (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) ? -1L : this.absoluteDaysOfMonth;
+        for (ToLongFunction<YearMonth> relativeDaysOfMonth : this.relativeDaysOfMonth) {
+            days |= relativeDaysOfMonth.applyAsLong(yearMonth);
+        }
+        return days & daysBetween(1, yearMonth.lengthOfMonth());
+    }
+
+    private static long daysBetween(int start, int end) {
+        return (-1L << start) & (-1L >>> (Long.SIZE - 1 - end));
+    }
+
+    /**
+     * Compiles a side of a range, or a single value, into a function that resolves the day for a given month.
+     * This is the {@link YearMonth} based equivalent of {@link #getAbsoluteDayOfMonth(Calendar, String)}.
+     * @param value a non-null, trimmed, day of month
+     * @return a function returning the day of a given month
+     */
+    private ToIntFunction<YearMonth> compileDayOfMonth(String value) {
+        if (!this.isRelativeValue(value)) {
+            Integer dayOfMonth = this.parseInt(value);
+            this.assertValid(dayOfMonth);
+            int absoluteDayOfMonth = dayOfMonth;
+            return yearMonth -> absoluteDayOfMonth;
+        }
+        String lowerCaseValue = value.toLowerCase(Locale.ROOT);
+        if (lowerCaseValue.equals("last")) {
+            return YearMonth::lengthOfMonth;
+        }
+        if (this.isValidNegativeDayOfMonth(lowerCaseValue)) {
+            int negativeRelativeDayOfMonth = Integer.parseInt(lowerCaseValue);
+            return yearMonth -> yearMonth.lengthOfMonth() + negativeRelativeDayOfMonth;
+        }
+        String[] parts = splitDayOfWeekBased(lowerCaseValue);
+        // DAY_OF_WEEK_ALIAS value is 0-based, starting from Sunday
+        java.time.DayOfWeek dayOfWeek = java.time.DayOfWeek.SUNDAY.plus(DayOfWeek.DAY_OF_WEEK_ALIAS.get(parts[1]));
+        if (parts[0].equals("last")) {
+            return yearMonth -> yearMonth.atEndOfMonth().with(TemporalAdjusters.previousOrSame(dayOfWeek)).getDayOfMonth();
+        }
+        int weekNumber = ORDINAL_TO_WEEK_NUMBER_MAPPING.get(parts[0]);
+        return yearMonth -> {
+            int date = yearMonth.atDay(1).with(TemporalAdjusters.nextOrSame(dayOfWeek)).getDayOfMonth() + (weekNumber - 1) * 7;
+            // As per getAbsoluteDayOfMonth(...), use the last date of the month if the month has no such day
+            return Math.min(date, yearMonth.lengthOfMonth());
+        };
+    }
+
     private boolean isValidNegativeDayOfMonth(String dayOfMonth) {
         try {
             int val = Integer.parseInt(dayOfMonth.trim());
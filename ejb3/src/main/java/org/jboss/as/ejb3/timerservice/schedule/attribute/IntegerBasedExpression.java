@@ -4,6 +4,7 @@
  */
 package org.jboss.as.ejb3.timerservice.schedule.attribute;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.SortedSet;
@@ -205,4 +206,21 @@ public abstract class IntegerBasedExpression {
     public ScheduleExpressionType getType() {
         return this.scheduleExpressionType;
     }
+
+    /**
+     * Returns the absolute values of this expression as a bit set, in which bit n represents the value n.
+     * Relative values are not included.
+     *
+     * @return a bit set of absolute values, or null if this expression is a wildcard
+     */
+    public BitSet getAbsoluteValues() {
+        if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
+            return null;
+        }
+        BitSet values = new BitSet(this.getMaxValue() + 1);
+        for (Integer value : this.absoluteValues) {
+            values.set(value);
+        }
+        return values;
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import jakarta.ejb.IllegalLoopbackException;
+
+import org.jboss.as.ejb3.component.singleton.EJBStampedReadWriteLock;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link EJBStampedReadWriteLock}.
+ */
+public class EJBStampedReadWriteLockTest {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int OPERATIONS = 20000;
+    // One write for every WRITE_RATIO reads
+    private static final int WRITE_RATIO = 100;
+
+    private final ReadWriteLock lock = new EJBStampedReadWriteLock();
+
+    @Test
+    public void testIllegalLoopBack() {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            this.lock.writeLock().tryLock();
+            Assert.fail("Unexpected acquired write lock");
+        } catch (IllegalLoopbackException e) {
+            // expected
+        } finally {
+            readLock.unlock();
+        }
+        // Once released, the write lock can be obtained
+        Assert.assertTrue(this.lock.writeLock().tryLock());
+        this.lock.writeLock().unlock();
+    }
+
+    @Test
+    public void testIllegalLoopBackUnderWriteLock() {
+        Lock writeLock = this.lock.writeLock();
+        Lock readLock = this.lock.readLock();
+        writeLock.lock();
+        try {
+            readLock.lock();
+            try {
+                writeLock.lock();
+                Assert.fail("Unexpected acquired write lock");
+            } catch (IllegalLoopbackException e) {
+                // expected
+            } finally {
+                readLock.unlock();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Test
+    public void testSameThreadCanGetWriteThenReadLock() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        writeLock.lock();
+        try {
+            // the write lock is reentrant
+            Assert.assertTrue(writeLock.tryLock(1, TimeUnit.SECONDS));
+            writeLock.unlock();
+
+            Lock readLock = this.lock.readLock();
+            Assert.assertTrue(readLock.tryLock(1, TimeUnit.SECONDS));
+            readLock.unlock();
+        } finally {
+            writeLock.unlock();
+        }
+        // released by all holds
+        Assert.assertTrue(this.tryLockFromOtherThread(this.lock.writeLock()));
+    }
+
+    @Test
+    public void testDowngrade() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        Lock readLock = this.lock.readLock();
+        writeLock.lock();
+        readLock.lock();
+        writeLock.unlock();
+        // the read lock survives the release of the write lock
+        Assert.assertFalse(this.tryLockFromOtherThread(writeLock));
+        Assert.assertTrue(this.tryLockFromOtherThread(readLock));
+        readLock.unlock();
+        Assert.assertTrue(this.tryLockFromOtherThread(writeLock));
+    }
+
+    @Test
+    public void testReentrantReadWithQueuedWriter() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                CountDownLatch writerStarted = new CountDownLatch(1);
+                Future<Boolean> writer = executor.submit(() -> {
+                    writerStarted.countDown();
+                    boolean locked = this.lock.writeLock().tryLock(10, TimeUnit.SECONDS);
+                    if (locked) {
+                        this.lock.writeLock().unlock();
+                    }
+                    return locked;
+                });
+                writerStarted.await();
+                Thread.sleep(100);
+                // a queued writer must not block a reentrant reader
+                Assert.assertTrue(readLock.tryLock(1, TimeUnit.SECONDS));
+                readLock.unlock();
+                Assert.assertFalse(writer.isDone());
+                readLock.unlock();
+                Assert.assertTrue(writer.get(10, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdownNow();
+            }
+        } finally {
+            this.tryUnlock(readLock);
+        }
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        writeLock.lock();
+        try {
+            Assert.assertFalse(this.tryLockFromOtherThread(this.lock.readLock()));
+        } finally {
+            writeLock.unlock();
+        }
+        Assert.assertTrue(this.tryLockFromOtherThread(this.lock.readLock()));
+    }
+
+    /**
+     * Verifies that concurrent readers never observe a partial write, for a read-mostly workload.
+     */
+    @Test
+    public void testConcurrentReadMostly() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long[] state = new long[2];
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; ++i) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long sum = 0;
+                    for (int j = 1; j <= OPERATIONS; ++j) {
+                        Lock operationLock = (j % WRITE_RATIO == 0) ? this.lock.writeLock() : this.lock.readLock();
+                        if (!operationLock.tryLock(10, TimeUnit.SECONDS)) {
+                            throw new IllegalStateException();
+                        }
+                        try {
+                            if (j % WRITE_RATIO == 0) {
+                                // the values are only consistent while holding the write lock
+                                state[0]++;
+                                state[1]++;
+                            } else if (state[0] != state[1]) {
+                                throw new IllegalStateException();
+                            } else {
+                                sum += state[0];
+                            }
+                        } finally {
+                            operationLock.unlock();
+                        }
+                    }
+                    return sum;
+                }));
+            }
+            start.countDown();
+            for (Future<Long> future : futures) {
+                future.get();
+            }
+            Assert.assertEquals((long) THREADS * (OPERATIONS / WRITE_RATIO), state[0]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean tryLockFromOtherThread(Lock lock) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(() -> {
+                boolean locked = lock.tryLock(200, TimeUnit.MILLISECONDS);
+                if (locked) {
+                    lock.unlock();
+                }
+                return locked;
+            }).get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void tryUnlock(Lock lock) {
+        try {
+            lock.unlock();
+        } catch (IllegalMonitorStateException e) {
+            // already released
+        }
+    }
+}
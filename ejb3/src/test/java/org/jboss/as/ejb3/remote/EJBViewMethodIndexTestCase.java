@@ -0,0 +1,156 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.naming.ManagedReference;
+import org.jboss.ejb.client.EJBMethodLocator;
+import org.jboss.invocation.InterceptorContext;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Unit test for the lookup of the view methods targeted by remote invocations, through {@link EJBViewMethodIndex}.
+ */
+public class EJBViewMethodIndexTestCase {
+
+    private static final int INVOCATIONS = 10000;
+
+    public interface Facade {
+        void process();
+        void process(String value);
+        void process(int value);
+        void process(String[] values, List<String> list);
+        String describe(Map<String, Object> data, long id);
+    }
+
+    @Test
+    public void testFindMethod() throws Exception {
+        final Set<Method> viewMethods = new HashSet<>(Arrays.asList(Facade.class.getMethods()));
+        final ComponentView indexedView = new TestComponentView(viewMethods, new EJBViewMethodIndex(viewMethods));
+        final ComponentView view = new TestComponentView(viewMethods, null);
+        for (Method method : viewMethods) {
+            final EJBMethodLocator locator = locatorFor(method);
+            assertEquals(method, AssociationImpl.findMethod(indexedView, locator));
+            assertEquals(method, AssociationImpl.findMethod(view, locator));
+        }
+        final EJBMethodLocator unknown = new EJBMethodLocator("process", "java.lang.Integer");
+        assertNull(AssociationImpl.findMethod(indexedView, unknown));
+        assertNull(AssociationImpl.findMethod(view, unknown));
+    }
+
+    /**
+     * The method lookup of a remote invocation must not allocate, unlike the linear scan of the view methods, which copies the parameter types of each candidate method.
+     */
+    @Test
+    public void testFindMethodAllocationBudget() throws Exception {
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported());
+        final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        final Set<Method> viewMethods = new HashSet<>(Arrays.asList(Facade.class.getMethods()));
+        final ComponentView indexedView = new TestComponentView(viewMethods, new EJBViewMethodIndex(viewMethods));
+        final EJBMethodLocator locator = locatorFor(Facade.class.getMethod("describe", Map.class, long.class));
+        // warm up
+        findMethod(indexedView, locator);
+        final long threadId = Thread.currentThread().getId();
+        final long start = allocationMXBean.getThreadAllocatedBytes(threadId);
+        findMethod(indexedView, locator);
+        final long allocated = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+        // less than one byte per invocation, which leaves room for the measurement itself
+        assertTrue(allocated + " bytes allocated by " + INVOCATIONS + " lookups", allocated < INVOCATIONS);
+    }
+
+    private static void findMethod(ComponentView view, EJBMethodLocator locator) {
+        for (int i = 0; i < INVOCATIONS; i++) {
+            if (AssociationImpl.findMethod(view, locator) == null) {
+                throw new AssertionError();
+            }
+        }
+    }
+
+    private static EJBMethodLocator locatorFor(Method method) {
+        final String[] parameterTypeNames = new String[method.getParameterCount()];
+        for (int i = 0; i < parameterTypeNames.length; i++) {
+            parameterTypeNames[i] = method.getParameterTypes()[i].getName();
+        }
+        return new EJBMethodLocator(method.getName(), parameterTypeNames);
+    }
+
+    private static class TestComponentView implements ComponentView {
+
+        private final Set<Method> viewMethods;
+        private final EJBViewMethodIndex methodIndex;
+
+        TestComponentView(Set<Method> viewMethods, EJBViewMethodIndex methodIndex) {
+            this.viewMethods = viewMethods;
+            this.methodIndex = methodIndex;
+        }
+
+        @Override
+        public ManagedReference createInstance() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ManagedReference createInstance(Map<Object, Object> contextData) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object invoke(InterceptorContext interceptorContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Component getComponent() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Class<?> getProxyClass() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Class<?> getViewClass() {
+            return Facade.class;
+        }
+
+        @Override
+        public Set<Method> getViewMethods() {
+            return viewMethods;
+        }
+
+        @Override
+        public Method getMethod(String name, String descriptor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getPrivateData(Class<T> clazz) {
+            return clazz == EJBViewMethodIndex.class ? (T) methodIndex : null;
+        }
+
+        @Override
+        public boolean isAsynchronous(Method method) {
+            return false;
+        }
+    }
+}
@@ -9,11 +9,14 @@ package org.jboss.as.ejb3.subsystem;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
 
+import javax.xml.stream.XMLStreamException;
+
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
@@ -67,7 +70,7 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     @Test
@@ -75,6 +78,49 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
         standardSubsystemTest("subsystem15.xml", false);
     }
 
+    @Test
+    public void test100() throws Exception {
+        standardSubsystemTest("subsystem_10_0.xml", false);
+    }
+
+    @Test
+    public void testSingletonBeanLockMode() throws Exception {
+        final KernelServices ks = createKernelServicesBuilder(AdditionalInitialization.MANAGEMENT).setSubsystemXml(getSubsystemXml()).build();
+        assertTrue("Subsystem boot failed!", ks.isSuccessfulBoot());
+
+        final PathAddress address = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH);
+        final String attributeName = EJB3SubsystemRootResourceDefinition.DEFAULT_SINGLETON_BEAN_LOCK_MODE.getName();
+        assertEquals("stamped", ks.readWholeModel().get("subsystem", getMainSubsystemName(), attributeName).asString());
+
+        ModelNode response = ks.executeOperation(Util.getWriteAttributeOperation(address, attributeName, "reentrant"));
+        assertEquals(response.toString(), "success", response.get("outcome").asString());
+        assertEquals("reentrant", ks.readWholeModel().get("subsystem", getMainSubsystemName(), attributeName).asString());
+
+        ks.executeForFailure(Util.getWriteAttributeOperation(address, attributeName, "optimistic"));
+    }
+
+    @Test
+    public void testSingletonBeanLockModeRejectedBy100Schema() throws Exception {
+        final String subsystemXml = getSubsystemXml().replace(EJB3SubsystemNamespace.EJB3_11_0.getUriString(), EJB3SubsystemNamespace.EJB3_10_0.getUriString());
+        try {
+            parse(subsystemXml);
+            fail("lock-mode attribute should not be accepted by the 10.0 schema");
+        } catch (XMLStreamException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testTimeoutDispatchRejectedBy100Schema() throws Exception {
+        final String subsystemXml = getSubsystemXml().replace(" lock-mode=\"stamped\"", "").replace(EJB3SubsystemNamespace.EJB3_11_0.getUriString(), EJB3SubsystemNamespace.EJB3_10_0.getUriString());
+        try {
+            parse(subsystemXml);
+            fail("dispatch-mode and dispatch-shards attributes should not be accepted by the 10.0 schema");
+        } catch (XMLStreamException e) {
+            // expected
+        }
+    }
+
     /** WFLY-7797 */
     @Test
     public void testPoolSizeAlternatives() throws Exception {
@@ -22,6 +22,7 @@ import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.as.subsystem.test.KernelServicesBuilder;
 import org.jboss.dmr.ModelNode;
 import org.junit.Assert;
+import org.junit.Test;
 
 /**
  * Test cases for transformers used in the EJB3 subsystem.
@@ -69,7 +70,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     /*
@@ -110,6 +111,19 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
         checkSubsystemModelTransformation(services, model, new DefaultModelFixer());
     }
 
+    @Test
+    public void testRejectionsEAP740() throws Exception {
+        ModelTestControllerVersion controller = ModelTestControllerVersion.EAP_7_4_0;
+        this.testRejections(EJB3Model.VERSION_9_0_0.getVersion(), controller,
+                formatEAPSubsystemArtifact(controller),
+                formatArtifact("org.jboss.eap:wildfly-clustering-api:%s", controller),
+                formatArtifact("org.jboss.eap:wildfly-clustering-common:%s", controller),
+                formatArtifact("org.jboss.eap:wildfly-clustering-ejb-spi:%s", controller),
+                formatArtifact("org.jboss.eap:wildfly-clustering-service:%s", controller),
+                formatArtifact("org.jboss.eap:wildfly-clustering-singleton-api:%s", controller),
+                formatArtifact("org.jboss.eap:wildfly-clustering-spi:%s", controller));
+    }
+
     protected AdditionalInitialization createAdditionalInitializationForRejectionTests() {
         return AdditionalInitialization.withCapabilities("org.wildfly.transactions.global-default-local-provider",
                 buildDynamicCapabilityName("org.wildfly.security.security-domain", "ApplicationDomain"),
@@ -148,7 +162,17 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH);
 
-        // need to include all changes from current to 9.0.0
+        // need to include all changes from current to 10.0.0
+        if (EJB3Model.VERSION_10_0_0.requiresTransformation(version)) {
+            // reject the attribute default-singleton-bean-lock-mode, unless it has its default value
+            config.addFailedAttribute(subsystemAddress, new FailedOperationTransformationConfig.NewAttributesConfig(EJB3SubsystemRootResourceDefinition.DEFAULT_SINGLETON_BEAN_LOCK_MODE));
+            // reject the attributes dispatch-mode and dispatch-shards of /subsystem=ejb3/service=timer-service, unless dispatch-mode has its default value
+            // N.B. 9.0.0 rejects the timer service resource altogether
+            if (!EJB3Model.VERSION_9_0_0.requiresTransformation(version)) {
+                config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(TimerServiceResourceDefinition.DISPATCH_MODE, TimerServiceResourceDefinition.DISPATCH_SHARDS));
+            }
+        }
+        // need to include all changes from 10.0.0 to 9.0.0
         if (EJB3Model.VERSION_9_0_0.requiresTransformation(version)) {
             // reject the resource /subsystem=ejb3/simple-cache
             config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.SIMPLE_CACHE_PATH), FailedOperationTransformationConfig.REJECTED_RESOURCE);
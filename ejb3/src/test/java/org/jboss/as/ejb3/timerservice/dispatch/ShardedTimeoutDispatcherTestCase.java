@@ -0,0 +1,123 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.dispatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ShardedTimeoutDispatcher}.
+ */
+public class ShardedTimeoutDispatcherTestCase {
+
+    private static final int TIMERS = 100_000;
+
+    @Test
+    public void dispatch() throws InterruptedException {
+        try (ShardedTimeoutDispatcher dispatcher = new ShardedTimeoutDispatcher("dispatch", 4)) {
+            CountDownLatch latch = new CountDownLatch(TIMERS);
+            // Burst of timers due within the same second
+            for (int i = 0; i < TIMERS; ++i) {
+                dispatcher.schedule(UUID.randomUUID().toString(), latch::countDown, 100 + (i % 1000), 0);
+            }
+            Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+
+            DispatchMetrics metrics = dispatcher.getMetrics();
+            Assert.assertEquals(TIMERS, metrics.getDispatchCount());
+            Assert.assertEquals(0, metrics.getScheduledCount());
+            Assert.assertTrue(metrics.getMaxLag() >= metrics.getAverageLag());
+        }
+    }
+
+    @Test
+    public void cancel() {
+        try (ShardedTimeoutDispatcher dispatcher = new ShardedTimeoutDispatcher("cancel", 4)) {
+            List<TimeoutDispatcher.ScheduledTimeout> timeouts = new ArrayList<>(TIMERS);
+            for (int i = 0; i < TIMERS; ++i) {
+                timeouts.add(dispatcher.schedule(UUID.randomUUID().toString(), Assert::fail, TimeUnit.HOURS.toMillis(1) + i, 0));
+            }
+            Assert.assertEquals(TIMERS, dispatcher.getMetrics().getScheduledCount());
+
+            Collections.shuffle(timeouts, new Random(0));
+            for (TimeoutDispatcher.ScheduledTimeout timeout : timeouts) {
+                Assert.assertTrue(timeout.cancel());
+            }
+            // Cancelled timers are removed immediately
+            Assert.assertEquals(0, dispatcher.getMetrics().getScheduledCount());
+            Assert.assertFalse(timeouts.get(0).cancel());
+        }
+    }
+
+    @Test
+    public void order() throws InterruptedException {
+        int count = 10_000;
+        Random random = new Random(0);
+        // Freeze the clock while scheduling, so that the due time of each timer depends only on its delay
+        AtomicLong clock = new AtomicLong(0L);
+        try (ShardedTimeoutDispatcher dispatcher = new ShardedTimeoutDispatcher("order", 1, clock::get)) {
+            List<Long> dispatched = Collections.synchronizedList(new ArrayList<>(count));
+            List<TimeoutDispatcher.ScheduledTimeout> timeouts = new ArrayList<>(count);
+            for (int i = 0; i < count; ++i) {
+                long delay = 1 + random.nextInt(1000);
+                timeouts.add(dispatcher.schedule("timer", () -> dispatched.add(delay), delay, 0));
+            }
+            // Cancel every other timer, exercising removal from the middle of the queue
+            for (int i = 0; i < count; i += 2) {
+                Assert.assertTrue(timeouts.get(i).cancel());
+            }
+            CountDownLatch latch = new CountDownLatch(1);
+            dispatcher.schedule("timer", latch::countDown, 1001, 0);
+            Assert.assertTrue(dispatched.isEmpty());
+
+            // All timers are now due, and must be dispatched in order of their due time
+            clock.set(TimeUnit.HOURS.toMillis(1));
+            Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+
+            Assert.assertEquals(count / 2, dispatched.size());
+            for (int i = 1; i < dispatched.size(); ++i) {
+                Assert.assertTrue(dispatched.get(i - 1) <= dispatched.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void failure() throws InterruptedException {
+        try (ShardedTimeoutDispatcher dispatcher = new ShardedTimeoutDispatcher("failure", 1)) {
+            dispatcher.schedule("timer", () -> {
+                throw new IllegalStateException();
+            }, 0, 0);
+            dispatcher.schedule("timer", () -> {
+                throw new AssertionError();
+            }, 0, 0);
+            // Shard continues dispatching following a failed timeout
+            CountDownLatch latch = new CountDownLatch(1);
+            dispatcher.schedule("timer", latch::countDown, 10, 0);
+            Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+            Assert.assertEquals(3, dispatcher.getMetrics().getDispatchCount());
+        }
+    }
+
+    @Test
+    public void fixedRate() throws InterruptedException {
+        try (ShardedTimeoutDispatcher dispatcher = new ShardedTimeoutDispatcher("fixed-rate", 2)) {
+            CountDownLatch latch = new CountDownLatch(5);
+            TimeoutDispatcher.ScheduledTimeout timeout = dispatcher.schedule("timer", latch::countDown, 0, 10);
+            Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+            Assert.assertEquals(1, dispatcher.getMetrics().getScheduledCount());
+            Assert.assertTrue(timeout.cancel());
+            Assert.assertEquals(0, dispatcher.getMetrics().getScheduledCount());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.schedule;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfMonth;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfWeek;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Hour;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Minute;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Month;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Second;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Year;
+import org.jboss.as.ejb3.timerservice.schedule.value.ScheduleExpressionType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Differential test of the timeouts computed by {@link CalendarBasedTimeout}, using a {@link CompiledSchedule},
+ * against those computed by the {@link LegacyCalendarBasedTimeout}, for a randomized corpus of schedules.
+ * Since the legacy implementation has known defects, e.g. when a day-of-week schedule moves to a different month,
+ * or a timeout falls on the day of a daylight saving time transition, a discrepancy is tolerated only if the legacy timeout is verifiably wrong.
+ */
+public class CompiledScheduleTestCase {
+
+    private static final int SCHEDULES = 10_000;
+    private static final int TIMEOUTS = 20;
+    // Number of discrepancies, each verified to be a defect of the legacy implementation, for the fixed seed
+    // This may need to be revised if the time zone rules of the JDK change
+    private static final int DISCREPANCIES = 204;
+
+    private static final String[] SECONDS = { "*", "0", "30", "59", "0/15", "*/20", "10-20", "50-10", "0, 15, 45" };
+    private static final String[] MINUTES = { "*", "0", "30", "59", "0/15", "*/20", "5/15", "55-5", "0, 30" };
+    private static final String[] HOURS = { "*", "0", "1", "2", "3", "23", "1, 2", "2-3", "22-2", "*/6", "0/2" };
+    private static final String[] DAYS_OF_MONTH = { "*", "*", "*", "1", "15", "29", "31", "Last", "-1", "-7", "1st Mon", "2nd Fri", "5th Wed", "Last Sun", "1-10", "25-Last", "1st Sun-3rd Sun", "Last-3", "20-5", "1, 15, Last" };
+    private static final String[] MONTHS = { "*", "*", "1", "2", "3", "12", "3, 10", "10-3", "Mar-Apr", "Oct, Nov" };
+    private static final String[] DAYS_OF_WEEK = { "*", "*", "*", "0", "7", "Mon", "Fri", "1-5", "Sat-Sun", "Tue, Thu" };
+    private static final String[] YEARS = { "*", "*", "*", "2024", "2020-2030", "2021, 2025, 2031" };
+    // Time zones with various daylight saving time rules, including non-hourly offsets and transitions at midnight
+    private static final String[] TIME_ZONES = { "UTC", "Asia/Kolkata", "Europe/London", "Europe/Lisbon", "Europe/Berlin", "Europe/Helsinki", "America/New_York", "America/Los_Angeles", "America/Sao_Paulo", "America/Santiago", "Asia/Tehran", "Australia/Sydney", "Australia/Lord_Howe", "Pacific/Chatham" };
+
+    @Test
+    public void differential() {
+        Random random = new Random(0);
+        // 2020-01-01T00:00:00Z
+        long origin = 1577836800000L;
+        long range = TimeUnit.DAYS.toMillis(20 * 365);
+        int discrepancies = 0;
+        for (int i = 0; i < SCHEDULES; ++i) {
+            String[] schedule = new String[] { pick(random, SECONDS), pick(random, MINUTES), pick(random, HOURS), pick(random, DAYS_OF_MONTH), pick(random, MONTHS), pick(random, DAYS_OF_WEEK), pick(random, YEARS) };
+            TimeZone timezone = TimeZone.getTimeZone(pick(random, TIME_ZONES));
+            long start = origin + (long) (random.nextDouble() * range);
+            ZoneOffsetTransition transition = timezone.toZoneId().getRules().nextTransition(Instant.ofEpochMilli(start));
+            if (transition != null && random.nextBoolean()) {
+                // Start within the hours preceding a daylight saving time transition
+                start = transition.getInstant().toEpochMilli() - random.nextInt((int) TimeUnit.HOURS.toMillis(4));
+            }
+            CalendarBasedTimeout timeout = new CalendarBasedTimeout(new Second(schedule[0]), new Minute(schedule[1]), new Hour(schedule[2]), new DayOfMonth(schedule[3]), new Month(schedule[4]), new DayOfWeek(schedule[5]), new Year(schedule[6]), timezone, new Date(start), null);
+            LegacyCalendarBasedTimeout legacyTimeout = new LegacyCalendarBasedTimeout(new Second(schedule[0]), new Minute(schedule[1]), new Hour(schedule[2]), new DayOfMonth(schedule[3]), new Month(schedule[4]), new DayOfWeek(schedule[5]), new Year(schedule[6]), timezone, new Date(start), null);
+
+            long previous = start - 1;
+            Calendar next = timeout.getFirstTimeout();
+            Calendar legacyNext = legacyTimeout.getFirstTimeout();
+            for (int j = 0; j < TIMEOUTS && legacyNext != null; ++j) {
+                if (next == null || next.getTimeInMillis() != legacyNext.getTimeInMillis()) {
+                    String message = String.format("%s in %s after %s: %s, legacy %s", String.join(" ", schedule), timezone.getID(), format(previous, timezone), (next != null) ? format(next.getTimeInMillis(), timezone) : null, format(legacyNext.getTimeInMillis(), timezone));
+                    Assert.assertNotNull(message, next);
+                    Assert.assertTrue(message, next.getTimeInMillis() > previous);
+                    Assert.assertTrue(message, matches(next, schedule));
+                    // Legacy timeout is either not a match, does not advance, or skipped the computed timeout
+                    Assert.assertTrue(message, !matches(legacyNext, schedule) || (legacyNext.getTimeInMillis() <= previous) || (next.getTimeInMillis() < legacyNext.getTimeInMillis()));
+                    discrepancies += 1;
+                    // Subsequent timeouts are no longer comparable
+                    break;
+                }
+                previous = next.getTimeInMillis();
+                Calendar current = new GregorianCalendar();
+                current.setTimeInMillis(previous);
+                next = timeout.getNextTimeout(current);
+                legacyNext = legacyTimeout.getNextTimeout(current);
+            }
+        }
+        Assert.assertEquals(DISCREPANCIES, discrepancies);
+    }
+
+    /**
+     * A timeout whose wall-clock time falls within a daylight saving time gap is shifted forward by the duration of the gap.
+     */
+    @Test
+    public void daylightSavingTimeGap() {
+        // 02:00 -> 03:00
+        assertTimeouts("America/New_York", "2024-03-09T12:00", new String[] { "0", "30", "2", "*", "*", "*", "*" }, "2024-03-10T03:30-04:00", "2024-03-11T02:30-04:00");
+        assertTimeouts("America/New_York", "2024-03-10T00:00", new String[] { "0", "0", "*", "*", "*", "*", "*" }, "2024-03-10T00:00-05:00", "2024-03-10T01:00-05:00", "2024-03-10T03:00-04:00", "2024-03-10T04:00-04:00");
+        // 01:00 -> 02:00
+        assertTimeouts("Europe/London", "2024-03-30T12:00", new String[] { "0", "15", "1", "*", "*", "*", "*" }, "2024-03-31T02:15+01:00", "2024-04-01T01:15+01:00");
+        // 02:00 -> 02:30
+        assertTimeouts("Australia/Lord_Howe", "2024-10-05T12:00", new String[] { "0", "15", "2", "*", "*", "*", "*" }, "2024-10-06T02:45+11:00", "2024-10-07T02:15+11:00");
+        // 00:00 -> 01:00
+        assertTimeouts("America/Santiago", "2024-09-07T12:00", new String[] { "0", "30", "0", "*", "*", "*", "*" }, "2024-09-08T01:30-03:00", "2024-09-09T00:30-03:00");
+        assertTimeouts("America/Sao_Paulo", "2018-11-03T12:00", new String[] { "0", "0", "0", "*", "*", "*", "*" }, "2018-11-04T01:00-02:00", "2018-11-05T00:00-02:00");
+    }
+
+    /**
+     * A timeout whose wall-clock time falls within a daylight saving time overlap fires once, at its first occurrence,
+     * while a schedule matching each hour fires for both occurrences of the repeated hour.
+     */
+    @Test
+    public void daylightSavingTimeOverlap() {
+        // 02:00 -> 01:00
+        assertTimeouts("America/New_York", "2024-11-02T12:00", new String[] { "0", "30", "1", "*", "*", "*", "*" }, "2024-11-03T01:30-04:00", "2024-11-04T01:30-05:00");
+        assertTimeouts("America/New_York", "2024-11-03T00:00", new String[] { "0", "0", "*", "*", "*", "*", "*" }, "2024-11-03T00:00-04:00", "2024-11-03T01:00-04:00", "2024-11-03T01:00-05:00", "2024-11-03T02:00-05:00");
+        // 02:00 -> 01:00
+        assertTimeouts("Europe/London", "2024-10-26T12:00", new String[] { "0", "15", "1", "*", "*", "*", "*" }, "2024-10-27T01:15+01:00", "2024-10-28T01:15Z");
+        // 02:00 -> 01:30
+        assertTimeouts("Australia/Lord_Howe", "2024-04-06T12:00", new String[] { "0", "45", "1", "*", "*", "*", "*" }, "2024-04-07T01:45+11:00", "2024-04-08T01:45+10:30");
+        // 00:00 -> 23:00
+        assertTimeouts("America/Santiago", "2024-04-06T12:00", new String[] { "0", "30", "23", "*", "*", "*", "*" }, "2024-04-06T23:30-03:00", "2024-04-07T23:30-04:00");
+    }
+
+    private static void assertTimeouts(String zone, String start, String[] schedule, String... expected) {
+        TimeZone timezone = TimeZone.getTimeZone(zone);
+        ZoneId zoneId = timezone.toZoneId();
+        Date startDate = Date.from(LocalDateTime.parse(start).atZone(zoneId).toInstant());
+        CalendarBasedTimeout timeout = new CalendarBasedTimeout(new Second(schedule[0]), new Minute(schedule[1]), new Hour(schedule[2]), new DayOfMonth(schedule[3]), new Month(schedule[4]), new DayOfWeek(schedule[5]), new Year(schedule[6]), timezone, startDate, null);
+        Calendar next = timeout.getFirstTimeout();
+        for (String time : expected) {
+            Assert.assertNotNull(time, next);
+            Assert.assertEquals(OffsetDateTime.parse(time), OffsetDateTime.ofInstant(next.toInstant(), zoneId));
+            next = timeout.getNextTimeout(next);
+        }
+    }
+
+    /**
+     * Verifies that the specified timeout matches the specified schedule, independently of {@link CompiledSchedule}.
+     * A timeout within the hour following a daylight saving time gap may also match the wall-clock time, prior to the gap, that it was shifted from.
+     */
+    private static boolean matches(Calendar timeout, String[] schedule) {
+        Instant instant = timeout.toInstant();
+        ZoneRules rules = timeout.getTimeZone().toZoneId().getRules();
+        if (matches(LocalDateTime.ofInstant(instant, rules.getOffset(instant)), schedule)) {
+            return true;
+        }
+        ZoneOffsetTransition transition = rules.previousTransition(instant.plusMillis(1));
+        if (transition == null || !transition.isGap()) {
+            return false;
+        }
+        LocalDateTime time = LocalDateTime.ofInstant(instant, transition.getOffsetBefore());
+        return time.isBefore(transition.getDateTimeAfter()) && matches(time, schedule);
+    }
+
+    private static boolean matches(LocalDateTime time, String[] schedule) {
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone(ZoneOffset.UTC));
+        calendar.clear();
+        calendar.set(time.getYear(), time.getMonthValue() - 1, time.getDayOfMonth(), time.getHour(), time.getMinute(), time.getSecond());
+        DayOfMonth dayOfMonth = new DayOfMonth(schedule[3]);
+        DayOfWeek dayOfWeek = new DayOfWeek(schedule[5]);
+        boolean dayOfMonthMatches = dayOfMonth.getNextMatch(calendar) == calendar.get(Calendar.DAY_OF_MONTH);
+        boolean dayOfWeekMatches = dayOfWeek.getNextMatch(calendar) == calendar.get(Calendar.DAY_OF_WEEK);
+        boolean dayMatches = (dayOfMonth.getType() == ScheduleExpressionType.WILDCARD) ? dayOfWeekMatches : (dayOfWeek.getType() == ScheduleExpressionType.WILDCARD) ? dayOfMonthMatches : dayOfMonthMatches || dayOfWeekMatches;
+        return dayMatches
+                && new Second(schedule[0]).getNextMatch(time.getSecond()) == time.getSecond()
+                && new Minute(schedule[1]).getNextMatch(time.getMinute()) == time.getMinute()
+                && new Hour(schedule[2]).getNextMatch(time.getHour()) == time.getHour()
+                && new Month(schedule[4]).getNextMatch(calendar) == calendar.get(Calendar.MONTH)
+                && new Year(schedule[6]).getNextMatch(calendar) == calendar.get(Calendar.YEAR);
+    }
+
+    private static String format(long time, TimeZone timezone) {
+        return Instant.ofEpochMilli(time).atZone(timezone.toZoneId()).toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.SharedCacheMode;
 import jakarta.persistence.spi.PersistenceUnitInfo;
 
 import org.hibernate.cfg.AvailableSettings;
+import org.jboss.as.jpa.hibernate.cache.CoalescingTimestampsCacheFactory;
 import org.jboss.as.jpa.hibernate.management.HibernateManagementAdaptor;
 import org.jboss.as.jpa.hibernate.service.WildFlyCustomJtaPlatform;
 import org.jipijapa.cache.spi.Classification;
@@ -79,6 +80,11 @@ public class HibernatePersistenceProviderAdaptor implements PersistenceProviderA
 
         // Enable JPA Compliance mode
         putPropertyIfAbsent( pu, properties, AvailableSettings.JPA_COMPLIANCE, true);
+
+        // Coalesce the pre-invalidations of the timestamps region, which is replicated across the cluster
+        if (HibernateSecondLevelCache.isLocalQueryRegionProfile(pu.getProperties())) {
+            putPropertyIfAbsent(pu, properties, AvailableSettings.QUERY_CACHE_FACTORY, CoalescingTimestampsCacheFactory.class);
+        }
     }
 
     private void failOnIncompatibleSetting(PersistenceUnitMetadata pu, Map properties) {
@@ -41,6 +41,17 @@ public class HibernateSecondLevelCache {
     public static final String NAME = "name";
     public static final String CACHES = "caches";
 
+    // Region profile of a persistence unit
+    public static final String REGION_PROFILE = "wildfly.jpa.cache.profile";
+    public static final String REGION_PROFILE_DEFAULT = "default";
+    // Query results are cached locally, and the pre-invalidations of the clustered timestamps region are coalesced per session
+    public static final String REGION_PROFILE_LOCAL_QUERY = "local-query";
+
+    // Per region memory bounds, e.g. wildfly.jpa.cache.region.org.acme.Person.memory.size=1000, for regions relative to the region prefix of the persistence unit
+    public static final String REGION_PROPERTY_PREFIX = "wildfly.jpa.cache.region.";
+    public static final String MEMORY_SIZE_SUFFIX = ".memory.size";
+    private static final String INFINISPAN_PROPERTY_PREFIX = "hibernate.cache.infinispan.";
+
     public static void addSecondLevelCacheDependencies(Properties mutableProperties, String scopedPersistenceUnitName) {
 
         if (mutableProperties.getProperty(AvailableSettings.CACHE_REGION_PREFIX) == null
@@ -53,6 +64,7 @@ public class HibernateSecondLevelCache {
             regionFactory = DEFAULT_REGION_FACTORY;
             mutableProperties.setProperty(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
         }
+        applyRegionProfile(mutableProperties);
         if (Boolean.parseBoolean(mutableProperties.getProperty(ManagedEmbeddedCacheManagerProvider.SHARED, ManagedEmbeddedCacheManagerProvider.DEFAULT_SHARED))) {
             // Set infinispan defaults
             String container = mutableProperties.getProperty(ManagedEmbeddedCacheManagerProvider.CACHE_CONTAINER);
@@ -72,6 +84,40 @@ public class HibernateSecondLevelCache {
         }
     }
 
+    /**
+     * Returns whether the specified persistence unit properties select the local query region profile.
+     * @param properties persistence unit properties
+     * @return true, if the local query region profile is selected, false otherwise
+     */
+    public static boolean isLocalQueryRegionProfile(Properties properties) {
+        String profile = properties.getProperty(REGION_PROFILE, REGION_PROFILE_DEFAULT);
+        if (!profile.equals(REGION_PROFILE_DEFAULT) && !profile.equals(REGION_PROFILE_LOCAL_QUERY)) {
+            throw JpaLogger.JPA_LOGGER.invalidCacheRegionProfile(REGION_PROFILE, profile);
+        }
+        return profile.equals(REGION_PROFILE_LOCAL_QUERY);
+    }
+
+    /**
+     * Applies the region profile and the per region memory bounds of a persistence unit to the settings of the Infinispan region factory.
+     * Settings specified by the application take precedence.
+     */
+    private static void applyRegionProfile(Properties mutableProperties) {
+        if (isLocalQueryRegionProfile(mutableProperties) && mutableProperties.getProperty(QUERY_CACHE_RESOURCE_PROP) == null) {
+            mutableProperties.setProperty(QUERY_CACHE_RESOURCE_PROP, DEF_QUERY_RESOURCE);
+        }
+        String prefix = mutableProperties.getProperty(AvailableSettings.CACHE_REGION_PREFIX);
+        for (String propertyName : mutableProperties.stringPropertyNames()) {
+            if (propertyName.startsWith(REGION_PROPERTY_PREFIX) && propertyName.endsWith(MEMORY_SIZE_SUFFIX)) {
+                String region = propertyName.substring(REGION_PROPERTY_PREFIX.length(), propertyName.length() - MEMORY_SIZE_SUFFIX.length());
+                String qualifiedRegion = (prefix != null) ? prefix + '.' + region : region;
+                String infinispanPropertyName = INFINISPAN_PROPERTY_PREFIX + qualifiedRegion + MEMORY_SIZE_SUFFIX;
+                if (mutableProperties.getProperty(infinispanPropertyName) == null) {
+                    mutableProperties.setProperty(infinispanPropertyName, mutableProperties.getProperty(propertyName));
+                }
+            }
+        }
+    }
+
     public static Set<String> findCaches(Properties properties) {
         Set<String> caches = new HashSet<>();
 
@@ -55,4 +55,14 @@ public interface JpaLogger extends BasicLogger {
             "Refer to Hibernate ORM migration documentation for how to update the next id state in the application database.")
     IllegalStateException failOnIncompatibleSetting();
 
+    /**
+     * Creates an exception indicating that the second level cache region profile of a persistence unit is not supported.
+     *
+     * @param property the name of the persistence unit property
+     * @param profile the specified profile
+     * @return an {@link IllegalArgumentException} for the error.
+     */
+    @Message(id = 20264, value = "Unsupported %s value '%s', expected 'default' or 'local-query'")
+    IllegalArgumentException invalidCacheRegionProfile(String property, String profile);
+
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * {@link TimestampsCache} decorator that coalesces the pre-invalidations of the query spaces of a transaction.
+ * On each flush, Hibernate pre-invalidates the query spaces of each list of executed entity actions, each resulting in a put into the timestamps region,
+ * which, for a clustered timestamps region, is a cluster-wide message.
+ * Since the spaces of the session are invalidated, i.e. updated with their final timestamp, on completion of the transaction,
+ * any subsequent pre-invalidation of a space already pre-invalidated within the same transaction is redundant, and is skipped.
+ * Thus transactions that flush the same spaces more than once, e.g. via the auto-flush preceding each query, only pre-invalidate each space once.
+ * Pre-invalidations are tracked per transaction of a session, and a session does not retain its pre-invalidations once it is no longer referenced.
+ */
+public class CoalescingTimestampsCache implements TimestampsCache {
+
+    private final TimestampsCache cache;
+    // Query spaces pre-invalidated by the current transaction of each session, pending their invalidation, each set being confined to the thread of its session
+    private final Map<SharedSessionContractImplementor, PreInvalidatedSpaces> preInvalidatedSpaces = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public CoalescingTimestampsCache(TimestampsCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public TimestampsRegion getRegion() {
+        return this.cache.getRegion();
+    }
+
+    @Override
+    public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+        // The transaction start timestamp distinguishes the transactions of a session, e.g. if a prior transaction completed without invalidating its spaces
+        long transaction = session.getTransactionStartTimestamp();
+        PreInvalidatedSpaces current = this.preInvalidatedSpaces.get(session);
+        if ((current == null) || (current.transaction != transaction)) {
+            current = new PreInvalidatedSpaces(transaction);
+            this.preInvalidatedSpaces.put(session, current);
+        }
+        Set<String> preInvalidated = current.spaces;
+        int count = 0;
+        String[] pending = new String[spaces.length];
+        for (String space : spaces) {
+            if (preInvalidated.add(space)) {
+                pending[count++] = space;
+            }
+        }
+        if (count == spaces.length) {
+            this.cache.preInvalidate(spaces, session);
+        } else if (count > 0) {
+            String[] remaining = new String[count];
+            System.arraycopy(pending, 0, remaining, 0, count);
+            this.cache.preInvalidate(remaining, session);
+        }
+    }
+
+    @Override
+    public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+        // Subsequent modifications by this session need to be pre-invalidated again
+        this.preInvalidatedSpaces.remove(session);
+        this.cache.invalidate(spaces, session);
+    }
+
+    @Override
+    public boolean isUpToDate(String[] spaces, Long timestamp, SharedSessionContractImplementor session) {
+        return this.cache.isUpToDate(spaces, timestamp, session);
+    }
+
+    @Override
+    public boolean isUpToDate(Collection<String> spaces, Long timestamp, SharedSessionContractImplementor session) {
+        return this.cache.isUpToDate(spaces, timestamp, session);
+    }
+
+    @Override
+    public void clear() throws CacheException {
+        this.preInvalidatedSpaces.clear();
+        this.cache.clear();
+    }
+
+    @Override
+    public void destroy() {
+        this.preInvalidatedSpaces.clear();
+        this.cache.destroy();
+    }
+
+    private static class PreInvalidatedSpaces {
+        final long transaction;
+        final Set<String> spaces = new HashSet<>();
+
+        PreInvalidatedSpaces(long transaction) {
+            this.transaction = transaction;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate.cache;
+
+import org.hibernate.cache.internal.TimestampsCacheEnabledImpl;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+
+/**
+ * {@link TimestampsCacheFactory} creating a {@link CoalescingTimestampsCache} for the timestamps region of a persistence unit.
+ */
+public class CoalescingTimestampsCacheFactory implements TimestampsCacheFactory {
+
+    @Override
+    public TimestampsCache buildTimestampsCache(CacheImplementor cacheImplementor, TimestampsRegion timestampsRegion) {
+        return new CoalescingTimestampsCache(new TimestampsCacheEnabledImpl(timestampsRegion));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate.management;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.jipijapa.management.spi.EntityManagerFactoryAccess;
+import org.jipijapa.management.spi.Operation;
+import org.jipijapa.management.spi.PathAddress;
+
+/**
+ * Hibernate second level cache statistics of each region, i.e. of the entity, collection, natural-id and query result regions.
+ */
+public class HibernateCacheRegionStatistics extends HibernateAbstractStatistics {
+
+    public static final String ATTRIBUTE_REGION_NAME = "region-name";
+    public static final String OPERATION_SECOND_LEVEL_CACHE_HIT_COUNT = "second-level-cache-hit-count";
+    public static final String OPERATION_SECOND_LEVEL_CACHE_MISS_COUNT = "second-level-cache-miss-count";
+    public static final String OPERATION_SECOND_LEVEL_CACHE_PUT_COUNT = "second-level-cache-put-count";
+    public static final String OPERATION_SECOND_LEVEL_CACHE_COUNT_IN_MEMORY = "second-level-cache-count-in-memory";
+    public static final String OPERATION_SECOND_LEVEL_CACHE_SIZE_IN_MEMORY = "second-level-cache-size-in-memory";
+
+    public HibernateCacheRegionStatistics() {
+        /**
+         * specify the different operations
+         */
+        operations.put(ATTRIBUTE_REGION_NAME, getRegionName);
+        types.put(ATTRIBUTE_REGION_NAME, String.class);
+
+        operations.put(OPERATION_SECOND_LEVEL_CACHE_HIT_COUNT, regionHitCount);
+        types.put(OPERATION_SECOND_LEVEL_CACHE_HIT_COUNT, Long.class);
+
+        operations.put(OPERATION_SECOND_LEVEL_CACHE_MISS_COUNT, regionMissCount);
+        types.put(OPERATION_SECOND_LEVEL_CACHE_MISS_COUNT, Long.class);
+
+        operations.put(OPERATION_SECOND_LEVEL_CACHE_PUT_COUNT, regionPutCount);
+        types.put(OPERATION_SECOND_LEVEL_CACHE_PUT_COUNT, Long.class);
+
+        operations.put(OPERATION_SECOND_LEVEL_CACHE_COUNT_IN_MEMORY, regionCountInMemory);
+        types.put(OPERATION_SECOND_LEVEL_CACHE_COUNT_IN_MEMORY, Long.class);
+
+        operations.put(OPERATION_SECOND_LEVEL_CACHE_SIZE_IN_MEMORY, regionSizeInMemory);
+        types.put(OPERATION_SECOND_LEVEL_CACHE_SIZE_IN_MEMORY, Long.class);
+    }
+
+    @Override
+    public Collection<String> getDynamicChildrenNames(EntityManagerFactoryAccess entityManagerFactoryLookup, PathAddress pathAddress) {
+        org.hibernate.stat.Statistics stats = getBaseStatistics(entityManagerFactoryLookup.entityManagerFactory(pathAddress.getValue(HibernateStatistics.PROVIDER_LABEL)));
+        if (stats == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(Arrays.asList(stats.getSecondLevelCacheRegionNames()));
+    }
+
+    private org.hibernate.stat.Statistics getBaseStatistics(EntityManagerFactory entityManagerFactory) {
+        if (entityManagerFactory == null) {
+            return null;
+        }
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        if (sessionFactory != null) {
+            return sessionFactory.getStatistics();
+        }
+        return null;
+    }
+
+    private CacheRegionStatistics getStatistics(EntityManagerFactory entityManagerFactory, PathAddress pathAddress) {
+        org.hibernate.stat.Statistics stats = getBaseStatistics(entityManagerFactory);
+        // Returns null for an unknown region
+        return (stats != null) ? stats.getCacheRegionStatistics(pathAddress.getValue(HibernateStatistics.CACHE_REGION)) : null;
+    }
+
+    private Operation getRegionName = new Operation() {
+        @Override
+        public Object invoke(Object... args) {
+            return getStatisticName(args);
+        }
+    };
+
+    private Operation regionHitCount = new Operation() {
+        @Override
+        public Object invoke(Object... args) {
+            CacheRegionStatistics statistics = getStatistics(getEntityManagerFactory(args), getPathAddress(args));
+            return Long.valueOf(statistics != null ? statistics.getHitCount() : 0);
+        }
+    };
+
+    private Operation regionMissCount = new Operation() {
+        @Override
+        public Object invoke(Object... args) {
+            CacheRegionStatistics statistics = getStatistics(getEntityManagerFactory(args), getPathAddress(args));
+            return Long.valueOf(statistics != null ? statistics.getMissCount() : 0);
+        }
+    };
+
+    private Operation regionPutCount = new Operation() {
+        @Override
+        public Object invoke(Object... args) {
+            CacheRegionStatistics statistics = getStatistics(getEntityManagerFactory(args), getPathAddress(args));
+            return Long.valueOf(statistics != null ? statistics.getPutCount() : 0);
+        }
+    };
+
+    private Operation regionCountInMemory = new Operation() {
+        @Override
+        public Object invoke(Object... args) {
+            CacheRegionStatistics statistics = getStatistics(getEntityManagerFactory(args), getPathAddress(args));
+            return Long.valueOf(statistics != null ? statistics.getElementCountInMemory() : 0);
+        }
+    };
+
+    private Operation regionSizeInMemory = new Operation() {
+        @Override
+        public Object invoke(Object... args) {
+            CacheRegionStatistics statistics = getStatistics(getEntityManagerFactory(args), getPathAddress(args));
+            return Long.valueOf(statistics != null ? statistics.getSizeInMemory() : 0);
+        }
+    };
+}
@@ -64,6 +64,7 @@ public class HibernateStatistics extends HibernateAbstractStatistics {
     public static final String COLLECTION = "collection";
     public static final String ENTITY = "entity";
     public static final String QUERYCACHE = "query-cache";
+    public static final String CACHE_REGION = "cache-region";
 
     private final Map<String, Statistics> childrenStatistics = new HashMap<String,Statistics>();
     public HibernateStatistics() {
@@ -190,6 +191,9 @@ public class HibernateStatistics extends HibernateAbstractStatistics {
         childrenNames.add(QUERYCACHE);
         childrenStatistics.put(QUERYCACHE , new HibernateQueryCacheStatistics());
 
+        childrenNames.add(CACHE_REGION);
+        childrenStatistics.put(CACHE_REGION, new HibernateCacheRegionStatistics());
+
     }
 
     @Override
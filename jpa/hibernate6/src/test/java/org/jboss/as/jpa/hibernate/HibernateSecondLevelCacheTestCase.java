@@ -0,0 +1,108 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate;
+
+import static org.infinispan.hibernate.cache.spi.InfinispanProperties.DEF_QUERY_RESOURCE;
+import static org.infinispan.hibernate.cache.spi.InfinispanProperties.QUERY_CACHE_RESOURCE_PROP;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Properties;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.Test;
+
+/**
+ * Unit test for the region profiles and per region memory bounds applied by {@link HibernateSecondLevelCache}.
+ */
+public class HibernateSecondLevelCacheTestCase {
+
+    private static Properties createProperties() {
+        Properties properties = new Properties();
+        // Skip registration of cache dependencies
+        properties.setProperty(ManagedEmbeddedCacheManagerProvider.SHARED, Boolean.FALSE.toString());
+        properties.setProperty(AvailableSettings.USE_QUERY_CACHE, Boolean.TRUE.toString());
+        return properties;
+    }
+
+    @Test
+    public void memorySizes() {
+        Properties properties = createProperties();
+        properties.setProperty("wildfly.jpa.cache.region.org.acme.Person.memory.size", "1000");
+        properties.setProperty("wildfly.jpa.cache.region.org.acme.Address.memory.size", "100");
+        // Settings specified by the application take precedence
+        properties.setProperty("hibernate.cache.infinispan.app.war#pu.org.acme.Address.memory.size", "10");
+
+        HibernateSecondLevelCache.addSecondLevelCacheDependencies(properties, "app.war#pu");
+
+        assertEquals("app.war#pu", properties.getProperty(AvailableSettings.CACHE_REGION_PREFIX));
+        assertEquals("1000", properties.getProperty("hibernate.cache.infinispan.app.war#pu.org.acme.Person.memory.size"));
+        assertEquals("10", properties.getProperty("hibernate.cache.infinispan.app.war#pu.org.acme.Address.memory.size"));
+    }
+
+    @Test
+    public void memorySizesWithoutPrefix() {
+        Properties properties = createProperties();
+        properties.setProperty("wildfly.jpa.cache.region.org.acme.Person.memory.size", "1000");
+
+        HibernateSecondLevelCache.addSecondLevelCacheDependencies(properties, null);
+
+        assertEquals("1000", properties.getProperty("hibernate.cache.infinispan.org.acme.Person.memory.size"));
+    }
+
+    @Test
+    public void defaultProfile() {
+        Properties properties = createProperties();
+
+        assertFalse(HibernateSecondLevelCache.isLocalQueryRegionProfile(properties));
+
+        HibernateSecondLevelCache.addSecondLevelCacheDependencies(properties, "app.war#pu");
+
+        assertNull(properties.getProperty(QUERY_CACHE_RESOURCE_PROP));
+    }
+
+    @Test
+    public void localQueryProfile() {
+        Properties properties = createProperties();
+        properties.setProperty(HibernateSecondLevelCache.REGION_PROFILE, HibernateSecondLevelCache.REGION_PROFILE_LOCAL_QUERY);
+
+        assertTrue(HibernateSecondLevelCache.isLocalQueryRegionProfile(properties));
+
+        HibernateSecondLevelCache.addSecondLevelCacheDependencies(properties, "app.war#pu");
+
+        // Query results are cached locally
+        assertEquals(DEF_QUERY_RESOURCE, properties.getProperty(QUERY_CACHE_RESOURCE_PROP));
+        assertTrue(HibernateSecondLevelCache.findCaches(properties).contains(DEF_QUERY_RESOURCE));
+    }
+
+    @Test
+    public void localQueryProfileWithCustomQueryCache() {
+        Properties properties = createProperties();
+        properties.setProperty(HibernateSecondLevelCache.REGION_PROFILE, HibernateSecondLevelCache.REGION_PROFILE_LOCAL_QUERY);
+        properties.setProperty(QUERY_CACHE_RESOURCE_PROP, "custom-query");
+
+        HibernateSecondLevelCache.addSecondLevelCacheDependencies(properties, "app.war#pu");
+
+        // Settings specified by the application take precedence
+        assertEquals("custom-query", properties.getProperty(QUERY_CACHE_RESOURCE_PROP));
+    }
+
+    @Test
+    public void invalidProfile() {
+        Properties properties = createProperties();
+        properties.setProperty(HibernateSecondLevelCache.REGION_PROFILE, "unknown");
+
+        try {
+            HibernateSecondLevelCache.addSecondLevelCacheDependencies(properties, "app.war#pu");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+}
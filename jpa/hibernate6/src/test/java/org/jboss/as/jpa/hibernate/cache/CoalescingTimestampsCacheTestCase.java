@@ -0,0 +1,193 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CoalescingTimestampsCache}, simulating a write-heavy workload against a clustered timestamps region,
+ * whose every put is a cluster-wide message.
+ */
+public class CoalescingTimestampsCacheTestCase {
+
+    // Query spaces of the insert and update action lists of each flush
+    private static final String[] INSERT_SPACES = new String[] { "person", "address" };
+    private static final String[] UPDATE_SPACES = new String[] { "person" };
+    private static final int TRANSACTIONS = 10;
+    // Number of flushes per transaction, e.g. due to the auto-flush preceding each query
+    private static final int FLUSHES = 5;
+
+    private final AtomicLong transactionStartTimestamp = new AtomicLong(1L);
+
+    @Test
+    public void workload() {
+        CountingTimestampsCache standard = new CountingTimestampsCache();
+        this.run(standard);
+
+        CountingTimestampsCache counting = new CountingTimestampsCache();
+        this.run(new CoalescingTimestampsCache(counting));
+
+        // The invalidations on completion of each transaction are identical
+        assertEquals(standard.invalidations, counting.invalidations);
+        assertEquals(TRANSACTIONS * INSERT_SPACES.length, counting.invalidations);
+        // Each flush pre-invalidates the spaces of each of its action lists
+        assertEquals(TRANSACTIONS * FLUSHES * (INSERT_SPACES.length + UPDATE_SPACES.length), standard.preInvalidations);
+        // Each space is only pre-invalidated once per transaction
+        assertEquals(TRANSACTIONS * INSERT_SPACES.length, counting.preInvalidations);
+
+        assertTrue(counting.preInvalidations + counting.invalidations < standard.preInvalidations + standard.invalidations);
+    }
+
+    @Test
+    public void singleFlush() {
+        CountingTimestampsCache counting = new CountingTimestampsCache();
+        TimestampsCache cache = new CoalescingTimestampsCache(counting);
+        SharedSessionContractImplementor session = this.createSession();
+
+        // A single flush pre-invalidates each space once, i.e. is not delayed or coalesced across action lists of distinct spaces
+        cache.preInvalidate(new String[] { "address" }, session);
+        cache.preInvalidate(UPDATE_SPACES, session);
+        assertEquals(2, counting.preInvalidations);
+        assertEquals(Integer.valueOf(1), counting.puts.get("address"));
+        assertEquals(Integer.valueOf(1), counting.puts.get("person"));
+    }
+
+    @Test
+    public void subsequentTransaction() {
+        CountingTimestampsCache counting = new CountingTimestampsCache();
+        TimestampsCache cache = new CoalescingTimestampsCache(counting);
+        SharedSessionContractImplementor session = this.createSession();
+
+        cache.preInvalidate(UPDATE_SPACES, session);
+        cache.preInvalidate(INSERT_SPACES, session);
+        assertEquals(2, counting.preInvalidations);
+        cache.invalidate(INSERT_SPACES, session);
+
+        // A subsequent transaction of the same session must pre-invalidate its spaces again
+        this.transactionStartTimestamp.incrementAndGet();
+        cache.preInvalidate(UPDATE_SPACES, session);
+        assertEquals(3, counting.preInvalidations);
+        assertEquals(Integer.valueOf(2), counting.puts.get("person"));
+    }
+
+    @Test
+    public void transactionWithoutInvalidation() {
+        CountingTimestampsCache counting = new CountingTimestampsCache();
+        TimestampsCache cache = new CoalescingTimestampsCache(counting);
+        SharedSessionContractImplementor session = this.createSession();
+
+        // Transaction completes without invalidating its spaces
+        cache.preInvalidate(UPDATE_SPACES, session);
+        assertEquals(1, counting.preInvalidations);
+
+        // The pre-invalidations of the prior transaction must not suppress those of the next transaction
+        this.transactionStartTimestamp.incrementAndGet();
+        cache.preInvalidate(UPDATE_SPACES, session);
+        assertEquals(2, counting.preInvalidations);
+    }
+
+    @Test
+    public void concurrentSessions() {
+        CountingTimestampsCache counting = new CountingTimestampsCache();
+        TimestampsCache cache = new CoalescingTimestampsCache(counting);
+        SharedSessionContractImplementor session1 = this.createSession();
+        SharedSessionContractImplementor session2 = this.createSession();
+
+        // Pre-invalidations are not coalesced across sessions
+        cache.preInvalidate(UPDATE_SPACES, session1);
+        cache.preInvalidate(UPDATE_SPACES, session2);
+        assertEquals(2, counting.preInvalidations);
+    }
+
+    private void run(TimestampsCache cache) {
+        for (int i = 0; i < TRANSACTIONS; ++i) {
+            SharedSessionContractImplementor session = this.createSession();
+            this.transactionStartTimestamp.incrementAndGet();
+            for (int j = 0; j < FLUSHES; ++j) {
+                // Each flush pre-invalidates the spaces of its insert and update action lists
+                cache.preInvalidate(INSERT_SPACES, session);
+                cache.preInvalidate(UPDATE_SPACES, session);
+            }
+            // On completion of the transaction, its spaces are invalidated once
+            cache.invalidate(INSERT_SPACES, session);
+        }
+    }
+
+    private SharedSessionContractImplementor createSession() {
+        return (SharedSessionContractImplementor) Proxy.newProxyInstance(SharedSessionContractImplementor.class.getClassLoader(), new Class<?>[] { SharedSessionContractImplementor.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getTransactionStartTimestamp":
+                    return this.transactionStartTimestamp.get();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "session@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    /**
+     * Counts the puts into the timestamps region.
+     */
+    private static class CountingTimestampsCache implements TimestampsCache {
+        final Map<String, Integer> puts = new HashMap<>();
+        int preInvalidations = 0;
+        int invalidations = 0;
+
+        @Override
+        public TimestampsRegion getRegion() {
+            return null;
+        }
+
+        @Override
+        public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+            for (String space : spaces) {
+                this.puts.merge(space, 1, Integer::sum);
+            }
+            this.preInvalidations += spaces.length;
+        }
+
+        @Override
+        public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+            this.invalidations += spaces.length;
+        }
+
+        @Override
+        public boolean isUpToDate(String[] spaces, Long timestamp, SharedSessionContractImplementor session) {
+            return true;
+        }
+
+        @Override
+        public boolean isUpToDate(Collection<String> spaces, Long timestamp, SharedSessionContractImplementor session) {
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            this.puts.clear();
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate.management;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.jipijapa.management.spi.EntityManagerFactoryAccess;
+import org.jipijapa.management.spi.PathAddress;
+import org.jipijapa.management.spi.StatisticName;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HibernateCacheRegionStatistics}.
+ */
+public class HibernateCacheRegionStatisticsTestCase {
+
+    private static final String PERSISTENCE_UNIT = "app.war#pu";
+
+    private final CacheRegionStatistics entityRegion = proxy(CacheRegionStatistics.class, Map.of(
+            "getHitCount", args -> 10L,
+            "getMissCount", args -> 2L,
+            "getPutCount", args -> 5L,
+            "getElementCountInMemory", args -> 4L,
+            "getSizeInMemory", args -> 1024L));
+    private final Statistics statistics = proxy(Statistics.class, Map.of(
+            "getSecondLevelCacheRegionNames", args -> new String[] { "app.war#pu.org.acme.Person", "default-query-results-region" },
+            "getCacheRegionStatistics", args -> "app.war#pu.org.acme.Person".equals(args[0]) ? this.entityRegion : null));
+    private final SessionFactory sessionFactory = proxy(SessionFactory.class, Map.of("getStatistics", args -> this.statistics));
+    private final EntityManagerFactory entityManagerFactory = proxy(EntityManagerFactory.class, Map.of("unwrap", args -> this.sessionFactory));
+    private final EntityManagerFactoryAccess access = name -> PERSISTENCE_UNIT.equals(name) ? this.entityManagerFactory : null;
+    private final HibernateCacheRegionStatistics regionStatistics = new HibernateCacheRegionStatistics();
+
+    @Test
+    public void regionNames() {
+        assertEquals(List.of("app.war#pu.org.acme.Person", "default-query-results-region"), List.copyOf(this.regionStatistics.getDynamicChildrenNames(this.access, address(null))));
+    }
+
+    @Test
+    public void region() {
+        String region = "app.war#pu.org.acme.Person";
+        PathAddress address = address(region);
+        StatisticName name = () -> region;
+
+        assertEquals(region, this.regionStatistics.getValue(HibernateCacheRegionStatistics.ATTRIBUTE_REGION_NAME, this.access, name, address));
+        assertEquals(10L, this.regionStatistics.getValue(HibernateCacheRegionStatistics.OPERATION_SECOND_LEVEL_CACHE_HIT_COUNT, this.access, name, address));
+        assertEquals(2L, this.regionStatistics.getValue(HibernateCacheRegionStatistics.OPERATION_SECOND_LEVEL_CACHE_MISS_COUNT, this.access, name, address));
+        assertEquals(5L, this.regionStatistics.getValue(HibernateCacheRegionStatistics.OPERATION_SECOND_LEVEL_CACHE_PUT_COUNT, this.access, name, address));
+        assertEquals(4L, this.regionStatistics.getValue(HibernateCacheRegionStatistics.OPERATION_SECOND_LEVEL_CACHE_COUNT_IN_MEMORY, this.access, name, address));
+        assertEquals(1024L, this.regionStatistics.getValue(HibernateCacheRegionStatistics.OPERATION_SECOND_LEVEL_CACHE_SIZE_IN_MEMORY, this.access, name, address));
+    }
+
+    @Test
+    public void unknownRegion() {
+        PathAddress address = address("unknown");
+        StatisticName name = () -> "unknown";
+
+        // An unknown region reports no activity
+        for (String statistic : List.of(HibernateCacheRegionStatistics.OPERATION_SECOND_LEVEL_CACHE_HIT_COUNT, HibernateCacheRegionStatistics.OPERATION_SECOND_LEVEL_CACHE_MISS_COUNT, HibernateCacheRegionStatistics.OPERATION_SECOND_LEVEL_CACHE_PUT_COUNT)) {
+            assertEquals(statistic, 0L, this.regionStatistics.getValue(statistic, this.access, name, address));
+        }
+    }
+
+    @Test
+    public void child() {
+        HibernateStatistics statistics = new HibernateStatistics();
+
+        assertTrue(statistics.getChildrenNames().contains(HibernateStatistics.CACHE_REGION));
+        assertTrue(statistics.getChild(HibernateStatistics.CACHE_REGION) instanceof HibernateCacheRegionStatistics);
+    }
+
+    private static PathAddress address(String region) {
+        return new PathAddress() {
+            @Override
+            public int size() {
+                return (region != null) ? 2 : 1;
+            }
+
+            @Override
+            public String getValue(String name) {
+                switch (name) {
+                    case HibernateStatistics.PROVIDER_LABEL:
+                        return PERSISTENCE_UNIT;
+                    case HibernateStatistics.CACHE_REGION:
+                        return region;
+                    default:
+                        return null;
+                }
+            }
+
+            @Override
+            public String getValue(int index) {
+                return (index == 0) ? PERSISTENCE_UNIT : region;
+            }
+        };
+    }
+
+    private static <T> T proxy(Class<T> targetClass, Map<String, Function<Object[], Object>> methods) {
+        return targetClass.cast(Proxy.newProxyInstance(targetClass.getClassLoader(), new Class<?>[] { targetClass }, (proxy, method, args) -> {
+            Function<Object[], Object> function = methods.get(method.getName());
+            if (function == null) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return function.apply(args);
+        }));
+    }
+}
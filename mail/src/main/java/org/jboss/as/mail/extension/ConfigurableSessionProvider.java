@@ -6,10 +6,19 @@
 package org.jboss.as.mail.extension;
 
 /**
- * A {@link SessionProvider that additionally exposes its configuration.
- * This is used only for test verification.
+ * A {@link SessionProvider that additionally exposes its configuration and its transport pool, if any.
+ * The configuration is used only for test verification.
  * @author Paul Ferraro
  */
-interface ConfigurableSessionProvider extends SessionProvider {
+interface ConfigurableSessionProvider extends SessionProvider, AutoCloseable {
     MailSessionConfig getConfig();
+
+    /**
+     * Returns the pool of the transports of the session of this provider.
+     * @return a transport pool, or null, if transports are not pooled
+     */
+    TransportPool getTransportPool();
+
+    @Override
+    void close();
 }
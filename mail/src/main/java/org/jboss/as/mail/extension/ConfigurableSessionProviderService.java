@@ -19,6 +19,7 @@ import org.jboss.msc.service.StopContext;
 class ConfigurableSessionProviderService implements Service {
     private final Consumer<ConfigurableSessionProvider> provider;
     private final MailSessionConfig config;
+    private volatile ConfigurableSessionProvider sessionProvider;
 
     ConfigurableSessionProviderService(Consumer<ConfigurableSessionProvider> provider, MailSessionConfig config) {
         this.provider = provider;
@@ -27,11 +28,25 @@ class ConfigurableSessionProviderService implements Service {
 
     @Override
     public void start(final StartContext startContext) throws StartException {
-        this.provider.accept(SessionProviderFactory.create(this.config));
+        this.sessionProvider = SessionProviderFactory.create(this.config);
+        this.provider.accept(this.sessionProvider);
     }
 
     @Override
     public void stop(final StopContext stopContext) {
-        // Nothing to stop
+        final ConfigurableSessionProvider provider = this.sessionProvider;
+        if (provider.getTransportPool() != null) {
+            // Closing the transport pool waits for queued messages to be sent, so do not block the MSC thread
+            stopContext.asynchronous();
+            new Thread(() -> {
+                try {
+                    provider.close();
+                } finally {
+                    stopContext.complete();
+                }
+            }, String.format("mail-session-stop [%s]", this.config.getJndiName())).start();
+        } else {
+            provider.close();
+        }
     }
 }
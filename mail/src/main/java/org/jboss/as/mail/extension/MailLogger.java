@@ -6,16 +6,20 @@
 package org.jboss.as.mail.extension;
 
 import static org.jboss.logging.Logger.Level.DEBUG;
+import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
 import org.jboss.msc.service.StartException;
 
+import jakarta.mail.MessagingException;
+
 /**
  * Date: 05.11.2011
  *
@@ -75,4 +79,44 @@ interface MailLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 9, value = "Host name [%s] could not be resolved!")
     void hostUnknown(String hostName);
+
+    /**
+     * Creates an exception indicating that no transport of a mail session was released in time.
+     *
+     * @param timeout the number of milliseconds waited for a transport.
+     * @param jndiName the JNDI name of the mail session.
+     * @return a {@link MessagingException} for the error.
+     */
+    @Message(id = 10, value = "No transport of mail session [%2$s] became available within %1$d ms")
+    MessagingException transportPoolExhausted(long timeout, String jndiName);
+
+    /**
+     * Logs an error message indicating that a queued message could not be sent.
+     *
+     * @param cause the cause of the error.
+     * @param jndiName the JNDI name of the mail session.
+     * @param attempts the number of attempts to send the message.
+     */
+    @LogMessage(level = ERROR)
+    @Message(id = 11, value = "Failed to send queued message of mail session [%s] after %d attempts")
+    void queuedMessageNotSent(@Cause Throwable cause, String jndiName, int attempts);
+
+    /**
+     * Logs a warning message indicating that queued messages were not sent before the mail session stopped.
+     *
+     * @param count the number of messages not sent.
+     * @param jndiName the JNDI name of the mail session.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 12, value = "%d queued messages of mail session [%s] were not sent")
+    void queuedMessagesAbandoned(int count, String jndiName);
+
+    /**
+     * Logs an informational message indicating that messages of a mail session are sent asynchronously.
+     *
+     * @param jndiName the JNDI name of the mail session.
+     */
+    @LogMessage(level = INFO)
+    @Message(id = 13, value = "Messages of mail session [%s] are queued for asynchronous delivery; Transport.send returns before a queued message is delivered, and delivery failures are only logged")
+    void asynchronousDeliveryEnabled(String jndiName);
 }
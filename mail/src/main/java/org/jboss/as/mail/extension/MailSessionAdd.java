@@ -214,6 +214,9 @@ class MailSessionAdd extends AbstractAddStepHandler {
         if (MailSessionDefinition.FROM.resolveModelAttribute(operationContext, model).isDefined()) {
             cfg.setFrom(MailSessionDefinition.FROM.resolveModelAttribute(operationContext, model).asString());
         }
+        cfg.setTransportPoolSize(MailSessionDefinition.TRANSPORT_POOL_SIZE.resolveModelAttribute(operationContext, model).asInt(0));
+        cfg.setSendQueueSize(MailSessionDefinition.SEND_QUEUE_SIZE.resolveModelAttribute(operationContext, model).asInt(0));
+        cfg.setSendRetries(MailSessionDefinition.SEND_RETRIES.resolveModelAttribute(operationContext, model).asInt());
         if (model.hasDefined(SERVER_TYPE)) {
             ModelNode server = model.get(SERVER_TYPE);
             if (server.hasDefined(SMTP)) {
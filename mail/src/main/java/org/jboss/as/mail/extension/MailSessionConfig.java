@@ -15,6 +15,9 @@ public class MailSessionConfig {
     private String jndiName;
     private boolean debug = false;
     private String from = null;
+    private int transportPoolSize = 0;
+    private int sendQueueSize = 0;
+    private int sendRetries = 0;
 
     private ServerConfig smtpServer;
     private ServerConfig pop3Server;
@@ -53,6 +56,40 @@ public class MailSessionConfig {
         this.debug = debug;
     }
 
+    /**
+     * Returns the maximum number of pooled transports of this session.
+     *
+     * @return a pool size, or 0, if transports are not pooled
+     */
+    public int getTransportPoolSize() {
+        return transportPoolSize;
+    }
+
+    public void setTransportPoolSize(int transportPoolSize) {
+        this.transportPoolSize = transportPoolSize;
+    }
+
+    /**
+     * Returns the capacity of the asynchronous send queue of this session.
+     *
+     * @return a queue size, or 0, if messages are sent synchronously
+     */
+    public int getSendQueueSize() {
+        return sendQueueSize;
+    }
+
+    public void setSendQueueSize(int sendQueueSize) {
+        this.sendQueueSize = sendQueueSize;
+    }
+
+    public int getSendRetries() {
+        return sendRetries;
+    }
+
+    public void setSendRetries(int sendRetries) {
+        this.sendRetries = sendRetries;
+    }
+
     public ServerConfig getImapServer() {
         return imapServer;
     }
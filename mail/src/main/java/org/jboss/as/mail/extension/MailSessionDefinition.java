@@ -20,6 +20,7 @@ import org.jboss.as.controller.access.constraint.ApplicationTypeConfig;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.ApplicationTypeAccessConstraintDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
@@ -59,7 +60,28 @@ class MailSessionDefinition extends PersistentResourceDefinition {
                     .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
                     .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = {DEBUG, JNDI_NAME, FROM};
+    protected static final SimpleAttributeDefinition TRANSPORT_POOL_SIZE =
+            new SimpleAttributeDefinitionBuilder(MailSubsystemModel.TRANSPORT_POOL_SIZE, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+    protected static final SimpleAttributeDefinition SEND_QUEUE_SIZE =
+            new SimpleAttributeDefinitionBuilder(MailSubsystemModel.SEND_QUEUE_SIZE, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setRequires(MailSubsystemModel.TRANSPORT_POOL_SIZE)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+    protected static final SimpleAttributeDefinition SEND_RETRIES =
+            new SimpleAttributeDefinitionBuilder(MailSubsystemModel.SEND_RETRIES, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(3))
+                    .setValidator(new IntRangeValidator(0, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = {DEBUG, JNDI_NAME, FROM, TRANSPORT_POOL_SIZE, SEND_QUEUE_SIZE, SEND_RETRIES};
 
     MailSessionDefinition() {
         super(new SimpleResourceDefinition.Parameters(MailExtension.MAIL_SESSION_PATH,
@@ -83,6 +105,11 @@ class MailSessionDefinition extends PersistentResourceDefinition {
             }
         }
         registration.registerReadWriteAttribute(JNDI_NAME, null, new MailSessionWriteAttributeHandler(JNDI_NAME, MailSessionRemove::removeBinderService, MailSessionAdd::installBinderService));
+        if (registration.isRuntimeOnlyRegistrationValid()) {
+            for (MailSessionMetric metric : MailSessionMetric.values()) {
+                registration.registerMetric(metric.getDefinition(), MailSessionMetricsHandler.INSTANCE);
+            }
+        }
     }
 
     @Override
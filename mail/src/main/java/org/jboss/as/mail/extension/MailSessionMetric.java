@@ -0,0 +1,48 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.mail.extension;
+
+import java.util.function.ToLongFunction;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Metrics of the transport pool and send queue of a mail session.
+ */
+enum MailSessionMetric {
+    TRANSPORT_POOL_ACTIVE_COUNT("transport-pool-active-count", ModelType.INT, AttributeAccess.Flag.GAUGE_METRIC, TransportPool::getActiveCount),
+    TRANSPORT_POOL_IDLE_COUNT("transport-pool-idle-count", ModelType.INT, AttributeAccess.Flag.GAUGE_METRIC, TransportPool::getIdleCount),
+    TRANSPORT_POOL_CREATED_COUNT("transport-pool-created-count", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC, TransportPool::getCreatedCount),
+    TRANSPORT_POOL_DESTROYED_COUNT("transport-pool-destroyed-count", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC, TransportPool::getDestroyedCount),
+    SEND_QUEUE_PENDING_COUNT("send-queue-pending-count", ModelType.INT, AttributeAccess.Flag.GAUGE_METRIC, pool -> (pool.getSendQueue() != null) ? pool.getSendQueue().getPendingCount() : 0),
+    SEND_QUEUE_SENT_COUNT("send-queue-sent-count", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC, pool -> (pool.getSendQueue() != null) ? pool.getSendQueue().getSentCount() : 0),
+    SEND_QUEUE_RETRY_COUNT("send-queue-retry-count", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC, pool -> (pool.getSendQueue() != null) ? pool.getSendQueue().getRetryCount() : 0),
+    SEND_QUEUE_FAILED_COUNT("send-queue-failed-count", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC, pool -> (pool.getSendQueue() != null) ? pool.getSendQueue().getFailedCount() : 0),
+    ;
+    private final AttributeDefinition definition;
+    private final ToLongFunction<TransportPool> reader;
+
+    MailSessionMetric(String name, ModelType type, AttributeAccess.Flag metricType, ToLongFunction<TransportPool> reader) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type, true)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setStorageRuntime()
+                .addFlag(metricType)
+                .build();
+        this.reader = reader;
+    }
+
+    AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+
+    ModelNode read(TransportPool pool) {
+        return new ModelNode(this.reader.applyAsLong(pool));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.mail.extension;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.mail.extension.MailSessionDefinition.SESSION_CAPABILITY;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the metrics of the transport pool and send queue of a mail session, if its transports are pooled.
+ */
+class MailSessionMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    static final MailSessionMetricsHandler INSTANCE = new MailSessionMetricsHandler();
+
+    private final Map<String, MailSessionMetric> metrics = new HashMap<>();
+
+    private MailSessionMetricsHandler() {
+        for (MailSessionMetric metric : MailSessionMetric.values()) {
+            this.metrics.put(metric.getDefinition().getName(), metric);
+        }
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        MailSessionMetric metric = this.metrics.get(operation.require(NAME).asString());
+        ServiceController<?> controller = context.getServiceRegistry(false).getService(SESSION_CAPABILITY.getCapabilityServiceName(context.getCurrentAddress()).append("provider"));
+        if ((controller != null) && (controller.getState() == ServiceController.State.UP)) {
+            TransportPool pool = ((ConfigurableSessionProvider) controller.getValue()).getTransportPool();
+            if (pool != null) {
+                context.getResult().set(metric.read(pool));
+            }
+        }
+    }
+}
@@ -35,6 +35,9 @@ interface MailSubsystemModel {
     String NAME = "name";
     String CUSTOM = "custom";
     String PROPERTY = "property";
+    String TRANSPORT_POOL_SIZE = "transport-pool-size";
+    String SEND_QUEUE_SIZE = "send-queue-size";
+    String SEND_RETRIES = "send-retries";
 
 
     PathElement POP3_SERVER_PATH = PathElement.pathElement(SERVER_TYPE, POP3);
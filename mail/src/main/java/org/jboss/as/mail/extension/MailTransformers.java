@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.mail.extension;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+
+/**
+ * Registers the transformers of the mail subsystem to legacy model versions.
+ */
+public class MailTransformers implements ExtensionTransformerRegistration {
+
+    static final ModelVersion MODEL_VERSION_4_0_0 = ModelVersion.create(4, 0, 0);
+
+    @Override
+    public String getSubsystemName() {
+        return MailExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
+
+        registerTransformers_4_0_0(builder.createBuilder(MailExtension.CURRENT_MODEL_VERSION, MODEL_VERSION_4_0_0));
+
+        builder.buildAndRegister(registration, new ModelVersion[] { MODEL_VERSION_4_0_0 });
+    }
+
+    private static void registerTransformers_4_0_0(ResourceTransformationDescriptionBuilder subsystem) {
+        // Transport pooling and the send queue are unknown to 4.0.0
+        subsystem.addChildResource(MailExtension.MAIL_SESSION_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, MailSessionDefinition.TRANSPORT_POOL_SIZE, MailSessionDefinition.SEND_QUEUE_SIZE, MailSessionDefinition.SEND_RETRIES)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, MailSessionDefinition.TRANSPORT_POOL_SIZE, MailSessionDefinition.SEND_QUEUE_SIZE, MailSessionDefinition.SEND_RETRIES)
+                .end();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.mail.extension;
+
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.URLName;
+
+/**
+ * A transport that borrows a connected transport from the {@link TransportPool} of its session, instead of opening a connection of its own.
+ * A transport is borrowed on the first message sent, or not at all if the message is queued for asynchronous delivery, and released on {@link #close()}.
+ * Thus {@link Transport#send(Message)}, which always closes its transport, reuses the connections of the pool.
+ * A transport connected to a server, or with an account, other than the configured ones, e.g. via {@link Transport#send(Message, String, String)},
+ * opens a connection of its own instead, since the connections of the pool were established with the configured server and account.
+ * <p>
+ * Instances are created reflectively by the session, which loads this class via the class loader of its authenticator, if not visible to the application.
+ * </p>
+ */
+public class PooledTransport extends Transport {
+
+    private final TransportPool pool;
+    private Transport transport;
+    // Indicates whether the transport is connected directly, i.e. not borrowed from the pool
+    private boolean direct = false;
+
+    public PooledTransport(Session session, URLName url) {
+        super(session, url);
+        this.pool = TransportPool.forSession(session);
+    }
+
+    @Override
+    public synchronized void connect(String host, int port, String user, String password) throws MessagingException {
+        if (this.isConnected()) {
+            throw new IllegalStateException("already connected");
+        }
+        if (!this.pool.isPooled(host, port, user)) {
+            Transport transport = this.pool.createTransport();
+            transport.connect(host, port, user, password);
+            this.transport = transport;
+            this.direct = true;
+        }
+        try {
+            super.connect(host, port, user, password);
+        } catch (MessagingException | RuntimeException e) {
+            try {
+                this.closeDirect();
+            } catch (MessagingException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    protected boolean protocolConnect(String host, int port, String user, String password) {
+        // Connections are established by the pool, or directly by connect(...)
+        return true;
+    }
+
+    @Override
+    public synchronized void sendMessage(Message message, Address[] addresses) throws MessagingException {
+        if (this.direct) {
+            this.transport.sendMessage(message, addresses);
+            return;
+        }
+        SendQueue queue = this.pool.getSendQueue();
+        if ((queue != null) && queue.offer(message, addresses)) {
+            return;
+        }
+        if (this.transport == null) {
+            this.transport = this.pool.borrow();
+        }
+        try {
+            this.transport.sendMessage(message, addresses);
+        } catch (SendFailedException e) {
+            // The connection remains usable
+            throw e;
+        } catch (MessagingException | RuntimeException e) {
+            this.pool.release(this.transport, false);
+            this.transport = null;
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws MessagingException {
+        try {
+            if (this.direct) {
+                this.closeDirect();
+            } else if (this.transport != null) {
+                this.pool.release(this.transport, true);
+                this.transport = null;
+            }
+        } finally {
+            super.close();
+        }
+    }
+
+    private void closeDirect() throws MessagingException {
+        if (this.direct) {
+            Transport transport = this.transport;
+            this.transport = null;
+            this.direct = false;
+            transport.close();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.mail.extension;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * A bounded queue of messages sent asynchronously via the transports of a {@link TransportPool}.
+ * A message that fails to send is retried, with exponential backoff, up to a maximum number of times.
+ * A message offered to a full queue is rejected, in which case the caller sends it synchronously.
+ * <p>
+ * N.B. This deviates from the Jakarta Mail contract: {@link Transport#send(Message)} of a queued message returns before the message is delivered,
+ * and a message that ultimately fails to send is only logged and counted, never reported to the sender.
+ * Consequently, the queue is only created if the {@code send-queue-size} of the mail session is explicitly defined.
+ * </p>
+ */
+class SendQueue implements AutoCloseable {
+
+    private static final long RETRY_DELAY = TimeUnit.SECONDS.toMillis(1);
+    private static final long CLOSE_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private final String name;
+    private final TransportPool pool;
+    private final int capacity;
+    private final int maxRetries;
+    private final Semaphore permits;
+    private final ScheduledThreadPoolExecutor executor;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * @param name the name of the mail session, for logging
+     * @param pool the pool of the transports via which queued messages are sent
+     * @param concurrency the maximum number of messages sent concurrently
+     * @param capacity the maximum number of queued messages
+     * @param maxRetries the maximum number of times a message is resent
+     */
+    SendQueue(String name, TransportPool pool, int concurrency, int capacity, int maxRetries) {
+        this.name = name;
+        this.pool = pool;
+        this.capacity = capacity;
+        this.maxRetries = maxRetries;
+        this.permits = new Semaphore(capacity);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(concurrency, task -> {
+            Thread thread = new Thread(task, String.format("mail-session-send-queue-%d [%s]", count.incrementAndGet(), name));
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Pending retries are abandoned on close
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        MailLogger.ROOT_LOGGER.asynchronousDeliveryEnabled(name);
+    }
+
+    /**
+     * Queues a copy of the specified message for asynchronous delivery, if the queue is not full.
+     *
+     * @param message a message
+     * @param addresses the recipients of the message
+     * @return true, if the message was queued, false otherwise
+     * @throws MessagingException if the message could not be copied
+     */
+    boolean offer(Message message, Address[] addresses) throws MessagingException {
+        if (!this.permits.tryAcquire()) return false;
+        try {
+            // Decouple the queued message from subsequent changes by the application
+            Message copy = (message instanceof MimeMessage) ? new MimeMessage((MimeMessage) message) : message;
+            Address[] recipients = addresses.clone();
+            this.executor.execute(() -> this.send(copy, recipients, 0));
+            return true;
+        } catch (MessagingException | RuntimeException e) {
+            this.permits.release();
+            if (e instanceof RejectedExecutionException) return false;
+            throw e;
+        }
+    }
+
+    private void send(Message message, Address[] addresses, int attempt) {
+        try {
+            Transport transport = this.pool.borrow();
+            boolean reusable = false;
+            try {
+                transport.sendMessage(message, addresses);
+                reusable = true;
+            } catch (SendFailedException e) {
+                reusable = true;
+                throw e;
+            } finally {
+                this.pool.release(transport, reusable);
+            }
+            this.sent.increment();
+            this.permits.release();
+        } catch (MessagingException | RuntimeException e) {
+            // Do not resend a message already delivered to some of its recipients
+            boolean partial = (e instanceof SendFailedException) && (((SendFailedException) e).getValidSentAddresses() != null) && (((SendFailedException) e).getValidSentAddresses().length > 0);
+            if (!partial && (attempt < this.maxRetries) && !this.executor.isShutdown()) {
+                this.retried.increment();
+                try {
+                    this.executor.schedule(() -> this.send(message, addresses, attempt + 1), RETRY_DELAY << attempt, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (RejectedExecutionException ree) {
+                    // Queue was closed concurrently
+                }
+            }
+            this.failed.increment();
+            this.permits.release();
+            MailLogger.ROOT_LOGGER.queuedMessageNotSent(e, this.name, attempt + 1);
+        }
+    }
+
+    int getPendingCount() {
+        return this.capacity - this.permits.availablePermits();
+    }
+
+    long getSentCount() {
+        return this.sent.sum();
+    }
+
+    long getRetryCount() {
+        return this.retried.sum();
+    }
+
+    long getFailedCount() {
+        return this.failed.sum();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(CLOSE_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int pending = this.getPendingCount();
+        if (pending > 0) {
+            MailLogger.ROOT_LOGGER.queuedMessagesAbandoned(pending, this.name);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.jboss.metadata.javaee.spec.PropertyMetaData;
 import org.jboss.msc.service.StartException;
 
 import jakarta.mail.Authenticator;
+import jakarta.mail.NoSuchProviderException;
 import jakarta.mail.PasswordAuthentication;
 import jakarta.mail.Session;
 import org.wildfly.security.manager.WildFlySecurityManager;
@@ -47,10 +48,28 @@ class SessionProviderFactory {
     private static class ManagedSession implements ConfigurableSessionProvider {
         private final MailSessionConfig sessionConfig;
         private final Properties properties = new Properties();
+        // Session shared by all callers, if its transports are pooled
+        private final Session pooledSession;
+        private final TransportPool transportPool;
 
         private ManagedSession(MailSessionConfig sessionConfig) throws StartException {
             this.sessionConfig = sessionConfig;
             configure();
+            if (sessionConfig.getTransportPoolSize() > 0) {
+                // The pool registers itself for the session, from which its transports are obtained
+                Properties sessionProperties = new Properties();
+                sessionProperties.putAll(properties);
+                this.pooledSession = createSession(sessionProperties);
+                try {
+                    this.transportPool = new TransportPool(sessionConfig.getJndiName(), this.pooledSession, properties.getProperty("mail.transport.protocol", MailSubsystemModel.SMTP),
+                            sessionConfig.getTransportPoolSize(), sessionConfig.getSendQueueSize(), sessionConfig.getSendRetries());
+                } catch (NoSuchProviderException e) {
+                    throw new StartException(e);
+                }
+            } else {
+                this.pooledSession = null;
+                this.transportPool = null;
+            }
         }
 
         @Override
@@ -58,6 +77,18 @@ class SessionProviderFactory {
             return this.sessionConfig;
         }
 
+        @Override
+        public TransportPool getTransportPool() {
+            return this.transportPool;
+        }
+
+        @Override
+        public void close() {
+            if (this.transportPool != null) {
+                this.transportPool.close();
+            }
+        }
+
         /**
          * Configures mail session properties
          *
@@ -149,17 +180,21 @@ class SessionProviderFactory {
 
         @Override
         public Session getSession() {
+            return (this.pooledSession != null) ? this.pooledSession : createSession(properties);
+        }
+
+        private Session createSession(Properties sessionProperties) {
             final Session session;
             final ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
             if (current == null) {
                 try {
                     WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(Session.class.getClassLoader());
-                    session = Session.getInstance(properties, new ManagedPasswordAuthenticator(sessionConfig));
+                    session = Session.getInstance(sessionProperties, new ManagedPasswordAuthenticator(sessionConfig));
                 } finally {
                     WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
                 }
             } else {
-                session = Session.getInstance(properties, new ManagedPasswordAuthenticator(sessionConfig));
+                session = Session.getInstance(sessionProperties, new ManagedPasswordAuthenticator(sessionConfig));
             }
             return session;
         }
@@ -0,0 +1,249 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.mail.extension;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.NoSuchProviderException;
+import jakarta.mail.Provider;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+
+/**
+ * A bounded pool of connected transports of a mail session.
+ * Transports are created and connected on demand, up to the maximum size of the pool, and reused most-recently-released first.
+ * A transport that was idle for longer than a validation interval is checked via {@link Transport#isConnected()}, which for SMTP issues a NOOP, before being reused.
+ * The pool is registered with its session, from which it is obtained by {@link PooledTransport}, until the pool is closed.
+ *
+ * @see PooledTransport
+ */
+class TransportPool implements AutoCloseable {
+
+    // Session properties are a map of strings, so the pools are registered by session here instead
+    private static final Map<Session, TransportPool> POOLS = new ConcurrentHashMap<>();
+    private static final long BORROW_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+    private static final long VALIDATION_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Returns the transport pool of the specified session.
+     *
+     * @param session a mail session
+     * @return the transport pool of the session
+     * @throws IllegalStateException if no transport pool is registered with the session
+     */
+    static TransportPool forSession(Session session) {
+        TransportPool pool = POOLS.get(session);
+        if (pool == null) {
+            throw new IllegalStateException(TransportPool.class.getName());
+        }
+        return pool;
+    }
+
+    private final String name;
+    private final Session session;
+    private final String protocol;
+    private final Provider provider;
+    private final int maxSize;
+    private final Semaphore permits;
+    private final Deque<IdleTransport> idle = new ConcurrentLinkedDeque<>();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder destroyed = new LongAdder();
+    private final SendQueue queue;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a transport pool for the specified session, replacing the provider of the specified protocol by {@link PooledTransport}.
+     *
+     * @param name the name of the mail session, for logging
+     * @param session a mail session
+     * @param protocol the transport protocol to pool
+     * @param maxSize the maximum number of transports
+     * @param queueSize the capacity of the asynchronous send queue, or 0 to send synchronously
+     * @param maxRetries the maximum number of times a queued message is resent
+     * @throws NoSuchProviderException if no provider exists for the specified protocol
+     */
+    TransportPool(String name, Session session, String protocol, int maxSize, int queueSize, int maxRetries) throws NoSuchProviderException {
+        this.name = name;
+        this.session = session;
+        this.protocol = protocol;
+        this.maxSize = maxSize;
+        this.permits = new Semaphore(maxSize, true);
+        this.provider = session.getProvider(protocol);
+        this.queue = (queueSize > 0) ? new SendQueue(name, this, maxSize, queueSize, maxRetries) : null;
+        POOLS.put(session, this);
+        Provider pooledProvider = new Provider(Provider.Type.TRANSPORT, protocol, PooledTransport.class.getName(), this.provider.getVendor(), this.provider.getVersion());
+        session.addProvider(pooledProvider);
+        session.setProvider(pooledProvider);
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the asynchronous send queue of this pool, if enabled.
+     *
+     * @return a send queue, or null, if messages are sent synchronously
+     */
+    SendQueue getSendQueue() {
+        return this.queue;
+    }
+
+    /**
+     * Indicates whether the transports of this pool connect to the specified server with the specified account,
+     * i.e. whether the specified connection parameters are either unspecified, or match the configuration of the session.
+     *
+     * @param host a host name, or null for the configured host
+     * @param port a port, or -1 for the configured port
+     * @param user a user name, or null for the configured user
+     * @return true, if a pooled transport can be used, false otherwise
+     */
+    boolean isPooled(String host, int port, String user) {
+        if ((host != null) && !host.equalsIgnoreCase(this.getProperty("host"))) {
+            return false;
+        }
+        if ((port != -1) && !String.valueOf(port).equals(this.session.getProperty("mail." + this.protocol + ".port"))) {
+            return false;
+        }
+        return (user == null) || user.equals(this.getProperty("user"));
+    }
+
+    private String getProperty(String name) {
+        String value = this.session.getProperty("mail." + this.protocol + "." + name);
+        return (value != null) ? value : this.session.getProperty("mail." + name);
+    }
+
+    /**
+     * Creates a transport outside of this pool, e.g. to connect to a server, or with an account, other than the configured ones.
+     *
+     * @return an unconnected transport, which the caller must close
+     * @throws NoSuchProviderException if no provider exists for the protocol of this pool
+     */
+    Transport createTransport() throws NoSuchProviderException {
+        return this.session.getTransport(this.provider);
+    }
+
+    /**
+     * Borrows a connected transport from this pool, waiting for one to be released if the pool is exhausted.
+     * Borrowed transports must be {@link #release(Transport, boolean) released}.
+     *
+     * @return a connected transport
+     * @throws MessagingException if no transport could be connected, or none was released in time
+     */
+    Transport borrow() throws MessagingException {
+        if (this.closed) {
+            throw new IllegalStateException(this.name);
+        }
+        try {
+            if (!this.permits.tryAcquire(BORROW_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                throw MailLogger.ROOT_LOGGER.transportPoolExhausted(BORROW_TIMEOUT, this.name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException(e.getLocalizedMessage(), e);
+        }
+        try {
+            IdleTransport entry = this.idle.pollFirst();
+            while (entry != null) {
+                if ((System.nanoTime() - entry.released < VALIDATION_INTERVAL) || entry.transport.isConnected()) {
+                    return entry.transport;
+                }
+                this.destroy(entry.transport);
+                entry = this.idle.pollFirst();
+            }
+            Transport transport = this.session.getTransport(this.provider);
+            transport.connect();
+            this.created.increment();
+            return transport;
+        } catch (MessagingException | RuntimeException e) {
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a borrowed transport to this pool.
+     *
+     * @param transport a borrowed transport
+     * @param reusable indicates whether the connection of the transport is still usable
+     */
+    void release(Transport transport, boolean reusable) {
+        try {
+            if (reusable && !this.closed) {
+                this.idle.offerFirst(new IdleTransport(transport));
+                if (this.closed) {
+                    // Pool was closed concurrently
+                    this.closeIdle();
+                }
+            } else {
+                this.destroy(transport);
+            }
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    int getActiveCount() {
+        return this.maxSize - this.permits.availablePermits();
+    }
+
+    int getIdleCount() {
+        return this.idle.size();
+    }
+
+    long getCreatedCount() {
+        return this.created.sum();
+    }
+
+    long getDestroyedCount() {
+        return this.destroyed.sum();
+    }
+
+    @Override
+    public void close() {
+        // Drain the send queue before closing the pool
+        if (this.queue != null) {
+            this.queue.close();
+        }
+        this.closed = true;
+        POOLS.remove(this.session, this);
+        this.closeIdle();
+    }
+
+    private void closeIdle() {
+        IdleTransport entry = this.idle.pollFirst();
+        while (entry != null) {
+            this.destroy(entry.transport);
+            entry = this.idle.pollFirst();
+        }
+    }
+
+    private void destroy(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            MailLogger.ROOT_LOGGER.debugf(e, "Failed to close transport of mail session [%s]", this.name);
+        } finally {
+            this.destroyed.increment();
+        }
+    }
+
+    private static class IdleTransport {
+        final Transport transport;
+        final long released = System.nanoTime();
+
+        IdleTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -71,7 +71,8 @@ public class MailSubsystemTestCase extends AbstractSubsystemBaseTest {
                 new Object[] { 1, 2 },
                 new Object[] { 2, 0 },
                 new Object[] { 3, 0 },
-                new Object[] { 4, 0 });
+                new Object[] { 4, 0 },
+                new Object[] { 5, 0 });
     }
 
     private final Map<ServiceName, Supplier<Object>> values = new ConcurrentHashMap<>();
@@ -176,6 +177,18 @@ public class MailSubsystemTestCase extends AbstractSubsystemBaseTest {
             CustomServerConfig customServerConfig = config.getCustomServers()[0];
             Map<String, String> properties = customServerConfig.getProperties();
             Assert.assertEquals("Unexpected value for mail-session=custom3 custom-server/property value attribute", "mail.example.com", properties.get("host"));
+
+            if (this.major >= 5) {
+                provider = (ConfigurableSessionProvider) this.values.get(MailSessionDefinition.SESSION_CAPABILITY.getCapabilityServiceName("pooled").append("provider")).get();
+                config = provider.getConfig();
+                Assert.assertEquals("Unexpected value for mail-session=pooled transport-pool-size attribute", 4, config.getTransportPoolSize());
+                Assert.assertEquals("Unexpected value for mail-session=pooled send-queue-size attribute", 100, config.getSendQueueSize());
+                Assert.assertEquals("Unexpected value for mail-session=pooled send-retries attribute", 2, config.getSendRetries());
+                Assert.assertNotNull(provider.getTransportPool());
+                Assert.assertNotNull(provider.getTransportPool().getSendQueue());
+                // Pooled sessions are shared by all senders
+                Assert.assertSame(provider.getSession(), provider.getSession());
+            }
         }
     }
 
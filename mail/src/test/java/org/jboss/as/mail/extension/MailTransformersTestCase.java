@@ -0,0 +1,90 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.mail.extension;
+
+import java.util.List;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Transformer tests for the mail subsystem.
+ */
+public class MailTransformersTestCase extends AbstractSubsystemTest {
+
+    public MailTransformersTestCase() {
+        super(MailExtension.SUBSYSTEM_NAME, new MailExtension());
+    }
+
+    @Test
+    public void testTransformersEAP740() throws Exception {
+        this.testTransformers(ModelTestControllerVersion.EAP_7_4_0, MailTransformers.MODEL_VERSION_4_0_0);
+    }
+
+    @Test
+    public void testRejectingTransformersEAP740() throws Exception {
+        this.testRejectingTransformers(ModelTestControllerVersion.EAP_7_4_0, MailTransformers.MODEL_VERSION_4_0_0);
+    }
+
+    private void testTransformers(ModelTestControllerVersion controllerVersion, ModelVersion version) throws Exception {
+        KernelServicesBuilder builder = this.createKernelServicesBuilder(createAdditionalInitialization())
+                .setSubsystemXmlResource("mail-transform.xml");
+        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, version)
+                .addMavenResourceURL(String.format("%s:wildfly-mail:%s", controllerVersion.getMavenGroupId(), controllerVersion.getMavenGavVersion()))
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(mainServices.getLegacyServices(version).isSuccessfulBoot());
+
+        this.checkSubsystemModelTransformation(mainServices, version, null, false);
+    }
+
+    private void testRejectingTransformers(ModelTestControllerVersion controllerVersion, ModelVersion version) throws Exception {
+        KernelServicesBuilder builder = this.createKernelServicesBuilder(createAdditionalInitialization());
+        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, version)
+                .addMavenResourceURL(String.format("%s:wildfly-mail:%s", controllerVersion.getMavenGroupId(), controllerVersion.getMavenGavVersion()))
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(mainServices.getLegacyServices(version).isSuccessfulBoot());
+
+        List<ModelNode> operations = builder.parseXmlResource("mail-transform-reject.xml");
+        PathAddress subsystemAddress = PathAddress.pathAddress(MailExtension.SUBSYSTEM_PATH);
+
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        for (String session : List.of("pooled", "queued")) {
+            // The send queue requires the transport pool, so undefine it last
+            config.addFailedAttribute(subsystemAddress.append(PathElement.pathElement(MailSubsystemModel.MAIL_SESSION, session)),
+                    FailedOperationTransformationConfig.ChainedConfig.createBuilder(MailSubsystemModel.SEND_QUEUE_SIZE, MailSubsystemModel.SEND_RETRIES, MailSubsystemModel.TRANSPORT_POOL_SIZE)
+                            .addConfig(new FailedOperationTransformationConfig.NewAttributesConfig(MailSessionDefinition.SEND_QUEUE_SIZE))
+                            .addConfig(new FailedOperationTransformationConfig.NewAttributesConfig(MailSessionDefinition.SEND_RETRIES))
+                            .addConfig(new FailedOperationTransformationConfig.NewAttributesConfig(MailSessionDefinition.TRANSPORT_POOL_SIZE))
+                            .build());
+        }
+
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, version, operations, config);
+    }
+
+    private static AdditionalInitialization createAdditionalInitialization() {
+        return AdditionalInitialization.withCapabilities(RuntimeCapability.buildDynamicCapabilityName(MailServerDefinition.OUTBOUND_SOCKET_BINDING_CAPABILITY_NAME, "mail-smtp"));
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.mail.extension;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import jakarta.mail.Message;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the pooling of transports, and the asynchronous send queue, of a mail session against a minimal in-process SMTP server.
+ */
+public class TransportPoolTestCase {
+
+    private SmtpServer server;
+
+    @Before
+    public void start() throws IOException {
+        this.server = new SmtpServer();
+    }
+
+    @After
+    public void stop() throws IOException {
+        this.server.close();
+    }
+
+    @Test
+    public void pooledSend() throws Exception {
+        ConfigurableSessionProvider provider = this.createProvider(2, 0);
+        try {
+            Session session = provider.getSession();
+            for (int i = 0; i < 5; ++i) {
+                Transport.send(createMessage(session, i));
+            }
+            Assert.assertEquals(5, this.server.delivered.get());
+            // All messages were sent via a single connection
+            Assert.assertEquals(1, this.server.connections.get());
+
+            TransportPool pool = provider.getTransportPool();
+            Assert.assertEquals(0, pool.getActiveCount());
+            Assert.assertEquals(1, pool.getIdleCount());
+            Assert.assertEquals(1L, pool.getCreatedCount());
+            Assert.assertEquals(0L, pool.getDestroyedCount());
+        } finally {
+            provider.close();
+        }
+        Assert.assertEquals(1L, provider.getTransportPool().getDestroyedCount());
+    }
+
+    @Test
+    public void queuedSend() throws Exception {
+        ConfigurableSessionProvider provider = this.createProvider(2, 10);
+        try {
+            Session session = provider.getSession();
+            for (int i = 0; i < 3; ++i) {
+                Transport.send(createMessage(session, i));
+            }
+            SendQueue queue = provider.getTransportPool().getSendQueue();
+            await(() -> queue.getSentCount() == 3L);
+            Assert.assertEquals(3, this.server.delivered.get());
+            Assert.assertEquals(0, queue.getPendingCount());
+            Assert.assertEquals(0L, queue.getRetryCount());
+            Assert.assertEquals(0L, queue.getFailedCount());
+        } finally {
+            provider.close();
+        }
+    }
+
+    @Test
+    public void queuedRetry() throws Exception {
+        this.server.rejections.set(1);
+        ConfigurableSessionProvider provider = this.createProvider(1, 10);
+        try {
+            Transport.send(createMessage(provider.getSession(), 0));
+            SendQueue queue = provider.getTransportPool().getSendQueue();
+            await(() -> queue.getSentCount() == 1L);
+            Assert.assertEquals(1, this.server.delivered.get());
+            Assert.assertEquals(1L, queue.getRetryCount());
+            Assert.assertEquals(0L, queue.getFailedCount());
+        } finally {
+            provider.close();
+        }
+    }
+
+    @Test
+    public void explicitServer() throws Exception {
+        ConfigurableSessionProvider provider = this.createProvider(2, 10);
+        try (SmtpServer other = new SmtpServer()) {
+            Session session = provider.getSession();
+            Transport transport = session.getTransport(MailSubsystemModel.SMTP);
+            transport.connect("localhost", other.getPort(), null, null);
+            try {
+                Message message = createMessage(session, 0);
+                transport.sendMessage(message, message.getAllRecipients());
+            } finally {
+                transport.close();
+            }
+            // Sent synchronously via a connection to the specified server, rather than via the pool or its send queue
+            Assert.assertEquals(1, other.delivered.get());
+            Assert.assertEquals(1, other.connections.get());
+            Assert.assertEquals(0, this.server.delivered.get());
+            TransportPool pool = provider.getTransportPool();
+            Assert.assertEquals(0L, pool.getCreatedCount());
+            Assert.assertEquals(0L, pool.getSendQueue().getSentCount());
+        } finally {
+            provider.close();
+        }
+    }
+
+    @Test
+    public void explicitUser() throws Exception {
+        ConfigurableSessionProvider provider = this.createProvider(2, 0);
+        try {
+            Session session = provider.getSession();
+            Transport.send(createMessage(session, 0));
+            Transport.send(createMessage(session, 1), "other", "secret");
+            Assert.assertEquals(2, this.server.delivered.get());
+            // The message of another account was sent via a connection of its own, which was not pooled
+            Assert.assertEquals(2, this.server.connections.get());
+            TransportPool pool = provider.getTransportPool();
+            Assert.assertEquals(0, pool.getActiveCount());
+            Assert.assertEquals(1, pool.getIdleCount());
+            Assert.assertEquals(1L, pool.getCreatedCount());
+
+            // Explicitly specifying the configured server reuses the connections of the pool
+            Transport transport = session.getTransport(MailSubsystemModel.SMTP);
+            transport.connect("localhost", this.server.getPort(), null, null);
+            try {
+                Message message = createMessage(session, 2);
+                transport.sendMessage(message, message.getAllRecipients());
+            } finally {
+                transport.close();
+            }
+            Assert.assertEquals(3, this.server.delivered.get());
+            Assert.assertEquals(2, this.server.connections.get());
+            Assert.assertEquals(1L, pool.getCreatedCount());
+        } finally {
+            provider.close();
+        }
+    }
+
+    private ConfigurableSessionProvider createProvider(int poolSize, int queueSize) throws Exception {
+        MailSessionConfig config = new MailSessionConfig("java:jboss/mail/Pooled");
+        config.setCustomServers(new CustomServerConfig(MailSubsystemModel.SMTP, null, null, false, false, Map.of("host", "localhost", "port", String.valueOf(this.server.getPort()))));
+        config.setTransportPoolSize(poolSize);
+        config.setSendQueueSize(queueSize);
+        config.setSendRetries(2);
+        return SessionProviderFactory.create(config);
+    }
+
+    private static Message createMessage(Session session, int index) throws Exception {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(new InternetAddress("sender@example.com"));
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress("recipient@example.com"));
+        message.setSubject("Message " + index);
+        message.setText("Message " + index);
+        return message;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Accepts any message, optionally rejecting a number of them with a transient failure.
+     */
+    private static class SmtpServer implements Runnable, AutoCloseable {
+        final AtomicInteger connections = new AtomicInteger();
+        final AtomicInteger delivered = new AtomicInteger();
+        final AtomicInteger rejections = new AtomicInteger();
+        private final ServerSocket socket;
+
+        SmtpServer() throws IOException {
+            this.socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread thread = new Thread(this, "smtp-server");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        int getPort() {
+            return this.socket.getLocalPort();
+        }
+
+        @Override
+        public void run() {
+            while (!this.socket.isClosed()) {
+                try {
+                    Socket connection = this.socket.accept();
+                    this.connections.incrementAndGet();
+                    Thread thread = new Thread(() -> this.handle(connection), "smtp-connection");
+                    thread.setDaemon(true);
+                    thread.start();
+                } catch (IOException e) {
+                    // Server was closed
+                }
+            }
+        }
+
+        private void handle(Socket connection) {
+            try (Socket s = connection; BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII)); PrintWriter writer = new PrintWriter(s.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+                reply(writer, "220 localhost");
+                String line = reader.readLine();
+                while (line != null) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("QUIT")) {
+                        reply(writer, "221 Bye");
+                        return;
+                    }
+                    if (command.startsWith("DATA")) {
+                        reply(writer, "354 End data with <CR><LF>.<CR><LF>");
+                        line = reader.readLine();
+                        while ((line != null) && !line.equals(".")) {
+                            line = reader.readLine();
+                        }
+                        if (this.rejections.getAndDecrement() > 0) {
+                            reply(writer, "451 Try again later");
+                        } else {
+                            this.delivered.incrementAndGet();
+                            reply(writer, "250 OK");
+                        }
+                    } else {
+                        // EHLO, HELO, MAIL, RCPT, NOOP, RSET
+                        reply(writer, "250 OK");
+                    }
+                    line = reader.readLine();
+                }
+            } catch (IOException e) {
+                // Connection was closed
+            }
+        }
+
+        private static void reply(PrintWriter writer, String response) {
+            writer.print(response);
+            writer.print("\r\n");
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.socket.close();
+        }
+    }
+}
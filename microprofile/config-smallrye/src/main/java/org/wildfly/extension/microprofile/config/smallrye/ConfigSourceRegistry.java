@@ -0,0 +1,166 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.config.smallrye;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.ConfigValueConfigSource;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.source.file.FileSystemConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * A registry of the config sources of the subsystem, iterated over by the config of every deployment.
+ * Iteration returns an immutable snapshot of the registered config sources, rebuilt whenever a config source is registered or unregistered.
+ * The snapshot exposes every registered config source, with its name, ordinal and properties, e.g. via {@link org.eclipse.microprofile.config.Config#getConfigSources()}.
+ * However, the properties of the immutable config sources of the same ordinal are pre-merged into a single index,
+ * which answers the lookups of the config for all of them, so that a lookup probes a handful of config sources, rather than every config source of the subsystem.
+ * Config values retain the name and ordinal of their original config source.
+ */
+public class ConfigSourceRegistry extends IterableRegistry<ConfigSource> {
+
+    // Config sources whose properties never change after construction
+    private static final Set<Class<?>> IMMUTABLE_SOURCE_CLASSES = Set.of(PropertiesConfigSource.class, FileSystemConfigSource.class);
+
+    private volatile List<ConfigSource> snapshot = List.of();
+
+    @Override
+    public synchronized void register(String name, ConfigSource source) {
+        super.register(name, source);
+        this.snapshot = createSnapshot(super.iterator());
+    }
+
+    @Override
+    public synchronized void unregister(String name) {
+        super.unregister(name);
+        this.snapshot = createSnapshot(super.iterator());
+    }
+
+    @Override
+    public Iterator<ConfigSource> iterator() {
+        return this.snapshot.iterator();
+    }
+
+    private static List<ConfigSource> createSnapshot(Iterator<ConfigSource> sources) {
+        List<ConfigSource> result = new ArrayList<>();
+        // Config source currently indexing the properties of the config sources of a given ordinal
+        Map<Integer, IndexingConfigSource> indexing = new HashMap<>();
+        while (sources.hasNext()) {
+            ConfigSource source = sources.next();
+            int ordinal = source.getOrdinal();
+            if (IMMUTABLE_SOURCE_CLASSES.contains(source.getClass()) && (source instanceof ConfigValueConfigSource)) {
+                ConfigValueConfigSource immutableSource = (ConfigValueConfigSource) source;
+                IndexingConfigSource index = indexing.get(ordinal);
+                if (index == null) {
+                    index = new IndexingConfigSource(immutableSource);
+                    indexing.put(ordinal, index);
+                    result.add(index);
+                } else {
+                    index.merge(immutableSource);
+                    result.add(new IndexedConfigSource(immutableSource));
+                }
+            } else {
+                // For config sources of the same ordinal, the first added takes precedence.
+                // Subsequent immutable config sources of this ordinal must not be indexed ahead of this config source.
+                indexing.remove(ordinal);
+                result.add(source);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Exposes a config source as is, except for lookups by the config, i.e. via {@link #getConfigValue(String)}.
+     */
+    private abstract static class DelegatingConfigSource implements ConfigValueConfigSource {
+        private final ConfigValueConfigSource source;
+
+        DelegatingConfigSource(ConfigValueConfigSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public Map<String, ConfigValue> getConfigValueProperties() {
+            return this.source.getConfigValueProperties();
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return this.source.getProperties();
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return this.source.getPropertyNames();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return this.source.getValue(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return this.source.getName();
+        }
+
+        @Override
+        public int getOrdinal() {
+            return this.source.getOrdinal();
+        }
+
+        @Override
+        public String toString() {
+            return this.source.toString();
+        }
+    }
+
+    /**
+     * The first immutable config source of a given ordinal, whose lookups also answer for the subsequent immutable config sources of that ordinal.
+     */
+    private static class IndexingConfigSource extends DelegatingConfigSource {
+        private final Map<String, ConfigValue> index;
+
+        IndexingConfigSource(ConfigValueConfigSource source) {
+            super(source);
+            this.index = new HashMap<>(source.getConfigValueProperties());
+        }
+
+        void merge(ConfigValueConfigSource source) {
+            for (Map.Entry<String, ConfigValue> entry : source.getConfigValueProperties().entrySet()) {
+                // Config sources indexed earlier take precedence
+                this.index.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        public ConfigValue getConfigValue(String propertyName) {
+            return this.index.get(propertyName);
+        }
+    }
+
+    /**
+     * A subsequent immutable config source of a given ordinal, whose lookups are answered by the {@link IndexingConfigSource} of that ordinal.
+     */
+    private static class IndexedConfigSource extends DelegatingConfigSource {
+
+        IndexedConfigSource(ConfigValueConfigSource source) {
+            super(source);
+        }
+
+        @Override
+        public ConfigValue getConfigValue(String propertyName) {
+            return null;
+        }
+    }
+}
@@ -7,7 +7,6 @@ package org.wildfly.extension.microprofile.config.smallrye;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 
-import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 import org.jboss.as.controller.Extension;
 import org.jboss.as.controller.ExtensionContext;
@@ -69,7 +68,7 @@ public class MicroProfileConfigExtension implements Extension {
         subsystem.registerXMLElementWriter(CURRENT_WRITER);
 
         IterableRegistry<ConfigSourceProvider> providers = new IterableRegistry<>();
-        IterableRegistry<ConfigSource> sources = new IterableRegistry<>();
+        ConfigSourceRegistry sources = new ConfigSourceRegistry();
 
         final ManagementResourceRegistration registration = subsystem.registerSubsystemModel(new MicroProfileSubsystemDefinition(providers, sources));
         registration.registerOperationHandler(GenericSubsystemDescribeHandler.DEFINITION, GenericSubsystemDescribeHandler.INSTANCE);
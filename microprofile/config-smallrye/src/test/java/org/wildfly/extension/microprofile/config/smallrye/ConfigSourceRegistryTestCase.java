@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.config.smallrye;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConfigSourceRegistryTestCase {
+
+    @Test
+    public void test() {
+        List<ConfigSource> sources = List.of(
+                new PropertiesConfigSource(Map.of("x", "a", "y", "a"), "a", 200),
+                new PropertiesConfigSource(Map.of("x", "b", "z", "b"), "b", 200),
+                new PropertiesConfigSource(Map.of("y", "c", "z", "c"), "c", 300));
+        ConfigSourceRegistry registry = new ConfigSourceRegistry();
+        for (ConfigSource source : sources) {
+            registry.register(source.getName(), source);
+        }
+
+        List<ConfigSource> snapshot = new ArrayList<>();
+        registry.forEach(snapshot::add);
+        // Every config source remains visible, as is
+        Assert.assertEquals(sources.size(), snapshot.size());
+        for (int i = 0; i < sources.size(); ++i) {
+            ConfigSource source = sources.get(i);
+            ConfigSource snapshotSource = snapshot.get(i);
+            Assert.assertEquals(source.getName(), snapshotSource.getName());
+            Assert.assertEquals(source.getOrdinal(), snapshotSource.getOrdinal());
+            Assert.assertEquals(source.getProperties(), snapshotSource.getProperties());
+            Assert.assertEquals(source.getPropertyNames(), snapshotSource.getPropertyNames());
+            for (String name : source.getPropertyNames()) {
+                Assert.assertEquals(source.getValue(name), snapshotSource.getValue(name));
+            }
+        }
+
+        SmallRyeConfig expected = new SmallRyeConfigBuilder().withSources(sources).build();
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(snapshot).build();
+        List<String> names = new ArrayList<>();
+        config.getConfigSources().forEach(source -> names.add(source.getName()));
+        Assert.assertTrue(names.containsAll(List.of("a", "b", "c")));
+        for (String name : List.of("x", "y", "z")) {
+            ConfigValue expectedValue = expected.getConfigValue(name);
+            ConfigValue value = config.getConfigValue(name);
+            Assert.assertEquals(expectedValue.getValue(), value.getValue());
+            Assert.assertEquals(expectedValue.getSourceName(), value.getSourceName());
+        }
+
+        // The snapshot is rebuilt when config sources change
+        registry.unregister("a");
+        snapshot.clear();
+        registry.forEach(snapshot::add);
+        config = new SmallRyeConfigBuilder().withSources(snapshot).build();
+        Assert.assertEquals("b", config.getConfigValue("x").getValue());
+        Assert.assertEquals(sources.get(1).getName(), config.getConfigValue("x").getSourceName());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exponentially decaying histogram of request latencies, from which the exponentially weighted moving average and the percentiles of the
+ * recent latencies are computed.
+ * Latencies are recorded without locking into log-scaled buckets, which are only folded into the decayed histogram when it is updated,
+ * typically once per load computation.
+ */
+public final class LatencyHistogram {
+
+    // Each bucket spans a quarter of a power of 2, i.e. values within a bucket differ by at most 19%
+    private static final int BUCKETS_PER_POWER_OF_2 = 4;
+    private static final long MIN_LATENCY = TimeUnit.MICROSECONDS.toNanos(100);
+    // Up to ~105 seconds
+    private static final int BUCKETS = 20 * BUCKETS_PER_POWER_OF_2;
+
+    private final LongAdder[] recentCounts = new LongAdder[BUCKETS];
+    private final LongAdder recentLatency = new LongAdder();
+
+    // Guarded by this
+    private final double[] counts = new double[BUCKETS];
+    private double count;
+    private double latency;
+    private long lastUpdateTime;
+
+    public LatencyHistogram() {
+        this(System.nanoTime());
+    }
+
+    LatencyHistogram(long time) {
+        for (int i = 0; i < BUCKETS; ++i) {
+            this.recentCounts[i] = new LongAdder();
+        }
+        this.lastUpdateTime = time;
+    }
+
+    /**
+     * Records the latency of a request.
+     * @param latency a latency in nanoseconds
+     */
+    public void record(long latency) {
+        this.recentCounts[bucket(latency)].increment();
+        this.recentLatency.add(latency);
+    }
+
+    /**
+     * Decays the histogram according to the time elapsed since its last update, then folds the latencies recorded since into it.
+     * @param time the current value of {@link System#nanoTime()}
+     * @param halfLife the duration, in nanoseconds, after which the weight of a recorded latency is halved
+     */
+    public synchronized void update(long time, long halfLife) {
+        double decay = (halfLife > 0) ? Math.pow(0.5, (double) Math.max(time - this.lastUpdateTime, 0L) / halfLife) : 0;
+        this.lastUpdateTime = time;
+        double count = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            double bucketCount = this.counts[i] * decay + this.recentCounts[i].sumThenReset();
+            this.counts[i] = bucketCount;
+            count += bucketCount;
+        }
+        this.count = count;
+        this.latency = this.latency * decay + this.recentLatency.sumThenReset();
+    }
+
+    /**
+     * @return the decayed number of latencies of this histogram, as of its last update
+     */
+    public synchronized double getCount() {
+        return this.count;
+    }
+
+    /**
+     * @return the exponentially weighted moving average of the latencies, in nanoseconds, as of the last update, or 0 if there are none
+     */
+    public synchronized double getMean() {
+        return (this.count > 0) ? this.latency / this.count : 0;
+    }
+
+    /**
+     * Estimates the specified percentile of the decayed latencies, as of the last update.
+     * @param percentile a value between 0 and 1
+     * @return the upper bound, in nanoseconds, of the bucket containing the percentile, or 0 if there are no latencies
+     */
+    public synchronized double getPercentile(double percentile) {
+        if (this.count <= 0) return 0;
+        double threshold = this.count * percentile;
+        double cumulativeCount = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            cumulativeCount += this.counts[i];
+            if (cumulativeCount >= threshold && this.counts[i] > 0) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static int bucket(long latency) {
+        if (latency <= MIN_LATENCY) return 0;
+        int bucket = (int) (Math.log((double) latency / MIN_LATENCY) / Math.log(2) * BUCKETS_PER_POWER_OF_2);
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    static double upperBound(int bucket) {
+        return MIN_LATENCY * Math.pow(2, (double) (bucket + 1) / BUCKETS_PER_POWER_OF_2);
+    }
+}
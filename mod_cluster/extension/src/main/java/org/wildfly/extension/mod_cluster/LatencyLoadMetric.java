@@ -0,0 +1,128 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.modcluster.container.Engine;
+import org.jboss.modcluster.load.metric.impl.AbstractLoadMetric;
+
+/**
+ * Load metric computed from the recent latencies of the requests of each web context, i.e. a blend of the exponentially weighted moving average
+ * and of the tail latency (by default, the 95th percentile) recorded by the {@link LatencyHistogram} of each context.
+ * The load of the node is the load of its slowest context, so that a single degraded deployment diverts traffic from the node.
+ * Contexts with too few recent requests for a meaningful percentile only contribute to the histogram of the node.
+ * The load is expressed in seconds, thus the capacity of this metric is the latency at which the node is considered fully loaded.
+ * The histograms belong to this metric instance, and the histogram of a context is registered on deployment and removed on undeployment.
+ */
+public class LatencyLoadMetric extends AbstractLoadMetric {
+
+    private final LatencyHistogram nodeHistogram = new LatencyHistogram();
+    private final Map<String, LatencyHistogram> contextHistograms = new ConcurrentHashMap<>();
+
+    private volatile long halfLife = TimeUnit.SECONDS.toNanos(10);
+    private volatile double percentile = 0.95;
+    private volatile double tailWeight = 0.5;
+    private volatile int minSamples = 10;
+
+    /**
+     * Returns the latency histogram of the specified web context, to which the latencies of its requests are recorded, creating it if necessary.
+     * @param context a unique name of the context, e.g. of its deployment
+     * @return the latency histogram of the context
+     */
+    public LatencyHistogram addContextHistogram(String context) {
+        return this.contextHistograms.computeIfAbsent(context, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Removes the latency histogram of the specified web context, which then no longer contributes to the load.
+     * @param context a unique name of the context, e.g. of its deployment
+     * @return the removed latency histogram, or null if there was none
+     */
+    public LatencyHistogram removeContextHistogram(String context) {
+        return this.contextHistograms.remove(context);
+    }
+
+    /**
+     * Returns the latency histogram of the node, to which the latencies of the requests of all web contexts are recorded.
+     * @return the latency histogram of the node
+     */
+    public LatencyHistogram getNodeHistogram() {
+        return this.nodeHistogram;
+    }
+
+    @Override
+    public double getLoad(Engine engine) {
+        long time = System.nanoTime();
+        double load = this.getLoad(this.nodeHistogram, time);
+        for (LatencyHistogram histogram : this.contextHistograms.values()) {
+            load = Math.max(load, this.getLoad(histogram, time));
+        }
+        return load / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private double getLoad(LatencyHistogram histogram, long time) {
+        histogram.update(time, this.halfLife);
+        if (histogram.getCount() < this.minSamples) return 0;
+        double mean = histogram.getMean();
+        return mean + (Math.max(histogram.getPercentile(this.percentile), mean) - mean) * this.tailWeight;
+    }
+
+    /**
+     * @param halfLife the duration, in seconds, after which the weight of a recorded latency is halved
+     */
+    public void setHalfLife(double halfLife) {
+        if (halfLife <= 0) {
+            throw new IllegalArgumentException(Double.toString(halfLife));
+        }
+        this.halfLife = (long) (halfLife * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public double getHalfLife() {
+        return (double) this.halfLife / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * @param percentile the tail latency percentile, between 0 and 1
+     */
+    public void setPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException(Double.toString(percentile));
+        }
+        this.percentile = percentile;
+    }
+
+    public double getPercentile() {
+        return this.percentile;
+    }
+
+    /**
+     * @param tailWeight the weight of the tail latency, between 0 and 1, relative to the average latency
+     */
+    public void setTailWeight(double tailWeight) {
+        if (tailWeight < 0 || tailWeight > 1) {
+            throw new IllegalArgumentException(Double.toString(tailWeight));
+        }
+        this.tailWeight = tailWeight;
+    }
+
+    public double getTailWeight() {
+        return this.tailWeight;
+    }
+
+    /**
+     * @param minSamples the minimum decayed number of latencies of a histogram for it to contribute to the load
+     */
+    public void setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    public int getMinSamples() {
+        return this.minSamples;
+    }
+}
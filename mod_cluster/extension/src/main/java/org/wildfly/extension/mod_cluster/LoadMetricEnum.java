@@ -28,6 +28,7 @@ public enum LoadMetricEnum {
     SEND_TRAFFIC("send-traffic", SendTrafficLoadMetric.class),
     REQUEST_COUNT("requests", RequestCountLoadMetric.class),
     BUSY_CONNECTORS("busyness", BusyConnectorsLoadMetric.class),
+    LATENCY("latency", LatencyLoadMetric.class),
     ;
 
     private final String type;
@@ -23,10 +23,11 @@ public enum ModClusterSubsystemModel implements SubsystemModel {
     VERSION_6_0_0(6, 0, 0), // WildFly 14-15, EAP 7.2
 */
     VERSION_7_0_0(7, 0, 0), // WildFly 16-26, EAP 7.3-7.4
-    VERSION_8_0_0(8, 0, 0), // WildFly 27-present
+    VERSION_8_0_0(8, 0, 0), // WildFly 27-30.0.1
+    VERSION_9_0_0(9, 0, 0), // WildFly 30.0.2-present
     ;
 
-    public static final ModClusterSubsystemModel CURRENT = VERSION_8_0_0;
+    public static final ModClusterSubsystemModel CURRENT = VERSION_9_0_0;
 
     private final ModelVersion version;
 
@@ -352,6 +352,9 @@ final class ModClusterSubsystemXMLReader implements XMLElementReader<List<ModelN
             switch (attribute) {
                 case TYPE: {
                     // TODO polish this being both path and required attribute
+                    if (!this.schema.since(ModClusterSubsystemSchema.MODCLUSTER_7_0) && LoadMetricEnum.LATENCY.getType().equals(type)) {
+                        throw ParseUtils.invalidAttributeValue(reader, i);
+                    }
                     readAttribute(reader, i, operation, LoadMetricResourceDefinition.Attribute.TYPE);
                     break;
                 }
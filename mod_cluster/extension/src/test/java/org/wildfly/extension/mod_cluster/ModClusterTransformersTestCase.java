@@ -10,6 +10,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.model.test.FailedOperationTransformationConfig;
 import org.jboss.as.model.test.ModelFixer;
 import org.jboss.as.model.test.ModelTestControllerVersion;
@@ -141,7 +142,28 @@ public class ModClusterTransformersTestCase extends AbstractSubsystemTest {
     }
 
     private static FailedOperationTransformationConfig createFailedOperationConfig(ModelVersion version) {
-        return new FailedOperationTransformationConfig();
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        if (ModClusterSubsystemModel.VERSION_9_0_0.requiresTransformation(version)) {
+            PathAddress latencyAddress = PathAddress.pathAddress(ModClusterSubsystemResourceDefinition.PATH, ProxyConfigurationResourceDefinition.pathElement("default"),
+                    DynamicLoadProviderResourceDefinition.PATH, LoadMetricResourceDefinition.pathElement(LoadMetricEnum.LATENCY.getType()));
+            config.addFailedAttribute(latencyAddress, new FailedOperationTransformationConfig.AttributesPathAddressConfig(LoadMetricResourceDefinition.Attribute.TYPE.getName()) {
+                @Override
+                protected boolean isAttributeWritable(String attributeName) {
+                    return true;
+                }
+
+                @Override
+                protected boolean checkValue(String attrName, ModelNode attribute, boolean isGeneratedWriteAttribute) {
+                    return attribute.isDefined() && attribute.asString().equals(LoadMetricEnum.LATENCY.getType());
+                }
+
+                @Override
+                protected ModelNode correctValue(ModelNode toResolve, boolean isGeneratedWriteAttribute) {
+                    return new ModelNode(LoadMetricEnum.CPU.getType());
+                }
+            });
+        }
+        return config;
     }
 
 }
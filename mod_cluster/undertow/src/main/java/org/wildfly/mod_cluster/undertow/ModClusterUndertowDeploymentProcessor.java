@@ -16,9 +16,12 @@ import org.jboss.modcluster.load.metric.impl.BusyConnectorsLoadMetric;
 import org.jboss.modcluster.load.metric.impl.ReceiveTrafficLoadMetric;
 import org.jboss.modcluster.load.metric.impl.RequestCountLoadMetric;
 import org.jboss.modcluster.load.metric.impl.SendTrafficLoadMetric;
+import org.wildfly.extension.mod_cluster.LatencyHistogram;
+import org.wildfly.extension.mod_cluster.LatencyLoadMetric;
 import org.wildfly.extension.undertow.deployment.UndertowAttachments;
 import org.wildfly.mod_cluster.undertow.metric.BytesReceivedHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.BytesSentHttpHandler;
+import org.wildfly.mod_cluster.undertow.metric.LatencyHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.RequestCountHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.RunningRequestsHttpHandler;
 
@@ -75,6 +78,32 @@ public class ModClusterUndertowDeploymentProcessor implements DeploymentUnitProc
             deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_OUTER_HANDLER_CHAIN_WRAPPERS, RunningRequestsHttpHandler::new);
         }
 
+        // Latency wrapping, recording into the histograms of each enabled latency metric
+        for (LoadMetric enabledMetric : enabledMetrics) {
+            if (enabledMetric instanceof LatencyLoadMetric) {
+                LatencyLoadMetric metric = (LatencyLoadMetric) enabledMetric;
+                LatencyHistogram histogram = metric.addContextHistogram(getContextName(deploymentUnit));
+                deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_INITIAL_HANDLER_CHAIN_WRAPPERS, handler -> new LatencyHttpHandler(handler, histogram, metric.getNodeHistogram()));
+            }
+        }
+
+    }
+
+    @Override
+    public void undeploy(DeploymentUnit deploymentUnit) {
+        for (LoadMetric enabledMetric : enabledMetrics) {
+            if (enabledMetric instanceof LatencyLoadMetric) {
+                ((LatencyLoadMetric) enabledMetric).removeContextHistogram(getContextName(deploymentUnit));
+            }
+        }
+    }
+
+    /**
+     * Returns a name unique to the deployment unit, i.e. qualified by the name of its parent for subdeployments.
+     */
+    private static String getContextName(DeploymentUnit deploymentUnit) {
+        DeploymentUnit parent = deploymentUnit.getParent();
+        return (parent != null) ? parent.getName() + "/" + deploymentUnit.getName() : deploymentUnit.getName();
     }
 
     /**
@@ -0,0 +1,47 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import org.wildfly.extension.mod_cluster.LatencyHistogram;
+
+/**
+ * {@link HttpHandler} that records the latency of each request, from its dispatch to the deployment until the completion of the exchange,
+ * into the latency histograms of its context and of the node, as maintained by a {@link org.wildfly.extension.mod_cluster.LatencyLoadMetric}.
+ */
+public class LatencyHttpHandler implements HttpHandler {
+
+    private final HttpHandler wrappedHandler;
+    private final LatencyHistogram contextHistogram;
+    private final LatencyHistogram nodeHistogram;
+
+    public LatencyHttpHandler(final HttpHandler handler, final LatencyHistogram contextHistogram, final LatencyHistogram nodeHistogram) {
+        this.wrappedHandler = handler;
+        this.contextHistogram = contextHistogram;
+        this.nodeHistogram = nodeHistogram;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        final long start = System.nanoTime();
+
+        exchange.addExchangeCompleteListener(new ExchangeCompletionListener() {
+            @Override
+            public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+                final long latency = System.nanoTime() - start;
+                contextHistogram.record(latency);
+                nodeHistogram.record(latency);
+
+                // Proceed to next listener must be called!
+                nextListener.proceed();
+            }
+        });
+
+        wrappedHandler.handleRequest(exchange);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.handlers.BlockingHandler;
+import io.undertow.server.handlers.PathHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.extension.mod_cluster.LatencyHistogram;
+import org.wildfly.extension.mod_cluster.LatencyLoadMetric;
+
+/**
+ * Simulation of a node with a fast and an artificially slow context, whose requests are measured by {@link LatencyHttpHandler},
+ * verifying the load reported by {@link LatencyLoadMetric}.
+ */
+public class LatencyHttpHandlerTestCase {
+
+    private static final long SLOW_LATENCY = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final int REQUESTS = 20;
+
+    private final LatencyLoadMetric metric = new LatencyLoadMetric();
+    private LatencyHistogram fastHistogram;
+    private LatencyHistogram slowHistogram;
+    private Undertow server;
+    private int port;
+
+    @Before
+    public void setup() {
+        this.fastHistogram = this.metric.addContextHistogram("fast.war");
+        this.slowHistogram = this.metric.addContextHistogram("slow.war");
+        HttpHandler fast = exchange -> exchange.getResponseSender().send("fast");
+        HttpHandler slow = new BlockingHandler(exchange -> {
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(SLOW_LATENCY));
+            exchange.getResponseSender().send("slow");
+        });
+        PathHandler handler = new PathHandler()
+                .addPrefixPath("/latency-fast", new LatencyHttpHandler(fast, this.fastHistogram, this.metric.getNodeHistogram()))
+                .addPrefixPath("/latency-slow", new LatencyHttpHandler(slow, this.slowHistogram, this.metric.getNodeHistogram()));
+        this.server = Undertow.builder().addHttpListener(0, "localhost").setHandler(handler).build();
+        this.server.start();
+        this.port = ((InetSocketAddress) this.server.getListenerInfo().get(0).getAddress()).getPort();
+    }
+
+    @After
+    public void cleanup() {
+        this.server.stop();
+    }
+
+    @Test
+    public void test() throws Exception {
+        this.metric.setHalfLife(0.2);
+
+        for (int i = 0; i < REQUESTS; ++i) {
+            this.request("/latency-fast");
+        }
+        double fastLoad = this.metric.getLoad(null);
+        assertTrue(Double.toString(fastLoad), fastLoad < 0.025);
+
+        for (int i = 0; i < REQUESTS; ++i) {
+            this.request("/latency-slow");
+        }
+        double slowLoad = this.metric.getLoad(null);
+        assertTrue(Double.toString(slowLoad), slowLoad >= 0.045);
+
+        assertTrue(Double.toString(this.slowHistogram.getMean()), this.slowHistogram.getMean() >= SLOW_LATENCY);
+        assertTrue(Double.toString(this.slowHistogram.getPercentile(0.95)), this.slowHistogram.getPercentile(0.95) >= SLOW_LATENCY);
+        assertTrue(Double.toString(this.fastHistogram.getMean()), this.fastHistogram.getMean() < SLOW_LATENCY / 2);
+
+        // Once the slow context is idle, its recorded latencies decay until they no longer contribute to the load
+        Thread.sleep(TimeUnit.SECONDS.toMillis(2));
+        for (int i = 0; i < REQUESTS; ++i) {
+            this.request("/latency-fast");
+        }
+        double recoveredLoad = this.metric.getLoad(null);
+        assertTrue(Double.toString(recoveredLoad), recoveredLoad < 0.025);
+    }
+
+    @Test
+    public void removeContext() throws Exception {
+        this.metric.setHalfLife(60);
+        this.metric.setMinSamples(1);
+
+        for (int i = 0; i < REQUESTS; ++i) {
+            this.request("/latency-slow");
+        }
+        assertTrue(this.metric.getLoad(null) > 0);
+        // The histograms are scoped to the metric instance
+        assertEquals(0, new LatencyLoadMetric().getLoad(null), 0);
+
+        // Once undeployed, the histogram of a context is no longer retained by the metric
+        assertSame(this.slowHistogram, this.metric.removeContextHistogram("slow.war"));
+        assertNull(this.metric.removeContextHistogram("slow.war"));
+        assertNotSame(this.slowHistogram, this.metric.addContextHistogram("slow.war"));
+    }
+
+    private void request(String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http", "localhost", this.port, path).openConnection();
+        try {
+            assertEquals(HttpURLConnection.HTTP_OK, connection.getResponseCode());
+            try (InputStream input = connection.getInputStream()) {
+                input.readAllBytes();
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
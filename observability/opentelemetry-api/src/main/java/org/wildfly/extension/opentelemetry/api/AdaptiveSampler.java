@@ -0,0 +1,160 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+/**
+ * Sampler that targets a maximum number of sampled traces per second.
+ * The sampling probability of new traces is recomputed every second from an exponentially weighted average of the observed rate of new traces,
+ * while the number of traces sampled within a second never exceeds the target, even during a burst.
+ * Traces that are not sampled are still recorded, so that {@link RetainingSpanProcessor} can export those that end in error or exceed the slow threshold.
+ * Spans of traces sampled upstream are always sampled, while other spans with a local parent are dropped.
+ * Since every deployment creates its own tracer provider, instances are shared per target, so that the target applies to the server as a whole.
+ * A shared instance is acquired by the tracer provider of each deployment, and discarded once released by the last of them.
+ */
+public class AdaptiveSampler implements Sampler {
+
+    // Guarded by INSTANCES
+    private static final Map<Double, AdaptiveSampler> INSTANCES = new HashMap<>();
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+    // Weight of the last window in the average rate of new traces
+    private static final double SMOOTHING = 0.5d;
+
+    /**
+     * Acquires the sampler shared by all deployments for the specified target, which must be released via {@link #release(double)}.
+     * @param maxTracesPerSecond the maximum number of sampled traces per second
+     * @return a shared sampler
+     */
+    public static AdaptiveSampler acquire(double maxTracesPerSecond) {
+        synchronized (INSTANCES) {
+            AdaptiveSampler sampler = INSTANCES.computeIfAbsent(maxTracesPerSecond, target -> new AdaptiveSampler(target, System::nanoTime));
+            sampler.references += 1;
+            return sampler;
+        }
+    }
+
+    /**
+     * Releases the sampler shared by all deployments for the specified target, which is discarded once no longer referenced.
+     * @param maxTracesPerSecond the maximum number of sampled traces per second
+     */
+    public static void release(double maxTracesPerSecond) {
+        synchronized (INSTANCES) {
+            AdaptiveSampler sampler = INSTANCES.get(maxTracesPerSecond);
+            if ((sampler != null) && (--sampler.references == 0)) {
+                INSTANCES.remove(maxTracesPerSecond);
+            }
+        }
+    }
+
+    /**
+     * Returns the sampler currently shared by deployments for the specified target, if any.
+     * @param maxTracesPerSecond the maximum number of sampled traces per second
+     * @return a shared sampler, or null if no deployment uses this target
+     */
+    public static AdaptiveSampler findInstance(double maxTracesPerSecond) {
+        synchronized (INSTANCES) {
+            return INSTANCES.get(maxTracesPerSecond);
+        }
+    }
+
+    private final double maxTracesPerSecond;
+    private final LongSupplier clock;
+    private final AtomicReference<Window> window;
+    // Guarded by INSTANCES
+    private int references = 0;
+    private volatile double rate = 0d;
+    private volatile double ratio = 1d;
+
+    /**
+     * @param maxTracesPerSecond the maximum number of sampled traces per second
+     * @param clock a source of nanosecond precision time
+     */
+    public AdaptiveSampler(double maxTracesPerSecond, LongSupplier clock) {
+        this.maxTracesPerSecond = maxTracesPerSecond;
+        this.clock = clock;
+        this.window = new AtomicReference<>(new Window(clock.getAsLong()));
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind, Attributes attributes, List<LinkData> parentLinks) {
+        SpanContext parent = Span.fromContext(parentContext).getSpanContext();
+        if (parent.isValid()) {
+            if (parent.isSampled()) {
+                return SamplingResult.recordAndSample();
+            }
+            // Retain the entry span of a request not sampled upstream, should it end in error or be slow
+            return parent.isRemote() ? SamplingResult.recordOnly() : SamplingResult.drop();
+        }
+        Window window = this.getWindow();
+        window.traces.incrementAndGet();
+        if ((ThreadLocalRandom.current().nextDouble() < this.ratio) && (window.sampled.incrementAndGet() <= this.maxTracesPerSecond)) {
+            return SamplingResult.recordAndSample();
+        }
+        return SamplingResult.recordOnly();
+    }
+
+    /**
+     * @return the current probability of sampling a new trace
+     */
+    public double getRatio() {
+        return this.ratio;
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format("AdaptiveSampler{maxTracesPerSecond=%s}", this.maxTracesPerSecond);
+    }
+
+    @Override
+    public String toString() {
+        return this.getDescription();
+    }
+
+    private Window getWindow() {
+        long now = this.clock.getAsLong();
+        Window window = this.window.get();
+        if (now - window.start < WINDOW) {
+            return window;
+        }
+        Window next = new Window(now);
+        if (!this.window.compareAndSet(window, next)) {
+            return this.window.get();
+        }
+        // Only the thread that closed the window gets here
+        double observed = (window.traces.get() * (double) WINDOW) / (now - window.start);
+        double rate = (this.rate > 0d) ? (SMOOTHING * observed) + ((1d - SMOOTHING) * this.rate) : observed;
+        this.rate = rate;
+        this.ratio = (rate > this.maxTracesPerSecond) ? this.maxTracesPerSecond / rate : 1d;
+        return next;
+    }
+
+    private static class Window {
+        final long start;
+        final AtomicLong traces = new AtomicLong();
+        final AtomicLong sampled = new AtomicLong();
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+}
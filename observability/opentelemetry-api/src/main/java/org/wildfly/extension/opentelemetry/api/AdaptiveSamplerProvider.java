@@ -0,0 +1,34 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSamplerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+/**
+ * Provides the {@link AdaptiveSampler} shared by all deployments, whose target number of sampled traces per second is given by the sampler argument.
+ * The sampler is released by {@link AdaptiveSamplingCustomizerProvider} when the tracer provider of the deployment shuts down.
+ */
+public class AdaptiveSamplerProvider implements ConfigurableSamplerProvider {
+    public static final String NAME = "wildfly_adaptive";
+    public static final double DEFAULT_MAX_TRACES_PER_SECOND = 100d;
+
+    @Override
+    public Sampler createSampler(ConfigProperties config) {
+        return AdaptiveSampler.acquire(getMaxTracesPerSecond(config));
+    }
+
+    static double getMaxTracesPerSecond(ConfigProperties config) {
+        Double maxTracesPerSecond = config.getDouble(WildFlyOpenTelemetryConfig.OTEL_TRACES_SAMPLER_ARG);
+        return (maxTracesPerSecond != null) ? maxTracesPerSecond : DEFAULT_MAX_TRACES_PER_SECOND;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizer;
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizerProvider;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Registers a {@link RetainingSpanProcessor} with the tracer provider of a deployment using the {@link AdaptiveSampler},
+ * which exports the failed and slow requests not sampled by the sampler via the configured exporters,
+ * and which releases the shared sampler when the tracer provider shuts down.
+ */
+public class AdaptiveSamplingCustomizerProvider implements AutoConfigurationCustomizerProvider {
+    public static final Duration DEFAULT_SLOW_THRESHOLD = Duration.ofSeconds(1);
+
+    @Override
+    public void customize(AutoConfigurationCustomizer customizer) {
+        // Exporters are configured before the tracer provider is customized
+        List<SpanExporter> exporters = new CopyOnWriteArrayList<>();
+        customizer.addSpanExporterCustomizer((exporter, config) -> {
+            exporters.add(exporter);
+            return exporter;
+        });
+        customizer.addTracerProviderCustomizer((builder, config) -> {
+            if (!AdaptiveSamplerProvider.NAME.equals(config.getString(WildFlyOpenTelemetryConfig.OTEL_TRACES_SAMPLER))) {
+                return builder;
+            }
+            Duration threshold = config.getDuration(WildFlyOpenTelemetryConfig.OTEL_TRACES_SAMPLER_SLOW_THRESHOLD, DEFAULT_SLOW_THRESHOLD);
+            double maxTracesPerSecond = AdaptiveSamplerProvider.getMaxTracesPerSecond(config);
+            return builder.addSpanProcessor(new RetainingSpanProcessor(SpanExporter.composite(exporters), threshold, () -> AdaptiveSampler.release(maxTracesPerSecond)));
+        });
+    }
+}
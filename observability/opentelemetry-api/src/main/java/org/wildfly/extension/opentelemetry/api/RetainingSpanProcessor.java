@@ -0,0 +1,125 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Exports the entry spans of requests not sampled by the {@link AdaptiveSampler} that ended in error or took longer than a threshold.
+ * Such spans are queued and exported in batches by a background thread, independently of the span processor configured for sampled spans.
+ * The exporter is shared with that span processor, which is responsible for its shutdown.
+ * Spans still queued on shutdown are exported before the shutdown completes.
+ */
+public class RetainingSpanProcessor implements SpanProcessor {
+    private static final int MAX_QUEUE_SIZE = 2048;
+    private static final int MAX_EXPORT_BATCH_SIZE = 512;
+    private static final long EXPORT_DELAY = TimeUnit.SECONDS.toMillis(1);
+    private static final long EXPORT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    private final SpanExporter exporter;
+    private final long threshold;
+    private final Runnable shutdownTask;
+    private final BlockingQueue<SpanData> queue = new ArrayBlockingQueue<>(MAX_QUEUE_SIZE);
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "opentelemetry-retained-span-exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param exporter the exporter of retained spans
+     * @param threshold the duration above which a request is considered slow
+     */
+    public RetainingSpanProcessor(SpanExporter exporter, Duration threshold) {
+        this(exporter, threshold, () -> {});
+    }
+
+    /**
+     * @param exporter the exporter of retained spans
+     * @param threshold the duration above which a request is considered slow
+     * @param shutdownTask a task to run once this processor shuts down
+     */
+    public RetainingSpanProcessor(SpanExporter exporter, Duration threshold, Runnable shutdownTask) {
+        this.exporter = exporter;
+        this.threshold = threshold.toNanos();
+        this.shutdownTask = shutdownTask;
+        this.executor.scheduleWithFixedDelay(this::export, EXPORT_DELAY, EXPORT_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (span.getSpanContext().isSampled()) return;
+        SpanContext parent = span.getParentSpanContext();
+        // Only the entry span of a request is recorded, but not sampled
+        if (parent.isValid() && !parent.isRemote()) return;
+        SpanData data = span.toSpanData();
+        if ((span.getLatencyNanos() >= this.threshold) || (data.getStatus().getStatusCode() == StatusCode.ERROR)) {
+            // Drop the span if the exporter cannot keep up
+            this.queue.offer(data);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        try {
+            return this.executor.submit(this::export).get(EXPORT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        try {
+            // Export any spans still queued
+            return this.forceFlush();
+        } finally {
+            this.executor.shutdown();
+            this.shutdownTask.run();
+        }
+    }
+
+    private CompletableResultCode export() {
+        List<CompletableResultCode> results = new ArrayList<>();
+        List<SpanData> batch = new ArrayList<>(MAX_EXPORT_BATCH_SIZE);
+        while (this.queue.drainTo(batch, MAX_EXPORT_BATCH_SIZE) > 0) {
+            results.add(this.exporter.export(batch).join(EXPORT_TIMEOUT, TimeUnit.MILLISECONDS));
+            batch = new ArrayList<>(MAX_EXPORT_BATCH_SIZE);
+        }
+        return CompletableResultCode.ofAll(results);
+    }
+}
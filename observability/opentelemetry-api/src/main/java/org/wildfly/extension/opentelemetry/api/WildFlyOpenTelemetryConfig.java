@@ -26,11 +26,14 @@ public final class WildFlyOpenTelemetryConfig implements OpenTelemetryConfig {
     public static final String OTEL_TRACES_EXPORTER = "otel.traces.exporter";
     public static final String OTEL_TRACES_SAMPLER = "otel.traces.sampler";
     public static final String OTEL_TRACES_SAMPLER_ARG = "otel.traces.sampler.arg";
+    // Not a standard property, read by the AdaptiveSamplingCustomizerProvider
+    public static final String OTEL_TRACES_SAMPLER_SLOW_THRESHOLD = "otel.traces.sampler.slow.threshold";
     private final Map<String, String> properties;
 
     public WildFlyOpenTelemetryConfig(String serviceName, String exporter, String endpoint,
                                       Long batchDelay, Long maxQueueSize, Long maxExportBatchSize,
-                                      Long exportTimeout, String sampler, Double ratio) {
+                                      Long exportTimeout, String sampler, Double ratio,
+                                      Long maxTracesPerSecond, Long slowThreshold) {
         Map<String, String> config = new HashMap<>();
         // Default to on
         addValue(config, OTEL_SDK_DISABLED, "false");
@@ -62,9 +65,18 @@ public final class WildFlyOpenTelemetryConfig implements OpenTelemetryConfig {
                 case "ratio":
                     addValue(config, OTEL_TRACES_SAMPLER, "traceidratio");
                     break;
+                case "adaptive":
+                    addValue(config, OTEL_TRACES_SAMPLER, AdaptiveSamplerProvider.NAME);
+                    break;
             }
         }
-        addValue(config, OTEL_TRACES_SAMPLER_ARG, ratio);
+        if ("adaptive".equals(sampler)) {
+            addValue(config, OTEL_TRACES_SAMPLER_ARG, maxTracesPerSecond);
+            // Durations without unit are interpreted as milliseconds
+            addValue(config, OTEL_TRACES_SAMPLER_SLOW_THRESHOLD, slowThreshold);
+        } else {
+            addValue(config, OTEL_TRACES_SAMPLER_ARG, ratio);
+        }
 
         properties = Collections.unmodifiableMap(config);
     }
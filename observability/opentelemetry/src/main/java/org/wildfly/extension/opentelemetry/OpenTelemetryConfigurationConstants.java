@@ -25,6 +25,9 @@ final class OpenTelemetryConfigurationConstants {
     static final String EXPORT_TIMEOUT = "export-timeout";
     static final String SAMPLER_TYPE = "sampler-type";
     static final String RATIO = "ratio";
+    static final String MAX_TRACES_PER_SECOND = "max-traces-per-second";
+    static final String SLOW_THRESHOLD = "slow-threshold";
+    static final String EFFECTIVE_SAMPLING_RATIO = "effective-sampling-ratio";
     static final String TYPE = "type";
 
     // Groups
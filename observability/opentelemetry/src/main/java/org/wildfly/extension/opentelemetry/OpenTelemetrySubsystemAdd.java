@@ -43,7 +43,9 @@ class OpenTelemetrySubsystemAdd extends AbstractBoottimeAddStepHandler {
                 OpenTelemetrySubsystemDefinition.MAX_EXPORT_BATCH_SIZE.resolveModelAttribute(context, model).asLongOrNull(),
                 OpenTelemetrySubsystemDefinition.EXPORT_TIMEOUT.resolveModelAttribute(context, model).asLongOrNull(),
                 OpenTelemetrySubsystemDefinition.SAMPLER.resolveModelAttribute(context, model).asStringOrNull(),
-                OpenTelemetrySubsystemDefinition.RATIO.resolveModelAttribute(context, model).asDoubleOrNull()
+                OpenTelemetrySubsystemDefinition.RATIO.resolveModelAttribute(context, model).asDoubleOrNull(),
+                OpenTelemetrySubsystemDefinition.MAX_TRACES_PER_SECOND.resolveModelAttribute(context, model).asLongOrNull(),
+                OpenTelemetrySubsystemDefinition.SLOW_THRESHOLD.resolveModelAttribute(context, model).asLongOrNull()
         );
 
         CONFIG_SUPPLIER.accept(config);
@@ -13,11 +13,14 @@ import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationCons
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.smallrye.opentelemetry.api.OpenTelemetryConfig;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
@@ -25,9 +28,15 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.extension.opentelemetry.api.AdaptiveSampler;
+import org.wildfly.extension.opentelemetry.api.AdaptiveSamplerProvider;
+import org.wildfly.extension.opentelemetry.api.WildFlyOpenTelemetryConfig;
 
 /*
  * For future reference: https://github.com/open-telemetry/opentelemetry-java/tree/main/sdk-extensions/autoconfigure#jaeger-exporter
@@ -36,7 +45,7 @@ import org.jboss.dmr.ModelType;
 class OpenTelemetrySubsystemDefinition extends PersistentResourceDefinition {
     static final String OPENTELEMETRY_MODULE = "org.wildfly.extension.opentelemetry";
     private static final String[] ALLOWED_EXPORTERS = {"jaeger", "otlp"};
-    private static final String[] ALLOWED_SAMPLERS = {"on", "off", "ratio"};
+    private static final String[] ALLOWED_SAMPLERS = {"on", "off", "ratio", "adaptive"};
     private static final String[] ALLOWED_SPAN_PROCESSORS = {"batch", "simple"};
 
     public static final String DEFAULT_ENDPOINT = "http://localhost:14250";
@@ -149,11 +158,36 @@ class OpenTelemetrySubsystemDefinition extends PersistentResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    public static final SimpleAttributeDefinition MAX_TRACES_PER_SECOND = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.MAX_TRACES_PER_SECOND, ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setAttributeGroup(GROUP_SAMPLER)
+            .setValidator(new LongRangeValidator(1, true, true))
+            .setDefaultValue(new ModelNode(100))
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition SLOW_THRESHOLD = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.SLOW_THRESHOLD, ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setAttributeGroup(GROUP_SAMPLER)
+            .setValidator(new LongRangeValidator(0, true, true))
+            .setDefaultValue(new ModelNode(1000))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setRestartAllServices()
+            .build();
+
     public static final AttributeDefinition[] ATTRIBUTES = {
             SERVICE_NAME, EXPORTER, ENDPOINT, SPAN_PROCESSOR_TYPE, BATCH_DELAY, MAX_QUEUE_SIZE, MAX_EXPORT_BATCH_SIZE,
-            EXPORT_TIMEOUT, SAMPLER, RATIO
+            EXPORT_TIMEOUT, SAMPLER, RATIO, MAX_TRACES_PER_SECOND, SLOW_THRESHOLD
     };
 
+    static final SimpleAttributeDefinition EFFECTIVE_SAMPLING_RATIO = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.EFFECTIVE_SAMPLING_RATIO, ModelType.DOUBLE)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
     protected OpenTelemetrySubsystemDefinition() {
         super(new SimpleResourceDefinition.Parameters(OpenTelemetrySubsystemExtension.SUBSYSTEM_PATH,
                 OpenTelemetrySubsystemExtension.SUBSYSTEM_RESOLVER)
@@ -168,6 +202,47 @@ class OpenTelemetrySubsystemDefinition extends PersistentResourceDefinition {
         return Arrays.asList(ATTRIBUTES);
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration registration) {
+        super.registerAttributes(registration);
+        registration.registerMetric(EFFECTIVE_SAMPLING_RATIO, new EffectiveSamplingRatioHandler());
+    }
+
+    /**
+     * Reads the probability of sampling a new trace of the running configuration, which varies over time for the adaptive sampler.
+     */
+    static class EffectiveSamplingRatioHandler extends AbstractRuntimeOnlyHandler {
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+            OpenTelemetryConfig config = CONFIG_SUPPLIER.get();
+            if (config != null) {
+                Map<String, String> properties = config.properties();
+                String sampler = properties.get(WildFlyOpenTelemetryConfig.OTEL_TRACES_SAMPLER);
+                String argument = properties.get(WildFlyOpenTelemetryConfig.OTEL_TRACES_SAMPLER_ARG);
+                context.getResult().set(getEffectiveSamplingRatio(sampler, argument));
+            }
+        }
+
+        private static double getEffectiveSamplingRatio(String sampler, String argument) {
+            if (sampler == null) {
+                return 1d;
+            }
+            switch (sampler) {
+                case "always_off":
+                    return 0d;
+                case "traceidratio":
+                    return (argument != null) ? Double.parseDouble(argument) : 1d;
+                case AdaptiveSamplerProvider.NAME: {
+                    AdaptiveSampler adaptiveSampler = AdaptiveSampler.findInstance((argument != null) ? Double.parseDouble(argument) : AdaptiveSamplerProvider.DEFAULT_MAX_TRACES_PER_SECOND);
+                    // Every new trace is sampled until a deployment is traced
+                    return (adaptiveSampler != null) ? adaptiveSampler.getRatio() : 1d;
+                }
+                default:
+                    return 1d;
+            }
+        }
+    }
+
     static class WildFlyOpenTelemetryConfigSupplier implements Supplier<OpenTelemetryConfig>, Consumer<OpenTelemetryConfig> {
         private OpenTelemetryConfig config;
         @Override
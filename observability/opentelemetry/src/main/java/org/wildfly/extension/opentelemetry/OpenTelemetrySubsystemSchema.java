@@ -7,6 +7,10 @@ package org.wildfly.extension.opentelemetry;
 
 import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
 
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PersistentResourceXMLDescription;
 import org.jboss.as.controller.PersistentSubsystemSchema;
 import org.jboss.as.controller.SubsystemSchema;
@@ -15,8 +19,11 @@ import org.jboss.staxmapper.IntVersion;
 
 public enum OpenTelemetrySubsystemSchema implements PersistentSubsystemSchema<OpenTelemetrySubsystemSchema> {
     VERSION_1_0(1, 0), // WildFly 25
+    VERSION_1_1(1, 1), // WildFly 31
     ;
-    public static final OpenTelemetrySubsystemSchema CURRENT = VERSION_1_0;
+    public static final OpenTelemetrySubsystemSchema CURRENT = VERSION_1_1;
+
+    private static final Set<AttributeDefinition> SAMPLER_1_1_ATTRIBUTES = Set.of(OpenTelemetrySubsystemDefinition.MAX_TRACES_PER_SECOND, OpenTelemetrySubsystemDefinition.SLOW_THRESHOLD);
 
     private final VersionedNamespace<IntVersion, OpenTelemetrySubsystemSchema> namespace;
 
@@ -32,7 +39,8 @@ public enum OpenTelemetrySubsystemSchema implements PersistentSubsystemSchema<Op
     @Override
     public PersistentResourceXMLDescription getXMLDescription() {
         return builder(OpenTelemetrySubsystemExtension.SUBSYSTEM_PATH, this.namespace)
-                .addAttributes(OpenTelemetrySubsystemDefinition.ATTRIBUTES)
+                .addAttributes(Stream.of(OpenTelemetrySubsystemDefinition.ATTRIBUTES)
+                        .filter(attribute -> this.namespace.since(VERSION_1_1) || !SAMPLER_1_1_ATTRIBUTES.contains(attribute)))
                 .build();
     }
 }
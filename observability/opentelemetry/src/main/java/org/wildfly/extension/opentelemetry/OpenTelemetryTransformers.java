@@ -0,0 +1,47 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Registers the transformers of the OpenTelemetry subsystem to legacy model versions.
+ */
+public class OpenTelemetryTransformers implements ExtensionTransformerRegistration {
+
+    static final String ADAPTIVE_SAMPLER = "adaptive";
+
+    @Override
+    public String getSubsystemName() {
+        return OpenTelemetrySubsystemExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
+
+        registerTransformers_1_0_0(builder.createBuilder(OpenTelemetrySubsystemModel.VERSION_1_1_0.getVersion(), OpenTelemetrySubsystemModel.VERSION_1_0_0.getVersion()));
+
+        builder.buildAndRegister(registration, new ModelVersion[] { OpenTelemetrySubsystemModel.VERSION_1_0_0.getVersion() });
+    }
+
+    private static void registerTransformers_1_0_0(ResourceTransformationDescriptionBuilder builder) {
+        // The adaptive sampler, and its attributes, are unknown to 1.0.0
+        builder.getAttributeBuilder()
+                .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(ADAPTIVE_SAMPLER)), OpenTelemetrySubsystemDefinition.SAMPLER)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, OpenTelemetrySubsystemDefinition.MAX_TRACES_PER_SECOND, OpenTelemetrySubsystemDefinition.SLOW_THRESHOLD)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, OpenTelemetrySubsystemDefinition.MAX_TRACES_PER_SECOND, OpenTelemetrySubsystemDefinition.SLOW_THRESHOLD)
+                .end();
+    }
+}
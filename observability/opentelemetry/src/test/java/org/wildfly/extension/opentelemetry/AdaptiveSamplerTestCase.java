@@ -0,0 +1,180 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.extension.opentelemetry.api.AdaptiveSampler;
+import org.wildfly.extension.opentelemetry.api.RetainingSpanProcessor;
+
+public class AdaptiveSamplerTestCase {
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+    private static final int MAX_TRACES_PER_SECOND = 100;
+    private static final int SECONDS = 30;
+
+    /**
+     * Verifies that the number of sampled traces stays bounded when the rate of requests grows tenfold.
+     */
+    @Test
+    public void load() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveSampler sampler = new AdaptiveSampler(MAX_TRACES_PER_SECOND, clock::get);
+
+        long sampled = this.run(sampler, clock, 1_000);
+        Assert.assertEquals(0.1d, sampler.getRatio(), 0.02d);
+        Assert.assertTrue(sampled > SECONDS * MAX_TRACES_PER_SECOND / 2);
+
+        long burstSampled = this.run(sampler, clock, 10_000);
+        Assert.assertEquals(0.01d, sampler.getRatio(), 0.002d);
+        // Ten times the requests, but no more sampled traces
+        Assert.assertTrue(burstSampled <= SECONDS * MAX_TRACES_PER_SECOND);
+        Assert.assertEquals(sampled, burstSampled, sampled / 10d);
+    }
+
+    private long run(AdaptiveSampler sampler, AtomicLong clock, int requestsPerSecond) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        long total = 0;
+        for (int second = 0; second < SECONDS; ++second) {
+            int sampled = 0;
+            for (int request = 0; request < requestsPerSecond; ++request) {
+                if (sampler.shouldSample(Context.root(), TRACE_ID, "GET", SpanKind.SERVER, Attributes.empty(), List.of()).getDecision() == SamplingDecision.RECORD_AND_SAMPLE) {
+                    sampled += 1;
+                }
+                clock.addAndGet(interval);
+            }
+            Assert.assertTrue(sampled <= MAX_TRACES_PER_SECOND);
+            total += sampled;
+        }
+        return total;
+    }
+
+    /**
+     * Verifies that failed and slow requests are exported, even if not sampled.
+     */
+    @Test
+    public void retain() {
+        AtomicLong clock = new AtomicLong();
+        List<SpanData> exported = new CopyOnWriteArrayList<>();
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .setSampler(new AdaptiveSampler(0, clock::get))
+                .addSpanProcessor(new RetainingSpanProcessor(createExporter(exported), Duration.ofSeconds(1)))
+                .build();
+        try {
+            Tracer tracer = provider.get("test");
+
+            Span fast = tracer.spanBuilder("fast").setStartTimestamp(0, TimeUnit.MILLISECONDS).startSpan();
+            Assert.assertFalse(fast.getSpanContext().isSampled());
+            fast.end(10, TimeUnit.MILLISECONDS);
+
+            Span failed = tracer.spanBuilder("failed").setStartTimestamp(0, TimeUnit.MILLISECONDS).startSpan();
+            failed.setStatus(StatusCode.ERROR);
+            failed.end(10, TimeUnit.MILLISECONDS);
+
+            Span slow = tracer.spanBuilder("slow").setStartTimestamp(0, TimeUnit.MILLISECONDS).startSpan();
+            // Spans with a local parent are not retained individually
+            Span child = tracer.spanBuilder("child").setParent(Context.root().with(slow)).startSpan();
+            child.setStatus(StatusCode.ERROR);
+            child.end();
+            slow.end(2, TimeUnit.SECONDS);
+
+            provider.forceFlush().join(10, TimeUnit.SECONDS);
+
+            Assert.assertEquals(2, exported.size());
+            Assert.assertEquals("failed", exported.get(0).getName());
+            Assert.assertEquals("slow", exported.get(1).getName());
+        } finally {
+            provider.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Verifies that spans still queued are exported when the tracer provider shuts down.
+     */
+    @Test
+    public void shutdown() {
+        AtomicLong clock = new AtomicLong();
+        List<SpanData> exported = new CopyOnWriteArrayList<>();
+        AtomicBoolean shutdown = new AtomicBoolean(false);
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .setSampler(new AdaptiveSampler(0, clock::get))
+                .addSpanProcessor(new RetainingSpanProcessor(createExporter(exported), Duration.ofSeconds(1), () -> shutdown.set(true)))
+                .build();
+
+        Span failed = provider.get("test").spanBuilder("failed").startSpan();
+        failed.setStatus(StatusCode.ERROR);
+        failed.end();
+
+        Assert.assertTrue(provider.shutdown().join(10, TimeUnit.SECONDS).isSuccess());
+        Assert.assertTrue(shutdown.get());
+        Assert.assertEquals(1, exported.size());
+        Assert.assertEquals("failed", exported.get(0).getName());
+    }
+
+    /**
+     * Verifies that a sampler is shared per target, and discarded once released by every deployment.
+     */
+    @Test
+    public void share() {
+        double target = 42d;
+        Assert.assertNull(AdaptiveSampler.findInstance(target));
+
+        AdaptiveSampler sampler = AdaptiveSampler.acquire(target);
+        Assert.assertSame(sampler, AdaptiveSampler.acquire(target));
+        Assert.assertNotSame(sampler, AdaptiveSampler.acquire(target + 1));
+        Assert.assertSame(sampler, AdaptiveSampler.findInstance(target));
+
+        AdaptiveSampler.release(target);
+        Assert.assertSame(sampler, AdaptiveSampler.findInstance(target));
+
+        AdaptiveSampler.release(target);
+        Assert.assertNull(AdaptiveSampler.findInstance(target));
+        Assert.assertNotNull(AdaptiveSampler.findInstance(target + 1));
+
+        AdaptiveSampler.release(target + 1);
+        Assert.assertNull(AdaptiveSampler.findInstance(target + 1));
+        Assert.assertNotSame(sampler, AdaptiveSampler.acquire(target));
+        AdaptiveSampler.release(target);
+    }
+
+    private static SpanExporter createExporter(List<SpanData> exported) {
+        return new SpanExporter() {
+            @Override
+            public CompletableResultCode export(Collection<SpanData> spans) {
+                exported.addAll(spans);
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode flush() {
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode shutdown() {
+                return CompletableResultCode.ofSuccess();
+            }
+        };
+    }
+}
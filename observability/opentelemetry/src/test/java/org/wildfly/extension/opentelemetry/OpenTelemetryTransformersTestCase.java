@@ -0,0 +1,119 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry;
+
+import static org.jboss.as.weld.Capabilities.WELD_CAPABILITY_NAME;
+
+import java.util.List;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Transformer tests for the OpenTelemetry subsystem.
+ */
+public class OpenTelemetryTransformersTestCase extends AbstractSubsystemTest {
+
+    public OpenTelemetryTransformersTestCase() {
+        super(OpenTelemetrySubsystemExtension.SUBSYSTEM_NAME, new OpenTelemetrySubsystemExtension());
+    }
+
+    @Test
+    public void testTransformersEAP_XP4() throws Exception {
+        this.testTransformers(ModelTestControllerVersion.EAP_XP_4, OpenTelemetrySubsystemModel.VERSION_1_0_0.getVersion());
+    }
+
+    @Test
+    public void testRejectingTransformersEAP_XP4() throws Exception {
+        this.testRejectingTransformers(ModelTestControllerVersion.EAP_XP_4, OpenTelemetrySubsystemModel.VERSION_1_0_0.getVersion());
+    }
+
+    private void testTransformers(ModelTestControllerVersion controllerVersion, ModelVersion version) throws Exception {
+        KernelServicesBuilder builder = this.createKernelServicesBuilder(createAdditionalInitialization())
+                .setSubsystemXmlResource("opentelemetry-transform.xml");
+        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, version)
+                .addMavenResourceURL(getOpenTelemetryGAV(controllerVersion))
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(mainServices.getLegacyServices(version).isSuccessfulBoot());
+
+        this.checkSubsystemModelTransformation(mainServices, version, null, false);
+    }
+
+    private void testRejectingTransformers(ModelTestControllerVersion controllerVersion, ModelVersion version) throws Exception {
+        KernelServicesBuilder builder = this.createKernelServicesBuilder(createAdditionalInitialization());
+        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, version)
+                .addMavenResourceURL(getOpenTelemetryGAV(controllerVersion))
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(mainServices.getLegacyServices(version).isSuccessfulBoot());
+
+        List<ModelNode> operations = builder.parseXmlResource("opentelemetry-transform-reject.xml");
+        PathAddress address = PathAddress.pathAddress(OpenTelemetrySubsystemExtension.SUBSYSTEM_PATH);
+
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        if (OpenTelemetrySubsystemModel.VERSION_1_1_0.getVersion().compareTo(version) > 0) {
+            config.addFailedAttribute(address, FailedOperationTransformationConfig.ChainedConfig.createBuilder(OpenTelemetrySubsystemDefinition.SAMPLER.getName(), OpenTelemetrySubsystemDefinition.MAX_TRACES_PER_SECOND.getName(), OpenTelemetrySubsystemDefinition.SLOW_THRESHOLD.getName())
+                    .addConfig(new AdaptiveSamplerConfig())
+                    .addConfig(new FailedOperationTransformationConfig.NewAttributesConfig(OpenTelemetrySubsystemDefinition.MAX_TRACES_PER_SECOND, OpenTelemetrySubsystemDefinition.SLOW_THRESHOLD))
+                    .build());
+        }
+
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, version, operations, config);
+    }
+
+    private static AdditionalInitialization createAdditionalInitialization() {
+        return AdditionalInitialization.withCapabilities(WELD_CAPABILITY_NAME);
+    }
+
+    private static String getOpenTelemetryGAV(ModelTestControllerVersion version) {
+        if (version.isEap()) {
+            return "org.jboss.eap:wildfly-opentelemetry:" + version.getMavenGavVersion();
+        }
+        return "org.wildfly:wildfly-opentelemetry:" + version.getMavenGavVersion();
+    }
+
+    /**
+     * Rejects the adaptive sampler, corrected to the default sampler.
+     */
+    private static class AdaptiveSamplerConfig extends FailedOperationTransformationConfig.AttributesPathAddressConfig<AdaptiveSamplerConfig> {
+
+        AdaptiveSamplerConfig() {
+            super(OpenTelemetrySubsystemDefinition.SAMPLER.getName());
+        }
+
+        @Override
+        protected boolean isAttributeWritable(String attributeName) {
+            return true;
+        }
+
+        @Override
+        protected boolean checkValue(String attrName, ModelNode attribute, boolean isGeneratedWriteAttribute) {
+            return attribute.isDefined() && attribute.asString().equals(OpenTelemetryTransformers.ADAPTIVE_SAMPLER);
+        }
+
+        @Override
+        protected ModelNode correctValue(ModelNode toResolve, boolean isGeneratedWriteAttribute) {
+            return new ModelNode("on");
+        }
+    }
+}
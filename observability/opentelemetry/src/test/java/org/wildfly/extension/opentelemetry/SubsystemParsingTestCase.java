@@ -76,6 +76,8 @@ public class SubsystemParsingTestCase extends AbstractSubsystemSchemaTest<OpenTe
         values.put("export-timeout", "30000");
         values.put("sampler-type", "on");
         values.put("ratio", "0.75");
+        values.put("max-traces-per-second", "50");
+        values.put("slow-threshold", "2000");
 
         for (Map.Entry<String, String> entry : values.entrySet()) {
             String key = entry.getKey();
@@ -23,6 +23,8 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
 import org.xnio.XnioWorker;
 
 import java.util.ArrayList;
@@ -30,6 +32,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -75,6 +78,7 @@ final class ServletContainerAdd extends AbstractBoottimeAddStepHandler {
         final int defaultCookieVersion = ServletContainerDefinition.DEFAULT_COOKIE_VERSION.resolveModelAttribute(resolver, model).asInt();
         final boolean preservePathOnForward = ServletContainerDefinition.PRESERVE_PATH_ON_FORWARD.resolveModelAttribute(resolver, model).asBoolean();
         boolean orphanSessionAllowed = ServletContainerDefinition.ORPHAN_SESSION_ALLOWED.resolveModelAttribute(resolver, model).asBoolean();
+        boolean virtualThreads = ServletContainerDefinition.VIRTUAL_THREADS.resolveModelAttribute(resolver, model).asBoolean();
 
         Boolean directoryListingEnabled = ServletContainerDefinition.DIRECTORY_LISTING.resolveModelAttribute(resolver, model).asBooleanOrNull();
         Integer maxSessions = ServletContainerDefinition.MAX_SESSIONS.resolveModelAttribute(resolver, model).asIntOrNull();
@@ -95,6 +99,7 @@ final class ServletContainerAdd extends AbstractBoottimeAddStepHandler {
 
         ServletStackTraces traces = ServletStackTraces.valueOf(stackTracesString.toUpperCase().replace('-', '_'));
         ServletContainer container = ServletContainer.Factory.newInstance();
+        VirtualThreadExecutor virtualThreadExecutor = virtualThreads ? new VirtualThreadExecutor(address.getLastElement().getValue()) : null;
         ServletContainerService service = new ServletContainerService() {
             @Override
             public ServletContainer getServletContainer() {
@@ -270,8 +275,26 @@ final class ServletContainerAdd extends AbstractBoottimeAddStepHandler {
             public boolean isOrphanSessionAllowed() {
                 return orphanSessionAllowed;
             }
+
+            @Override
+            public VirtualThreadExecutor getVirtualThreadExecutor() {
+                return ((virtualThreadExecutor != null) && virtualThreadExecutor.isStarted()) ? virtualThreadExecutor : null;
+            }
         };
-        builder.setInstance(Service.newInstance(builder.provides(ServletContainerDefinition.SERVLET_CONTAINER_CAPABILITY, UndertowService.SERVLET_CONTAINER.append(address.getLastElement().getValue())), service));
+        Consumer<ServletContainerService> injector = builder.provides(ServletContainerDefinition.SERVLET_CONTAINER_CAPABILITY, UndertowService.SERVLET_CONTAINER.append(address.getLastElement().getValue()));
+        builder.setInstance((virtualThreadExecutor != null) ? new Service() {
+            @Override
+            public void start(StartContext context) {
+                virtualThreadExecutor.start();
+                injector.accept(service);
+            }
+
+            @Override
+            public void stop(StopContext context) {
+                injector.accept(null);
+                virtualThreadExecutor.stop();
+            }
+        } : Service.newInstance(injector, service));
         builder.setInitialMode(ServiceController.Mode.ON_DEMAND);
         builder.install();
     }
@@ -7,9 +7,12 @@ package org.wildfly.extension.undertow;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 import io.undertow.servlet.api.ServletStackTraces;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
@@ -21,8 +24,10 @@ import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * @author <a href="mailto:tomaz.cerar@redhat.com">Tomaz Cerar</a> (c) 2013 Red Hat Inc.
@@ -187,6 +192,33 @@ class ServletContainerDefinition extends PersistentResourceDefinition {
                     .setDefaultValue(ModelNode.FALSE)
                     .build();
 
+    static final AttributeDefinition VIRTUAL_THREADS =
+            new SimpleAttributeDefinitionBuilder("virtual-threads", ModelType.BOOLEAN)
+                    .setRequired(false)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .build();
+
+    enum VirtualThreadMetric {
+        PINNED_COUNT("virtual-thread-pinned-count", MeasurementUnit.NONE, VirtualThreadExecutor::getPinnedCount),
+        PINNED_NATIVE_COUNT("virtual-thread-pinned-native-count", MeasurementUnit.NONE, VirtualThreadExecutor::getPinnedNativeCount),
+        PINNED_TIME("virtual-thread-pinned-time", MeasurementUnit.MILLISECONDS, VirtualThreadExecutor::getPinnedTime),
+        ;
+        private final AttributeDefinition definition;
+        private final ToLongFunction<VirtualThreadExecutor> reader;
+
+        VirtualThreadMetric(String name, MeasurementUnit unit, ToLongFunction<VirtualThreadExecutor> reader) {
+            this.definition = new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setMeasurementUnit(unit)
+                    .setFlags(AttributeAccess.Flag.COUNTER_METRIC)
+                    .setStorageRuntime()
+                    .build();
+            this.reader = reader;
+        }
+    }
+
     static final Collection<AttributeDefinition> ATTRIBUTES = List.of(
             ALLOW_NON_STANDARD_WRAPPERS,
             DEFAULT_BUFFER_CACHE,
@@ -208,7 +240,8 @@ class ServletContainerDefinition extends PersistentResourceDefinition {
             FILE_CACHE_TIME_TO_LIVE,
             DEFAULT_COOKIE_VERSION,
             PRESERVE_PATH_ON_FORWARD,
-            ORPHAN_SESSION_ALLOWED);
+            ORPHAN_SESSION_ALLOWED,
+            VIRTUAL_THREADS);
 
     ServletContainerDefinition() {
         super(new SimpleResourceDefinition.Parameters(PATH_ELEMENT, UndertowExtension.getResolver(PATH_ELEMENT.getKey()))
@@ -223,6 +256,14 @@ class ServletContainerDefinition extends PersistentResourceDefinition {
         return ATTRIBUTES;
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        for (VirtualThreadMetric metric : VirtualThreadMetric.values()) {
+            resourceRegistration.registerMetric(metric.definition, new VirtualThreadMetricHandler(metric));
+        }
+    }
+
     @Override
     public List<? extends PersistentResourceDefinition> getChildren() {
         return List.of(
@@ -235,4 +276,22 @@ class ServletContainerDefinition extends PersistentResourceDefinition {
                 new WelcomeFileDefinition(),
                 new CrawlerSessionManagementDefinition());
     }
+
+    private static class VirtualThreadMetricHandler implements OperationStepHandler {
+        private final VirtualThreadMetric metric;
+
+        VirtualThreadMetricHandler(VirtualThreadMetric metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) {
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(SERVLET_CONTAINER_CAPABILITY.getCapabilityServiceName(context.getCurrentAddressValue()));
+            if ((controller == null) || (controller.getState() != ServiceController.State.UP)) return;
+            VirtualThreadExecutor executor = ((ServletContainerService) controller.getValue()).getVirtualThreadExecutor();
+            if (executor != null) {
+                context.getResult().set(this.metric.reader.applyAsLong(executor));
+            }
+        }
+    }
 }
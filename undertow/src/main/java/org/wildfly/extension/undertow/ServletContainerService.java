@@ -94,4 +94,10 @@ public interface ServletContainerService {
     boolean isPreservePathOnForward();
 
     boolean isOrphanSessionAllowed();
+
+    /**
+     * Returns the executor to which blocking servlet requests are dispatched, if this servlet container is configured to use virtual threads.
+     * @return a virtual thread executor, or null, if requests are dispatched to the worker of the listener
+     */
+    VirtualThreadExecutor getVirtualThreadExecutor();
 }
@@ -18,7 +18,10 @@ import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.TransformationDescription;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
 import org.kohsuke.MetaInfServices;
+import org.wildfly.extension.undertow.filters.AdaptiveRequestLimitHandlerDefinition;
+import org.wildfly.extension.undertow.filters.FilterDefinitions;
 
 /**
  * Registers transformers for the Undertow subsystem.
@@ -48,6 +51,12 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
             }
 
             ResourceTransformationDescriptionBuilder servletContainer = subsystem.addChildResource(ServletContainerDefinition.PATH_ELEMENT);
+            if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(version)) {
+                servletContainer.getAttributeBuilder()
+                    .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(ModelNode.FALSE), ServletContainerDefinition.VIRTUAL_THREADS)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, ServletContainerDefinition.VIRTUAL_THREADS)
+                    .end();
+            }
             if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(version)) {
                 servletContainer.getAttributeBuilder()
                     .setDiscard(DiscardAttributeChecker.UNDEFINED, ServletContainerDefinition.ORPHAN_SESSION_ALLOWED)
@@ -57,6 +66,11 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
                 servletContainer.rejectChildResource(AffinityCookieDefinition.PATH_ELEMENT);
             }
 
+            ResourceTransformationDescriptionBuilder filters = subsystem.addChildResource(FilterDefinitions.PATH_ELEMENT);
+            if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(version)) {
+                filters.rejectChildResource(AdaptiveRequestLimitHandlerDefinition.PATH_ELEMENT);
+            }
+
             TransformationDescription.Tools.register(subsystem.build(), registration, version);
         }
     }
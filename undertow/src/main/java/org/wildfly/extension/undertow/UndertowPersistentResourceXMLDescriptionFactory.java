@@ -16,6 +16,7 @@ import org.jboss.as.clustering.controller.Attribute;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PersistentResourceXMLDescription;
 import org.jboss.as.controller.operations.common.Util;
+import org.wildfly.extension.undertow.filters.AdaptiveRequestLimitHandlerDefinition;
 import org.wildfly.extension.undertow.filters.CustomFilterDefinition;
 import org.wildfly.extension.undertow.filters.ErrorPageDefinition;
 import org.wildfly.extension.undertow.filters.ExpressionFilterDefinition;
@@ -57,16 +58,7 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         );
         builder.addChild(servletContainerBuilder(schema));
         builder.addChild(handlersBuilder(schema));
-        builder.addChild(PersistentResourceXMLDescription.builder(FilterDefinitions.PATH_ELEMENT).setXmlElementName(Constants.FILTERS).setNoAddOperation(true)
-            .addChild(builder(RequestLimitHandlerDefinition.PATH_ELEMENT).addAttributes(RequestLimitHandlerDefinition.ATTRIBUTES.stream()))
-            .addChild(builder(ResponseHeaderFilterDefinition.PATH_ELEMENT).addAttributes(ResponseHeaderFilterDefinition.ATTRIBUTES.stream()))
-            .addChild(builder(GzipFilterDefinition.PATH_ELEMENT))
-            .addChild(builder(ErrorPageDefinition.PATH_ELEMENT).addAttributes(ErrorPageDefinition.ATTRIBUTES.stream()))
-            .addChild(modClusterBuilder(schema))
-            .addChild(builder(CustomFilterDefinition.PATH_ELEMENT).addAttributes(CustomFilterDefinition.ATTRIBUTES.stream()).setXmlElementName("filter"))
-            .addChild(builder(ExpressionFilterDefinition.PATH_ELEMENT).addAttributes(ExpressionFilterDefinition.ATTRIBUTES.stream()))
-            .addChild(builder(RewriteFilterDefinition.PATH_ELEMENT).addAttributes(RewriteFilterDefinition.ATTRIBUTES.stream()))
-        );
+        builder.addChild(filtersBuilder(schema));
         if (schema.since(UndertowSubsystemSchema.VERSION_4_0)) {
             builder.addChild(applicationSecurityDomainBuilder(schema));
         }
@@ -191,6 +183,9 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         if (!schema.since(UndertowSubsystemSchema.VERSION_10_0)) {
             attributes = attributes.filter(Predicate.isEqual(ServletContainerDefinition.PRESERVE_PATH_ON_FORWARD).negate());
         }
+        if (!schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            attributes = attributes.filter(Predicate.isEqual(ServletContainerDefinition.VIRTUAL_THREADS).negate());
+        }
         attributes.forEach(builder::addAttribute);
         return builder;
     }
@@ -224,6 +219,23 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         return builder;
     }
 
+    private static PersistentResourceXMLDescription.PersistentResourceXMLBuilder filtersBuilder(UndertowSubsystemSchema schema) {
+        PersistentResourceXMLDescription.PersistentResourceXMLBuilder builder = builder(FilterDefinitions.PATH_ELEMENT).setXmlElementName(Constants.FILTERS).setNoAddOperation(true);
+
+        builder.addChild(builder(RequestLimitHandlerDefinition.PATH_ELEMENT).addAttributes(RequestLimitHandlerDefinition.ATTRIBUTES.stream()));
+        if (schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            builder.addChild(builder(AdaptiveRequestLimitHandlerDefinition.PATH_ELEMENT).addAttributes(AdaptiveRequestLimitHandlerDefinition.ATTRIBUTES.stream()));
+        }
+        builder.addChild(builder(ResponseHeaderFilterDefinition.PATH_ELEMENT).addAttributes(ResponseHeaderFilterDefinition.ATTRIBUTES.stream()));
+        builder.addChild(builder(GzipFilterDefinition.PATH_ELEMENT));
+        builder.addChild(builder(ErrorPageDefinition.PATH_ELEMENT).addAttributes(ErrorPageDefinition.ATTRIBUTES.stream()));
+        builder.addChild(modClusterBuilder(schema));
+        builder.addChild(builder(CustomFilterDefinition.PATH_ELEMENT).addAttributes(CustomFilterDefinition.ATTRIBUTES.stream()).setXmlElementName("filter"));
+        builder.addChild(builder(ExpressionFilterDefinition.PATH_ELEMENT).addAttributes(ExpressionFilterDefinition.ATTRIBUTES.stream()));
+        builder.addChild(builder(RewriteFilterDefinition.PATH_ELEMENT).addAttributes(RewriteFilterDefinition.ATTRIBUTES.stream()));
+        return builder;
+    }
+
     private static PersistentResourceXMLDescription.PersistentResourceXMLBuilder modClusterBuilder(UndertowSubsystemSchema schema) {
         PersistentResourceXMLDescription.PersistentResourceXMLBuilder builder = builder(ModClusterDefinition.PATH_ELEMENT);
 
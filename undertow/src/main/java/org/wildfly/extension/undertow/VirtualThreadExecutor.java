@@ -0,0 +1,178 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import jdk.jfr.EventSettings;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+
+/**
+ * Executor that runs each task, i.e. the blocking portion of a servlet request, on a new virtual thread.
+ * Requires a Java runtime that supports virtual threads, i.e. Java 21+.
+ * Virtual thread pinning, i.e. blocking while holding a monitor or with a native frame on the stack, is detected via the JFR jdk.VirtualThreadPinned event.
+ * Since this module targets Java 11, the JFR event stream (a Java 14+ API) is created reflectively.
+ * Thread context (i.e. TCCL, security identity, naming context) is not the concern of this executor, but of the thread setup actions of the deployment,
+ * which are applied by the servlet request handler on whatever thread the request was dispatched to.
+ */
+public class VirtualThreadExecutor implements Executor {
+
+    private static final String RECORDING_STREAM_CLASS_NAME = "jdk.jfr.consumer.RecordingStream";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    // Matches the default threshold of the jdk.VirtualThreadPinned event
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+    private final String name;
+    private final String threadNamePrefix;
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNativeCount = new LongAdder();
+    private final LongAdder pinnedTime = new LongAdder();
+    private volatile ExecutorService executor;
+    private volatile AutoCloseable pinningStream;
+
+    /**
+     * Creates a virtual thread executor for the specified servlet container.
+     * @param name the servlet container name
+     */
+    public VirtualThreadExecutor(String name) {
+        this.name = name;
+        this.threadNamePrefix = "undertow-" + name + "-virtual-";
+    }
+
+    /**
+     * Starts this executor.
+     * @return true, if virtual threads are supported by the current runtime, false otherwise.
+     */
+    public boolean start() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, this.threadNamePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            this.executor = (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            UndertowLogger.ROOT_LOGGER.virtualThreadsNotSupported(this.name);
+            return false;
+        }
+        try {
+            this.pinningStream = this.startPinningStream();
+        } catch (ReflectiveOperationException | RuntimeException | Error e) {
+            // e.g. JFR not available in this runtime
+            UndertowLogger.ROOT_LOGGER.virtualThreadPinningDiagnosticsNotAvailable(this.name, e);
+        }
+        return true;
+    }
+
+    private AutoCloseable startPinningStream() throws ReflectiveOperationException {
+        Class<?> streamClass = Class.forName(RECORDING_STREAM_CLASS_NAME);
+        AutoCloseable stream = (AutoCloseable) streamClass.getConstructor().newInstance();
+        EventSettings settings = (EventSettings) streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+        settings.withThreshold(PINNED_THRESHOLD).withStackTrace();
+        Consumer<RecordedEvent> handler = this::pinned;
+        streamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, PINNED_EVENT, handler);
+        streamClass.getMethod("startAsync").invoke(stream);
+        return stream;
+    }
+
+    /**
+     * Stops this executor.
+     */
+    public void stop() {
+        AutoCloseable stream = this.pinningStream;
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (Exception e) {
+                UndertowLogger.ROOT_LOGGER.debug(e.getLocalizedMessage(), e);
+            }
+            this.pinningStream = null;
+        }
+        ExecutorService executor = this.executor;
+        if (executor != null) {
+            // Any running requests will complete on their own virtual thread
+            executor.shutdown();
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Indicates whether this executor was started successfully.
+     * @return true, if tasks will run on virtual threads, false otherwise.
+     */
+    public boolean isStarted() {
+        return this.executor != null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.executor.execute(task);
+    }
+
+    /**
+     * Returns the number of times a virtual thread created by this executor was pinned to its carrier thread for longer than the pinning threshold.
+     * @return a number of pinning events
+     */
+    public long getPinnedCount() {
+        return this.pinnedCount.sum();
+    }
+
+    /**
+     * Returns the number of pinning events for which a native frame was found on the stack of the pinned virtual thread.
+     * The remaining pinning events are due to blocking while holding a monitor, i.e. within a synchronized block or method.
+     * @return a number of pinning events
+     */
+    public long getPinnedNativeCount() {
+        return this.pinnedNativeCount.sum();
+    }
+
+    /**
+     * Returns the cumulative duration for which virtual threads created by this executor were pinned to their carrier thread.
+     * @return a duration in milliseconds
+     */
+    public long getPinnedTime() {
+        return Duration.ofNanos(this.pinnedTime.sum()).toMillis();
+    }
+
+    private void pinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        String threadName = (thread != null) ? thread.getJavaName() : null;
+        // The event is JVM-wide, only count those pertaining to threads created by this executor
+        if ((threadName == null) || !threadName.startsWith(this.threadNamePrefix)) return;
+
+        this.pinnedCount.increment();
+        this.pinnedTime.add(event.getDuration().toNanos());
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = (stackTrace != null) ? stackTrace.getFrames() : List.of();
+        RecordedFrame culprit = null;
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && Modifier.isNative(frame.getMethod().getModifiers())) {
+                this.pinnedNativeCount.increment();
+                culprit = frame;
+                break;
+            }
+            if ((culprit == null) && frame.isJavaFrame() && Modifier.isSynchronized(frame.getMethod().getModifiers())) {
+                culprit = frame;
+            }
+        }
+        if ((culprit != null) && UndertowLogger.ROOT_LOGGER.isDebugEnabled()) {
+            UndertowLogger.ROOT_LOGGER.debugf("Virtual thread %s was pinned for %s at %s.%s(line %d)", threadName, event.getDuration(), culprit.getMethod().getType().getName(), culprit.getMethod().getName(), culprit.getLineNumber());
+        }
+    }
+}
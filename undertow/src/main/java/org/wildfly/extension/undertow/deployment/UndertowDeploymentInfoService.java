@@ -103,6 +103,7 @@ import org.wildfly.extension.undertow.ServletContainerService;
 import org.wildfly.extension.undertow.CookieConfig;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 import org.wildfly.extension.undertow.UndertowService;
+import org.wildfly.extension.undertow.VirtualThreadExecutor;
 import org.wildfly.extension.undertow.ApplicationSecurityDomainDefinition.Registration;
 import org.wildfly.extension.undertow.security.jacc.JACCContextIdHandler;
 import org.wildfly.security.auth.server.HttpAuthenticationFactory;
@@ -581,6 +582,13 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
 
             if (mergedMetaData.getExecutorName() != null) {
                 d.setExecutor(executorsByName.get(mergedMetaData.getExecutorName()).get());
+            } else {
+                // Dispatch blocking requests to virtual threads, if so configured
+                // Otherwise, requests are dispatched to the worker of the listener
+                VirtualThreadExecutor virtualThreadExecutor = container.get().getVirtualThreadExecutor();
+                if (virtualThreadExecutor != null) {
+                    d.setExecutor(virtualThreadExecutor);
+                }
             }
 
             Boolean proactiveAuthentication = mergedMetaData.getProactiveAuthentication();
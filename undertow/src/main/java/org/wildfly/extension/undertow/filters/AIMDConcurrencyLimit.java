@@ -0,0 +1,63 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Additive increase/multiplicative decrease concurrency limit.
+ * The limit grows by one for each request completed while the limit is in use, and backs off whenever a request is shed.
+ */
+class AIMDConcurrencyLimit implements ConcurrencyLimit {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final Lock lock = new ReentrantLock();
+    private final int minLimit;
+    private final int maxLimit;
+    private volatile int limit;
+
+    AIMDConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    @Override
+    public int getLimit() {
+        return this.limit;
+    }
+
+    @Override
+    public void onSample(long rtt, int inFlight) {
+        // Only grow if the current limit is actually being used
+        // Skip the sample if another thread is already updating the limit
+        if ((inFlight * 2 >= this.limit) && this.lock.tryLock()) {
+            try {
+                if (this.limit < this.maxLimit) {
+                    this.limit += 1;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onDrop() {
+        this.lock.lock();
+        try {
+            this.limit = Math.max(this.minLimit, (int) (this.limit * BACKOFF_RATIO));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(this.limit);
+    }
+}
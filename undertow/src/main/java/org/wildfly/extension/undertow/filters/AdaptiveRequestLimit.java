@@ -0,0 +1,294 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.undertow.server.Connectors;
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HandlerWrapper;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.SameThreadExecutor;
+import io.undertow.util.StatusCodes;
+import org.xnio.XnioExecutor;
+
+/**
+ * Limits the number of concurrent requests using a {@link ConcurrencyLimit} that adapts to observed round trip times.
+ * Requests exceeding the current limit are queued; once a queued request has waited longer than the configured maximum queue time,
+ * or if the queue is full, the request is rejected with a 503 response, including a Retry-After header, if configured.
+ * The deadline of a queued request is enforced by a timer on the I/O thread of its exchange, such that it is shed even if no further requests arrive.
+ * The limit, and its queue, is shared by all handlers created by this wrapper, i.e. by all references to the same filter,
+ * and survives the rebuilding of the handler chain of a host or location.
+ */
+public class AdaptiveRequestLimit implements HandlerWrapper {
+
+    private final ConcurrencyLimit limit;
+    private final int queueSize;
+    private final long maxQueueTime;
+    private final long retryAfter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    // Guarded by itself
+    private final Deque<SuspendedRequest> queue = new ArrayDeque<>();
+    private final HttpHandler rejectionHandler = this::reject;
+
+    AdaptiveRequestLimit(ConcurrencyLimit limit, int queueSize, Duration maxQueueTime, long retryAfter) {
+        this.limit = limit;
+        this.queueSize = queueSize;
+        this.maxQueueTime = maxQueueTime.toNanos();
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public HttpHandler wrap(HttpHandler next) {
+        return new AdaptiveRequestLimitingHandler(this, next);
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     * @return the current concurrency limit
+     */
+    public int getLimit() {
+        return this.limit.getLimit();
+    }
+
+    /**
+     * Returns the number of requests currently executing.
+     * @return the number of requests currently executing
+     */
+    public int getInFlightRequests() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * Returns the number of requests currently waiting for the limit.
+     * @return the number of queued requests
+     */
+    public int getQueuedRequests() {
+        synchronized (this.queue) {
+            return this.queue.size();
+        }
+    }
+
+    /**
+     * Returns the number of requests rejected by this limit.
+     * @return the number of rejected requests
+     */
+    public long getRejectedRequests() {
+        return this.rejected.sum();
+    }
+
+    void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
+        int inFlight = this.tryAcquire();
+        if (inFlight > 0) {
+            exchange.addExchangeCompleteListener(new CompletionListener(inFlight));
+            next.handleRequest(exchange);
+        } else if (this.queueSize == 0) {
+            this.reject(exchange);
+        } else {
+            // Suspend the exchange before touching the queue, so that it cannot be resumed while still in the call stack
+            exchange.dispatch(SameThreadExecutor.INSTANCE, () -> this.suspend(exchange, next));
+        }
+    }
+
+    private void suspend(HttpServerExchange exchange, HttpHandler next) {
+        List<SuspendedRequest> expired;
+        boolean rejected = false;
+        int inFlight;
+        SuspendedRequest queued = null;
+        synchronized (this.queue) {
+            expired = this.expire(System.nanoTime());
+            // A permit may have been released since our initial attempt
+            inFlight = this.tryAcquire();
+            if (inFlight == 0) {
+                if (this.queue.size() < this.queueSize) {
+                    queued = new SuspendedRequest(exchange, next);
+                    this.queue.add(queued);
+                } else {
+                    rejected = true;
+                }
+            }
+        }
+        this.shed(expired);
+        if (queued != null) {
+            // Shed this request once its deadline passes, even if no other request arrives or completes in the meantime
+            // Timers have millisecond granularity, so round up to ensure the request has expired by the time this fires
+            queued.timeout = exchange.getIoThread().executeAfter(this::expire, TimeUnit.NANOSECONDS.toMillis(this.maxQueueTime) + 1, TimeUnit.MILLISECONDS);
+        }
+        if (inFlight > 0) {
+            SuspendedRequest request = new SuspendedRequest(exchange, next);
+            request.inFlight = inFlight;
+            this.resume(request);
+        } else if (rejected) {
+            Connectors.executeRootHandler(this.rejectionHandler, exchange);
+        }
+    }
+
+    private void release(long start, int inFlight) {
+        this.limit.onSample(System.nanoTime() - start, inFlight);
+        this.release();
+    }
+
+    private void release() {
+        this.inFlight.decrementAndGet();
+
+        List<SuspendedRequest> expired;
+        List<SuspendedRequest> admitted = null;
+        synchronized (this.queue) {
+            expired = this.expire(System.nanoTime());
+            while (!this.queue.isEmpty()) {
+                int inFlight = this.tryAcquire();
+                if (inFlight == 0) break;
+                SuspendedRequest request = this.queue.poll();
+                request.inFlight = inFlight;
+                if (admitted == null) {
+                    admitted = new ArrayList<>(1);
+                }
+                admitted.add(request);
+            }
+        }
+        this.shed(expired);
+        if (admitted != null) {
+            for (SuspendedRequest request : admitted) {
+                this.resume(request);
+            }
+        }
+    }
+
+    private void expire() {
+        List<SuspendedRequest> expired;
+        synchronized (this.queue) {
+            expired = this.expire(System.nanoTime());
+        }
+        this.shed(expired);
+    }
+
+    private void resume(SuspendedRequest request) {
+        request.cancelTimeout();
+        HttpServerExchange exchange = request.exchange;
+        if (exchange.isComplete()) {
+            // e.g. client went away while queued
+            this.release();
+            return;
+        }
+        exchange.addExchangeCompleteListener(new CompletionListener(request.inFlight));
+        exchange.dispatch(request.next);
+    }
+
+    // Must be called while holding the queue monitor
+    private List<SuspendedRequest> expire(long now) {
+        List<SuspendedRequest> expired = null;
+        SuspendedRequest request = this.queue.peek();
+        while ((request != null) && (now - request.timestamp >= this.maxQueueTime)) {
+            if (expired == null) {
+                expired = new ArrayList<>(1);
+            }
+            expired.add(this.queue.poll());
+            request = this.queue.peek();
+        }
+        return (expired != null) ? expired : List.of();
+    }
+
+    private void shed(List<SuspendedRequest> requests) {
+        for (SuspendedRequest request : requests) {
+            this.limit.onDrop();
+            Connectors.executeRootHandler(this.rejectionHandler, request.exchange);
+        }
+    }
+
+    private void reject(HttpServerExchange exchange) {
+        this.rejected.increment();
+        exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+        if (this.retryAfter > 0) {
+            exchange.getResponseHeaders().put(Headers.RETRY_AFTER, this.retryAfter);
+        }
+        exchange.endExchange();
+    }
+
+    /**
+     * Acquires a permit, if available.
+     * @return the number of in-flight requests, including the current request, or 0, if no permit was available.
+     */
+    private int tryAcquire() {
+        int current = this.inFlight.get();
+        while (current < this.limit.getLimit()) {
+            int next = current + 1;
+            if (this.inFlight.compareAndSet(current, next)) {
+                return next;
+            }
+            current = this.inFlight.get();
+        }
+        return 0;
+    }
+
+    private class CompletionListener implements ExchangeCompletionListener {
+        private final long start = System.nanoTime();
+        private final int inFlight;
+
+        CompletionListener(int inFlight) {
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+            try {
+                AdaptiveRequestLimit.this.release(this.start, this.inFlight);
+            } finally {
+                nextListener.proceed();
+            }
+        }
+    }
+
+    private static class SuspendedRequest {
+        final HttpServerExchange exchange;
+        final HttpHandler next;
+        final long timestamp = System.nanoTime();
+        // Number of in-flight requests upon admission
+        int inFlight;
+        volatile XnioExecutor.Key timeout;
+
+        SuspendedRequest(HttpServerExchange exchange, HttpHandler next) {
+            this.exchange = exchange;
+            this.next = next;
+        }
+
+        void cancelTimeout() {
+            XnioExecutor.Key timeout = this.timeout;
+            if (timeout != null) {
+                timeout.remove();
+            }
+        }
+    }
+
+    private static class AdaptiveRequestLimitingHandler implements HttpHandler {
+        private final AdaptiveRequestLimit limit;
+        private final HttpHandler next;
+
+        AdaptiveRequestLimitingHandler(AdaptiveRequestLimit limit, HttpHandler next) {
+            this.limit = limit;
+            this.next = next;
+        }
+
+        @Override
+        public void handleRequest(HttpServerExchange exchange) throws Exception {
+            this.limit.handleRequest(exchange, this.next);
+        }
+
+        @Override
+        public String toString() {
+            return "adaptive-request-limit(" + this.limit.limit + ")";
+        }
+    }
+}
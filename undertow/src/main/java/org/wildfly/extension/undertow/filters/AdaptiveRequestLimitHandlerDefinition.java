@@ -0,0 +1,168 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import io.undertow.server.HandlerWrapper;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+import org.wildfly.extension.undertow.UndertowService;
+
+/**
+ * Defines a request limiting filter whose concurrency limit adapts to the observed latency of requests.
+ */
+public class AdaptiveRequestLimitHandlerDefinition extends SimpleFilterDefinition {
+    public static final PathElement PATH_ELEMENT = PathElement.pathElement("adaptive-request-limit");
+
+    public static final AttributeDefinition ALGORITHM = new SimpleAttributeDefinitionBuilder("algorithm", ModelType.STRING)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(ConcurrencyLimitAlgorithm.GRADIENT.name()))
+            .setValidator(EnumValidator.create(ConcurrencyLimitAlgorithm.class))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition INITIAL_LIMIT = new SimpleAttributeDefinitionBuilder("initial-limit", ModelType.INT)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(20))
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition MIN_LIMIT = new SimpleAttributeDefinitionBuilder("min-limit", ModelType.INT)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ONE)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition MAX_LIMIT = new SimpleAttributeDefinitionBuilder("max-limit", ModelType.INT)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(1000))
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder("queue-size", ModelType.INT)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition MAX_QUEUE_TIME = new SimpleAttributeDefinitionBuilder("max-queue-time", ModelType.LONG)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(1000L))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setValidator(new LongRangeValidator(0, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition RETRY_AFTER = new SimpleAttributeDefinitionBuilder("retry-after", ModelType.INT)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ONE)
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final Collection<AttributeDefinition> ATTRIBUTES = List.of(ALGORITHM, INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT, QUEUE_SIZE, MAX_QUEUE_TIME, RETRY_AFTER);
+
+    enum Metric {
+        CURRENT_LIMIT("current-limit", ModelType.INT, limit -> new ModelNode(limit.getLimit())),
+        IN_FLIGHT_REQUESTS("in-flight-requests", ModelType.INT, limit -> new ModelNode(limit.getInFlightRequests())),
+        QUEUED_REQUESTS("queued-requests", ModelType.INT, limit -> new ModelNode(limit.getQueuedRequests())),
+        REJECTED_REQUESTS("rejected-requests", ModelType.LONG, limit -> new ModelNode(limit.getRejectedRequests()), AttributeAccess.Flag.COUNTER_METRIC),
+        ;
+        private final AttributeDefinition definition;
+        private final Function<AdaptiveRequestLimit, ModelNode> reader;
+
+        Metric(String name, ModelType type, Function<AdaptiveRequestLimit, ModelNode> reader, AttributeAccess.Flag... flags) {
+            this.definition = new SimpleAttributeDefinitionBuilder(name, type)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setFlags(flags)
+                    .setStorageRuntime()
+                    .build();
+            this.reader = reader;
+        }
+
+        AttributeDefinition getDefinition() {
+            return this.definition;
+        }
+
+        ModelNode read(AdaptiveRequestLimit limit) {
+            return this.reader.apply(limit);
+        }
+    }
+
+    AdaptiveRequestLimitHandlerDefinition() {
+        super(PATH_ELEMENT, AdaptiveRequestLimitHandlerDefinition::createHandlerWrapper);
+    }
+
+    @Override
+    public Collection<AttributeDefinition> getAttributes() {
+        return ATTRIBUTES;
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        for (Metric metric : Metric.values()) {
+            resourceRegistration.registerMetric(metric.getDefinition(), new MetricHandler(metric));
+        }
+    }
+
+    static HandlerWrapper createHandlerWrapper(OperationContext context, ModelNode model) throws OperationFailedException {
+        ConcurrencyLimitAlgorithm algorithm = ConcurrencyLimitAlgorithm.valueOf(ALGORITHM.resolveModelAttribute(context, model).asString());
+        int initialLimit = INITIAL_LIMIT.resolveModelAttribute(context, model).asInt();
+        int minLimit = MIN_LIMIT.resolveModelAttribute(context, model).asInt();
+        int maxLimit = Math.max(minLimit, MAX_LIMIT.resolveModelAttribute(context, model).asInt());
+        int queueSize = QUEUE_SIZE.resolveModelAttribute(context, model).asInt();
+        Duration maxQueueTime = Duration.ofMillis(MAX_QUEUE_TIME.resolveModelAttribute(context, model).asLong());
+        int retryAfter = RETRY_AFTER.resolveModelAttribute(context, model).asInt();
+        return new AdaptiveRequestLimit(algorithm.createLimit(initialLimit, minLimit, maxLimit), queueSize, maxQueueTime, retryAfter);
+    }
+
+    private static class MetricHandler implements OperationStepHandler {
+        private final Metric metric;
+
+        MetricHandler(Metric metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.FILTER.append(context.getCurrentAddressValue()));
+            // Filter service is on-demand, i.e. will not be up unless referenced by a host or location
+            if ((controller == null) || (controller.getState() != ServiceController.State.UP)) return;
+            context.getResult().set(this.metric.read((AdaptiveRequestLimit) controller.getValue()));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+/**
+ * A concurrency limit that adapts to observed request latencies.
+ * Implementations must be thread-safe.
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * Returns the current number of requests permitted to execute concurrently.
+     * @return the current limit
+     */
+    int getLimit();
+
+    /**
+     * Records the round trip time of a completed request.
+     * @param rtt the round trip time of the request, in nanoseconds
+     * @param inFlight the number of concurrently executing requests at the time the request was admitted
+     */
+    void onSample(long rtt, int inFlight);
+
+    /**
+     * Records that a request was shed, i.e. because its queue time exceeded the configured maximum.
+     */
+    void onDrop();
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+/**
+ * Enumerates the algorithms available for adapting a concurrency limit.
+ */
+public enum ConcurrencyLimitAlgorithm {
+    /**
+     * Additive increase/multiplicative decrease.
+     * The limit grows by one while requests are admitted without being shed, and is reduced multiplicatively whenever a request is shed.
+     */
+    AIMD() {
+        @Override
+        ConcurrencyLimit createLimit(int initialLimit, int minLimit, int maxLimit) {
+            return new AIMDConcurrencyLimit(initialLimit, minLimit, maxLimit);
+        }
+    },
+    /**
+     * Gradient-based limit.
+     * The limit tracks the ratio between a long-term (i.e. no load) round trip time and the current round trip time,
+     * shrinking as latency increases and growing as latency recovers.
+     */
+    GRADIENT() {
+        @Override
+        ConcurrencyLimit createLimit(int initialLimit, int minLimit, int maxLimit) {
+            return new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit);
+        }
+    },
+    ;
+
+    abstract ConcurrencyLimit createLimit(int initialLimit, int minLimit, int maxLimit);
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gradient-based concurrency limit.
+ * Compares a long-term exponential moving average of request round trip time (approximating the round trip time under no load)
+ * with a short-term moving average.
+ * While the short-term average stays within a tolerated ratio of the long-term average, the limit grows by a small queue allowance.
+ * Once latency starts to increase, the limit shrinks proportionally to the gradient.
+ */
+class GradientConcurrencyLimit implements ConcurrencyLimit {
+    // Ratio of short-term to long-term round trip time tolerated before the limit starts to shrink
+    private static final double TOLERANCE = 1.5;
+    // Weight of the newly computed limit vs the previous limit
+    private static final double SMOOTHING = 0.2;
+    // Lower bound of the gradient, i.e. the limit never shrinks by more than half per sample
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+
+    private final Lock lock = new ReentrantLock();
+    private final int minLimit;
+    private final int maxLimit;
+    private final ExponentialMovingAverage shortRtt = new ExponentialMovingAverage(SHORT_WINDOW);
+    private final ExponentialMovingAverage longRtt = new ExponentialMovingAverage(LONG_WINDOW);
+    // Guarded by lock
+    private double estimatedLimit;
+    private volatile int limit;
+
+    GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) this.estimatedLimit;
+    }
+
+    @Override
+    public int getLimit() {
+        return this.limit;
+    }
+
+    @Override
+    public void onSample(long rtt, int inFlight) {
+        // Skip the sample if another thread is already updating the limit
+        if (!this.lock.tryLock()) return;
+        try {
+            // Guard against a zero duration sample
+            long sample = Math.max(1L, rtt);
+            double shortRtt = this.shortRtt.add(sample);
+            double longRtt = this.longRtt.add(sample);
+
+            // Under sustained load, the long-term average drifts toward the loaded round trip time
+            // Decay it so that the limit can recover once the load subsides
+            if (longRtt / shortRtt > 2) {
+                this.longRtt.set(longRtt * 0.95);
+            }
+
+            // Don't grow the limit if we are not using it
+            if (inFlight < this.estimatedLimit / 2) return;
+
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+            double queueAllowance = Math.sqrt(this.estimatedLimit);
+            double newLimit = this.estimatedLimit * gradient + queueAllowance;
+            this.update(this.estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void onDrop() {
+        this.lock.lock();
+        try {
+            this.update(this.estimatedLimit * BACKOFF_RATIO);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void update(double limit) {
+        this.estimatedLimit = Math.max(this.minLimit, Math.min(this.maxLimit, limit));
+        this.limit = (int) this.estimatedLimit;
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(this.limit);
+    }
+
+    /**
+     * Exponential moving average, seeded by the simple average of the first window of samples.
+     * Not thread-safe.
+     */
+    private static class ExponentialMovingAverage {
+        private final int window;
+        private final double factor;
+        private int count = 0;
+        private double value = 0;
+
+        ExponentialMovingAverage(int window) {
+            this.window = window;
+            this.factor = 2d / (window + 1);
+        }
+
+        double add(long sample) {
+            if (this.count < this.window) {
+                this.count += 1;
+                this.value += (sample - this.value) / this.count;
+            } else {
+                this.value += (sample - this.value) * this.factor;
+            }
+            return this.value;
+        }
+
+        void set(double value) {
+            this.value = value;
+        }
+    }
+}
@@ -429,4 +429,12 @@ public interface UndertowLogger extends BasicLogger {
     @Message(id = 111, value = "The annotation: '%s' will have no effect on Servlet: '%s'")
     void badAnnotationOnServlet(String annotation, String servlet);
 
+    @LogMessage(level = WARN)
+    @Message(id = 112, value = "Virtual threads are not supported by this Java runtime. Servlet requests of servlet container '%s' will be dispatched to the worker of the listener.")
+    void virtualThreadsNotSupported(String servletContainerName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 113, value = "Virtual thread pinning diagnostics are not available for servlet container '%s'")
+    void virtualThreadPinningDiagnosticsNotAvailable(String servletContainerName, @Cause Throwable cause);
+
 }
@@ -30,6 +30,7 @@ import org.jboss.msc.service.ServiceName;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.wildfly.extension.undertow.filters.AdaptiveRequestLimit;
 
 public abstract class AbstractUndertowSubsystemTestCase extends AbstractSubsystemSchemaTest<UndertowSubsystemSchema> {
     final Map<ServiceName, Supplier<Object>> values = new ConcurrentHashMap<>();
@@ -78,6 +79,14 @@ public abstract class AbstractUndertowSubsystemTestCase extends AbstractSubsyste
         HttpHandler connectionLimiterHandler = connectionLimiterService.wrap(new PathHandler());
         Assert.assertNotNull("handler should have been created", connectionLimiterHandler);
 
+        if (this.schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            AdaptiveRequestLimit adaptiveLimit = (AdaptiveRequestLimit) this.values.get(UndertowService.FILTER.append("adaptive-limit")).get();
+            Assert.assertNotNull("handler should have been created", adaptiveLimit.wrap(new PathHandler()));
+            Assert.assertEquals(10, adaptiveLimit.getLimit());
+            Assert.assertEquals(0, adaptiveLimit.getInFlightRequests());
+            Assert.assertEquals(0L, adaptiveLimit.getRejectedRequests());
+        }
+
         HandlerWrapper headersService = (HandlerWrapper) this.values.get(UndertowService.FILTER.append("headers")).get();
         HttpHandler headerHandler = headersService.wrap(new PathHandler());
         Assert.assertNotNull("handler should have been created", headerHandler);
@@ -112,10 +121,18 @@ public abstract class AbstractUndertowSubsystemTestCase extends AbstractSubsyste
         LocationService locationService = (LocationService) this.values.get(UndertowService.locationServiceName("some-server", "default-virtual-host", "/")).get();
         Assert.assertNotNull(locationService);
 
-        JSPConfig jspConfig = ((ServletContainerService) this.values.get(ServletContainerDefinition.SERVLET_CONTAINER_CAPABILITY.getCapabilityServiceName("myContainer")).get()).getJspConfig();
+        ServletContainerService servletContainerService = (ServletContainerService) this.values.get(ServletContainerDefinition.SERVLET_CONTAINER_CAPABILITY.getCapabilityServiceName("myContainer")).get();
+        JSPConfig jspConfig = servletContainerService.getJspConfig();
         Assert.assertNotNull(jspConfig);
         Assert.assertNotNull(jspConfig.createJSPServletInfo());
 
+        if (this.schema.since(UndertowSubsystemSchema.VERSION_15_0) && (Runtime.version().feature() >= 21)) {
+            Assert.assertNotNull(servletContainerService.getVirtualThreadExecutor());
+        } else {
+            // Either not enabled, or not supported by the current runtime
+            Assert.assertNull(servletContainerService.getVirtualThreadExecutor());
+        }
+
         UndertowFilter gzipFilterRef = (UndertowFilter) this.values.get(UndertowService.filterRefName("some-server", "other-host", "/", "static-gzip")).get();
         HttpHandler gzipHandler = gzipFilterRef.wrap(new PathHandler());
         Assert.assertNotNull("handler should have been created", gzipHandler);
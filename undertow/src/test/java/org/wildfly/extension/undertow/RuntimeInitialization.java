@@ -72,6 +72,7 @@ class RuntimeInitialization extends DefaultInitialization {
             this.start(target, UndertowService.FILTER.append("limit-connections"));
             this.start(target, UndertowService.FILTER.append("headers"));
             this.start(target, UndertowService.FILTER.append("mod-cluster"));
+            this.record(target, UndertowService.FILTER.append("adaptive-limit"));
             this.record(target, UndertowRootDefinition.UNDERTOW_CAPABILITY.getCapabilityServiceName());
             this.record(target, ServerDefinition.SERVER_CAPABILITY.getCapabilityServiceName("some-server"));
             this.start(target, HostDefinition.HOST_CAPABILITY.getCapabilityServiceName("some-server", "default-virtual-host"));
@@ -28,6 +28,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
+import org.wildfly.extension.undertow.filters.AdaptiveRequestLimitHandlerDefinition;
 import org.wildfly.extension.undertow.filters.FilterDefinitions;
 import org.wildfly.extension.undertow.handlers.HandlerDefinitions;
 
@@ -134,6 +135,10 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
 
             config.addFailedAttribute(affinityCookiePath, FailedOperationTransformationConfig.REJECTED_RESOURCE);
         }
+        if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(this.modelVersion)) {
+            config.addFailedAttribute(subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "virtual-threads-container")), new FailedOperationTransformationConfig.NewAttributesConfig(ServletContainerDefinition.VIRTUAL_THREADS));
+            config.addFailedAttribute(subsystemAddress.append(FilterDefinitions.PATH_ELEMENT).append(PathElement.pathElement(AdaptiveRequestLimitHandlerDefinition.PATH_ELEMENT.getKey(), "adaptive-limit")), FailedOperationTransformationConfig.REJECTED_RESOURCE);
+        }
 
         List<ModelNode> operations = builder.parseXmlResource("undertow-transform-reject.xml");
         ModelTestUtils.checkFailedTransformedBootOperations(services, this.modelVersion, operations, config);
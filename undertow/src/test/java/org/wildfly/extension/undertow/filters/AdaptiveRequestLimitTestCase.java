@@ -0,0 +1,170 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Verifies the request handling of an {@link AdaptiveRequestLimit} using an embedded Undertow server.
+ */
+public class AdaptiveRequestLimitTestCase {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile Undertow server;
+
+    @After
+    public void destroy() {
+        if (this.server != null) {
+            this.server.stop();
+        }
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void queueFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AdaptiveRequestLimit limit = new AdaptiveRequestLimit(new FixedConcurrencyLimit(1), 0, Duration.ofSeconds(10), 5);
+        URL url = this.start(limit, release);
+
+        Future<Response> blocked = this.executor.submit(() -> request(url));
+        waitUntil(() -> limit.getInFlightRequests() == 1);
+
+        Response rejected = request(url);
+        assertEquals(503, rejected.status);
+        assertEquals("5", rejected.retryAfter);
+        assertEquals(1, limit.getRejectedRequests());
+
+        release.countDown();
+        assertEquals(200, blocked.get(10, TimeUnit.SECONDS).status);
+        waitUntil(() -> limit.getInFlightRequests() == 0);
+    }
+
+    @Test
+    public void queueTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AdaptiveRequestLimit limit = new AdaptiveRequestLimit(new FixedConcurrencyLimit(1), 1, Duration.ofMillis(100), 0);
+        URL url = this.start(limit, release);
+
+        Future<Response> blocked = this.executor.submit(() -> request(url));
+        waitUntil(() -> limit.getInFlightRequests() == 1);
+
+        // Queued request must be shed without any further request arriving or completing
+        Response rejected = request(url);
+        assertEquals(503, rejected.status);
+        assertNull(rejected.retryAfter);
+        assertEquals(1, limit.getRejectedRequests());
+        assertEquals(0, limit.getQueuedRequests());
+        assertEquals(1, limit.getInFlightRequests());
+
+        release.countDown();
+        assertEquals(200, blocked.get(10, TimeUnit.SECONDS).status);
+    }
+
+    @Test
+    public void admitQueued() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AdaptiveRequestLimit limit = new AdaptiveRequestLimit(new FixedConcurrencyLimit(1), 1, Duration.ofSeconds(10), 0);
+        URL url = this.start(limit, release);
+
+        Future<Response> blocked = this.executor.submit(() -> request(url));
+        waitUntil(() -> limit.getInFlightRequests() == 1);
+        Future<Response> queued = this.executor.submit(() -> request(url));
+        waitUntil(() -> limit.getQueuedRequests() == 1);
+
+        release.countDown();
+        assertEquals(200, blocked.get(10, TimeUnit.SECONDS).status);
+        assertEquals(200, queued.get(10, TimeUnit.SECONDS).status);
+        assertEquals(0, limit.getRejectedRequests());
+        waitUntil(() -> limit.getInFlightRequests() == 0);
+    }
+
+    private URL start(AdaptiveRequestLimit limit, CountDownLatch release) throws IOException {
+        HttpHandler handler = new HttpHandler() {
+            @Override
+            public void handleRequest(HttpServerExchange exchange) throws Exception {
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
+                release.await(10, TimeUnit.SECONDS);
+                exchange.getResponseSender().send("OK");
+            }
+        };
+        this.server = Undertow.builder().addHttpListener(0, "localhost").setHandler(limit.wrap(handler)).build();
+        this.server.start();
+        InetSocketAddress address = (InetSocketAddress) this.server.getListenerInfo().get(0).getAddress();
+        return new URL("http", address.getHostString(), address.getPort(), "/");
+    }
+
+    private static Response request(URL url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setReadTimeout((int) TimeUnit.SECONDS.toMillis(30));
+            return new Response(connection.getResponseCode(), connection.getHeaderField("Retry-After"));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static class Response {
+        final int status;
+        final String retryAfter;
+
+        Response(int status, String retryAfter) {
+            this.status = status;
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    private static class FixedConcurrencyLimit implements ConcurrencyLimit {
+        private final int limit;
+
+        FixedConcurrencyLimit(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int getLimit() {
+            return this.limit;
+        }
+
+        @Override
+        public void onSample(long rtt, int inFlight) {
+        }
+
+        @Override
+        public void onDrop() {
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for the {@link ConcurrencyLimit} implementations.
+ */
+public class ConcurrencyLimitTestCase {
+
+    @Test
+    public void aimd() {
+        ConcurrencyLimit limit = ConcurrencyLimitAlgorithm.AIMD.createLimit(10, 5, 20);
+        assertEquals(10, limit.getLimit());
+
+        // Limit should not grow if not in use
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 1);
+        assertEquals(10, limit.getLimit());
+
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 10);
+        assertEquals(11, limit.getLimit());
+
+        for (int i = 0; i < 100; ++i) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), limit.getLimit());
+        }
+        assertEquals(20, limit.getLimit());
+
+        limit.onDrop();
+        assertEquals(18, limit.getLimit());
+
+        for (int i = 0; i < 100; ++i) {
+            limit.onDrop();
+        }
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    public void gradient() {
+        ConcurrencyLimit limit = ConcurrencyLimitAlgorithm.GRADIENT.createLimit(20, 5, 200);
+        assertEquals(20, limit.getLimit());
+
+        // Limit should grow while latency is stable and the limit is in use
+        for (int i = 0; i < 100; ++i) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), limit.getLimit());
+        }
+        int stableLimit = limit.getLimit();
+        assertTrue(String.valueOf(stableLimit), stableLimit > 20);
+        assertTrue(String.valueOf(stableLimit), stableLimit <= 200);
+
+        // Limit should shrink once latency degrades
+        for (int i = 0; i < 20; ++i) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(100), limit.getLimit());
+        }
+        int degradedLimit = limit.getLimit();
+        assertTrue(stableLimit + " vs " + degradedLimit, degradedLimit < stableLimit);
+        assertTrue(String.valueOf(degradedLimit), degradedLimit >= 5);
+
+        // Limit should not grow if not in use
+        int unusedLimit = limit.getLimit();
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(1), 0);
+        assertEquals(unusedLimit, limit.getLimit());
+
+        for (int i = 0; i < 100; ++i) {
+            limit.onDrop();
+        }
+        assertEquals(5, limit.getLimit());
+    }
+}
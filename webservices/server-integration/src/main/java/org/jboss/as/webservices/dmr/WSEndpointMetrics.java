@@ -9,14 +9,22 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectMapAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.webservices.logging.WSLogger;
+import org.jboss.as.webservices.metrics.EndpointOperationMetrics;
+import org.jboss.as.webservices.metrics.LatencyHistogram;
+import org.jboss.as.webservices.metrics.OperationMetrics;
 import org.jboss.as.webservices.util.ServiceContainerEndpointRegistry;
 import org.jboss.as.webservices.util.WSServices;
 import org.jboss.dmr.ModelNode;
@@ -66,9 +74,38 @@ final class WSEndpointMetrics implements OperationStepHandler {
             .setStorageRuntime()
             .build();
 
+    private static final AttributeDefinition OPERATION_REQUEST_COUNT = new SimpleAttributeDefinitionBuilder("request-count", ModelType.LONG)
+            .build();
+    private static final AttributeDefinition OPERATION_FAULT_COUNT = new SimpleAttributeDefinitionBuilder("fault-count", ModelType.LONG)
+            .build();
+    private static final AttributeDefinition OPERATION_TOTAL_PROCESSING_TIME = new SimpleAttributeDefinitionBuilder("total-processing-time", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    private static final AttributeDefinition OPERATION_MAX_PROCESSING_TIME = new SimpleAttributeDefinitionBuilder("max-processing-time", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    private static final AttributeDefinition OPERATION_MEDIAN_PROCESSING_TIME = new SimpleAttributeDefinitionBuilder("median-processing-time", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    private static final AttributeDefinition OPERATION_90TH_PERCENTILE_PROCESSING_TIME = new SimpleAttributeDefinitionBuilder("percentile-90-processing-time", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    private static final AttributeDefinition OPERATION_99TH_PERCENTILE_PROCESSING_TIME = new SimpleAttributeDefinitionBuilder("percentile-99-processing-time", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+
+    static final AttributeDefinition OPERATIONS = ObjectMapAttributeDefinition.Builder.of(
+            "operations",
+            ObjectTypeAttributeDefinition.Builder.of("complex", OPERATION_REQUEST_COUNT, OPERATION_FAULT_COUNT, OPERATION_TOTAL_PROCESSING_TIME,
+                    OPERATION_MAX_PROCESSING_TIME, OPERATION_MEDIAN_PROCESSING_TIME, OPERATION_90TH_PERCENTILE_PROCESSING_TIME, OPERATION_99TH_PERCENTILE_PROCESSING_TIME)
+            .build())
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
 
     static final AttributeDefinition[] ATTRIBUTES = {MIN_PROCESSING_TIME, MAX_PROCESSING_TIME, AVERAGE_PROCESSING_TIME,
-            TOTAL_PROCESSING_TIME, REQUEST_COUNT, RESPONSE_COUNT, FAULT_COUNT};
+            TOTAL_PROCESSING_TIME, REQUEST_COUNT, RESPONSE_COUNT, FAULT_COUNT, OPERATIONS};
 
 
     private WSEndpointMetrics() {
@@ -116,6 +153,16 @@ final class WSEndpointMetrics implements OperationStepHandler {
             throw new OperationFailedException(WSLogger.ROOT_LOGGER.noMetricsAvailable());
         }
         final ModelNode result = new ModelNode();
+        if (OPERATIONS.getName().equals(metricName)) {
+            final EndpointOperationMetrics operationMetrics = endpoint.getAttachment(EndpointOperationMetrics.class);
+            result.setEmptyObject();
+            if (operationMetrics != null) {
+                for (final Map.Entry<String, OperationMetrics> entry : operationMetrics.getOperations().entrySet()) {
+                    result.get(entry.getKey()).set(getOperationMetricsFragment(entry.getValue()));
+                }
+            }
+            return result;
+        }
         final EndpointMetrics endpointMetrics = endpoint.getEndpointMetrics();
         if (endpointMetrics != null) {
             if (MIN_PROCESSING_TIME.getName().equals(metricName)) {
@@ -137,6 +184,19 @@ final class WSEndpointMetrics implements OperationStepHandler {
         return result;
     }
 
+    private static ModelNode getOperationMetricsFragment(final OperationMetrics metrics) {
+        final LatencyHistogram processingTimes = metrics.getProcessingTimes();
+        final ModelNode result = new ModelNode();
+        result.get(OPERATION_REQUEST_COUNT.getName()).set(processingTimes.getCount());
+        result.get(OPERATION_FAULT_COUNT.getName()).set(metrics.getFaultCount());
+        result.get(OPERATION_TOTAL_PROCESSING_TIME.getName()).set(processingTimes.getTotal(TimeUnit.MICROSECONDS));
+        result.get(OPERATION_MAX_PROCESSING_TIME.getName()).set(processingTimes.getMax(TimeUnit.MICROSECONDS));
+        result.get(OPERATION_MEDIAN_PROCESSING_TIME.getName()).set(processingTimes.getPercentile(50, TimeUnit.MICROSECONDS));
+        result.get(OPERATION_90TH_PERCENTILE_PROCESSING_TIME.getName()).set(processingTimes.getPercentile(90, TimeUnit.MICROSECONDS));
+        result.get(OPERATION_99TH_PERCENTILE_PROCESSING_TIME.getName()).set(processingTimes.getPercentile(99, TimeUnit.MICROSECONDS));
+        return result;
+    }
+
     private static String getFallbackMessage() {
         return WSLogger.ROOT_LOGGER.noMetricsAvailable();
     }
@@ -9,11 +9,9 @@ import static org.jboss.as.webservices.metadata.model.AbstractEndpoint.WELD_DEPL
 import static org.jboss.as.webservices.util.ASHelper.getMSCService;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.Collection;
 import java.util.concurrent.Callable;
 
 import javax.management.MBeanException;
@@ -24,6 +22,7 @@ import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.webservices.injection.WSComponent;
 import org.jboss.as.webservices.logging.WSLogger;
+import org.jboss.as.webservices.metrics.EndpointOperationMetrics;
 import org.jboss.invocation.InterceptorContext;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.wsf.spi.deployment.Endpoint;
@@ -44,6 +43,7 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
 
    private volatile ServiceName componentViewName;
    private volatile ComponentView componentView;
+   private volatile OperationDispatchTable operations;
    protected volatile ManagedReference reference;
 
    /**
@@ -85,6 +85,32 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
         return cv;
     }
 
+    /**
+     * Gets the dispatch table of the component view lazily, building it once.
+     *
+     * @param endpoint web service endpoint
+     * @param componentView component view
+     * @return operation dispatch table
+     */
+    private OperationDispatchTable getOperations(final Endpoint endpoint, final ComponentView componentView) {
+        OperationDispatchTable table = operations;
+        if (table == null) {
+            synchronized (this) {
+                table = operations;
+                if (table == null) {
+                    EndpointOperationMetrics metrics = endpoint.getAttachment(EndpointOperationMetrics.class);
+                    if (metrics == null) {
+                        // Endpoint was not started by an endpoint service, so there is nowhere to report metrics
+                        metrics = new EndpointOperationMetrics(() -> false);
+                    }
+                    table = new OperationDispatchTable(componentView.getViewMethods(), metrics);
+                    operations = table;
+                }
+            }
+        }
+        return table;
+    }
+
    /**
     * Invokes WS endpoint.
     *
@@ -134,10 +160,10 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
                     ((WSComponent) component).setReference(reference);
                 }
             }
-        final Method method = getComponentViewMethod(wsInvocation.getJavaMethod(), componentView.getViewMethods());
+        final OperationDispatchTable.Operation operation = getOperations(endpoint, componentView).get(wsInvocation.getJavaMethod());
         final InterceptorContext context = new InterceptorContext();
         prepareForInvocation(context, wsInvocation);
-        context.setMethod(method);
+        context.setMethod(operation.getViewMethod());
         context.setParameters(wsInvocation.getArgs());
         context.putPrivateData(Component.class, component);
         context.putPrivateData(ComponentView.class, componentView);
@@ -148,31 +174,25 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
             context.putPrivateData(ManagedReference.class, reference);
         }
         // invoke method
-        final Object retObj = componentView.invoke(context);
-        // set return value
-        wsInvocation.setReturnValue(retObj);
+        final boolean statisticsEnabled = operation.isStatisticsEnabled();
+        final long start = statisticsEnabled ? System.nanoTime() : 0L;
+        boolean fault = true;
+        try {
+            final Object retObj = componentView.invoke(context);
+            fault = false;
+            // set return value
+            wsInvocation.setReturnValue(retObj);
+        } finally {
+            if (statisticsEnabled) {
+                operation.getMetrics().record(System.nanoTime() - start, fault);
+            }
+        }
     }
 
    protected void prepareForInvocation(final InterceptorContext context, final Invocation wsInvocation) {
       // does nothing
    }
 
-   /**
-    * Translates SEI method to component view method.
-    *
-    * @param seiMethod SEI method
-    * @param viewMethods component view methods
-    * @return matching component view method
-    */
-   protected Method getComponentViewMethod(final Method seiMethod, final Collection<Method> viewMethods) {
-       for (final Method viewMethod : viewMethods) {
-           if (matches(seiMethod, viewMethod)) {
-               return viewMethod;
-           }
-       }
-       throw new IllegalStateException();
-   }
-
    protected void handleInvocationException(final Throwable t) throws Exception {
       if (t instanceof MBeanException) {
          throw ((MBeanException) t).getTargetException();
@@ -204,23 +224,4 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
         return null;
     }
 
-   /**
-    * Compares two methods if they are identical.
-    *
-    * @param seiMethod reference method
-    * @param viewMethod target method
-    * @return true if they match, false otherwise
-    */
-   private boolean matches(final Method seiMethod, final Method viewMethod) {
-       if (!seiMethod.getName().equals(viewMethod.getName())) return false;
-       final Class<?>[] sourceParams = seiMethod.getParameterTypes();
-       final Class<?>[] targetParams = viewMethod.getParameterTypes();
-       if (sourceParams.length != targetParams.length) return false;
-       for (int i = 0; i < sourceParams.length; i++) {
-           if (!sourceParams[i].equals(targetParams[i])) return false;
-       }
-       return true;
-   }
-
 }
-
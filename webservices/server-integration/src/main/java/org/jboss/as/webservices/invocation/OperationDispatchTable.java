@@ -0,0 +1,169 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.webservices.invocation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.jws.WebMethod;
+
+import org.jboss.as.webservices.metrics.EndpointOperationMetrics;
+import org.jboss.as.webservices.metrics.OperationMetrics;
+
+/**
+ * Translates SEI methods to the component view methods of an endpoint, along with the metrics of the corresponding operation.
+ * The table is built once from the component view methods, indexed by name; each SEI method is resolved on first use only.
+ * Metrics are keyed by WSDL operation name, i.e. the {@link WebMethod#operationName()} if specified, otherwise the method name,
+ * qualified by its parameter types if the method is overloaded.
+ */
+public final class OperationDispatchTable {
+
+    private final Map<String, List<Method>> viewMethodsByName = new HashMap<>();
+    private final Map<Method, Operation> operations = new ConcurrentHashMap<>();
+    private final EndpointOperationMetrics metrics;
+
+    /**
+     * Creates a dispatch table for the specified component view methods.
+     *
+     * @param viewMethods component view methods
+     * @param metrics per-operation metrics of the endpoint
+     */
+    public OperationDispatchTable(final Collection<Method> viewMethods, final EndpointOperationMetrics metrics) {
+        this.metrics = metrics;
+        for (final Method viewMethod : viewMethods) {
+            viewMethodsByName.computeIfAbsent(viewMethod.getName(), key -> new ArrayList<>(1)).add(viewMethod);
+        }
+        for (final Method viewMethod : viewMethods) {
+            // SEI methods are frequently the view methods themselves
+            operations.put(viewMethod, new Operation(viewMethod, getOperationName(viewMethod, viewMethod), metrics));
+        }
+    }
+
+    /**
+     * Returns the operation of the specified SEI method.
+     *
+     * @param seiMethod SEI method
+     * @return matching operation
+     * @throws IllegalStateException if there is no matching component view method
+     */
+    public Operation get(final Method seiMethod) {
+        final Operation operation = operations.get(seiMethod);
+        return (operation != null) ? operation : operations.computeIfAbsent(seiMethod, this::resolve);
+    }
+
+    private Operation resolve(final Method seiMethod) {
+        final List<Method> candidates = viewMethodsByName.get(seiMethod.getName());
+        if (candidates != null) {
+            for (final Method candidate : candidates) {
+                if (matches(seiMethod, candidate)) {
+                    return new Operation(candidate, getOperationName(seiMethod, candidate), metrics);
+                }
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Returns the name of the WSDL operation of the specified method.
+     *
+     * @param seiMethod SEI method
+     * @param viewMethod matching component view method
+     * @return operation name
+     */
+    private String getOperationName(final Method seiMethod, final Method viewMethod) {
+        for (final Method method : new Method[] { seiMethod, viewMethod }) {
+            final WebMethod webMethod = method.getAnnotation(WebMethod.class);
+            if (webMethod != null && !webMethod.operationName().isEmpty()) {
+                return webMethod.operationName();
+            }
+        }
+        final String name = viewMethod.getName();
+        if (viewMethodsByName.get(name).size() == 1) {
+            return name;
+        }
+        // Distinguish overloaded methods by their signature
+        final StringJoiner joiner = new StringJoiner(",", name + "(", ")");
+        for (final Class<?> parameterType : viewMethod.getParameterTypes()) {
+            joiner.add(parameterType.getName());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Compares two methods if they are identical.
+     *
+     * @param seiMethod reference method
+     * @param viewMethod target method
+     * @return true if they match, false otherwise
+     */
+    private static boolean matches(final Method seiMethod, final Method viewMethod) {
+        final Class<?>[] sourceParams = seiMethod.getParameterTypes();
+        final Class<?>[] targetParams = viewMethod.getParameterTypes();
+        if (sourceParams.length != targetParams.length) return false;
+        for (int i = 0; i < sourceParams.length; i++) {
+            if (!sourceParams[i].equals(targetParams[i])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * A web service operation, i.e. a component view method and its metrics.
+     */
+    public static final class Operation {
+        private final Method viewMethod;
+        private final String name;
+        private final EndpointOperationMetrics endpointMetrics;
+        private volatile OperationMetrics metrics;
+
+        Operation(final Method viewMethod, final String name, final EndpointOperationMetrics endpointMetrics) {
+            this.viewMethod = viewMethod;
+            this.name = name;
+            this.endpointMetrics = endpointMetrics;
+        }
+
+        public Method getViewMethod() {
+            return viewMethod;
+        }
+
+        /**
+         * Returns the WSDL operation name of this operation.
+         *
+         * @return operation name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Indicates whether the metrics of this operation should be recorded.
+         *
+         * @return true, if statistics are enabled for the endpoint, false otherwise
+         */
+        public boolean isStatisticsEnabled() {
+            return endpointMetrics.isEnabled();
+        }
+
+        /**
+         * Returns the metrics of this operation, registering them with the endpoint on first invocation.
+         *
+         * @return operation metrics
+         */
+        public OperationMetrics getMetrics() {
+            OperationMetrics result = metrics;
+            if (result == null) {
+                result = endpointMetrics.getOperation(name);
+                metrics = result;
+            }
+            return result;
+        }
+    }
+}
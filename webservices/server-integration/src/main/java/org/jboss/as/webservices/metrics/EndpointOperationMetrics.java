@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.webservices.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Per-operation invocation metrics of a web service endpoint, attached to the endpoint while it is started.
+ * Metrics are only recorded while statistics are enabled for the webservices subsystem.
+ */
+public final class EndpointOperationMetrics {
+
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private final BooleanSupplier enabled;
+
+    /**
+     * Creates the per-operation metrics of an endpoint.
+     *
+     * @param enabled indicates whether statistics are currently enabled
+     */
+    public EndpointOperationMetrics(final BooleanSupplier enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Indicates whether metrics should be recorded.
+     *
+     * @return true, if statistics are enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled.getAsBoolean();
+    }
+
+    /**
+     * Returns the metrics of the specified operation, creating them if necessary.
+     *
+     * @param name operation name
+     * @return operation metrics
+     */
+    public OperationMetrics getOperation(final String name) {
+        return operations.computeIfAbsent(name, key -> new OperationMetrics());
+    }
+
+    /**
+     * Returns the metrics of the operations of this endpoint, by operation name.
+     *
+     * @return an unmodifiable map
+     */
+    public Map<String, OperationMetrics> getOperations() {
+        return Collections.unmodifiableMap(operations);
+    }
+}
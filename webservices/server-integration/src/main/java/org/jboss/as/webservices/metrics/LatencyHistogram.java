@@ -0,0 +1,98 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.webservices.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies, using exponential buckets of microsecond resolution.
+ * The upper bound of bucket <em>i</em> is 2<sup><em>i</em></sup> microseconds; the last bucket is unbounded.
+ * Percentiles are therefore reported as the upper bound of the bucket containing them, i.e. within a factor of 2 of the actual value.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 32;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records the specified latency.
+     *
+     * @param nanos a latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        final int bucket = (micros <= 1L) ? 0 : Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros - 1L), BUCKETS - 1);
+        counts.incrementAndGet(bucket);
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return a count
+     */
+    public long getCount() {
+        long count = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of the recorded latencies.
+     *
+     * @param unit the time unit of the result
+     * @return a duration
+     */
+    public long getTotal(final TimeUnit unit) {
+        return unit.convert(total.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the maximum recorded latency.
+     *
+     * @param unit the time unit of the result
+     * @return a duration
+     */
+    public long getMax(final TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns an upper bound of the specified percentile of the recorded latencies.
+     *
+     * @param percentile a percentile, between 0 and 100
+     * @param unit the time unit of the result
+     * @return a duration, or 0, if no latencies were recorded
+     */
+    public long getPercentile(final double percentile, final TimeUnit unit) {
+        final long[] snapshot = new long[BUCKETS];
+        long count = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0L) return 0L;
+        final long rank = (long) Math.ceil(count * percentile / 100d);
+        final long max = this.max.get();
+        long cumulative = 0L;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank) {
+                return unit.convert(Math.min(TimeUnit.MICROSECONDS.toNanos(1L << i), max), TimeUnit.NANOSECONDS);
+            }
+        }
+        return unit.convert(max, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.webservices.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation metrics of a single web service operation.
+ */
+public final class OperationMetrics {
+
+    private final LatencyHistogram processingTimes = new LatencyHistogram();
+    private final LongAdder faults = new LongAdder();
+
+    /**
+     * Records an invocation of this operation.
+     *
+     * @param nanos the processing time of the invocation in nanoseconds
+     * @param fault whether the invocation resulted in a fault
+     */
+    public void record(final long nanos, final boolean fault) {
+        processingTimes.record(nanos);
+        if (fault) {
+            faults.increment();
+        }
+    }
+
+    /**
+     * Returns the histogram of the processing times of the invocations of this operation.
+     *
+     * @return a latency histogram
+     */
+    public LatencyHistogram getProcessingTimes() {
+        return processingTimes;
+    }
+
+    /**
+     * Returns the number of invocations of this operation that resulted in a fault.
+     *
+     * @return a count
+     */
+    public long getFaultCount() {
+        return faults.sum();
+    }
+}
@@ -26,6 +26,7 @@ import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.webservices.logging.WSLogger;
 import org.jboss.as.webservices.metadata.model.EJBEndpoint;
+import org.jboss.as.webservices.metrics.EndpointOperationMetrics;
 import org.jboss.as.webservices.security.EJBMethodSecurityAttributesAdaptor;
 import org.jboss.as.webservices.security.ElytronSecurityDomainContextImpl;
 import org.jboss.as.webservices.util.ASHelper;
@@ -133,6 +134,8 @@ public final class EndpointService implements Service {
         }
         final EndpointMetricsFactory endpointMetricsFactory = SPIProvider.getInstance().getSPI(EndpointMetricsFactory.class);
         endpoint.setEndpointMetrics(endpointMetricsFactory.newEndpointMetrics());
+        final AbstractServerConfig serverConfig = serverConfigService.get();
+        endpoint.addAttachment(EndpointOperationMetrics.class, new EndpointOperationMetrics(serverConfig::isStatisticsEnabled));
         registerEndpoint(endpoint);
         endpoint.getLifecycleHandler().start(endpoint);
         ServiceContainerEndpointRegistry.register(aliasName, endpoint);
@@ -0,0 +1,127 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.webservices.invocation;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.jws.WebMethod;
+
+import org.jboss.as.webservices.metrics.EndpointOperationMetrics;
+import org.jboss.as.webservices.metrics.LatencyHistogram;
+import org.jboss.as.webservices.metrics.OperationMetrics;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OperationDispatchTableTestCase {
+
+    public interface Endpoint {
+        String echo(String value);
+
+        String echo(String value, int count);
+
+        @WebMethod(operationName = "Ping")
+        void ping();
+    }
+
+    public static class EndpointView {
+        public String echo(String value) {
+            return value;
+        }
+
+        public String echo(String value, int count) {
+            return value.repeat(count);
+        }
+
+        public void ping() {
+        }
+    }
+
+    private final AtomicBoolean statisticsEnabled = new AtomicBoolean(true);
+
+    @Test
+    public void dispatch() throws NoSuchMethodException {
+        List<Method> viewMethods = List.of(EndpointView.class.getMethod("echo", String.class), EndpointView.class.getMethod("echo", String.class, int.class), EndpointView.class.getMethod("ping"));
+        EndpointOperationMetrics metrics = new EndpointOperationMetrics(this.statisticsEnabled::get);
+        OperationDispatchTable table = new OperationDispatchTable(viewMethods, metrics);
+
+        for (Method viewMethod : viewMethods) {
+            Method seiMethod = Endpoint.class.getMethod(viewMethod.getName(), viewMethod.getParameterTypes());
+            OperationDispatchTable.Operation operation = table.get(seiMethod);
+            Assert.assertSame(viewMethod, operation.getViewMethod());
+            // Subsequent lookups return the same operation
+            Assert.assertSame(operation, table.get(seiMethod));
+            Assert.assertSame(viewMethod, table.get(viewMethod).getViewMethod());
+        }
+        Assert.assertThrows(IllegalStateException.class, () -> table.get(Object.class.getMethod("toString")));
+    }
+
+    @Test
+    public void operationNames() throws NoSuchMethodException {
+        EndpointOperationMetrics metrics = new EndpointOperationMetrics(this.statisticsEnabled::get);
+        OperationDispatchTable table = new OperationDispatchTable(List.of(EndpointView.class.getMethod("echo", String.class), EndpointView.class.getMethod("echo", String.class, int.class), EndpointView.class.getMethod("ping")), metrics);
+
+        // Overloaded methods are distinguished by their signature
+        Assert.assertEquals("echo(java.lang.String)", table.get(Endpoint.class.getMethod("echo", String.class)).getName());
+        Assert.assertEquals("echo(java.lang.String,int)", table.get(Endpoint.class.getMethod("echo", String.class, int.class)).getName());
+        // Operation name of the SEI method takes precedence
+        Assert.assertEquals("Ping", table.get(Endpoint.class.getMethod("ping")).getName());
+        Assert.assertEquals("ping", table.get(EndpointView.class.getMethod("ping")).getName());
+
+        // Unique methods are named as is
+        OperationDispatchTable unique = new OperationDispatchTable(List.of(EndpointView.class.getMethod("echo", String.class)), metrics);
+        Assert.assertEquals("echo", unique.get(Endpoint.class.getMethod("echo", String.class)).getName());
+    }
+
+    @Test
+    public void metrics() throws NoSuchMethodException {
+        EndpointOperationMetrics metrics = new EndpointOperationMetrics(this.statisticsEnabled::get);
+        OperationDispatchTable table = new OperationDispatchTable(List.of(EndpointView.class.getMethod("echo", String.class), EndpointView.class.getMethod("echo", String.class, int.class), EndpointView.class.getMethod("ping")), metrics);
+
+        // Metrics are registered per operation on first invocation only
+        Assert.assertTrue(metrics.getOperations().isEmpty());
+        OperationDispatchTable.Operation echo1 = table.get(Endpoint.class.getMethod("echo", String.class));
+        OperationDispatchTable.Operation echo2 = table.get(Endpoint.class.getMethod("echo", String.class, int.class));
+        Assert.assertTrue(echo1.isStatisticsEnabled());
+        echo1.getMetrics().record(TimeUnit.MICROSECONDS.toNanos(10), false);
+        echo2.getMetrics().record(TimeUnit.MICROSECONDS.toNanos(10), true);
+        table.get(Endpoint.class.getMethod("ping")).getMetrics().record(TimeUnit.MICROSECONDS.toNanos(10), false);
+
+        // Overloaded methods are not merged
+        Assert.assertEquals(3, metrics.getOperations().size());
+        OperationMetrics metrics1 = metrics.getOperations().get("echo(java.lang.String)");
+        Assert.assertEquals(1, metrics1.getProcessingTimes().getCount());
+        Assert.assertEquals(0, metrics1.getFaultCount());
+        OperationMetrics metrics2 = metrics.getOperations().get("echo(java.lang.String,int)");
+        Assert.assertEquals(1, metrics2.getProcessingTimes().getCount());
+        Assert.assertEquals(1, metrics2.getFaultCount());
+        Assert.assertNotNull(metrics.getOperations().get("Ping"));
+
+        // Statistics may be disabled at runtime
+        this.statisticsEnabled.set(false);
+        Assert.assertFalse(echo1.isStatisticsEnabled());
+    }
+
+    @Test
+    public void histogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(50, TimeUnit.MICROSECONDS));
+
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(5050, histogram.getTotal(TimeUnit.MICROSECONDS));
+        Assert.assertEquals(100, histogram.getMax(TimeUnit.MICROSECONDS));
+        // Percentiles are reported as the upper bound of their bucket
+        Assert.assertEquals(64, histogram.getPercentile(50, TimeUnit.MICROSECONDS));
+        Assert.assertEquals(100, histogram.getPercentile(90, TimeUnit.MICROSECONDS));
+        Assert.assertEquals(100, histogram.getPercentile(99, TimeUnit.MICROSECONDS));
+        Assert.assertEquals(1, histogram.getPercentile(1, TimeUnit.MICROSECONDS));
+    }
+}
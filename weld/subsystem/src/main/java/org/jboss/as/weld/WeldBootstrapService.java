@@ -95,6 +95,7 @@ public class WeldBootstrapService implements Service {
     private volatile boolean started;
     private volatile ServiceController<?> controller;
     private final AtomicBoolean runOnce = new AtomicBoolean();
+    private final WeldBootstrapTimings bootstrapTimings = new WeldBootstrapTimings();
 
     public WeldBootstrapService(final WeldDeployment deployment, final Environment environment, final String deploymentName,
                                 final Consumer<WeldBootstrapService> weldBootstrapServiceConsumer,
@@ -174,7 +175,9 @@ public class WeldBootstrapService implements Service {
         ClassLoader oldTccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
         try {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(deployment.getModule().getClassLoader());
+            final long start = System.nanoTime();
             bootstrap.startContainer(deploymentName, environment, deployment);
+            bootstrapTimings.record(WeldBootstrapTimings.Phase.START_CONTAINER, start);
             WeldProvider.containerInitialized(Container.instance(deploymentName), getBeanManager(), deployment);
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(oldTccl);
@@ -387,4 +390,8 @@ public class WeldBootstrapService implements Service {
     WeldBootstrap getBootstrap() {
         return bootstrap;
     }
+
+    WeldBootstrapTimings getBootstrapTimings() {
+        return bootstrapTimings;
+    }
 }
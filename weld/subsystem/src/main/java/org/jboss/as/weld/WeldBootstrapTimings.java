@@ -0,0 +1,70 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The durations of the Weld bootstrap phases of a deployment.
+ */
+class WeldBootstrapTimings {
+
+    enum Phase {
+        START_CONTAINER,
+        START_INITIALIZATION,
+        DEPLOY_BEANS,
+        VALIDATE_BEANS,
+        END_INITIALIZATION,
+        ;
+
+        private final String attributeName = name().toLowerCase(Locale.ENGLISH).replace('_', '-') + "-time";
+
+        String getAttributeName() {
+            return attributeName;
+        }
+    }
+
+    // in nanoseconds, indexed by phase ordinal
+    private final AtomicLongArray durations = new AtomicLongArray(Phase.values().length);
+
+    /**
+     * Records the duration of a phase, which is ending now.
+     * @param phase the phase
+     * @param start the value of {@link System#nanoTime()} when the phase started
+     */
+    void record(Phase phase, long start) {
+        durations.set(phase.ordinal(), System.nanoTime() - start);
+    }
+
+    /**
+     * @param phase the phase
+     * @return the duration of the specified phase, in milliseconds, or 0 if the phase did not complete yet
+     */
+    long getDuration(Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(durations.get(phase.ordinal()));
+    }
+
+    /**
+     * @return the total duration of the completed phases, in milliseconds
+     */
+    long getTotalDuration() {
+        long total = 0;
+        for (int i = 0; i < durations.length(); i++) {
+            total += durations.get(i);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(total);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            builder.append(phase.getAttributeName()).append('=').append(getDuration(phase)).append("ms, ");
+        }
+        return builder.append("bootstrap-time=").append(getTotalDuration()).append("ms").toString();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.server.deployment.Services;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Runtime resource definition for the Weld subsystem of a deployment, which exposes the durations of the deployment's Weld bootstrap phases.
+ */
+class WeldDeploymentDefinition extends SimpleResourceDefinition {
+
+    static final AttributeDefinition BOOTSTRAP_TIME = createMetric("bootstrap-time");
+
+    private static final Map<WeldBootstrapTimings.Phase, AttributeDefinition> PHASE_TIMES = new EnumMap<>(WeldBootstrapTimings.Phase.class);
+    static {
+        for (WeldBootstrapTimings.Phase phase : WeldBootstrapTimings.Phase.values()) {
+            PHASE_TIMES.put(phase, createMetric(phase.getAttributeName()));
+        }
+    }
+
+    WeldDeploymentDefinition() {
+        super(new Parameters(WeldExtension.PATH_SUBSYSTEM, WeldExtension.getResourceDescriptionResolver("deployment")).setFeature(false).setRuntime(true));
+    }
+
+    private static AttributeDefinition createMetric(String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .setStorageRuntime()
+                .build();
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        for (Map.Entry<WeldBootstrapTimings.Phase, AttributeDefinition> entry : PHASE_TIMES.entrySet()) {
+            final WeldBootstrapTimings.Phase phase = entry.getKey();
+            resourceRegistration.registerMetric(entry.getValue(), new BootstrapTimingsHandler() {
+                @Override
+                long read(WeldBootstrapTimings timings) {
+                    return timings.getDuration(phase);
+                }
+            });
+        }
+        resourceRegistration.registerMetric(BOOTSTRAP_TIME, new BootstrapTimingsHandler() {
+            @Override
+            long read(WeldBootstrapTimings timings) {
+                return timings.getTotalDuration();
+            }
+        });
+    }
+
+    private abstract static class BootstrapTimingsHandler extends AbstractRuntimeOnlyHandler {
+
+        abstract long read(WeldBootstrapTimings timings);
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            // Weld is only bootstrapped for top level deployments
+            final PathAddress deploymentAddress = context.getCurrentAddress().subAddress(0, 1);
+            final String runtimeName = context.readResourceFromRoot(deploymentAddress, false).getModel().get(ModelDescriptionConstants.RUNTIME_NAME).asString();
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(Services.deploymentUnitName(runtimeName).append(WeldBootstrapService.INTERNAL_SERVICE_NAME));
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                context.getResult().set(read(((WeldBootstrapService) controller.getValue()).getBootstrapTimings()));
+            }
+        }
+    }
+}
@@ -52,6 +52,7 @@ public class WeldExtension implements Extension {
         final SubsystemRegistration subsystem = context.registerSubsystem(SUBSYSTEM_NAME, CURRENT_MODEL_VERSION);
         final ManagementResourceRegistration registration = subsystem.registerSubsystemModel(new WeldResourceDefinition());
         registration.registerOperationHandler(GenericSubsystemDescribeHandler.DEFINITION, GenericSubsystemDescribeHandler.INSTANCE);
+        subsystem.registerDeploymentModel(new WeldDeploymentDefinition());
         subsystem.registerXMLElementWriter(WeldSubsystem50Parser.INSTANCE);
 
     }
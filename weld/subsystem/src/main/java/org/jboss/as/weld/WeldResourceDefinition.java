@@ -8,20 +8,27 @@ import static org.jboss.as.weld.Capabilities.WELD_CAPABILITY_NAME;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.Function;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.RuntimePackageDependency;
+import org.jboss.as.weld.discovery.BeanArchiveDiscoveryCache;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * Resource definition for Weld subsystem
@@ -76,6 +83,11 @@ class WeldResourceDefinition extends PersistentResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    static final AttributeDefinition BEAN_ARCHIVE_CACHE_HIT_COUNT = createMetric("bean-archive-cache-hit-count", ModelType.LONG, MeasurementUnit.NONE);
+    static final AttributeDefinition BEAN_ARCHIVE_CACHE_MISS_COUNT = createMetric("bean-archive-cache-miss-count", ModelType.LONG, MeasurementUnit.NONE);
+    static final AttributeDefinition BEAN_ARCHIVE_CACHE_HIT_RATE = createMetric("bean-archive-cache-hit-rate", ModelType.DOUBLE, MeasurementUnit.PERCENTAGE);
+    static final AttributeDefinition BEAN_ARCHIVE_CACHE_TIME_SAVED = createMetric("bean-archive-cache-time-saved", ModelType.LONG, MeasurementUnit.MILLISECONDS);
+
     private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE, LEGACY_EMPTY_BEANS_XML_TREATMENT_ATTRIBUTE, NON_PORTABLE_MODE_ATTRIBUTE, DEVELOPMENT_MODE_ATTRIBUTE, THREAD_POOL_SIZE_ATTRIBUTE };
 
     WeldResourceDefinition() {
@@ -91,6 +103,23 @@ class WeldResourceDefinition extends PersistentResourceDefinition {
         return Arrays.asList(ATTRIBUTES);
     }
 
+    private static AttributeDefinition createMetric(String name, ModelType type, MeasurementUnit unit) {
+        return new SimpleAttributeDefinitionBuilder(name, type)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setMeasurementUnit(unit)
+                .setStorageRuntime()
+                .build();
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerMetric(BEAN_ARCHIVE_CACHE_HIT_COUNT, new DiscoveryCacheMetricHandler(cache -> new ModelNode(cache.getHitCount())));
+        resourceRegistration.registerMetric(BEAN_ARCHIVE_CACHE_MISS_COUNT, new DiscoveryCacheMetricHandler(cache -> new ModelNode(cache.getMissCount())));
+        resourceRegistration.registerMetric(BEAN_ARCHIVE_CACHE_HIT_RATE, new DiscoveryCacheMetricHandler(cache -> new ModelNode(cache.getHitRate())));
+        resourceRegistration.registerMetric(BEAN_ARCHIVE_CACHE_TIME_SAVED, new DiscoveryCacheMetricHandler(cache -> new ModelNode(cache.getSavedTime())));
+    }
+
     @Override
     public void registerAdditionalRuntimePackages(ManagementResourceRegistration resourceRegistration) {
         resourceRegistration.registerAdditionalRuntimePackages(RuntimePackageDependency.passive("org.jboss.as.weld.ejb"),
@@ -102,4 +131,20 @@ class WeldResourceDefinition extends PersistentResourceDefinition {
                     RuntimePackageDependency.required("jakarta.persistence.api"),
                     RuntimePackageDependency.required("org.hibernate.validator.cdi"));
     }
+
+    private static class DiscoveryCacheMetricHandler extends AbstractRuntimeOnlyHandler {
+        private final Function<BeanArchiveDiscoveryCache, ModelNode> metric;
+
+        DiscoveryCacheMetricHandler(Function<BeanArchiveDiscoveryCache, ModelNode> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(BeanArchiveDiscoveryCache.SERVICE_NAME);
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                context.getResult().set(this.metric.apply((BeanArchiveDiscoveryCache) controller.getValue()));
+            }
+        }
+    }
 }
@@ -59,7 +59,11 @@ public class WeldStartCompletionService implements Service {
                 action.setup(null);
             }
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            final long start = System.nanoTime();
             bootstrapSupplier.get().getBootstrap().endInitialization();
+            final WeldBootstrapTimings bootstrapTimings = bootstrapSupplier.get().getBootstrapTimings();
+            bootstrapTimings.record(WeldBootstrapTimings.Phase.END_INITIALIZATION, start);
+            WeldLogger.DEPLOYMENT_LOGGER.debugf("Weld bootstrap of deployment %s completed: %s", bootstrapSupplier.get().getDeploymentName(), bootstrapTimings);
         } finally {
             for (SetupAction action : setupActions) {try {
                 action.teardown(null);
@@ -76,9 +76,16 @@ public class WeldStartService implements Service {
                 action.setup(null);
             }
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            final WeldBootstrapTimings bootstrapTimings = bootstrapSupplier.get().getBootstrapTimings();
+            long start = System.nanoTime();
             bootstrapSupplier.get().getBootstrap().startInitialization();
+            bootstrapTimings.record(WeldBootstrapTimings.Phase.START_INITIALIZATION, start);
+            start = System.nanoTime();
             bootstrapSupplier.get().getBootstrap().deployBeans();
+            bootstrapTimings.record(WeldBootstrapTimings.Phase.DEPLOY_BEANS, start);
+            start = System.nanoTime();
             bootstrapSupplier.get().getBootstrap().validateBeans();
+            bootstrapTimings.record(WeldBootstrapTimings.Phase.VALIDATE_BEANS, start);
         } finally {
 
             for (SetupAction action : setupActions) {
@@ -8,6 +8,7 @@ package org.jboss.as.weld;
 import static org.jboss.as.weld.WeldResourceDefinition.LEGACY_EMPTY_BEANS_XML_TREATMENT_ATTRIBUTE;
 import static org.jboss.as.weld.WeldResourceDefinition.REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE;
 
+import java.nio.file.Paths;
 import java.util.ServiceLoader;
 import java.util.function.Consumer;
 
@@ -20,6 +21,7 @@ import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.registry.Resource.NoSuchResourceException;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
+import org.jboss.as.server.ServerEnvironment;
 import org.jboss.as.server.deployment.Phase;
 import org.jboss.as.server.deployment.jbossallxml.JBossAllXmlParserRegisteringProcessor;
 import org.jboss.as.weld.deployment.CdiAnnotationProcessor;
@@ -38,10 +40,12 @@ import org.jboss.as.weld.deployment.processors.WeldDeploymentCleanupProcessor;
 import org.jboss.as.weld.deployment.processors.WeldDeploymentProcessor;
 import org.jboss.as.weld.deployment.processors.WeldImplicitDeploymentProcessor;
 import org.jboss.as.weld.deployment.processors.WeldPortableExtensionProcessor;
+import org.jboss.as.weld.discovery.BeanArchiveDiscoveryCache;
 import org.jboss.as.weld.services.TCCLSingletonService;
 import org.jboss.as.weld.services.bootstrap.WeldExecutorServices;
 import org.jboss.as.weld.spi.DeploymentUnitProcessorProvider;
 import org.jboss.dmr.ModelNode;
+import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController.Mode;
 import org.jboss.weld.manager.api.ExecutorServices;
@@ -71,6 +75,10 @@ class WeldSubsystemAdd extends AbstractBoottimeAddStepHandler {
         final int threadPoolSize = WeldResourceDefinition.THREAD_POOL_SIZE_ATTRIBUTE.resolveModelAttribute(context, model)
                 .asInt(WeldExecutorServices.DEFAULT_BOUND);
 
+        // Persist the discovery of external bean archives across restarts
+        final String dataDir = WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.SERVER_DATA_DIR, null);
+        final BeanArchiveDiscoveryCache discoveryCache = (dataDir != null) ? new BeanArchiveDiscoveryCache(Paths.get(dataDir, WeldExtension.SUBSYSTEM_NAME, "bean-archives")) : null;
+
         context.addStep(new AbstractDeploymentChainStep() {
             @Override
             protected void execute(DeploymentProcessorTarget processorTarget) {
@@ -87,7 +95,7 @@ class WeldSubsystemAdd extends AbstractBoottimeAddStepHandler {
                 processorTarget.addDeploymentProcessor(WeldExtension.SUBSYSTEM_NAME, Phase.DEPENDENCIES, Phase.DEPENDENCIES_WELD, new WeldDependencyProcessor());
                 processorTarget.addDeploymentProcessor(WeldExtension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_WELD_WEB_INTEGRATION, new WebIntegrationProcessor());
                 processorTarget.addDeploymentProcessor(WeldExtension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_WELD_BEAN_ARCHIVE, new BeanArchiveProcessor());
-                processorTarget.addDeploymentProcessor(WeldExtension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_WELD_EXTERNAL_BEAN_ARCHIVE, new ExternalBeanArchiveProcessor());
+                processorTarget.addDeploymentProcessor(WeldExtension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_WELD_EXTERNAL_BEAN_ARCHIVE, new ExternalBeanArchiveProcessor(discoveryCache));
                 processorTarget.addDeploymentProcessor(WeldExtension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_WELD_PORTABLE_EXTENSIONS, new WeldPortableExtensionProcessor());
                 // TODO add processor priority to Phase
                 processorTarget.addDeploymentProcessor(WeldExtension.SUBSYSTEM_NAME, Phase.POST_MODULE, 0x0F10, new EarApplicationScopedObserverMethodProcessor());
@@ -115,6 +123,12 @@ class WeldSubsystemAdd extends AbstractBoottimeAddStepHandler {
         builder.setInstance(new WeldExecutorServices(executorServicesConsumer, threadPoolSize));
         builder.setInitialMode(Mode.ON_DEMAND);
         builder.install();
+
+        if (discoveryCache != null) {
+            ServiceBuilder<?> cacheBuilder = context.getServiceTarget().addService(BeanArchiveDiscoveryCache.SERVICE_NAME);
+            cacheBuilder.setInstance(Service.newInstance(cacheBuilder.provides(BeanArchiveDiscoveryCache.SERVICE_NAME), discoveryCache));
+            cacheBuilder.install();
+        }
     }
 
     // Synchronization objects created by iiop Jakarta Enterprise Beans beans require wrapping by JTSSychronizationWrapper to work correctly
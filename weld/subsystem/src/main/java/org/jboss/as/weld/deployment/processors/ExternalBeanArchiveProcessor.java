@@ -4,6 +4,7 @@
  */
 package org.jboss.as.weld.deployment.processors;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -37,6 +38,7 @@ import org.jboss.as.weld.deployment.PropertyReplacingBeansXmlParser;
 import org.jboss.as.weld.deployment.WeldAttachments;
 import org.jboss.as.weld.deployment.processors.UrlScanner.ClassFile;
 import org.jboss.as.weld.discovery.AnnotationType;
+import org.jboss.as.weld.discovery.BeanArchiveDiscoveryCache;
 import org.jboss.as.weld.logging.WeldLogger;
 import org.jboss.as.weld.spi.ComponentSupport;
 import org.jboss.as.weld.spi.ModuleServicesProvider;
@@ -79,6 +81,19 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
     private final String ALL_KNOWN_CLASSES = "ALL_KNOWN_CLASSES";
     private final String BEAN_CLASSES = "BEAN_CLASSES";
 
+    private final BeanArchiveDiscoveryCache cache;
+
+    public ExternalBeanArchiveProcessor() {
+        this(null);
+    }
+
+    /**
+     * @param cache the persistent cache of bean archive discovery results, or null, if discovery results should not be cached
+     */
+    public ExternalBeanArchiveProcessor(BeanArchiveDiscoveryCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
@@ -210,7 +225,7 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
                             continue;
                         }
 
-                        Map<String, List<String>> allAndBeanClasses = discover(beansXml.getBeanDiscoveryMode(), beansXmlUrl, entry.getValue(),
+                        Map<String, List<String>> allAndBeanClasses = discoverCached(beansXml.getBeanDiscoveryMode(), beansXmlUrl, entry.getValue(),
                                 beanDefiningAnnotations);
                         Collection<String> discoveredBeanClasses = allAndBeanClasses.get(BEAN_CLASSES);
                         Collection<String> allKnownClasses = allAndBeanClasses.get(ALL_KNOWN_CLASSES);
@@ -248,6 +263,42 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
         }
     }
 
+    /**
+     * Discovers the classes of an external bean archive, via the persistent discovery cache, if the bean archive is a file-based archive.
+     * Bean archives that are not file-based archives, i.e. exploded or VFS bean archives, are always discovered.
+     *
+     * @return the set of discovered bean classes or null if unable to handle the provided beans.xml url
+     */
+    private Map<String, List<String>> discoverCached(BeanDiscoveryMode beanDiscoveryMode, URL beansXmlUrl, URL indexUrl, Set<AnnotationType> beanDefiningAnnotations) {
+        File archive = (this.cache != null) ? UrlScanner.getArchiveFile(beansXmlUrl) : null;
+        if (archive == null) {
+            return discover(beanDiscoveryMode, beansXmlUrl, indexUrl, beanDefiningAnnotations);
+        }
+        String key;
+        try {
+            key = this.cache.createKey(archive, beanDiscoveryMode, beanDefiningAnnotations);
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Failed to compute checksum of %s", archive);
+            return discover(beanDiscoveryMode, beansXmlUrl, indexUrl, beanDefiningAnnotations);
+        }
+        BeanArchiveDiscoveryCache.Entry cached = this.cache.get(key);
+        if (cached != null) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf("Using cached discovery of external bean archive %s", archive);
+            // Copy, since the bean classes are subsequently filtered
+            Map<String, List<String>> result = new HashMap<>();
+            result.put(ALL_KNOWN_CLASSES, new ArrayList<>(cached.getAllKnownClasses()));
+            result.put(BEAN_CLASSES, new ArrayList<>(cached.getBeanClasses()));
+            return result;
+        }
+        long start = System.nanoTime();
+        Map<String, List<String>> result = discover(beanDiscoveryMode, beansXmlUrl, indexUrl, beanDefiningAnnotations);
+        List<String> discoveredBeanClasses = result.get(BEAN_CLASSES);
+        if (discoveredBeanClasses != null) {
+            this.cache.put(key, new BeanArchiveDiscoveryCache.Entry(result.get(ALL_KNOWN_CLASSES), discoveredBeanClasses, System.nanoTime() - start));
+        }
+        return result;
+    }
+
     /**
      *
      * @param beanDiscoveryMode
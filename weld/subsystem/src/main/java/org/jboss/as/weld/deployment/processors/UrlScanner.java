@@ -41,35 +41,11 @@ class UrlScanner {
     }
 
     boolean scan() {
-        String urlPath = beansXmlUrl.toExternalForm();
-
-        // determin resource type (eg: jar, file, bundle)
-        String urlType = "file";
-        int colonIndex = urlPath.indexOf(":");
-        if (colonIndex != -1) {
-            urlType = urlPath.substring(0, colonIndex);
-        }
+        String urlType = getUrlType(beansXmlUrl);
 
         // Extra built-in support for simple file-based resources
         if ("file".equals(urlType) || "jar".equals(urlType)) {
-            // switch to using getPath() instead of toExternalForm()
-            urlPath = beansXmlUrl.getPath();
-
-            if (urlPath.indexOf('!') > 0) {
-                urlPath = urlPath.substring(0, urlPath.indexOf('!'));
-            } else {
-                // hack for /META-INF/beans.xml
-                File dirOrArchive = new File(urlPath);
-                dirOrArchive = dirOrArchive.getParentFile();
-                urlPath = dirOrArchive.getParent();
-            }
-
-            try {
-                urlPath = URLDecoder.decode(urlPath, "UTF-8");
-            } catch (UnsupportedEncodingException ex) {
-                throw new RuntimeException(ex);
-            }
-            handle(urlPath);
+            handle(getFilePath(beansXmlUrl));
             return true;
         } else if ("vfs".equals(urlType)) {
             try {
@@ -85,6 +61,51 @@ class UrlScanner {
         }
     }
 
+    /**
+     * Returns the archive file containing the specified beans.xml.
+     *
+     * @return the archive file, or null if the bean archive is not a file-based archive, e.g. an exploded or a VFS bean archive
+     */
+    static File getArchiveFile(URL beansXmlUrl) {
+        String urlType = getUrlType(beansXmlUrl);
+        if ("file".equals(urlType) || "jar".equals(urlType)) {
+            String urlPath = getFilePath(beansXmlUrl);
+            if (urlPath.startsWith("file:")) {
+                urlPath = urlPath.substring(5);
+            }
+            File file = new File(urlPath);
+            return file.isFile() ? file : null;
+        }
+        return null;
+    }
+
+    // determine resource type (eg: jar, file, bundle)
+    private static String getUrlType(URL url) {
+        String urlPath = url.toExternalForm();
+        int colonIndex = urlPath.indexOf(":");
+        return (colonIndex != -1) ? urlPath.substring(0, colonIndex) : "file";
+    }
+
+    private static String getFilePath(URL beansXmlUrl) {
+        // switch to using getPath() instead of toExternalForm()
+        String urlPath = beansXmlUrl.getPath();
+
+        if (urlPath.indexOf('!') > 0) {
+            urlPath = urlPath.substring(0, urlPath.indexOf('!'));
+        } else {
+            // hack for /META-INF/beans.xml
+            File dirOrArchive = new File(urlPath);
+            dirOrArchive = dirOrArchive.getParentFile();
+            urlPath = dirOrArchive.getParent();
+        }
+
+        try {
+            return URLDecoder.decode(urlPath, "UTF-8");
+        } catch (UnsupportedEncodingException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
     private void handle(VirtualFile urlPath) {
         WeldLogger.DEPLOYMENT_LOGGER.tracef("scanning: %s", urlPath);
         handleDirectory(urlPath, null);
@@ -0,0 +1,285 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.discovery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.server.Services;
+import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+
+/**
+ * Persistent cache of the result of the discovery of external bean archives, i.e. of their known classes and bean classes.
+ * Entries are stored in the server data directory and keyed on the checksum of the content of the archive, combined with the inputs of the discovery,
+ * i.e. the bean discovery mode and, for annotated bean archives, the bean defining annotations.
+ * Thus a restart of the server with unchanged archives skips their discovery, while a modified archive simply misses the cache.
+ */
+public class BeanArchiveDiscoveryCache {
+
+    public static final ServiceName SERVICE_NAME = Services.JBOSS_AS.append("weld", "bean-archive-discovery-cache");
+
+    private static final int VERSION = 1;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    // Checksums of the archives computed since the server started, keyed on the state of the archive file
+    private final Map<ArchiveState, byte[]> checksums = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedTime = new LongAdder();
+
+    public BeanArchiveDiscoveryCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates the key of the discovery of the specified archive.
+     * @param archive an archive file
+     * @param mode the bean discovery mode of the archive
+     * @param beanDefiningAnnotations the bean defining annotations
+     * @return a cache key
+     * @throws IOException if the archive could not be read
+     */
+    public String createKey(File archive, BeanDiscoveryMode mode, Collection<AnnotationType> beanDefiningAnnotations) throws IOException {
+        MessageDigest digest = createDigest();
+        digest.update(this.checksum(archive));
+        digest.update(mode.name().getBytes(StandardCharsets.UTF_8));
+        if (mode == BeanDiscoveryMode.ANNOTATED) {
+            // Sort annotations, so that the key is independent of iteration order
+            Set<String> annotations = new TreeSet<>();
+            for (AnnotationType annotation : beanDefiningAnnotations) {
+                annotations.add(annotation.getName().toString() + (annotation.isInherited() ? "+" : ""));
+            }
+            for (String annotation : annotations) {
+                digest.update((byte) 0);
+                digest.update(annotation.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return toHexString(digest.digest());
+    }
+
+    /**
+     * Returns the cached discovery result for the specified key.
+     * @param key a cache key
+     * @return the discovery result, or null, if there is no such cached result
+     */
+    public Entry get(String key) {
+        Path file = this.directory.resolve(key);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() == VERSION) {
+                long discoveryTime = input.readLong();
+                List<String> allKnownClasses = readStrings(input);
+                List<String> beanClasses = readStrings(input);
+                this.hits.increment();
+                this.savedTime.add(discoveryTime);
+                return new Entry(allKnownClasses, beanClasses, discoveryTime);
+            }
+        } catch (NoSuchFileException e) {
+            // Not yet cached
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Failed to read cached bean archive discovery %s", file);
+        }
+        this.misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores the specified discovery result.
+     * @param key a cache key
+     * @param entry a discovery result
+     */
+    public void put(String key, Entry entry) {
+        Path file = this.directory.resolve(key);
+        try {
+            Files.createDirectories(this.directory);
+            Path temp = Files.createTempFile(this.directory, key, ".tmp");
+            try {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    output.writeInt(VERSION);
+                    output.writeLong(entry.getDiscoveryTime());
+                    writeStrings(output, entry.getAllKnownClasses());
+                    writeStrings(output, entry.getBeanClasses());
+                }
+                // Concurrent readers must never see a partially written entry
+                try {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Failed to cache bean archive discovery %s", file);
+        }
+    }
+
+    /**
+     * @return the number of discoveries served from this cache
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return the number of discoveries not found in this cache
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return the percentage of discoveries served from this cache
+     */
+    public double getHitRate() {
+        long hits = this.hits.sum();
+        long total = hits + this.misses.sum();
+        return (total > 0) ? (100d * hits) / total : 0d;
+    }
+
+    /**
+     * @return the sum of the durations of the original discoveries served from this cache, in milliseconds
+     */
+    public long getSavedTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.savedTime.sum());
+    }
+
+    private byte[] checksum(File archive) throws IOException {
+        ArchiveState state = new ArchiveState(archive);
+        byte[] checksum = this.checksums.get(state);
+        if (checksum == null) {
+            MessageDigest digest = createDigest();
+            byte[] buffer = new byte[8192];
+            try (InputStream input = Files.newInputStream(archive.toPath())) {
+                int read = input.read(buffer);
+                while (read >= 0) {
+                    digest.update(buffer, 0, read);
+                    read = input.read(buffer);
+                }
+            }
+            checksum = digest.digest();
+            this.checksums.put(state, checksum);
+        }
+        return checksum;
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; ++i) {
+            result[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            result[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(result);
+    }
+
+    private static List<String> readStrings(DataInputStream input) throws IOException {
+        int size = input.readInt();
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            result.add(input.readUTF());
+        }
+        return result;
+    }
+
+    private static void writeStrings(DataOutputStream output, Collection<String> values) throws IOException {
+        output.writeInt(values.size());
+        for (String value : values) {
+            output.writeUTF(value);
+        }
+    }
+
+    /**
+     * The result of the discovery of a bean archive.
+     */
+    public static class Entry {
+        private final List<String> allKnownClasses;
+        private final List<String> beanClasses;
+        private final long discoveryTime;
+
+        /**
+         * @param allKnownClasses the known classes of the bean archive
+         * @param beanClasses the discovered bean classes of the bean archive
+         * @param discoveryTime the duration of the discovery, in nanoseconds
+         */
+        public Entry(List<String> allKnownClasses, List<String> beanClasses, long discoveryTime) {
+            this.allKnownClasses = allKnownClasses;
+            this.beanClasses = beanClasses;
+            this.discoveryTime = discoveryTime;
+        }
+
+        public List<String> getAllKnownClasses() {
+            return this.allKnownClasses;
+        }
+
+        public List<String> getBeanClasses() {
+            return this.beanClasses;
+        }
+
+        public long getDiscoveryTime() {
+            return this.discoveryTime;
+        }
+    }
+
+    /**
+     * Identifies the state of an archive file, to avoid recomputing its checksum for every deployment referencing it.
+     */
+    private static class ArchiveState {
+        private final String path;
+        private final long length;
+        private final long lastModified;
+
+        ArchiveState(File archive) {
+            this.path = archive.getAbsolutePath();
+            this.length = archive.length();
+            this.lastModified = archive.lastModified();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.path, this.length, this.lastModified);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof ArchiveState)) return false;
+            ArchiveState state = (ArchiveState) object;
+            return this.path.equals(state.path) && (this.length == state.length) && (this.lastModified == state.lastModified);
+        }
+    }
+}
@@ -6,11 +6,20 @@ package org.jboss.as.weld.services.bootstrap;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.jboss.as.naming.context.NamespaceContextSelector;
@@ -20,7 +29,6 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
-import org.jboss.threads.JBossThreadFactory;
 import org.jboss.weld.Container;
 import org.jboss.weld.ContainerState;
 import org.jboss.weld.executor.AbstractExecutorServices;
@@ -29,6 +37,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Weld's ExecutorServices implementation. The executor is shared across all Jakarta Contexts and Dependency Injection enabled deployments and used primarily for parallel Weld bootstrap.
+ * Its parallelism is the configured thread pool size, by default tied to the number of available processors, and its tasks are executed fairly across deployments.
  *
  * @author Jozef Hartinger
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
@@ -37,7 +46,7 @@ public class WeldExecutorServices extends AbstractExecutorServices implements Se
 
     public static final int DEFAULT_BOUND = Runtime.getRuntime().availableProcessors() + 1;
     public static final ServiceName SERVICE_NAME = Services.JBOSS_AS.append("weld", "executor");
-    private static final String THREAD_NAME_PATTERN = "Weld Thread Pool -- %t";
+    private static final String THREAD_NAME_FORMAT = "Weld Thread Pool -- %d";
 
     private final int bound;
     private final Consumer<ExecutorServices> executorServicesConsumer;
@@ -54,24 +63,7 @@ public class WeldExecutorServices extends AbstractExecutorServices implements Se
 
     @Override
     public void start(final StartContext context) throws StartException {
-        final ThreadFactory factory = new JBossThreadFactory(null, Boolean.FALSE, null, THREAD_NAME_PATTERN, null, null);
-        // set TCCL to null for new threads to make sure no deployment classloader leaks through this executor's TCCL
-        // Weld does not mind having null TCCL in this executor
-        this.executor = new WeldExecutor(bound, runnable -> {
-            Thread thread = factory.newThread(runnable);
-            if (WildFlySecurityManager.isChecking()) {
-                AccessController.doPrivileged(new PrivilegedAction<Void>() {
-                    public Void run() {
-                        thread.setContextClassLoader(null);
-                        return null;
-                    }
-                });
-            } else {
-                thread.setContextClassLoader(null);
-            }
-            return thread;
-        }
-        );
+        this.executor = new WeldExecutor(bound);
         if (executorServicesConsumer != null) executorServicesConsumer.accept(this);
     }
 
@@ -103,36 +95,129 @@ public class WeldExecutorServices extends AbstractExecutorServices implements Se
         // noop on undeploy - the executor is a service shared across multiple deployments
     }
 
-    static class WeldExecutor extends ThreadPoolExecutor {
-
-        WeldExecutor(int nThreads, ThreadFactory threadFactory) {
-            super(nThreads, nThreads,
-                               0L, TimeUnit.MILLISECONDS,
-                               new LinkedBlockingQueue<Runnable>(),
-                               threadFactory);
+    /**
+     * A {@link ForkJoinPool} based executor, which is fair to the deployments bootstrapping concurrently.
+     * Each deployment, identified by the TCCL of the submitting thread, has its own task queue, and the pool's workers
+     * take tasks from such queues in a round-robin fashion, thus a deployment with many tasks queued does not delay the
+     * bootstrap of the deployments which submitted tasks later.
+     */
+    static class WeldExecutor extends AbstractExecutorService {
+
+        private final ForkJoinPool pool;
+        // the queues with tasks pending, in round-robin order, guarded by itself
+        private final LinkedHashMap<Object, Queue<Runnable>> queues = new LinkedHashMap<>();
+        private final Runnable worker = this::runNext;
+        // the pool index of a worker is not yet assigned while it is being constructed, thus number the workers ourselves
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        WeldExecutor(int parallelism) {
+            this.pool = new ForkJoinPool(parallelism, pool -> new WeldWorkerThread(pool, this.threadCount.incrementAndGet()), null, true);
         }
 
         @Override
-        protected void beforeExecute(Thread t, Runnable r) {
-            if (r instanceof WeldTaskWrapper) {
-                NamespaceContextSelector.pushCurrentSelector(((WeldTaskWrapper) r).currentSelector);
+        public void execute(Runnable command) {
+            final Runnable task;
+            if (Container.available() && Container.instance().getState() == ContainerState.INITIALIZED) {
+                task = new WeldTaskWrapper(command, NamespaceContextSelector.getCurrentSelector());
+            } else {
+                task = command;
+            }
+            final Object deployment = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+            synchronized (queues) {
+                queues.computeIfAbsent(deployment, key -> new ArrayDeque<>()).add(task);
+            }
+            try {
+                // one worker run per task, which will execute the next task in round-robin order, not necessarily this one
+                pool.execute(worker);
+            } catch (RejectedExecutionException e) {
+                synchronized (queues) {
+                    final Queue<Runnable> queue = queues.get(deployment);
+                    if (queue != null && queue.remove(task) && queue.isEmpty()) {
+                        queues.remove(deployment);
+                    }
+                }
+                throw e;
+            }
+        }
+
+        private void runNext() {
+            final Runnable task;
+            synchronized (queues) {
+                final Iterator<Map.Entry<Object, Queue<Runnable>>> iterator = queues.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    // tasks removed by shutdownNow()
+                    return;
+                }
+                final Map.Entry<Object, Queue<Runnable>> next = iterator.next();
+                task = next.getValue().poll();
+                // move the deployment to the end of the round, if it still has tasks pending
+                iterator.remove();
+                if (!next.getValue().isEmpty()) {
+                    queues.put(next.getKey(), next.getValue());
+                }
+            }
+            if (task instanceof WeldTaskWrapper) {
+                NamespaceContextSelector.pushCurrentSelector(((WeldTaskWrapper) task).currentSelector);
+                try {
+                    task.run();
+                } finally {
+                    NamespaceContextSelector.popCurrentSelector();
+                }
+            } else {
+                task.run();
             }
         }
 
         @Override
-        protected void afterExecute(Runnable r, Throwable t) {
-            if (r instanceof WeldTaskWrapper) {
-                NamespaceContextSelector.popCurrentSelector();
+        public void shutdown() {
+            pool.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            final List<Runnable> tasks = new ArrayList<>();
+            synchronized (queues) {
+                for (Queue<Runnable> queue : queues.values()) {
+                    tasks.addAll(queue);
+                }
+                queues.clear();
             }
+            pool.shutdownNow();
+            return tasks;
         }
 
         @Override
-        public void execute(Runnable command) {
-            if (Container.instance().getState() == ContainerState.INITIALIZED) {
-                WeldTaskWrapper task = new WeldTaskWrapper(command, NamespaceContextSelector.getCurrentSelector());
-                super.execute(task);
+        public boolean isShutdown() {
+            return pool.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return pool.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return pool.awaitTermination(timeout, unit);
+        }
+    }
+
+    private static class WeldWorkerThread extends ForkJoinWorkerThread {
+
+        WeldWorkerThread(ForkJoinPool pool, int index) {
+            super(pool);
+            setName(String.format(THREAD_NAME_FORMAT, index));
+            // set TCCL to null for new threads to make sure no deployment classloader leaks through this executor's TCCL
+            // Weld does not mind having null TCCL in this executor
+            if (WildFlySecurityManager.isChecking()) {
+                AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                    public Void run() {
+                        setContextClassLoader(null);
+                        return null;
+                    }
+                });
             } else {
-                super.execute(command);
+                setContextClassLoader(null);
             }
         }
     }
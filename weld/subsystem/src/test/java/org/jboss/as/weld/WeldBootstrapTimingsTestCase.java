@@ -0,0 +1,53 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.weld.WeldBootstrapTimings.Phase;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WeldBootstrapTimingsTestCase {
+
+    @Test
+    public void test() {
+        WeldBootstrapTimings timings = new WeldBootstrapTimings();
+        for (Phase phase : Phase.values()) {
+            Assert.assertEquals(0, timings.getDuration(phase));
+        }
+        Assert.assertEquals(0, timings.getTotalDuration());
+
+        long now = System.nanoTime();
+        timings.record(Phase.START_CONTAINER, now - TimeUnit.MILLISECONDS.toNanos(20));
+        timings.record(Phase.DEPLOY_BEANS, now - TimeUnit.MILLISECONDS.toNanos(30));
+
+        long startContainer = timings.getDuration(Phase.START_CONTAINER);
+        long deployBeans = timings.getDuration(Phase.DEPLOY_BEANS);
+        Assert.assertTrue(startContainer >= 20);
+        Assert.assertTrue(deployBeans >= 30);
+        // phases which did not complete yet do not contribute
+        Assert.assertEquals(0, timings.getDuration(Phase.START_INITIALIZATION));
+        Assert.assertEquals(0, timings.getDuration(Phase.VALIDATE_BEANS));
+        Assert.assertEquals(0, timings.getDuration(Phase.END_INITIALIZATION));
+        long total = timings.getTotalDuration();
+        Assert.assertTrue(total >= startContainer + deployBeans - 1);
+        Assert.assertTrue(total <= startContainer + deployBeans + 1);
+
+        String string = timings.toString();
+        Assert.assertTrue(string, string.contains("start-container-time=" + startContainer + "ms"));
+        Assert.assertTrue(string, string.contains("deploy-beans-time=" + deployBeans + "ms"));
+        Assert.assertTrue(string, string.contains("validate-beans-time=0ms"));
+    }
+
+    @Test
+    public void attributeNames() {
+        Assert.assertEquals("start-container-time", Phase.START_CONTAINER.getAttributeName());
+        Assert.assertEquals("start-initialization-time", Phase.START_INITIALIZATION.getAttributeName());
+        Assert.assertEquals("deploy-beans-time", Phase.DEPLOY_BEANS.getAttributeName());
+        Assert.assertEquals("validate-beans-time", Phase.VALIDATE_BEANS.getAttributeName());
+        Assert.assertEquals("end-initialization-time", Phase.END_INITIALIZATION.getAttributeName());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.discovery;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BeanArchiveDiscoveryCacheTestCase {
+
+    private static final Set<AnnotationType> BEAN_DEFINING_ANNOTATIONS = Set.of(new AnnotationType(ApplicationScoped.class), new AnnotationType(RequestScoped.class));
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test() throws IOException {
+        File archive = this.folder.newFile("library.jar");
+        Files.write(archive.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+        File directory = this.folder.newFolder("cache");
+
+        BeanArchiveDiscoveryCache cache = new BeanArchiveDiscoveryCache(directory.toPath());
+        String key = cache.createKey(archive, BeanDiscoveryMode.ANNOTATED, BEAN_DEFINING_ANNOTATIONS);
+        Assert.assertNull(cache.get(key));
+
+        cache.put(key, new BeanArchiveDiscoveryCache.Entry(List.of("org.foo.Bar", "org.foo.Baz"), List.of("org.foo.Bar"), 5_000_000_000L));
+
+        // Simulate a restart of the server
+        cache = new BeanArchiveDiscoveryCache(directory.toPath());
+        Assert.assertEquals(key, cache.createKey(archive, BeanDiscoveryMode.ANNOTATED, Set.of(new AnnotationType(RequestScoped.class), new AnnotationType(ApplicationScoped.class))));
+        BeanArchiveDiscoveryCache.Entry entry = cache.get(key);
+        Assert.assertNotNull(entry);
+        Assert.assertEquals(List.of("org.foo.Bar", "org.foo.Baz"), entry.getAllKnownClasses());
+        Assert.assertEquals(List.of("org.foo.Bar"), entry.getBeanClasses());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(0, cache.getMissCount());
+        Assert.assertEquals(100d, cache.getHitRate(), 0d);
+        Assert.assertEquals(5_000, cache.getSavedTime());
+
+        // The key depends on the inputs of the discovery
+        Assert.assertNotEquals(key, cache.createKey(archive, BeanDiscoveryMode.ALL, BEAN_DEFINING_ANNOTATIONS));
+        Assert.assertNotEquals(key, cache.createKey(archive, BeanDiscoveryMode.ANNOTATED, Set.of(new AnnotationType(ApplicationScoped.class))));
+
+        // A modified archive must miss the cache
+        Files.write(archive.toPath(), "modified content".getBytes(StandardCharsets.UTF_8));
+        String modifiedKey = cache.createKey(archive, BeanDiscoveryMode.ANNOTATED, BEAN_DEFINING_ANNOTATIONS);
+        Assert.assertNotEquals(key, modifiedKey);
+        Assert.assertNull(cache.get(modifiedKey));
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(50d, cache.getHitRate(), 0d);
+    }
+}
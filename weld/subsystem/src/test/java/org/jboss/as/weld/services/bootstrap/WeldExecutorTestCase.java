@@ -0,0 +1,169 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.services.bootstrap;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WeldExecutorTestCase {
+
+    private final WeldExecutorServices.WeldExecutor executor = new WeldExecutorServices.WeldExecutor(1);
+
+    @After
+    public void destroy() throws InterruptedException {
+        this.executor.shutdownNow();
+        this.executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void roundRobin() throws Exception {
+        ClassLoader deployment1 = new URLClassLoader(new URL[0]);
+        ClassLoader deployment2 = new URLClassLoader(new URL[0]);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Queue<String> executed = new ConcurrentLinkedQueue<>();
+
+        // occupy the only worker, so that all subsequent tasks are queued
+        Future<?> blocker = this.submit(deployment1, () -> {
+            started.countDown();
+            await(release);
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        Future<?> last = null;
+        for (int i = 1; i <= 3; i++) {
+            String name = "a" + i;
+            last = this.submit(deployment1, () -> executed.add(name));
+        }
+        for (int i = 1; i <= 3; i++) {
+            String name = "b" + i;
+            last = this.submit(deployment2, () -> executed.add(name));
+        }
+        release.countDown();
+        blocker.get(10, TimeUnit.SECONDS);
+        last.get(10, TimeUnit.SECONDS);
+
+        // tasks of the deployment submitting later are not delayed until the tasks of the first deployment complete
+        Assert.assertEquals(List.of("a1", "b1", "a2", "b2", "a3", "b3"), List.copyOf(executed));
+    }
+
+    @Test
+    public void workerThread() throws Exception {
+        ClassLoader deployment = new URLClassLoader(new URL[0]);
+        Thread[] worker = new Thread[1];
+        ClassLoader[] loader = new ClassLoader[] { deployment };
+        this.submit(deployment, () -> {
+            worker[0] = Thread.currentThread();
+            loader[0] = Thread.currentThread().getContextClassLoader();
+        }).get(10, TimeUnit.SECONDS);
+
+        Assert.assertEquals("Weld Thread Pool -- 1", worker[0].getName());
+        // the deployment class loader of the submitting thread must not leak to the worker
+        Assert.assertNull(loader[0]);
+    }
+
+    @Test
+    public void workerThreadNames() throws Exception {
+        int parallelism = 4;
+        WeldExecutorServices.WeldExecutor executor = new WeldExecutorServices.WeldExecutor(parallelism);
+        try {
+            ClassLoader deployment = new URLClassLoader(new URL[0]);
+            CountDownLatch started = new CountDownLatch(parallelism);
+            CountDownLatch release = new CountDownLatch(1);
+            Set<String> names = ConcurrentHashMap.newKeySet();
+            Future<?>[] futures = new Future<?>[parallelism];
+            // occupy every worker, so that each task runs on a distinct thread
+            for (int i = 0; i < parallelism; i++) {
+                futures[i] = submit(executor, deployment, () -> {
+                    names.add(Thread.currentThread().getName());
+                    started.countDown();
+                    await(release);
+                });
+            }
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            Assert.assertEquals(Set.of("Weld Thread Pool -- 1", "Weld Thread Pool -- 2", "Weld Thread Pool -- 3", "Weld Thread Pool -- 4"), names);
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shutdown() throws Exception {
+        Future<?> future = this.submit(new URLClassLoader(new URL[0]), () -> { });
+        future.get(10, TimeUnit.SECONDS);
+
+        this.executor.shutdown();
+        Assert.assertTrue(this.executor.isShutdown());
+        Assert.assertTrue(this.executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertTrue(this.executor.isTerminated());
+        Assert.assertThrows(RejectedExecutionException.class, () -> this.executor.execute(() -> { }));
+    }
+
+    @Test
+    public void shutdownNow() throws Exception {
+        ClassLoader deployment1 = new URLClassLoader(new URL[0]);
+        ClassLoader deployment2 = new URLClassLoader(new URL[0]);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        this.submit(deployment1, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        this.submit(deployment1, () -> { });
+        this.submit(deployment2, () -> { });
+
+        // queued tasks of all deployments are returned, and the running task is interrupted
+        Assert.assertEquals(2, this.executor.shutdownNow().size());
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(this.executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private Future<?> submit(ClassLoader deployment, Runnable task) {
+        return submit(this.executor, deployment, task);
+    }
+
+    private static Future<?> submit(WeldExecutorServices.WeldExecutor executor, ClassLoader deployment, Runnable task) {
+        Thread thread = Thread.currentThread();
+        ClassLoader loader = thread.getContextClassLoader();
+        thread.setContextClassLoader(deployment);
+        try {
+            return executor.submit(task);
+        } finally {
+            thread.setContextClassLoader(loader);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}